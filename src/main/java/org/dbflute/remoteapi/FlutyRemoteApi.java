@@ -15,22 +15,35 @@
  */
 package org.dbflute.remoteapi;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
-import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -43,16 +56,20 @@ import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 import org.dbflute.helper.function.IndependentProcessor;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.jdbc.Classification;
 import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.auth.AuthorizationProvider;
+import org.dbflute.remoteapi.download.RemoteDownloadResult;
 import org.dbflute.remoteapi.exception.RemoteApiErrorTranslationFailureException;
 import org.dbflute.remoteapi.exception.RemoteApiFailureResponseTypeNotFoundException;
 import org.dbflute.remoteapi.exception.RemoteApiHttpBasisErrorException;
 import org.dbflute.remoteapi.exception.RemoteApiHttpBasisErrorException.RemoteApiFailureResponseHolder;
+import org.dbflute.remoteapi.exception.RemoteApiHttpBasisErrorException.RemoteApiLazyFailureResponseHolder;
 import org.dbflute.remoteapi.exception.RemoteApiHttpClientErrorException;
 import org.dbflute.remoteapi.exception.RemoteApiHttpServerErrorException;
 import org.dbflute.remoteapi.exception.RemoteApiIOException;
@@ -60,24 +77,43 @@ import org.dbflute.remoteapi.exception.RemoteApiPathVariableNullElementException
 import org.dbflute.remoteapi.exception.RemoteApiPathVariableShortElementException;
 import org.dbflute.remoteapi.exception.RemoteApiReceiverOfResponseBodyNotFoundException;
 import org.dbflute.remoteapi.exception.RemoteApiResponseParseFailureException;
+import org.dbflute.remoteapi.exception.RemoteApiResponseTooLargeException;
 import org.dbflute.remoteapi.exception.RemoteApiRetryReadyFailureException;
 import org.dbflute.remoteapi.exception.RemoteApiSenderOfQueryParameterNotFoundException;
 import org.dbflute.remoteapi.exception.RemoteApiSenderOfRequestBodyNotFoundException;
+import org.dbflute.remoteapi.exception.cache.ClientErrorCacheEntry;
+import org.dbflute.remoteapi.exception.cache.ClientErrorCacheStorage;
 import org.dbflute.remoteapi.exception.retry.ClientErrorRetryDeterminer;
+import org.dbflute.remoteapi.exception.snapshot.RequestParameterSnapshot;
 import org.dbflute.remoteapi.exception.retry.ClientErrorRetryResource;
 import org.dbflute.remoteapi.exception.translation.ClientErrorTranslatingResource;
+import org.dbflute.remoteapi.http.ActionPathTemplate;
 import org.dbflute.remoteapi.http.EmptyRequestBody;
 import org.dbflute.remoteapi.http.HttpDeleteEnclosing;
 import org.dbflute.remoteapi.http.SupportedHttpMethod;
+import org.dbflute.remoteapi.http.UrlPercentEncoder;
+import org.dbflute.remoteapi.http.buffering.ResponseSizeOption;
+import org.dbflute.remoteapi.http.buffering.SizeLimitedHttpEntity;
+import org.dbflute.remoteapi.http.buffering.SpillableBodyBuffer;
+import org.dbflute.remoteapi.http.buffering.SpilledHttpEntity;
+import org.dbflute.remoteapi.http.compression.CompressingHttpEntity;
+import org.dbflute.remoteapi.http.compression.CompressionEncoding;
+import org.dbflute.remoteapi.http.compression.DecompressingHttpEntity;
 import org.dbflute.remoteapi.http.header.ResponseHeader;
 import org.dbflute.remoteapi.http.header.ResponseHeaderByNative;
 import org.dbflute.remoteapi.http.header.ResponseHeaderProvider;
 import org.dbflute.remoteapi.http.header.ResponseHeaderResource;
 import org.dbflute.remoteapi.logging.SendReceiveLogOption;
 import org.dbflute.remoteapi.logging.SendReceiveLogger;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan;
+import org.dbflute.remoteapi.receiver.BinaryResponseBodyReceiver;
+import org.dbflute.remoteapi.receiver.ElementStreamingResponseBodyReceiver;
 import org.dbflute.remoteapi.receiver.ResponseBodyReceiver;
+import org.dbflute.remoteapi.receiver.ResponseBodyStream;
+import org.dbflute.remoteapi.receiver.StreamingResponseBodyReceiver;
 import org.dbflute.remoteapi.sender.body.RequestBodySender;
 import org.dbflute.remoteapi.sender.query.QueryParameterSender;
+import org.dbflute.remoteapi.stream.RemoteElementIterator;
 import org.dbflute.system.DBFluteSystem;
 import org.dbflute.util.Srl;
 import org.slf4j.Logger;
@@ -95,12 +131,30 @@ public class FlutyRemoteApi {
     //                                                                          ==========
     private static final Logger logger = LoggerFactory.getLogger(FlutyRemoteApi.class);
     protected static final Object VOID_OBJ = new Object();
+    protected static final String AUTHORIZATION_HEADER = "Authorization";
+    protected static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    protected static final long DOWNLOAD_TRANSFER_BYTES = 1024L * 1024L; // per transfer call
+    protected static final int DOWNLOAD_BUFFER_SIZE = 8192;
+    protected static final int EXCEPTION_MESSAGE_BODY_LIMIT = 10000; // chars, the body may be too large (e.g. HTML page)
+    protected static final int SPILLED_FAILURE_RESPONSE_BODY_PREFIX_BYTES = 64 * 1024; // large failure body is read only this
+
+    // remote API class to whether validateReturn() is overridden, determined once per class
+    protected static final ClassValue<Boolean> validateReturnOverriddenCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlutyRemoteApi.class, "validateReturn", Type.class, String.class,
+                    OptionalThing.class, int.class, OptionalThing.class, Object.class, FlutyRemoteApiRule.class);
+        }
+    };
 
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected final Consumer<FlutyRemoteApiRule> defaultRuleLambda; // not null
     protected final Object facadeExp; // for various purpose, basically debug, not null
+    protected final ClientErrorCacheStorage clientErrorCacheStorage; // shared by requests, not null
+    protected volatile boolean defaultRuleTemplateEnabled; // false as default, then default rule is evaluated per request
+    protected volatile FlutyRemoteApiRule defaultRuleTemplate; // null allowed, lazy-loaded if template enabled
 
     // ===================================================================================
     //                                                                         Constructor
@@ -110,6 +164,28 @@ public class FlutyRemoteApi {
         assertArgumentNotNull("facadeExp", facadeExp);
         this.defaultRuleLambda = defaultRuleLambda;
         this.facadeExp = facadeExp;
+        this.clientErrorCacheStorage = createClientErrorCacheStorage();
+    }
+
+    protected ClientErrorCacheStorage createClientErrorCacheStorage() { // may be overridden
+        return new ClientErrorCacheStorage(1000); // as default
+    }
+
+    /**
+     * Evaluate the default rule only once as frozen template, and each request overlays it. <br>
+     * So the default rule should not depend on request state (e.g. login user), and senders/receivers are shared. <br>
+     * The requested HTTP method is not set yet when the default rule is evaluated,
+     * so xgetFrameworkInternallyRequestedHttpMethod() in the default rule throws IllegalStateException.
+     */
+    public void enableDefaultRuleTemplate() {
+        this.defaultRuleTemplateEnabled = true;
+    }
+
+    /**
+     * Clear the default rule template, which is evaluated again at the next request. (e.g. mock client is changed)
+     */
+    public void clearDefaultRuleTemplate() {
+        this.defaultRuleTemplate = null;
     }
 
     // ===================================================================================
@@ -133,6 +209,58 @@ public class FlutyRemoteApi {
         });
     }
 
+    /**
+     * Request as GET, receiving elements of array in response body incrementally, e.g. huge JSON array. <br>
+     * The connection is kept until the iterator is closed, so use it by try-with-resources.
+     * The receiver should implement ElementStreamingResponseBodyReceiver, and the response body is not logged.
+     * @param <ELEMENT> The type of element.
+     * @param elementType The type of element in the array, e.g. row bean. (NotNull)
+     * @param urlBase The base part of URL to remote API server. e.g. http://localhost:8090/harbor (NotNull)
+     * @param actionPath The path to action without path variables, and trailing slash is no difference. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional parameter object of query parameters. (NotNull, EmptyAllowed)
+     * @param ruleLambda The callback for rule of remote API, e.g. streamElementsAt(). (NotNull)
+     * @return The iterator of elements read lazily, should be closed. (NotNull)
+     */
+    public <ELEMENT> RemoteElementIterator<ELEMENT> requestGetStream(Type elementType, String urlBase, String actionPath,
+            Object[] pathVariables, OptionalThing<? extends Object> param, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        return doRequestGetStream(elementType, urlBase, actionPath, pathVariables, param, ruleLambda);
+    }
+
+    /**
+     * Request as GET, downloading response body (e.g. PDF, image, archive) to the file as binary. <br>
+     * The body is transferred to file channel directly, not decoded as string. The file is overwritten.
+     * @param urlBase The base part of URL to remote API server. e.g. http://localhost:8090/harbor (NotNull)
+     * @param actionPath The path to action without path variables, and trailing slash is no difference. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional parameter object of query parameters. (NotNull, EmptyAllowed)
+     * @param destination The path of file to be written, deleted if failure. (NotNull)
+     * @param ruleLambda The callback for rule of remote API. (NotNull)
+     * @return The result of download, e.g. size and digest. (NotNull)
+     */
+    public RemoteDownloadResult requestDownload(String urlBase, String actionPath, Object[] pathVariables,
+            OptionalThing<? extends Object> param, Path destination, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        assertArgumentNotNull("destination", destination);
+        return doRequestDownload(urlBase, actionPath, pathVariables, param, ruleLambda, destination, /*channel*/null);
+    }
+
+    /**
+     * Request as GET, downloading response body (e.g. PDF, image, archive) to the channel as binary. <br>
+     * The body is transferred to the channel directly (file channel uses transferFrom()), not decoded as string.
+     * @param urlBase The base part of URL to remote API server. e.g. http://localhost:8090/harbor (NotNull)
+     * @param actionPath The path to action without path variables, and trailing slash is no difference. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional parameter object of query parameters. (NotNull, EmptyAllowed)
+     * @param destination The channel to be written, not closed here. (NotNull)
+     * @param ruleLambda The callback for rule of remote API. (NotNull)
+     * @return The result of download, e.g. size and digest. (NotNull)
+     */
+    public RemoteDownloadResult requestDownload(String urlBase, String actionPath, Object[] pathVariables,
+            OptionalThing<? extends Object> param, WritableByteChannel destination, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        assertArgumentNotNull("destination", destination);
+        return doRequestDownload(urlBase, actionPath, pathVariables, param, ruleLambda, /*path*/null, destination);
+    }
+
     // ===================================================================================
     //                                                                        Request POST
     //                                                                        ============
@@ -267,6 +395,7 @@ public class FlutyRemoteApi {
         final String url = buildUrl(returnType, urlBase, requestPath, optParam, rule);
         showBeginEmptyBody(rule, httpMethod, url);
         return delegateExecute(httpMethod, requestPath, rule, () -> {
+            throwCachedClientErrorIfExists(returnType, url, rule, httpMethod);
             return executeEmptyBody(returnType, url, rule, httpMethod, emptyBodyFactory);
         });
     }
@@ -371,9 +500,317 @@ public class FlutyRemoteApi {
             return createRemoteApiSenderOfRequestBodyNotFoundException(returnType, url, param, rule, httpMethod);
         });
         converter.prepareEnclosingRequest(enclosingRequest, param, rule);
+        compressRequestBodyIfNeeds(enclosingRequest, rule);
         return enclosingRequest;
     }
 
+    protected void compressRequestBodyIfNeeds(HttpEntityEnclosingRequestBase enclosingRequest, FlutyRemoteApiRule rule) {
+        rule.getBodyCompressionOption().ifPresent(option -> {
+            final HttpEntity entity = enclosingRequest.getEntity(); // null allowed
+            if (entity == null || !isRequestCompressionTargetEntity(entity)) {
+                return;
+            }
+            if (option.isRequestCompressionTarget(entity.getContentLength())) {
+                enclosingRequest.setEntity(new CompressingHttpEntity(entity, option.getRequestEncoding()));
+            }
+        });
+    }
+
+    protected boolean isRequestCompressionTargetEntity(HttpEntity entity) { // may be overridden
+        if (entity.getContentEncoding() != null) { // e.g. already compressed by sender
+            return false;
+        }
+        // e.g. raw input stream of your application, may be already-compressed binary,
+        // and cannot be sent again as plain if the server rejects the encoding
+        return entity.isRepeatable();
+    }
+
+    // ===================================================================================
+    //                                                                      Request Stream
+    //                                                                      ==============
+    protected <ELEMENT> RemoteElementIterator<ELEMENT> doRequestGetStream(Type elementType, String urlBase, String actionPath,
+            Object[] pathVariables, OptionalThing<? extends Object> optParam, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        assertArgumentNotNull("elementType", elementType);
+        assertArgumentNotNull("urlBase", urlBase);
+        assertArgumentNotNull("actionPath", actionPath);
+        assertArgumentNotNull("pathVariables", pathVariables);
+        assertArgumentNotNull("param", optParam); // variable name is for facade method
+        assertArgumentNotNull("ruleLambda", ruleLambda);
+        final SupportedHttpMethod httpMethod = SupportedHttpMethod.GET;
+        final FlutyRemoteApiRule rule = createRemoteApiRule(ruleLambda, httpMethod);
+        keepBeginDateTimeIfNeeds(rule);
+        keepFacadeExpIfNeeds(rule);
+        return retryableRequest(elementType, urlBase, actionPath, pathVariables, optParam, rule, () -> {
+            return actuallyRequestGetStream(elementType, urlBase, actionPath, pathVariables, optParam, rule, httpMethod);
+        }, clientError -> {
+            return createClientErrorRetryResource(elementType, urlBase, actionPath, pathVariables, optParam, rule, httpMethod, clientError);
+        });
+    }
+
+    protected <ELEMENT> RemoteElementIterator<ELEMENT> actuallyRequestGetStream(Type elementType, String urlBase, String actionPath,
+            Object[] pathVariables, OptionalThing<? extends Object> optParam, FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod) {
+        optParam.ifPresent(param -> validateParam(elementType, urlBase, actionPath, pathVariables, param, rule));
+        final String requestPath = buildRequestPath(elementType, urlBase, actionPath, pathVariables, optParam, rule);
+        final String url = buildUrl(elementType, urlBase, requestPath, optParam, rule);
+        showBeginEmptyBody(rule, httpMethod, url);
+        return delegateExecute(httpMethod, requestPath, rule, () -> { // until response header, body is read later
+            throwCachedClientErrorIfExists(elementType, url, rule, httpMethod);
+            return executeGetStream(elementType, url, rule, httpMethod);
+        });
+    }
+
+    protected <ELEMENT> RemoteElementIterator<ELEMENT> executeGetStream(Type elementType, String url, FlutyRemoteApiRule rule,
+            SupportedHttpMethod httpMethod) {
+        CloseableHttpClient httpClient = null;
+        CloseableHttpResponse response = null;
+        boolean handedOver = false; // resources are closed by iterator if handed over
+        try {
+            httpClient = buildHttpClient(rule);
+            final HttpUriRequest httpGet = prepareHttpEmptyBody(url, rule, httpMethod, getUrl -> new HttpGet(getUrl));
+            response = httpClient.execute(httpGet);
+            final RemoteElementIterator<ELEMENT> iterator = handleStreamResponse(elementType, url, response, httpClient, rule);
+            handedOver = true;
+            return iterator;
+        } catch (IOException e) {
+            handleRemoteApiIOException(elementType, url, /*param*/OptionalThing.empty(), rule, e);
+            return null; // unreachable
+        } finally {
+            if (!handedOver) {
+                closeStreamResourcesQuietly(response, httpClient);
+            }
+        }
+    }
+
+    protected <ELEMENT> RemoteElementIterator<ELEMENT> handleStreamResponse(Type elementType, String url, CloseableHttpResponse response,
+            CloseableHttpClient httpClient, FlutyRemoteApiRule rule) throws IOException {
+        final OptionalThing<Object> param = OptionalThing.empty();
+        final int httpStatus = response.getStatusLine().getStatusCode();
+        if (httpStatus < 200 || httpStatus >= 300) { // failure response is small so same as normal request
+            handleResponse(elementType, url, param, response, rule); // basically throws e.g. client error
+            throw new IllegalStateException("Cannot stream the failure response: status=" + httpStatus + ", url=" + url);
+        }
+        decompressResponseIfNeeds(response, rule); // here for success only, failure is wrapped in handleResponse()
+        limitResponseSizeIfNeeds(elementType, url, param, response, rule);
+        final Supplier<Header[]> headerSupplier = () -> response.getAllHeaders();
+        keepResponseHeaderIfNeeds(rule, headerSupplier);
+        keepResponseStatusIfNeeds(rule, httpStatus);
+        final ElementStreamingResponseBodyReceiver receiver = findElementStreamingReceiver(elementType, url, httpStatus, rule);
+        final HttpEntity entity = response.getEntity(); // null allowed e.g. 204
+        final Iterator<ELEMENT> elementIterator;
+        if (entity != null) {
+            final ResponseBodyStream bodyStream = createResponseBodyStream(entity, entity.getContent(), rule);
+            try {
+                elementIterator = receiver.toElementIterator(bodyStream, elementType, rule);
+            } catch (RuntimeException e) {
+                throwRemoteApiResponseParseFailureException(elementType, url, param, httpStatus, OptionalThing.empty(), receiver, rule, e);
+                return null; // unreachable
+            }
+        } else {
+            elementIterator = Collections.emptyIterator();
+        }
+        final RemoteElementIterator<ELEMENT> iterator = new RemoteElementIterator<ELEMENT>(elementIterator, element -> {
+            validateReturn(elementType, url, param, httpStatus, OptionalThing.empty(), element, rule);
+        }, cause -> {
+            if (cause instanceof RemoteApiResponseTooLargeException) { // not parse failure
+                throw cause;
+            }
+            throwRemoteApiResponseParseFailureException(elementType, url, param, httpStatus, OptionalThing.empty(), receiver, rule, cause);
+        }, () -> {
+            closeStreamResources(response, httpClient); // not consume rest of body, connection is not reused
+        });
+        handleSuccessResponseHeaderIfNeeds(headerSupplier, rule, iterator);
+        return iterator;
+    }
+
+    protected ElementStreamingResponseBodyReceiver findElementStreamingReceiver(Type elementType, String url, int httpStatus,
+            FlutyRemoteApiRule rule) {
+        final ResponseBodyReceiver receiver = rule.getResponseBodyReceiver().orElseThrow(() -> {
+            return createRemoteApiReceiverOfResponseBodyNotFoundException(elementType, url, OptionalThing.empty(), httpStatus,
+                    OptionalThing.empty(), rule);
+        });
+        if (!(receiver instanceof ElementStreamingResponseBodyReceiver)) {
+            throw createRemoteApiReceiverOfElementStreamNotFoundException(elementType, url, httpStatus, receiver, rule);
+        }
+        return (ElementStreamingResponseBodyReceiver) receiver;
+    }
+
+    protected void closeStreamResources(CloseableHttpResponse response, CloseableHttpClient httpClient) throws IOException {
+        try {
+            if (response != null) {
+                response.close(); // releases connection
+            }
+        } finally {
+            if (httpClient != null) {
+                httpClient.close();
+            }
+        }
+    }
+
+    protected void closeStreamResourcesQuietly(CloseableHttpResponse response, CloseableHttpClient httpClient) {
+        try {
+            closeStreamResources(response, httpClient);
+        } catch (IOException | RuntimeException continued) { // original exception is more important
+            logger.debug("Failed to close the resources of stream request.", continued);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                    Request Download
+    //                                                                    ================
+    protected RemoteDownloadResult doRequestDownload(String urlBase, String actionPath, Object[] pathVariables,
+            OptionalThing<? extends Object> optParam, Consumer<FlutyRemoteApiRule> ruleLambda, Path destPath,
+            WritableByteChannel destChannel) { // either path or channel
+        assertArgumentNotNull("urlBase", urlBase);
+        assertArgumentNotNull("actionPath", actionPath);
+        assertArgumentNotNull("pathVariables", pathVariables);
+        assertArgumentNotNull("param", optParam); // variable name is for facade method
+        assertArgumentNotNull("ruleLambda", ruleLambda);
+        final Type returnType = RemoteDownloadResult.class; // for e.g. exception message
+        final SupportedHttpMethod httpMethod = SupportedHttpMethod.GET;
+        final FlutyRemoteApiRule rule = createRemoteApiRule(ruleLambda, httpMethod);
+        keepBeginDateTimeIfNeeds(rule);
+        keepFacadeExpIfNeeds(rule);
+        return retryableRequest(returnType, urlBase, actionPath, pathVariables, optParam, rule, () -> {
+            optParam.ifPresent(param -> validateParam(returnType, urlBase, actionPath, pathVariables, param, rule));
+            final String requestPath = buildRequestPath(returnType, urlBase, actionPath, pathVariables, optParam, rule);
+            final String url = buildUrl(returnType, urlBase, requestPath, optParam, rule);
+            showBeginEmptyBody(rule, httpMethod, url);
+            return delegateExecute(httpMethod, requestPath, rule, () -> {
+                throwCachedClientErrorIfExists(returnType, url, rule, httpMethod);
+                return executeDownload(returnType, url, rule, httpMethod, destPath, destChannel);
+            });
+        }, clientError -> {
+            return createClientErrorRetryResource(returnType, urlBase, actionPath, pathVariables, optParam, rule, httpMethod, clientError);
+        });
+    }
+
+    protected RemoteDownloadResult executeDownload(Type returnType, String url, FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod,
+            Path destPath, WritableByteChannel destChannel) {
+        try (CloseableHttpClient httpClient = buildHttpClient(rule)) {
+            final HttpUriRequest httpGet = prepareHttpEmptyBody(url, rule, httpMethod, getUrl -> new HttpGet(getUrl));
+            try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
+                return handleDownloadResponse(returnType, url, response, rule, destPath, destChannel);
+            }
+        } catch (IOException e) {
+            handleRemoteApiIOException(returnType, url, /*param*/OptionalThing.empty(), rule, e);
+            return null; // unreachable
+        }
+    }
+
+    protected RemoteDownloadResult handleDownloadResponse(Type returnType, String url, CloseableHttpResponse response,
+            FlutyRemoteApiRule rule, Path destPath, WritableByteChannel destChannel) throws IOException {
+        final OptionalThing<Object> param = OptionalThing.empty();
+        final int httpStatus = response.getStatusLine().getStatusCode();
+        if (httpStatus < 200 || httpStatus >= 300) { // failure response is small text so same as normal request
+            handleResponse(returnType, url, param, response, rule); // basically throws e.g. client error
+            throw new IllegalStateException("Cannot download the failure response: status=" + httpStatus + ", url=" + url);
+        }
+        decompressResponseIfNeeds(response, rule); // here for success only, failure is wrapped in handleResponse()
+        limitResponseSizeIfNeeds(returnType, url, param, response, rule);
+        final Supplier<Header[]> headerSupplier = () -> response.getAllHeaders();
+        keepResponseHeaderIfNeeds(rule, headerSupplier);
+        keepResponseStatusIfNeeds(rule, httpStatus);
+        final HttpEntity entity = response.getEntity(); // null allowed e.g. 204
+        final MessageDigest digest = createDownloadDigest();
+        final long byteCount;
+        if (entity != null) {
+            try (InputStream content = new DigestInputStream(entity.getContent(), digest)) {
+                byteCount = writeDownloadBody(content, destPath, destChannel);
+            }
+        } else {
+            byteCount = writeDownloadBody(new ByteArrayInputStream(new byte[0]), destPath, destChannel); // e.g. empty file
+        }
+        final ContentType contentType = entity != null ? ContentType.get(entity) : null;
+        final String digestHex = HexFormat.of().formatHex(digest.digest());
+        final RemoteDownloadResult result = newRemoteDownloadResult(byteCount, digest.getAlgorithm(), digestHex,
+                contentType != null ? contentType.toString() : null);
+        showDownloadResult(url, httpStatus, result);
+        keepDownloadResultIfNeeds(rule, result);
+        handleSuccessResponseHeaderIfNeeds(headerSupplier, rule, result);
+        return result;
+    }
+
+    protected long writeDownloadBody(InputStream content, Path destPath, WritableByteChannel destChannel) throws IOException {
+        final ReadableByteChannel source = Channels.newChannel(content); // not closed here, content is closed by caller
+        if (destPath == null) {
+            return transferDownloadBody(source, destChannel);
+        }
+        boolean completed = false;
+        try (FileChannel fileChannel = FileChannel.open(destPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long byteCount = transferDownloadBody(source, fileChannel);
+            completed = true;
+            return byteCount;
+        } finally {
+            if (!completed) { // not to leave broken file
+                deleteBrokenDownloadFile(destPath);
+            }
+        }
+    }
+
+    protected long transferDownloadBody(ReadableByteChannel source, WritableByteChannel destination) throws IOException {
+        if (destination instanceof FileChannel) { // transfer in kernel side as possible
+            final FileChannel fileChannel = (FileChannel) destination;
+            final long beginPosition = fileChannel.position();
+            long position = beginPosition;
+            long transferred;
+            while ((transferred = fileChannel.transferFrom(source, position, DOWNLOAD_TRANSFER_BYTES)) > 0L) {
+                position += transferred;
+            }
+            fileChannel.position(position); // transferFrom() does not move position
+            return position - beginPosition;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(DOWNLOAD_BUFFER_SIZE);
+        long byteCount = 0L;
+        while (source.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byteCount += destination.write(buffer);
+            }
+            buffer.clear();
+        }
+        return byteCount;
+    }
+
+    protected void deleteBrokenDownloadFile(Path destPath) {
+        try {
+            Files.deleteIfExists(destPath);
+        } catch (IOException | RuntimeException continued) { // original exception is more important
+            logger.debug("Failed to delete the broken download file: " + destPath, continued);
+        }
+    }
+
+    protected MessageDigest createDownloadDigest() {
+        final String algorithm = getDownloadDigestAlgorithm();
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unknown digest algorithm for download: " + algorithm, e);
+        }
+    }
+
+    protected String getDownloadDigestAlgorithm() { // may be overridden
+        return "SHA-256"; // as default
+    }
+
+    protected RemoteDownloadResult newRemoteDownloadResult(long byteCount, String digestAlgorithm, String digestHex, String contentType) {
+        return new RemoteDownloadResult(byteCount, digestAlgorithm, digestHex, contentType);
+    }
+
+    protected void showDownloadResult(String url, int httpStatus, RemoteDownloadResult result) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow #remote ...Receiving response as {} from Remote API:\n{}\n as {}", httpStatus, url, result);
+        }
+    }
+
+    protected void keepDownloadResultIfNeeds(FlutyRemoteApiRule rule, RemoteDownloadResult result) {
+        final SendReceiveLogOption option = rule.getSendReceiveLogOption();
+        if (option.isEnabled()) { // binary body is not logged, instead size and digest
+            final String content = "size=" + result.getByteCount() + ", " + result.getDigestAlgorithm() + "=" + result.getDigestHex();
+            option.keeper().keepResponseBody(content, "binary");
+        }
+    }
+
     // ===================================================================================
     //                                                                  Unified Controller
     //                                                                  ==================
@@ -383,7 +820,7 @@ public class FlutyRemoteApi {
         try {
             return actuallyRequester.get();
         } catch (RemoteApiHttpClientErrorException clientError) {
-            final OptionalThing<ClientErrorRetryDeterminer> determiner = rule.getClientErrorRetryDeterminer();
+            final OptionalThing<ClientErrorRetryDeterminer> determiner = findClientErrorRetryDeterminer(rule);
             if (determiner.isPresent()) {
                 final ClientErrorRetryDeterminer retryDeterminer = determiner.get();
                 final ClientErrorRetryResource retryResource = retryResourceProvider.apply(clientError);
@@ -405,6 +842,22 @@ public class FlutyRemoteApi {
         }
     }
 
+    protected OptionalThing<ClientErrorRetryDeterminer> findClientErrorRetryDeterminer(FlutyRemoteApiRule rule) {
+        final OptionalThing<ClientErrorRetryDeterminer> yourDeterminer = rule.getClientErrorRetryDeterminer();
+        final OptionalThing<AuthorizationProvider> optProvider = rule.getAuthorizationProvider();
+        if (!optProvider.isPresent()) {
+            return yourDeterminer;
+        }
+        final AuthorizationProvider provider = optProvider.get();
+        final ClientErrorRetryDeterminer authorizationDeterminer = resource -> { // e.g. refresh token if 401
+            if (provider.refreshIfUnauthorized(resource)) {
+                return true;
+            }
+            return yourDeterminer.map(determiner -> determiner.ready(resource)).orElse(false);
+        };
+        return OptionalThing.of(authorizationDeterminer);
+    }
+
     protected ClientErrorRetryResource createClientErrorRetryResource(Type returnType, String urlBase, String actionPath,
             Object[] pathVariables, OptionalThing<? extends Object> optParam, FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod,
             RemoteApiHttpClientErrorException clientError) {
@@ -443,8 +896,13 @@ public class FlutyRemoteApi {
     //                                                                      ==============
     protected FlutyRemoteApiRule createRemoteApiRule(Consumer<FlutyRemoteApiRule> ruleLambda, SupportedHttpMethod httpMethod) {
         final FlutyRemoteApiRule rule = newRemoteApiRule();
-        acceptFrameworkInternallyRequestedHttpMethod(rule, httpMethod);
-        defaultRuleLambda.accept(rule);
+        if (defaultRuleTemplateEnabled) {
+            overlayDefaultRuleTemplate(rule, prepareDefaultRuleTemplate());
+            acceptFrameworkInternallyRequestedHttpMethod(rule, httpMethod);
+        } else {
+            acceptFrameworkInternallyRequestedHttpMethod(rule, httpMethod);
+            defaultRuleLambda.accept(rule);
+        }
         ruleLambda.accept(rule);
         return rule;
     }
@@ -453,6 +911,35 @@ public class FlutyRemoteApi {
         return new FlutyRemoteApiRule();
     }
 
+    // -----------------------------------------------------
+    //                                 Default Rule Template
+    //                                 ---------------------
+    protected FlutyRemoteApiRule prepareDefaultRuleTemplate() {
+        FlutyRemoteApiRule template = defaultRuleTemplate;
+        if (template == null) { // may be built twice in race at first, no problem because of same rule
+            template = createDefaultRuleTemplate();
+            defaultRuleTemplate = template;
+        }
+        return template;
+    }
+
+    @SuppressWarnings("deprecation") // for framework internally
+    protected FlutyRemoteApiRule createDefaultRuleTemplate() {
+        final FlutyRemoteApiRule template = newRemoteApiRule();
+        template.xmarkAsDefaultRuleTemplate(); // for clear message if the default rule depends on request
+        defaultRuleLambda.accept(template);
+        template.xfreezeAsDefaultRuleTemplate();
+        return template;
+    }
+
+    @SuppressWarnings("deprecation") // for framework internally
+    protected void overlayDefaultRuleTemplate(FlutyRemoteApiRule rule, FlutyRemoteApiRule template) {
+        rule.xoverlayDefaultRuleTemplate(template);
+    }
+
+    // -----------------------------------------------------
+    //                                 Requested HTTP Method
+    //                                 ---------------------
     @SuppressWarnings("deprecation") // for framework internally
     protected void acceptFrameworkInternallyRequestedHttpMethod(FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod) {
         // #for_now jflute it uses the rule object as container framework internally (2021/10/02)
@@ -473,13 +960,14 @@ public class FlutyRemoteApi {
     //                                                                        ============
     protected String buildRequestPath(Type returnType, String urlBase, String actionPath, Object[] pathVariables,
             OptionalThing<? extends Object> queryParam, FlutyRemoteApiRule rule) {
-        final StringBuilder sb = new StringBuilder();
         final ActionPathNew pathNew = prepareActionPathNew(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
-        sb.append(pathNew.getActionPath());
-        if (pathNew.hasPathVariables()) {
-            sb.append("/");
-            sb.append(buildPathVariableRearPart(returnType, urlBase, actionPath, pathNew.getPathVariables(), queryParam, rule));
+        if (!pathNew.hasPathVariables()) {
+            return pathNew.getActionPath(); // no copy
         }
+        final String rearPart = buildPathVariableRearPart(returnType, urlBase, actionPath, pathNew.getPathVariables(), queryParam, rule);
+        final String newActionPath = pathNew.getActionPath();
+        final StringBuilder sb = new StringBuilder(newActionPath.length() + 1 + rearPart.length());
+        sb.append(newActionPath).append("/").append(rearPart);
         return sb.toString();
     }
 
@@ -501,49 +989,54 @@ public class FlutyRemoteApi {
 
     protected ActionPathNew prepareActionPathNew(Type returnType, String urlBase, String actionPath, Object[] pathVariables,
             OptionalThing<? extends Object> queryParam, FlutyRemoteApiRule rule) {
-        final String newActionPath;
-        final Object[] newPathVariables;
-        if (Srl.containsAll(actionPath, "{", "}")) { // e.g. /sea/{hangar}/land/{showbase}, {"mystic", "onaman"}
-            final List<String> pathElementList = Srl.splitList(actionPath, "/");
-            final List<Object> resolvedElementList = new ArrayList<Object>(); // e.g. [, sea, mystic, land, onaman]
-            int pathVariableUsedIndex = 0;
-            for (String token : pathElementList) {
-                final Object newToken;
-                if (Srl.isQuotedAnything(token, "{", "}")) {
-                    if (pathVariables.length <= pathVariableUsedIndex) {
-                        throwRemoteApiPathVariableShortElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
-                    }
-                    final Object variablePlainValue = pathVariables[pathVariableUsedIndex];
-                    if (variablePlainValue == null) {
-                        throwRemoteApiPathVariableNullElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
-                    }
-                    if (isPathVariableOptionalThingEmpty(variablePlainValue)) {
-                        ++pathVariableUsedIndex;
-                        continue; // skip the variable (for optional parameter)
-                    }
-                    newToken = convertPathVariableToString(variablePlainValue, rule);
-                    if (newToken == null) { // basically no way, just in case (e.g. code() and toString() should not return null)
-                        throwRemoteApiPathVariableNullElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
-                    }
+        final ActionPathTemplate template = findActionPathTemplate(actionPath); // compiled once
+        if (!template.hasVariableSlot()) { // e.g. sea/land
+            return new ActionPathNew(actionPath, pathVariables);
+        }
+        // e.g. /sea/{hangar}/land/{showbase}, {"mystic", "onaman"}
+        final StringBuilder sb = new StringBuilder(template.getEstimatedLength()); // e.g. /sea/mystic/land/oneman
+        int pathVariableUsedIndex = 0;
+        boolean firstSegment = true;
+        final int segmentCount = template.getSegmentCount();
+        for (int i = 0; i < segmentCount; i++) {
+            final String newToken;
+            if (template.isVariableSlot(i)) {
+                if (pathVariables.length <= pathVariableUsedIndex) {
+                    throwRemoteApiPathVariableShortElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
+                }
+                final Object variablePlainValue = pathVariables[pathVariableUsedIndex];
+                if (variablePlainValue == null) {
+                    throwRemoteApiPathVariableNullElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
+                }
+                if (isPathVariableOptionalThingEmpty(variablePlainValue)) {
                     ++pathVariableUsedIndex;
-                } else {
-                    newToken = token;
+                    continue; // skip the variable (for optional parameter)
+                }
+                newToken = convertPathVariableToString(variablePlainValue, rule);
+                if (newToken == null) { // basically no way, just in case (e.g. code() and toString() should not return null)
+                    throwRemoteApiPathVariableNullElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
                 }
-                resolvedElementList.add(newToken);
+                ++pathVariableUsedIndex;
+            } else {
+                newToken = template.getLiteral(i);
             }
-            newActionPath = resolvedElementList.stream().map(token -> { // /sea/mystic/land/oneman
-                return token.toString(); // already converted here
-            }).collect(Collectors.joining("/"));
-            if (pathVariables.length > 0) { // basically here
-                newPathVariables = Arrays.asList(pathVariables).subList(pathVariableUsedIndex, pathVariables.length).toArray();
-            } else { // no way, already checked but just in case (or may be broken variable expression...!?)
-                newPathVariables = pathVariables;
+            if (!firstSegment) {
+                sb.append('/');
             }
-        } else { // e.g. sea/land
-            newActionPath = actionPath;
+            sb.append(newToken);
+            firstSegment = false;
+        }
+        final Object[] newPathVariables;
+        if (pathVariableUsedIndex > 0) { // basically here
+            newPathVariables = Arrays.copyOfRange(pathVariables, pathVariableUsedIndex, pathVariables.length);
+        } else { // no way, variable slot uses at least one (or short error) but just in case
             newPathVariables = pathVariables;
         }
-        return new ActionPathNew(newActionPath, newPathVariables);
+        return new ActionPathNew(sb.toString(), newPathVariables);
+    }
+
+    protected ActionPathTemplate findActionPathTemplate(String actionPath) { // may be overridden
+        return ActionPathTemplate.of(actionPath); // cached as default
     }
 
     protected static class ActionPathNew {
@@ -571,20 +1064,27 @@ public class FlutyRemoteApi {
 
     protected String buildPathVariableRearPart(Type returnType, String urlBase, String actionPath, Object[] pathVariables,
             OptionalThing<? extends Object> queryParam, FlutyRemoteApiRule rule) {
-        final String encoding = rule.getPathVariableCharset().name();
-        return Stream.of(pathVariables).peek(el -> {
+        final Charset charset = rule.getPathVariableCharset();
+        final StringBuilder sb = new StringBuilder(pathVariables.length * 16);
+        boolean firstVariable = true;
+        for (Object el : pathVariables) {
             if (el == null) {
                 throwRemoteApiPathVariableNullElementException(returnType, urlBase, actionPath, pathVariables, queryParam, rule);
             }
-        }).filter(el -> {
-            return !isPathVariableOptionalThingEmpty(el); // skip empty optional parameter
-        }).map(el -> {
-            try {
-                return URLEncoder.encode(convertPathVariableToString(el, rule), encoding);
-            } catch (UnsupportedEncodingException e) { // basically no way
-                throw new IllegalStateException("Unknown encoding: " + encoding, e);
+            if (isPathVariableOptionalThingEmpty(el)) { // skip empty optional parameter
+                continue;
             }
-        }).collect(Collectors.joining("/"));
+            if (!firstVariable) {
+                sb.append('/');
+            }
+            encodePathVariable(sb, convertPathVariableToString(el, rule), charset); // directly into builder
+            firstVariable = false;
+        }
+        return sb.toString();
+    }
+
+    protected void encodePathVariable(StringBuilder sb, String plainValue, Charset charset) { // may be overridden
+        UrlPercentEncoder.PATH_SEGMENT.encode(sb, plainValue, charset); // as path segment, e.g. space is %20
     }
 
     protected boolean isPathVariableOptionalThingEmpty(Object value) {
@@ -626,34 +1126,267 @@ public class FlutyRemoteApi {
     //                                                                   =================
     protected <RETURN> RETURN handleResponse(Type returnType, String url, OptionalThing<Object> param, CloseableHttpResponse response,
             FlutyRemoteApiRule rule) throws IOException {
+        decompressResponseIfNeeds(response, rule);
+        limitResponseSizeIfNeeds(returnType, url, param, response, rule);
         final Supplier<Header[]> headerSupplier = () -> response.getAllHeaders();
         final int httpStatus = response.getStatusLine().getStatusCode();
         keepResponseHeaderIfNeeds(rule, headerSupplier);
         keepResponseStatusIfNeeds(rule, httpStatus);
-        final OptionalThing<String> body = extractResponseBody(response, rule);
+        if (isStreamingResponseBodyAvailable(returnType, httpStatus, response, rule)) { // no body string
+            return handleStreamingResponse(returnType, url, param, httpStatus, response, headerSupplier, rule);
+        }
+        spillResponseBodyIfNeeds(response, rule); // large body to temp file instead of heap
+        if (response.getEntity() instanceof SpilledHttpEntity && isSuccessHttpStatus(httpStatus)) { // cannot be string
+            return handleSpilledResponse(returnType, url, param, httpStatus, response, headerSupplier, rule);
+        }
+        final OptionalThing<String> body = extractResponseBody(response, rule); // prefix if spilled failure response
         try {
             final RETURN ret = parseResponse(returnType, url, param, httpStatus, body, rule); // not null
             handleSuccessResponseHeaderIfNeeds(headerSupplier, rule, ret);
             validateReturn(returnType, url, param, httpStatus, body, ret, rule);
             return ret;
         } catch (RemoteApiHttpBasisErrorException cause) {
-            final Object failureResponse = cause.getFailureResponse().orElse(null);
-            handleFailureResponseHeaderIfNeeds(headerSupplier, rule, failureResponse, cause);
-            if (failureResponse != null) {
-                validateReturn(returnType, url, param, httpStatus, body, failureResponse, rule);
+            if (isFailureResponseNeededInHandling(rule)) { // otherwise not parsed here (lazy)
+                final Object failureResponse = cause.getFailureResponse().orElse(null);
+                handleFailureResponseHeaderIfNeeds(headerSupplier, rule, failureResponse, cause);
+                if (failureResponse != null && isFailureResponseValidationTarget(rule)) {
+                    validateReturn(returnType, url, param, httpStatus, body, failureResponse, rule);
+                }
             }
             if (cause instanceof RemoteApiHttpClientErrorException) {
-                throwTranslatedClientErrorIfNeeds(returnType, url, param, rule, httpStatus, body,
-                        (RemoteApiHttpClientErrorException) cause);
+                final RemoteApiHttpClientErrorException clientError = (RemoteApiHttpClientErrorException) cause;
+                saveClientErrorCacheIfNeeds(url, rule, httpStatus, body, clientError);
+                throwTranslatedClientErrorIfNeeds(returnType, url, param, rule, httpStatus, body, clientError);
             }
             throw cause;
         }
     }
 
+    // -----------------------------------------------------
+    //                                         Decompression
+    //                                         -------------
+    protected void decompressResponseIfNeeds(CloseableHttpResponse response, FlutyRemoteApiRule rule) {
+        rule.getBodyCompressionOption().ifPresent(option -> {
+            final HttpEntity entity = response.getEntity(); // null allowed
+            final Header encodingHeader = entity != null ? entity.getContentEncoding() : null;
+            if (encodingHeader == null) { // e.g. plain, already decompressed
+                return;
+            }
+            final CompressionEncoding encoding = CompressionEncoding.codeOf(encodingHeader.getValue()); // null allowed
+            if (encoding != null && option.isAcceptedEncoding(encoding)) { // streaming, not whole bytes
+                response.setEntity(new DecompressingHttpEntity(entity, encoding, decompressed -> {
+                    showResponseDecompression(decompressed);
+                }));
+            }
+        });
+    }
+
+    protected void showResponseDecompression(DecompressingHttpEntity decompressed) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow #remote ...Decompressed response body as {}: compressed={} bytes, decompressed={} bytes",
+                    decompressed.getEncoding().code(), decompressed.getCompressedByteCount(), decompressed.getDecompressedByteCount());
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                         Response Size
+    //                                         -------------
+    protected void limitResponseSizeIfNeeds(Type returnType, String url, OptionalThing<Object> param, CloseableHttpResponse response,
+            FlutyRemoteApiRule rule) {
+        rule.getResponseSizeOption().filter(option -> option.isLimited()).ifPresent(option -> {
+            final HttpEntity entity = response.getEntity(); // null allowed
+            if (entity == null) {
+                return;
+            }
+            final int httpStatus = response.getStatusLine().getStatusCode();
+            final long contentLength = entity.getContentLength(); // minus if unknown e.g. chunked, decompressed
+            if (option.isOverMax(contentLength)) { // fail fast without reading
+                throw createRemoteApiResponseTooLargeException(returnType, url, param, httpStatus, option, contentLength, rule);
+            }
+            response.setEntity(new SizeLimitedHttpEntity(entity, option.getMaxBytes(), readBytes -> {
+                return createRemoteApiResponseTooLargeException(returnType, url, param, httpStatus, option, readBytes, rule);
+            }));
+        });
+    }
+
+    // -----------------------------------------------------
+    //                                      Spilled Response
+    //                                      ----------------
+    protected void spillResponseBodyIfNeeds(CloseableHttpResponse response, FlutyRemoteApiRule rule) throws IOException {
+        final OptionalThing<ResponseSizeOption> optSpill = rule.getResponseSizeOption().filter(option -> option.isSpillable());
+        final HttpEntity entity = response.getEntity(); // null allowed
+        if (!optSpill.isPresent() || entity == null) {
+            return;
+        }
+        final ResponseSizeOption option = optSpill.get();
+        final SpillableBodyBuffer buffer = new SpillableBodyBuffer(option.getSpillThresholdBytes(), option.getSpillDirectory().orElse(null));
+        response.setEntity(buffer.buffer(entity)); // network content is closed here
+    }
+
+    protected <RETURN> RETURN handleSpilledResponse(Type returnType, String url, OptionalThing<Object> param, int httpStatus,
+            CloseableHttpResponse response, Supplier<Header[]> headerSupplier, FlutyRemoteApiRule rule) throws IOException {
+        final SpilledHttpEntity entity = (SpilledHttpEntity) response.getEntity();
+        if (isSpilledResponseStreamable(returnType, httpStatus, rule)) { // receiver reads the temp file as stream
+            return handleStreamingResponse(returnType, url, param, httpStatus, response, headerSupplier, rule);
+        }
+        entity.discard(); // string of large body is not made to protect heap
+        final ResponseSizeOption option = rule.getResponseSizeOption().get();
+        throw createRemoteApiResponseTooLargeToBeStringException(returnType, url, param, httpStatus, option, entity, rule);
+    }
+
+    protected boolean isSpilledResponseStreamable(Type returnType, int httpStatus, FlutyRemoteApiRule rule) {
+        if (!isUseStreamingResponseBody(rule) || !isSuccessHttpStatus(httpStatus) || isVoid(returnType)) {
+            return false; // e.g. failure response needs body string
+        }
+        return rule.getResponseBodyReceiver().map(receiver -> { // reading as string from the temp file defeats the spill
+            return receiver instanceof StreamingResponseBodyReceiver
+                    && ((StreamingResponseBodyReceiver) receiver).isTrulyStreaming(returnType);
+        }).orElse(false);
+    }
+
+    protected boolean isSuccessHttpStatus(int httpStatus) {
+        return httpStatus >= 200 && httpStatus < 300;
+    }
+
+    /**
+     * Extract the prefix of the spilled failure response body, the temp file is deleted here. <br>
+     * The failure response keeps the HTTP error flow (e.g. translation, cache) with the prefix as body,
+     * so the failure response may not be parsed if the prefix is broken e.g. JSON.
+     * @param entity The entity of spilled response body. (NotNull)
+     * @param rule The rule of remote API. (NotNull)
+     * @return The string of body prefix. (NotNull)
+     * @throws IOException When it fails to read or delete the temp file.
+     */
+    protected String extractSpilledFailureResponseBody(SpilledHttpEntity entity, FlutyRemoteApiRule rule) throws IOException {
+        final int prefixBytes = getSpilledFailureResponseBodyPrefixBytes(rule);
+        final byte[] prefix;
+        try (InputStream content = entity.getContent()) { // temp file is deleted when closed
+            prefix = content.readNBytes(prefixBytes);
+        }
+        entity.discard(); // make sure, basically already deleted
+        final ContentType contentType = ContentType.get(entity); // null allowed
+        final Charset entityCharset = contentType != null ? contentType.getCharset() : null; // same as EntityUtils
+        final Charset charset = entityCharset != null ? entityCharset : rule.getResponseBodyCharset();
+        logger.debug("#flow #remote ...Reading the prefix of large failure response body: {} of {} bytes", prefix.length,
+                entity.getContentLength());
+        if (isBinaryResponseBodyReceiver(rule)) {
+            return encodeBinaryResponseBody(prefix, rule);
+        }
+        return new String(prefix, charset);
+    }
+
+    protected int getSpilledFailureResponseBodyPrefixBytes(FlutyRemoteApiRule rule) { // may be overridden
+        return SPILLED_FAILURE_RESPONSE_BODY_PREFIX_BYTES; // as default
+    }
+
+    // -----------------------------------------------------
+    //                                       Binary Response
+    //                                       ---------------
+    protected boolean isBinaryResponseBodyReceiver(FlutyRemoteApiRule rule) {
+        return rule.getResponseBodyReceiver().map(receiver -> receiver instanceof BinaryResponseBodyReceiver).orElse(false);
+    }
+
+    /**
+     * Encode the binary response body (e.g. failure response of CBOR) to string for the string-based handling. <br>
+     * The binary receiver decodes it in the string version of toResponseReturn(), see BinaryResponseBodyReceiver.
+     * @param bodyBytes The bytes of the response body, might be prefix if large. (NotNull)
+     * @param rule The rule of remote API. (NotNull)
+     * @return The Base64 string of the bytes, also shown as body in e.g. exception message. (NotNull)
+     */
+    protected String encodeBinaryResponseBody(byte[] bodyBytes, FlutyRemoteApiRule rule) {
+        return BinaryResponseBodyReceiver.encodeBodyBytes(bodyBytes); // not text decoding that breaks bytes
+    }
+
+    // -----------------------------------------------------
+    //                                    Streaming Response
+    //                                    ------------------
+    protected boolean isStreamingResponseBodyAvailable(Type returnType, int httpStatus, CloseableHttpResponse response,
+            FlutyRemoteApiRule rule) {
+        if (!isUseStreamingResponseBody(rule)) {
+            return false;
+        }
+        if (httpStatus < 200 || httpStatus >= 300 || isVoid(returnType) || response.getEntity() == null) {
+            return false; // failure response is parsed from string for e.g. exception message
+        }
+        if (isBinaryResponseBodyReceiver(rule)) {
+            return true; // cannot be string, the receiver keeps logging by itself
+        }
+        if (logger.isDebugEnabled() || rule.getSendReceiveLogOption().isEnabled()) {
+            return false; // needs body string for logging
+        }
+        return rule.getResponseBodyReceiver().map(receiver -> receiver instanceof StreamingResponseBodyReceiver).orElse(false);
+    }
+
+    /**
+     * Does it use streaming response body for the streaming receiver? <br>
+     * The streamed success response is not handled by parseResponse() but parseStreamingResponse(),
+     * so override this as false if your parseResponse() needs to handle success response.
+     * @param rule The rule of remote API. (NotNull)
+     * @return The determination, true if streaming receiver reads the body without string.
+     */
+    protected boolean isUseStreamingResponseBody(FlutyRemoteApiRule rule) { // may be overridden
+        return true; // as default
+    }
+
+    protected <RETURN> RETURN handleStreamingResponse(Type returnType, String url, OptionalThing<Object> param, int httpStatus,
+            CloseableHttpResponse response, Supplier<Header[]> headerSupplier, FlutyRemoteApiRule rule) throws IOException {
+        final OptionalThing<String> body = OptionalThing.empty(); // not kept, streamed
+        final HttpEntity entity = response.getEntity();
+        final RETURN ret;
+        try (InputStream content = entity.getContent()) {
+            final ResponseBodyStream bodyStream = createResponseBodyStream(entity, content, rule);
+            ret = parseStreamingResponse(returnType, url, param, httpStatus, bodyStream, rule); // not null
+        }
+        handleSuccessResponseHeaderIfNeeds(headerSupplier, rule, ret);
+        validateReturn(returnType, url, param, httpStatus, body, ret, rule);
+        return ret;
+    }
+
+    protected ResponseBodyStream createResponseBodyStream(HttpEntity entity, InputStream content, FlutyRemoteApiRule rule) {
+        final ContentType contentType = ContentType.get(entity); // null allowed
+        final Charset entityCharset = contentType != null ? contentType.getCharset() : null; // same as EntityUtils
+        final Charset charset = entityCharset != null ? entityCharset : rule.getResponseBodyCharset();
+        final String contentTypeExp = contentType != null ? contentType.toString() : null;
+        return new ResponseBodyStream(content, charset, contentTypeExp, entity.getContentLength());
+    }
+
+    /**
+     * Parse the streamed success response, called instead of parseResponse() for streaming receiver. <br>
+     * Override this with parseResponse() if you customize parsing of success response.
+     * @param <RETURN> The type of response return.
+     * @param returnType The type of response return. (NotNull)
+     * @param url The requested URL. (NotNull)
+     * @param form The optional form (parameter) of the request. (NotNull, EmptyAllowed)
+     * @param httpStatus The HTTP status of the success response.
+     * @param bodyStream The stream of response body, closed after this. (NotNull)
+     * @param rule The rule of remote API. (NotNull)
+     * @return The analyzed return of response. (NotNull)
+     */
+    protected <RETURN> RETURN parseStreamingResponse(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
+            ResponseBodyStream bodyStream, FlutyRemoteApiRule rule) { // may be overridden
+        logger.debug("#flow #remote ...Receiving response as {} from Remote API:\n{}\n as {}\n(streamed body)", httpStatus, url,
+                returnType);
+        return toStreamingResponseReturn(returnType, url, form, httpStatus, bodyStream, rule);
+    }
+
+    protected <RETURN> RETURN toStreamingResponseReturn(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
+            ResponseBodyStream bodyStream, FlutyRemoteApiRule rule) {
+        final StreamingResponseBodyReceiver receiver = (StreamingResponseBodyReceiver) rule.getResponseBodyReceiver().get();
+        try {
+            return receiver.toResponseReturn(bodyStream, returnType, rule);
+        } catch (RemoteApiResponseTooLargeException e) { // not parse failure
+            throw e;
+        } catch (RuntimeException e) {
+            throwRemoteApiResponseParseFailureException(returnType, url, form, httpStatus, OptionalThing.empty(), receiver, rule, e);
+            return null; // unreachable
+        }
+    }
+
     // -----------------------------------------------------
     //                                        Parse Response
     //                                        --------------
     // #thinking jflute user framework overrides this so cannot change arguments (2021/10/02)
+    // not called for streamed success response, see parseStreamingResponse()
     protected <RETURN> RETURN parseResponse(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
             OptionalThing<String> body, FlutyRemoteApiRule rule) {
         logger.debug("#flow #remote ...Receiving response as {} from Remote API:\n{}\n as {}\n{}", httpStatus, url, returnType,
@@ -676,6 +1409,36 @@ public class FlutyRemoteApi {
     //                                      ----------------
     protected RemoteApiFailureResponseHolder holdFailureResponse(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
             OptionalThing<String> body, FlutyRemoteApiRule rule) {
+        if (isFailureResponseLazyParsing(rule)) { // parsed at first getFailureResponse(), not parsed if unused
+            return new RemoteApiLazyFailureResponseHolder(() -> {
+                return doHoldFailureResponse(returnType, url, form, httpStatus, body, rule);
+            });
+        }
+        return doHoldFailureResponse(returnType, url, form, httpStatus, body, rule);
+    }
+
+    protected boolean isFailureResponseLazyParsing(FlutyRemoteApiRule rule) {
+        return rule.getFailureResponseType().isPresent() // no parsing if no type so eager
+                && !isFailureResponseNeededInHandling(rule) // parsed in response handling anyway
+                && !rule.getSendReceiveLogOption().isEnabled(); // receiver keeps the body for logging when parsing
+    }
+
+    protected boolean isFailureResponseNeededInHandling(FlutyRemoteApiRule rule) {
+        return rule.getResponseHeaderHandler().isPresent() || isFailureResponseValidationTarget(rule);
+    }
+
+    /**
+     * Is the failure response validated by validateReturn()? <br>
+     * True if validateReturn() is overridden, so override this as false if your validateReturn() ignores the failure response.
+     * @param rule The rule of remote API. (NotNull)
+     * @return The determination, true if the failure response is validated (then parsed eagerly).
+     */
+    protected boolean isFailureResponseValidationTarget(FlutyRemoteApiRule rule) { // may be overridden
+        return validateReturnOverriddenCache.get(getClass()); // as default, no validation if not overridden (does nothing)
+    }
+
+    protected RemoteApiFailureResponseHolder doHoldFailureResponse(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
+            OptionalThing<String> body, FlutyRemoteApiRule rule) {
         Object failureResponse = null;
         Supplier<RuntimeException> emptyResponseCause = null; // null allowed
         try {
@@ -751,6 +1514,90 @@ public class FlutyRemoteApi {
         return null; // as default
     }
 
+    // -----------------------------------------------------
+    //                                     ClientError Cache
+    //                                     -----------------
+    protected void throwCachedClientErrorIfExists(Type returnType, String url, FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod) {
+        if (!isClientErrorCacheTarget(rule, httpMethod)) {
+            return;
+        }
+        final String cacheKey = buildClientErrorCacheKey(url, rule, httpMethod);
+        clientErrorCacheStorage.find(cacheKey, currentClientErrorCacheTimeMillis()).ifPresent(entry -> {
+            final int httpStatus = entry.getHttpStatus();
+            if (logger.isDebugEnabled()) {
+                logger.debug("#flow #remote ...Throwing cached client error without request: HTTP status={}", httpStatus);
+            }
+            keepResponseStatusIfNeeds(rule, httpStatus);
+            final OptionalThing<Object> param = OptionalThing.empty(); // same as executeEmptyBody()
+            final OptionalThing<String> body = entry.getBody();
+            // new instance per hit, cached exception is not shared between threads (stack trace, suppressed, ...)
+            final RemoteApiHttpClientErrorException clientError =
+                    createRemoteApiHttpClientErrorException(returnType, url, param, httpStatus, body, entry.getFailureResponseHolder(), rule);
+            throwTranslatedClientErrorIfNeeds(returnType, url, param, rule, httpStatus, body, clientError);
+            throw clientError;
+        });
+    }
+
+    protected void saveClientErrorCacheIfNeeds(String url, FlutyRemoteApiRule rule, int httpStatus, OptionalThing<String> body,
+            RemoteApiHttpClientErrorException clientError) {
+        final SupportedHttpMethod httpMethod = extractResponseErrorRequestedHttpMethod(rule); // basically not null here
+        if (httpMethod == null || !isClientErrorCacheTarget(rule, httpMethod)) {
+            return;
+        }
+        rule.getClientErrorCacheOption().filter(op -> op.isTargetStatus(httpStatus)).ifPresent(op -> {
+            final String cacheKey = buildClientErrorCacheKey(url, rule, httpMethod);
+            final long currentTimeMillis = currentClientErrorCacheTimeMillis();
+            final long expireTimeMillis = currentTimeMillis + op.getExpireMillis();
+            final ClientErrorCacheEntry entry =
+                    new ClientErrorCacheEntry(httpStatus, body.orElse(null), clientError.getFailureResponseHolder(), expireTimeMillis);
+            clientErrorCacheStorage.save(cacheKey, entry, currentTimeMillis);
+        });
+    }
+
+    protected boolean isClientErrorCacheTarget(FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod) {
+        return rule.getClientErrorCacheOption().isPresent() && SupportedHttpMethod.GET.equals(httpMethod); // safe method only
+    }
+
+    protected String buildClientErrorCacheKey(String url, FlutyRemoteApiRule rule, SupportedHttpMethod httpMethod) {
+        // headers are included because e.g. authentication or language header may change the response
+        final StringBuilder sb = new StringBuilder();
+        sb.append(httpMethod.name()).append(" ").append(url);
+        rule.getHeaders().ifPresent(headerMap -> {
+            headerMap.forEach((name, valueList) -> {
+                sb.append(" ").append(name).append("=");
+                if (isClientErrorCacheSecretHeader(name)) { // not to keep raw secret in the cache
+                    sb.append(hashClientErrorCacheSecretHeader(valueList));
+                } else {
+                    sb.append(valueList);
+                }
+            });
+        });
+        return sb.toString();
+    }
+
+    protected boolean isClientErrorCacheSecretHeader(String headerName) { // may be overridden
+        return AUTHORIZATION_HEADER.equalsIgnoreCase(headerName) // e.g. bearer token
+                || "Proxy-Authorization".equalsIgnoreCase(headerName) || "Cookie".equalsIgnoreCase(headerName); // as default
+    }
+
+    protected String hashClientErrorCacheSecretHeader(List<String> valueList) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) { // basically no way, standard algorithm
+            throw new IllegalStateException("Not found the algorithm for client error cache key: SHA-256", e);
+        }
+        for (String value : valueList) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0); // as separator
+        }
+        return "sha256:" + HexFormat.of().formatHex(digest.digest());
+    }
+
+    protected long currentClientErrorCacheTimeMillis() { // may be overridden
+        return System.currentTimeMillis(); // not flash date-time because real time is needed for expiration
+    }
+
     // -----------------------------------------------------
     //                                       Response Header
     //                                       ---------------
@@ -1001,17 +1848,38 @@ public class FlutyRemoteApi {
      */
     protected void throwRemoteApiHttpClientErrorException(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
             OptionalThing<String> body, RemoteApiFailureResponseHolder failureResponseHolder, FlutyRemoteApiRule rule) {
+        throw createRemoteApiHttpClientErrorException(returnType, url, form, httpStatus, body, failureResponseHolder, rule);
+    }
+
+    /**
+     * @param returnType The type of response return. (NotNull)
+     * @param url The string of requested URL to remote API. (NotNull)
+     * @param form The optional object as request form or body. (NotNull, EmptyAllowed)
+     * @param httpStatus The HTTP status of response from remote API.
+     * @param body The optional string of response body from remote API. (NotNull, EmptyAllowed)
+     * @param failureResponseHolder The holder having e.g. failure response and cause (NotNull)
+     * @param rule The rule object of currently-requested remote API. (NullAllowed: for compatible)
+     * @return The new-created exception of client error, also for cached client error. (NotNull)
+     */
+    protected RemoteApiHttpClientErrorException createRemoteApiHttpClientErrorException(Type returnType, String url,
+            OptionalThing<Object> form, int httpStatus, OptionalThing<String> body, RemoteApiFailureResponseHolder failureResponseHolder,
+            FlutyRemoteApiRule rule) {
         // _/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/
         // argument 'rule' may be null for compatible so pay attention to the use of it
         // _/_/_/_/_/_/_/_/_/_/
-        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
-        br.addNotice("Client Error as HTTP Status from the remote API.");
-        setupRequestInfo(br, returnType, url, form, rule);
-        setupResponseInfo(br, httpStatus, body);
-        setupFacadeExpression(br);
-        final String msg = br.buildExceptionMessage();
         final SupportedHttpMethod httpMethod = extractResponseErrorRequestedHttpMethod(rule); // null allowed
-        throw new RemoteApiHttpClientErrorException(msg, httpMethod, httpStatus, failureResponseHolder);
+        final boolean httpMethodShown = rule != null; // for compatible
+        final RequestParameterSnapshot paramSnapshot = snapshotRequestParameter(form); // null allowed, cheap, not to refer the form later
+        final Supplier<String> messageProvider = () -> { // built at first getMessage(), may be never (e.g. translated)
+            final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+            br.addNotice("Client Error as HTTP Status from the remote API.");
+            setupRequestSnapshotInfo(br, returnType, url, httpMethodShown, httpMethod, paramSnapshot);
+            setupResponseInfo(br, httpStatus, body);
+            setupFacadeExpression(br);
+            return br.buildExceptionMessage();
+        };
+        final boolean writableStackTrace = rule == null || !rule.isStacklessClientError(httpStatus); // stackless is cheap
+        return new RemoteApiHttpClientErrorException(messageProvider, httpMethod, httpStatus, failureResponseHolder, writableStackTrace);
     }
 
     // #hope jflute for compatible to application framework, will be removed (2024/03/19)
@@ -1041,14 +1909,18 @@ public class FlutyRemoteApi {
      */
     protected void throwRemoteApiHttpServerErrorException(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
             OptionalThing<String> body, RemoteApiFailureResponseHolder failureResponseHolder, FlutyRemoteApiRule rule) {
-        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
-        br.addNotice("Server Error as HTTP Status from the remote API.");
-        setupRequestInfo(br, returnType, url, form, rule);
-        setupResponseInfo(br, httpStatus, body);
-        setupFacadeExpression(br);
-        final String msg = br.buildExceptionMessage();
         final SupportedHttpMethod httpMethod = extractResponseErrorRequestedHttpMethod(rule); // null allowed
-        throw new RemoteApiHttpServerErrorException(msg, httpMethod, httpStatus, failureResponseHolder);
+        final boolean httpMethodShown = rule != null; // for compatible
+        final RequestParameterSnapshot paramSnapshot = snapshotRequestParameter(form); // null allowed, cheap, not to refer the form later
+        final Supplier<String> messageProvider = () -> { // built at first getMessage()
+            final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+            br.addNotice("Server Error as HTTP Status from the remote API.");
+            setupRequestSnapshotInfo(br, returnType, url, httpMethodShown, httpMethod, paramSnapshot);
+            setupResponseInfo(br, httpStatus, body);
+            setupFacadeExpression(br);
+            return br.buildExceptionMessage();
+        };
+        throw new RemoteApiHttpServerErrorException(messageProvider, httpMethod, httpStatus, failureResponseHolder);
     }
 
     // #hope jflute for compatible to application framework, will be removed (2024/03/19)
@@ -1196,6 +2068,69 @@ public class FlutyRemoteApi {
         return new RemoteApiReceiverOfResponseBodyNotFoundException(msg);
     }
 
+    protected RuntimeException createRemoteApiReceiverOfElementStreamNotFoundException(Type elementType, String url, int httpStatus,
+            ResponseBodyReceiver receiver, FlutyRemoteApiRule rule) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Not found the element-streaming receiver for response body in your rule.");
+        br.addItem("Advice");
+        br.addElement("Stream request needs receiver that can read elements incrementally,");
+        br.addElement("which implements ElementStreamingResponseBodyReceiver. e.g. LaJsonReceiver");
+        br.addElement("  (x):");
+        br.addElement("    doRequestGetStream(..., rule -> rule.receiveBodyBy(new LaXmlReceiver()));");
+        br.addElement("  (o):");
+        br.addElement("    doRequestGetStream(..., rule -> rule.receiveBodyBy(new LaJsonReceiver(...)));");
+        setupRequestInfo(br, elementType, url, OptionalThing.empty(), rule);
+        br.addItem("HTTP Status");
+        br.addElement(httpStatus);
+        br.addItem("Receiver");
+        br.addElement(receiver);
+        setupYourRule(br, rule);
+        setupFacadeExpression(br);
+        final String msg = br.buildExceptionMessage();
+        return new RemoteApiReceiverOfResponseBodyNotFoundException(msg);
+    }
+
+    protected RuntimeException createRemoteApiResponseTooLargeException(Type returnType, String url, OptionalThing<Object> param,
+            int httpStatus, ResponseSizeOption option, long actualBytes, FlutyRemoteApiRule rule) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The response body from remote API is larger than max size.");
+        br.addItem("Advice");
+        br.addElement("Confirm the response of the remote API, or your rule.limitResponseSize().");
+        br.addElement("If the response is large normally, use e.g. requestGetStream() for incremental reading.");
+        setupRequestInfo(br, returnType, url, param, rule);
+        br.addItem("HTTP Status");
+        br.addElement(httpStatus);
+        br.addItem("Max Bytes");
+        br.addElement(option.getMaxBytes());
+        br.addItem("Actual Bytes");
+        br.addElement(actualBytes + " (read until now or Content-Length)");
+        setupFacadeExpression(br);
+        final String msg = br.buildExceptionMessage();
+        return new RemoteApiResponseTooLargeException(msg);
+    }
+
+    protected RuntimeException createRemoteApiResponseTooLargeToBeStringException(Type returnType, String url,
+            OptionalThing<Object> param, int httpStatus, ResponseSizeOption option, SpilledHttpEntity entity, FlutyRemoteApiRule rule) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The response body from remote API is too large to be string.");
+        br.addItem("Advice");
+        br.addElement("The body over spill threshold is spilled to temp file, and it can be read only as stream.");
+        br.addElement("So use streaming receiver for the response, or confirm your rule.limitResponseSize().");
+        br.addElement("(the receiver should truly parse the stream, not read it as string e.g. default JSON receiver)");
+        setupRequestInfo(br, returnType, url, param, rule);
+        br.addItem("HTTP Status");
+        br.addElement(httpStatus);
+        br.addItem("Response Body Receiver");
+        br.addElement(rule.getResponseBodyReceiver().orElse(null));
+        br.addItem("Spill Threshold");
+        br.addElement(option.getSpillThresholdBytes());
+        br.addItem("Actual Bytes");
+        br.addElement(entity.getContentLength());
+        setupFacadeExpression(br);
+        final String msg = br.buildExceptionMessage();
+        return new RemoteApiResponseTooLargeException(msg);
+    }
+
     protected RuntimeException createRemoteApiFailureResponseTypeNotFoundException(Type returnType, String url, OptionalThing<Object> form,
             int httpStatus, OptionalThing<String> body, FlutyRemoteApiRule rule) {
         final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
@@ -1231,6 +2166,61 @@ public class FlutyRemoteApi {
         }
     }
 
+    /**
+     * Set up the request information by the snapshot taken at the error, for lazy-built message. <br>
+     * The message may be built after the request, so the live form and rule are not referred here.
+     * @param br The builder of exception message. (NotNull)
+     * @param returnType The type of response return. (NotNull)
+     * @param url The string of requested URL to remote API. (NotNull)
+     * @param httpMethodShown Is the HTTP method item shown? (false if no rule for compatible)
+     * @param httpMethod The requested HTTP method. (NullAllowed)
+     * @param paramSnapshot The snapshot of request parameter at the error. (NullAllowed: if null, no parameter)
+     */
+    protected void setupRequestSnapshotInfo(ExceptionMessageBuilder br, Type returnType, String url, boolean httpMethodShown,
+            SupportedHttpMethod httpMethod, RequestParameterSnapshot paramSnapshot) {
+        br.addItem("Return Type");
+        br.addElement(returnType);
+        if (httpMethodShown) {
+            br.addItem("HTTP Method");
+            br.addElement(httpMethod);
+        }
+        br.addItem("Remote API");
+        br.addElement(url);
+        if (paramSnapshot != null) {
+            br.addItem("Request Parameter");
+            br.addElement(convertParameterSnapshotToDebugString(paramSnapshot));
+        }
+    }
+
+    /**
+     * Take the snapshot of request parameter, only copying values (no debug string here). <br>
+     * The debug string is built from the snapshot when the message is needed.
+     * @param optOrParam The optional parameter or the parameter itself. (NullAllowed)
+     * @return The snapshot of request parameter. (NullAllowed: if no parameter)
+     */
+    protected RequestParameterSnapshot snapshotRequestParameter(Object optOrParam) {
+        final Object param;
+        if (optOrParam instanceof OptionalThing<?>) {
+            param = ((OptionalThing<?>) optOrParam).orElse(null);
+        } else {
+            param = optOrParam;
+        }
+        return param != null ? RequestParameterSnapshot.of(param) : null;
+    }
+
+    /**
+     * Convert the snapshot of request parameter to debug string, called when the lazy message is built. <br>
+     * Override this together with convertBeanToDebugString() if you e.g. mask secret values of bean.
+     * @param paramSnapshot The snapshot of request parameter at the error. (NotNull)
+     * @return The debug string of the parameter. (NotNull)
+     */
+    protected String convertParameterSnapshotToDebugString(RequestParameterSnapshot paramSnapshot) {
+        if (paramSnapshot.isBean()) { // property values are copied, so the bean itself is not here
+            return paramSnapshot.buildBeanExpression();
+        }
+        return convertBeanToDebugString(paramSnapshot.getParameter());
+    }
+
     // #hope jflute for compatible to application framework, will be removed (2024/06/19)
     @Deprecated // call the another method with rule argument, delete this future (2024/06/19)
     protected void setupRequestInfo(ExceptionMessageBuilder br, Type returnType, String url, Object optOrParam) {
@@ -1261,7 +2251,19 @@ public class FlutyRemoteApi {
         br.addItem("Response HTTP Status");
         br.addElement(httpStatus);
         br.addItem("Response Body");
-        br.addElement(body.orElse("(no body)"));
+        br.addElement(body.map(content -> cutExceptionMessageBody(content)).orElse("(no body)"));
+    }
+
+    protected String cutExceptionMessageBody(String body) {
+        final int limit = getExceptionMessageBodyLimit();
+        if (limit < 0 || body.length() <= limit) {
+            return body;
+        }
+        return body.substring(0, limit) + "...(cut, total " + body.length() + " chars)";
+    }
+
+    protected int getExceptionMessageBodyLimit() { // may be overridden
+        return EXCEPTION_MESSAGE_BODY_LIMIT; // as default, minus means no limit
     }
 
     protected <RET> void setupReturnInfo(ExceptionMessageBuilder br, RET ret) {
@@ -1282,6 +2284,7 @@ public class FlutyRemoteApi {
     // ===================================================================================
     //                                                                        Assist Logic
     //                                                                        ============
+    @SuppressWarnings("deprecation") // for framework internally
     protected void setupHeader(HttpMessage httpMessage, FlutyRemoteApiRule rule) {
         rule.getHeaders().ifPresent(headerMap -> {
             headerMap.forEach((name, valueList) -> {
@@ -1291,11 +2294,31 @@ public class FlutyRemoteApi {
             });
             keepRequestHeaderIfNeeds(rule, headerMap);
         });
+        rule.getAuthorizationProvider().ifPresent(provider -> {
+            final String authorization = provider.provideAuthorization();
+            httpMessage.setHeader(AUTHORIZATION_HEADER, authorization); // not kept for logging, secret
+            rule.xkeepFrameworkInternallyProvidedAuthorization(authorization); // for e.g. refresh if unauthorized
+        });
+        rule.getBodyCompressionOption().ifPresent(option -> {
+            final String acceptEncoding = option.buildAcceptEncodingValue(); // null allowed
+            if (acceptEncoding != null && !httpMessage.containsHeader(ACCEPT_ENCODING_HEADER)) { // you can set it by header
+                httpMessage.setHeader(ACCEPT_ENCODING_HEADER, acceptEncoding);
+            }
+        });
     }
 
     protected OptionalThing<String> extractResponseBody(CloseableHttpResponse response, FlutyRemoteApiRule rule) throws IOException {
         final HttpEntity entity = response.getEntity(); // null allowed
-        final String body = entity != null ? EntityUtils.toString(entity, rule.getResponseBodyCharset()) : null;
+        final String body;
+        if (entity == null) {
+            body = null;
+        } else if (entity instanceof SpilledHttpEntity) { // large failure response, not whole string to protect heap
+            body = extractSpilledFailureResponseBody((SpilledHttpEntity) entity, rule);
+        } else if (isBinaryResponseBodyReceiver(rule)) { // e.g. failure response of CBOR, not decoded as text
+            body = encodeBinaryResponseBody(EntityUtils.toByteArray(entity), rule);
+        } else {
+            body = EntityUtils.toString(entity, rule.getResponseBodyCharset());
+        }
         return OptionalThing.ofNullable(body, () -> {
             throw new IllegalStateException("Not found the response body.");
         });
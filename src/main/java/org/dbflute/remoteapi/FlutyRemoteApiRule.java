@@ -23,8 +23,12 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import javax.net.ssl.SSLContext;
@@ -37,9 +41,13 @@ import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.ssl.TrustStrategy;
 import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.auth.AuthorizationProvider;
+import org.dbflute.remoteapi.exception.cache.ClientErrorCacheOption;
 import org.dbflute.remoteapi.exception.retry.ClientErrorRetryDeterminer;
 import org.dbflute.remoteapi.exception.translation.ClientErrorTranslator;
 import org.dbflute.remoteapi.http.SupportedHttpMethod;
+import org.dbflute.remoteapi.http.buffering.ResponseSizeOption;
+import org.dbflute.remoteapi.http.compression.BodyCompressionOption;
 import org.dbflute.remoteapi.http.header.ResponseHeaderResource;
 import org.dbflute.remoteapi.logging.SendReceiveLogOption;
 import org.dbflute.remoteapi.receiver.ResponseBodyReceiver;
@@ -50,7 +58,8 @@ import org.dbflute.util.DfCollectionUtil;
 
 /**
  * The rule of remote API. <br>
- * Not thread safe, created per one request.
+ * Not thread safe, created per one request. <br>
+ * (the default rule template is frozen and shared by requests, and each request rule overlays it)
  * @author awane
  * @author jflute
  */
@@ -65,6 +74,7 @@ public class FlutyRemoteApiRule {
     protected QueryParameterSender queryParameterSender; // null allowed, but required
     protected RequestBodySender requestBodySender; // null allowed, but required
     protected ResponseBodyReceiver responseBodyReceiver; // null allowed, but required
+    protected List<String> streamElementPath = Collections.emptyList(); // not null, empty means top-level array
 
     // -----------------------------------------------------
     //                                         Optional Rule
@@ -78,11 +88,16 @@ public class FlutyRemoteApiRule {
     protected Charset queryParameterCharset = StandardCharsets.UTF_8; // not null
     protected Charset requestBodyCharset = StandardCharsets.UTF_8; // not null
     protected Charset responseBodyCharset = StandardCharsets.UTF_8; // not null
+    protected BodyCompressionOption bodyCompressionOption; // null allowed, not required
+    protected ResponseSizeOption responseSizeOption; // null allowed, not required
     protected Map<String, List<String>> requestHeaders; // null allowed, not required, lazy-loaded
+    protected AuthorizationProvider authorizationProvider; // null allowed, not required
     protected Consumer<ResponseHeaderResource> responseHeaderHandler; // null allowed, not required
     protected Type failureResponseType; // null allowed, not required
     protected ClientErrorTranslator clientErrorTranslator; // null allowed, not required
     protected ClientErrorRetryDeterminer clientErrorRetryDeterminer; // null allowed, not required
+    protected ClientErrorCacheOption clientErrorCacheOption; // null allowed, not required
+    protected Set<Integer> stacklessClientErrorStatusSet; // null allowed, not required, empty means all client errors
     protected SendReceiveValidatorOption validatorOption = newValidatorOption(); // not null, as default, light instance
     protected SendReceiveLogOption sendReceiveLogOption = newSendReceiveLogOption(); // not null, as default, light instance
     protected Consumer<HttpClientBuilder> httpClientSetupper; // null allowed, not required
@@ -97,6 +112,10 @@ public class FlutyRemoteApiRule {
     //                                         -------------
     // used framework-internally so don't use in your application
     protected SupportedHttpMethod frameworkInternallyRequestedHttpMethod; // null allowed until requested
+    protected String frameworkInternallyProvidedAuthorization; // null allowed until provided, secret so not shown
+    protected boolean frameworkInternallyDefaultRuleTemplate; // true if default rule template, evaluated without request
+    protected boolean frameworkInternallyFrozen; // true if default rule template, shared by requests
+    protected boolean requestHeadersShared; // true if template's header map, copied when written
 
     // ===================================================================================
     //                                                                         Http Client
@@ -119,6 +138,9 @@ public class FlutyRemoteApiRule {
         if (isSslUntrusted()) {
             customizeToSslUntrusted(httpClientBuilder);
         }
+        if (bodyCompressionOption != null) { // Accept-Encoding and decompression are handled by framework
+            httpClientBuilder.disableContentCompression();
+        }
         if (httpClientSetupper != null) {
             httpClientSetupper.accept(httpClientBuilder);
         }
@@ -173,6 +195,7 @@ public class FlutyRemoteApiRule {
      * @param queryParameterSender The sender of (request) query parameter. (NotNull)
      */
     public void sendQueryBy(QueryParameterSender queryParameterSender) {
+        assertNotFrozen();
         assertArgumentNotNull("queryParameterSender", queryParameterSender);
         this.queryParameterSender = queryParameterSender;
     }
@@ -181,6 +204,7 @@ public class FlutyRemoteApiRule {
      * @param requestBodySender The sender of request body. (NotNull)
      */
     public void sendBodyBy(RequestBodySender requestBodySender) {
+        assertNotFrozen();
         assertArgumentNotNull("requestBodySender", requestBodySender);
         this.requestBodySender = requestBodySender;
     }
@@ -189,26 +213,49 @@ public class FlutyRemoteApiRule {
      * @param responseBodyReceiver The receiver of response body. (NotNull)
      */
     public void receiveBodyBy(ResponseBodyReceiver responseBodyReceiver) {
+        assertNotFrozen();
         assertArgumentNotNull("responseBodyReceiver", responseBodyReceiver);
         this.responseBodyReceiver = responseBodyReceiver;
     }
 
+    /**
+     * Specify the path of nested array streamed as elements by e.g. requestGetStream(). <br>
+     * The array is top-level as default, this is for e.g. {"paging": {...}, "rows": [...]}.
+     * <pre>
+     * rule.streamElementsAt("rows"); // elements of "rows" array
+     * rule.streamElementsAt("data", "items"); // elements of "items" array in "data" object
+     * </pre>
+     * @param propertyNames The property names from top-level object to the array. (NotNull, EmptyAllowed: top-level)
+     */
+    public void streamElementsAt(String... propertyNames) {
+        assertNotFrozen();
+        assertArgumentNotNull("propertyNames", propertyNames);
+        for (String propertyName : propertyNames) {
+            assertArgumentNotNull("propertyName", propertyName);
+        }
+        this.streamElementPath = Collections.unmodifiableList(Arrays.asList(propertyNames.clone()));
+    }
+
     // -----------------------------------------------------
     //                                            Connection
     //                                            ----------
     public void setSslUntrusted(boolean sslUntrusted) {
+        assertNotFrozen();
         this.sslUntrusted = sslUntrusted;
     }
 
     public void setConnectTimeout(int connectTimeout) {
+        assertNotFrozen();
         this.connectTimeout = connectTimeout;
     }
 
     public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+        assertNotFrozen();
         this.connectionRequestTimeout = connectionRequestTimeout;
     }
 
     public void setSocketTimeout(int socketTimeout) {
+        assertNotFrozen();
         this.socketTimeout = socketTimeout;
     }
 
@@ -219,6 +266,7 @@ public class FlutyRemoteApiRule {
      * @param pathVariableCharset The charset of request path variable. (NotNull)
      */
     public void encodeRequestPathVariableAs(Charset pathVariableCharset) {
+        assertNotFrozen();
         assertArgumentNotNull("pathVariableCharset", pathVariableCharset);
         this.pathVariableCharset = pathVariableCharset;
     }
@@ -227,6 +275,7 @@ public class FlutyRemoteApiRule {
      * @param requestQueryCharset The charset of request query parameter. (NotNull)
      */
     public void encodeRequestQueryAs(Charset requestQueryCharset) {
+        assertNotFrozen();
         assertArgumentNotNull("requestQueryCharset", requestQueryCharset);
         this.queryParameterCharset = requestQueryCharset;
     }
@@ -235,6 +284,7 @@ public class FlutyRemoteApiRule {
      * @param requestBodyCharset The charset of request body. (NotNull)
      */
     public void encodeRequestBodyAs(Charset requestBodyCharset) {
+        assertNotFrozen();
         assertArgumentNotNull("requestBodyCharset", requestBodyCharset);
         this.requestBodyCharset = requestBodyCharset;
     }
@@ -243,10 +293,54 @@ public class FlutyRemoteApiRule {
      * @param responseBodyCharset The charset of response body. (NotNull)
      */
     public void encodeResponseBodyAs(Charset responseBodyCharset) {
+        assertNotFrozen();
         assertArgumentNotNull("responseBodyCharset", responseBodyCharset);
         this.responseBodyCharset = responseBodyCharset;
     }
 
+    /**
+     * Compress request body over threshold and accept compressed response body, e.g. for large JSON. <br>
+     * The response body is decompressed by the framework (not HTTP client) to count bytes of both sides.
+     * Already-encoded or non-repeatable (e.g. input stream) request body is sent as it is.
+     * <pre>
+     * rule.compressBody(op -&gt; {}); // gzip over 2KB, accepting gzip and deflate response
+     * rule.compressBody(op -&gt; op.thresholdBytes(8192L).acceptEncoding(CompressionEncoding.GZIP));
+     * </pre>
+     * @param opLambda The callback for setting of body compression option. (NotNull)
+     */
+    public void compressBody(Consumer<BodyCompressionOption> opLambda) {
+        assertNotFrozen();
+        assertArgumentNotNull("opLambda", opLambda);
+        final BodyCompressionOption option = newBodyCompressionOption();
+        opLambda.accept(option);
+        this.bodyCompressionOption = option;
+    }
+
+    protected BodyCompressionOption newBodyCompressionOption() {
+        return new BodyCompressionOption();
+    }
+
+    /**
+     * Limit the size of response body (after decompression), and buffer large body to temp file instead of heap.
+     * The body over spill threshold is read by streaming receiver from the temp file, never as string.
+     * <pre>
+     * rule.limitResponseSize(op -&gt; op.maxBytes(50_000_000L)); // RemoteApiResponseTooLargeException if over
+     * rule.limitResponseSize(op -&gt; op.maxBytes(200_000_000L).spillToDiskOver(4_000_000L));
+     * </pre>
+     * @param opLambda The callback for setting of response size option. (NotNull)
+     */
+    public void limitResponseSize(Consumer<ResponseSizeOption> opLambda) {
+        assertNotFrozen();
+        assertArgumentNotNull("opLambda", opLambda);
+        final ResponseSizeOption option = newResponseSizeOption();
+        opLambda.accept(option);
+        this.responseSizeOption = option;
+    }
+
+    protected ResponseSizeOption newResponseSizeOption() {
+        return new ResponseSizeOption();
+    }
+
     // -----------------------------------------------------
     //                                           HTTP Header
     //                                           -----------
@@ -257,11 +351,10 @@ public class FlutyRemoteApiRule {
      * @param value The value of the header. (NotNull)
      */
     public void setHeader(String name, String value) {
+        assertNotFrozen();
         assertArgumentNotNull("name", name);
         assertArgumentNotNull("value", value);
-        if (requestHeaders == null) {
-            requestHeaders = DfCollectionUtil.newLinkedHashMap();
-        }
+        prepareRequestHeadersForWrite();
         requestHeaders.put(name, DfCollectionUtil.newArrayList(value));
     }
 
@@ -272,11 +365,10 @@ public class FlutyRemoteApiRule {
      * @param value The value of the header, which may be as the second-or-more value. (NotNull)
      */
     public void addHeader(String name, String value) {
+        assertNotFrozen();
         assertArgumentNotNull("name", name);
         assertArgumentNotNull("value", value);
-        if (requestHeaders == null) {
-            requestHeaders = DfCollectionUtil.newLinkedHashMap();
-        }
+        prepareRequestHeadersForWrite();
         List<String> valueList = requestHeaders.get(name);
         if (valueList == null) {
             valueList = DfCollectionUtil.newArrayList();
@@ -285,11 +377,27 @@ public class FlutyRemoteApiRule {
         valueList.add(value);
     }
 
+    /**
+     * Authorize the request by the provider, which sets Authorization header. <br>
+     * The provider is basically shared by requests (e.g. field of behavior) to cache the token. <br>
+     * If the response is 401, the provider can refresh the token and the request is retried once.
+     * <pre>
+     * rule.authorizeBy(tokenProvider); // e.g. BearerTokenProvider
+     * </pre>
+     * @param authorizationProvider The provider of Authorization header. (NotNull)
+     */
+    public void authorizeBy(AuthorizationProvider authorizationProvider) {
+        assertNotFrozen();
+        assertArgumentNotNull("authorizationProvider", authorizationProvider);
+        this.authorizationProvider = authorizationProvider;
+    }
+
     /**
      * Handle response header for both success case and failure case.
      * @param resourceLambda The callback for handling header. (NotNull)
      */
     public void handleResponseHeader(Consumer<ResponseHeaderResource> resourceLambda) {
+        assertNotFrozen();
         assertArgumentNotNull("resourceLambda (responseHeaderHandler)", resourceLambda);
         this.responseHeaderHandler = resourceLambda;
     }
@@ -311,6 +419,7 @@ public class FlutyRemoteApiRule {
      * @param failureResponseType The type of failure response. (NotNull)
      */
     public void handleFailureResponseAs(Type failureResponseType) {
+        assertNotFrozen();
         assertArgumentNotNull("failureResponseType", failureResponseType);
         this.failureResponseType = failureResponseType;
     }
@@ -325,6 +434,7 @@ public class FlutyRemoteApiRule {
      * @param resourceLambda The callback for translation of client error. (NotNull)
      */
     public void translateClientError(ClientErrorTranslator resourceLambda) {
+        assertNotFrozen();
         assertArgumentNotNull("resourceLambda", resourceLambda);
         this.clientErrorTranslator = resourceLambda;
     }
@@ -339,10 +449,54 @@ public class FlutyRemoteApiRule {
      * @param resourceLambda The callback for retry determination of client error. (NotNull)
      */
     public void retryIfClientError(ClientErrorRetryDeterminer resourceLambda) {
+        assertNotFrozen();
         assertArgumentNotNull("resourceLambda", resourceLambda);
         this.clientErrorRetryDeterminer = resourceLambda;
     }
 
+    /**
+     * Cache client error (e.g. 404) for a short time, thrown again without network. (GET only) <br>
+     * The exception is new-created per cache hit from the cached status and body, and translation is applied every time.
+     * <pre>
+     * rule.cacheClientError(op -&gt; {}); // 404, 5 seconds as default
+     * rule.cacheClientError(op -&gt; op.targetStatus(404, 410).expireAfterMillis(3000L));
+     * </pre>
+     * @param opLambda The callback for setting of client error cache option. (NotNull)
+     */
+    public void cacheClientError(Consumer<ClientErrorCacheOption> opLambda) {
+        assertNotFrozen();
+        assertArgumentNotNull("opLambda", opLambda);
+        final ClientErrorCacheOption option = newClientErrorCacheOption();
+        opLambda.accept(option);
+        this.clientErrorCacheOption = option;
+    }
+
+    protected ClientErrorCacheOption newClientErrorCacheOption() {
+        return new ClientErrorCacheOption();
+    }
+
+    /**
+     * Throw client error exception without stack trace, e.g. 404 as normal "not found" answer. <br>
+     * Filling stack trace is heavy, so this is for expected client error at high rates.
+     * <pre>
+     * rule.suppressClientErrorStackTrace(404); // only 404
+     * rule.suppressClientErrorStackTrace(); // all client errors (4xx)
+     * </pre>
+     * @param httpStatuses The HTTP statuses of client error to be stackless. (NotNull, EmptyAllowed: all client errors)
+     */
+    public void suppressClientErrorStackTrace(int... httpStatuses) {
+        assertNotFrozen();
+        assertArgumentNotNull("httpStatuses", httpStatuses);
+        final Set<Integer> statusSet = new LinkedHashSet<Integer>();
+        for (int httpStatus : httpStatuses) {
+            if (httpStatus < 400 || httpStatus >= 500) {
+                throw new IllegalArgumentException("The HTTP status of client error should be 4xx: " + Arrays.toString(httpStatuses));
+            }
+            statusSet.add(httpStatus);
+        }
+        this.stacklessClientErrorStatusSet = Collections.unmodifiableSet(statusSet);
+    }
+
     // -----------------------------------------------------
     //                                            Validation
     //                                            ----------
@@ -351,6 +505,7 @@ public class FlutyRemoteApiRule {
      * @param opLambda The callback for setting of validator option. (NotNull)
      */
     public void validateAs(Consumer<SendReceiveValidatorOption> opLambda) {
+        assertNotFrozen();
         assertArgumentNotNull("opLambda", opLambda);
         final SendReceiveValidatorOption option = createValidatorOption(opLambda);
         this.validatorOption = option;
@@ -375,6 +530,7 @@ public class FlutyRemoteApiRule {
      * @param opLambda The callback for setting of send-receive logging option. (NotNull)
      */
     public void showSendReceiveLog(Consumer<SendReceiveLogOption> opLambda) {
+        assertNotFrozen();
         assertArgumentNotNull("opLambda", opLambda);
         final SendReceiveLogOption option = createSendReceiveLogOption(opLambda);
         option.xframeworkEnable(); // fixed if you call this
@@ -395,11 +551,13 @@ public class FlutyRemoteApiRule {
     //                                       Native Setupper
     //                                       ---------------
     public void setupNativeHttpClient(Consumer<HttpClientBuilder> httpClientSetupper) {
+        assertNotFrozen();
         assertArgumentNotNull("httpClientSetupper", httpClientSetupper);
         this.httpClientSetupper = httpClientSetupper;
     }
 
     public void setupNativeHttpRequest(Consumer<RequestConfig.Builder> httpRequestSetupper) {
+        assertNotFrozen();
         assertArgumentNotNull("httpRequestSetupper", httpRequestSetupper);
         this.httpRequestSetupper = httpRequestSetupper;
     }
@@ -414,6 +572,12 @@ public class FlutyRemoteApiRule {
     @Deprecated // framework only
     public OptionalThing<SupportedHttpMethod> xgetFrameworkInternallyRequestedHttpMethod() {
         return OptionalThing.ofNullable(frameworkInternallyRequestedHttpMethod, () -> {
+            if (frameworkInternallyDefaultRuleTemplate) { // evaluated once for all requests
+                String msg = "Cannot use the requested HTTP Method in the default rule template,"
+                        + " which is evaluated once without request so the default rule should not depend on HTTP Method."
+                        + " Set it by each request rule, or don't use the default rule template.";
+                throw new IllegalStateException(msg);
+            }
             // basically no way, but use optional just in case
             throw new IllegalStateException("Not found the requested HTTP Method.");
         });
@@ -421,6 +585,7 @@ public class FlutyRemoteApiRule {
 
     @Deprecated // framework only
     public void xacceptFrameworkInternallyRequestedHttpMethod(SupportedHttpMethod httpMethod) {
+        assertNotFrozen();
         if (httpMethod == null) {
             throw new IllegalArgumentException("The argument 'httpMethod' should not be null.");
         }
@@ -431,9 +596,130 @@ public class FlutyRemoteApiRule {
         frameworkInternallyRequestedHttpMethod = httpMethod;
     }
 
+    // ===================================================================================
+    //                                                              Provided Authorization
+    //                                                              ======================
+    /**
+     * Used framework-internally so don't use in your application!
+     * @return The optional value of Authorization header provided for the latest request. (NotNull, EmptyAllowed: no provider)
+     */
+    @Deprecated // framework only
+    public OptionalThing<String> xgetFrameworkInternallyProvidedAuthorization() {
+        return OptionalThing.ofNullable(frameworkInternallyProvidedAuthorization, () -> {
+            throw new IllegalStateException("Not found the provided authorization.");
+        });
+    }
+
+    @Deprecated // framework only
+    public void xkeepFrameworkInternallyProvidedAuthorization(String authorization) { // overwritten by retry
+        assertNotFrozen();
+        frameworkInternallyProvidedAuthorization = authorization;
+    }
+
+    protected void prepareRequestHeadersForWrite() {
+        if (requestHeaders == null) {
+            requestHeaders = DfCollectionUtil.newLinkedHashMap();
+        } else if (requestHeadersShared) { // copy-on-write, the template's map is not changed
+            final Map<String, List<String>> copiedMap = DfCollectionUtil.newLinkedHashMap();
+            requestHeaders.forEach((name, valueList) -> copiedMap.put(name, DfCollectionUtil.newArrayList(valueList)));
+            requestHeaders = copiedMap;
+            requestHeadersShared = false;
+        }
+    }
+
+    // ===================================================================================
+    //                                                               Default Rule Template
+    //                                                               =====================
+    /**
+     * Used framework-internally so don't use in your application! <br>
+     * Mark this rule as default rule template before the default rule is evaluated.
+     */
+    @Deprecated // framework only
+    public void xmarkAsDefaultRuleTemplate() {
+        assertNotFrozen();
+        frameworkInternallyDefaultRuleTemplate = true;
+    }
+
+    /**
+     * Used framework-internally so don't use in your application! <br>
+     * Freeze this rule as default rule template, which is shared by requests so cannot be changed after this.
+     */
+    @Deprecated // framework only
+    public void xfreezeAsDefaultRuleTemplate() {
+        if (frameworkInternallyRequestedHttpMethod != null) { // template is not for one request
+            String msg = "Cannot freeze the requested rule: requested=" + frameworkInternallyRequestedHttpMethod;
+            throw new IllegalStateException(msg);
+        }
+        frameworkInternallyFrozen = true;
+    }
+
+    /**
+     * Used framework-internally so don't use in your application! <br>
+     * Overlay the frozen default rule template on this new-created rule. <br>
+     * The shared header map is copied when written, and the logging option is copied for the request.
+     * @param template The frozen rule as default rule template. (NotNull)
+     */
+    @Deprecated // framework only
+    public void xoverlayDefaultRuleTemplate(FlutyRemoteApiRule template) {
+        assertArgumentNotNull("template", template);
+        assertNotFrozen();
+        if (!template.frameworkInternallyFrozen) {
+            throw new IllegalStateException("The default rule template should be frozen: " + template);
+        }
+        copyFromDefaultRuleTemplate(template);
+    }
+
+    protected void copyFromDefaultRuleTemplate(FlutyRemoteApiRule template) { // may be overridden if your rule has attributes
+        queryParameterSender = template.queryParameterSender;
+        requestBodySender = template.requestBodySender;
+        responseBodyReceiver = template.responseBodyReceiver;
+        streamElementPath = template.streamElementPath; // unmodifiable
+        sslUntrusted = template.sslUntrusted;
+        connectTimeout = template.connectTimeout;
+        connectionRequestTimeout = template.connectionRequestTimeout;
+        socketTimeout = template.socketTimeout;
+        pathVariableCharset = template.pathVariableCharset;
+        queryParameterCharset = template.queryParameterCharset;
+        requestBodyCharset = template.requestBodyCharset;
+        responseBodyCharset = template.responseBodyCharset;
+        bodyCompressionOption = template.bodyCompressionOption != null ? template.bodyCompressionOption.xcopyForRequest() : null; // mutable
+        responseSizeOption = template.responseSizeOption != null ? template.responseSizeOption.xcopyForRequest() : null; // mutable
+        requestHeaders = template.requestHeaders; // shared until written
+        requestHeadersShared = requestHeaders != null;
+        authorizationProvider = template.authorizationProvider;
+        responseHeaderHandler = template.responseHeaderHandler;
+        failureResponseType = template.failureResponseType;
+        clientErrorTranslator = template.clientErrorTranslator;
+        clientErrorRetryDeterminer = template.clientErrorRetryDeterminer;
+        final ClientErrorCacheOption cacheOption = template.clientErrorCacheOption; // null allowed
+        clientErrorCacheOption = cacheOption != null ? cacheOption.xcopyForRequest() : null; // mutable
+        stacklessClientErrorStatusSet = template.stacklessClientErrorStatusSet; // unmodifiable
+        validatorOption = template.validatorOption.xcopyForRequest(); // mutable, not to change template via getter
+        sendReceiveLogOption = template.sendReceiveLogOption.xcopyForRequest(); // because it keeps log data per request
+        httpClientSetupper = template.httpClientSetupper;
+        httpRequestSetupper = template.httpRequestSetupper;
+        __xmockHttpClient = template.__xmockHttpClient;
+    }
+
+    /**
+     * Used framework-internally so don't use in your application!
+     * @return The determination, true if frozen as default rule template.
+     */
+    @Deprecated // framework only
+    public boolean xisFrameworkInternallyFrozen() {
+        return frameworkInternallyFrozen;
+    }
+
     // ===================================================================================
     //                                                                        Small Helper
     //                                                                        ============
+    protected void assertNotFrozen() {
+        if (frameworkInternallyFrozen) {
+            String msg = "Cannot change the default rule template, which is shared by requests: " + toString();
+            throw new IllegalStateException(msg);
+        }
+    }
+
     protected void assertArgumentNotNull(String variableName, Object value) {
         if (variableName == null) {
             throw new IllegalArgumentException("The variableName should not be null.");
@@ -453,17 +739,33 @@ public class FlutyRemoteApiRule {
         sb.append("sender:{").append(queryParameterSender);
         sb.append(", ").append(requestBodySender);
         sb.append(", receiver:{").append(responseBodyReceiver);
+        if (!streamElementPath.isEmpty()) {
+            sb.append(", streamElementPath=").append(streamElementPath);
+        }
         sb.append("}, sslUntrusted=").append(sslUntrusted);
         sb.append(", timeout:{connect=").append(connectTimeout);
         sb.append(", connectionRequest=").append(connectionRequestTimeout);
         sb.append(", socket=").append(socketTimeout);
         sb.append("}, headers=").append(requestHeaders);
+        if (authorizationProvider != null) {
+            sb.append(", authorization=").append(authorizationProvider);
+        }
         sb.append(", failureResponse=").append(failureResponseType);
         sb.append(", charset:{query=").append(queryParameterCharset);
         sb.append(", requestBody=").append(requestBodyCharset);
         sb.append(", responseBody=").append(responseBodyCharset);
+        if (bodyCompressionOption != null) {
+            sb.append(", ").append(bodyCompressionOption);
+        }
+        if (responseSizeOption != null) {
+            sb.append(", ").append(responseSizeOption);
+        }
         sb.append(", various:{").append(clientErrorTranslator);
         sb.append(", ").append(clientErrorRetryDeterminer);
+        sb.append(", ").append(clientErrorCacheOption);
+        if (stacklessClientErrorStatusSet != null) {
+            sb.append(", stackless=").append(stacklessClientErrorStatusSet);
+        }
         sb.append(", ").append(validatorOption);
         sb.append(", ").append(sendReceiveLogOption);
         sb.append("}}");
@@ -491,6 +793,10 @@ public class FlutyRemoteApiRule {
         });
     }
 
+    public List<String> getStreamElementPath() { // empty means top-level array
+        return streamElementPath;
+    }
+
     public boolean isSslUntrusted() {
         return sslUntrusted;
     }
@@ -535,12 +841,30 @@ public class FlutyRemoteApiRule {
         return responseBodyCharset;
     }
 
+    public OptionalThing<BodyCompressionOption> getBodyCompressionOption() {
+        return OptionalThing.ofNullable(bodyCompressionOption, () -> {
+            throw new IllegalStateException("Not found the body compression option: " + toString());
+        });
+    }
+
+    public OptionalThing<ResponseSizeOption> getResponseSizeOption() {
+        return OptionalThing.ofNullable(responseSizeOption, () -> {
+            throw new IllegalStateException("Not found the response size option: " + toString());
+        });
+    }
+
     public OptionalThing<Map<String, List<String>>> getHeaders() {
         return OptionalThing.ofNullable(requestHeaders, () -> {
             throw new IllegalStateException("Not found the headers in the option: " + toString());
         });
     }
 
+    public OptionalThing<AuthorizationProvider> getAuthorizationProvider() {
+        return OptionalThing.ofNullable(authorizationProvider, () -> {
+            throw new IllegalStateException("Not found the authorizationProvider in the option: " + toString());
+        });
+    }
+
     public OptionalThing<Consumer<ResponseHeaderResource>> getResponseHeaderHandler() {
         return OptionalThing.ofNullable(responseHeaderHandler, () -> {
             throw new IllegalStateException("Not found the responseHeaderHandler.");
@@ -565,6 +889,23 @@ public class FlutyRemoteApiRule {
         });
     }
 
+    public OptionalThing<ClientErrorCacheOption> getClientErrorCacheOption() {
+        return OptionalThing.ofNullable(clientErrorCacheOption, () -> {
+            throw new IllegalStateException("Not found the client error cache option: " + toString());
+        });
+    }
+
+    /**
+     * @param httpStatus The HTTP status of the client error.
+     * @return The determination, true if the client error exception is thrown without stack trace.
+     */
+    public boolean isStacklessClientError(int httpStatus) {
+        if (stacklessClientErrorStatusSet == null) {
+            return false;
+        }
+        return stacklessClientErrorStatusSet.isEmpty() || stacklessClientErrorStatusSet.contains(httpStatus);
+    }
+
     /**
      * @return The option of validator. (NotNull)
      */
@@ -585,6 +926,7 @@ public class FlutyRemoteApiRule {
     protected CloseableHttpClient __xmockHttpClient;
 
     public void xregisterMockHttpClient(CloseableHttpClient mockHttpClient) {
+        assertNotFrozen();
         this.__xmockHttpClient = mockHttpClient;
     }
 }
@@ -16,14 +16,32 @@
 package org.dbflute.remoteapi;
 
 import java.lang.reflect.ParameterizedType;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.batch.RemoteBatchLoader;
+import org.dbflute.remoteapi.batch.RemoteBatchOption;
+import org.dbflute.remoteapi.batch.RemoteBulkCoalescer;
+import org.dbflute.remoteapi.download.RemoteDownloadResult;
 import org.dbflute.remoteapi.http.EmptyRequestBody;
 import org.dbflute.remoteapi.mock.MockHttpClient;
+import org.dbflute.remoteapi.paging.RemotePagingIterator;
+import org.dbflute.remoteapi.paging.RemotePagingOption;
 import org.dbflute.util.DfCollectionUtil;
 
 /**
@@ -44,6 +62,10 @@ public abstract class FlutyRemoteBehavior {
     //                                                                           Attribute
     //                                                                           =========
     protected final FlutyRemoteApi remoteApi; // not null
+    protected Executor remoteAsyncExecutor; // null allowed, lazy-loaded when e.g. batch is used
+    protected ExecutorService remoteAsyncDefaultPool; // null allowed, created if no application executor
+    protected ScheduledExecutorService remoteAsyncScheduler; // null allowed, lazy-loaded, only for timer e.g. window
+    protected boolean remoteAsyncClosed; // true after closed, guarded by this
 
     // ===================================================================================
     //                                                                         Constructor
@@ -56,7 +78,20 @@ public abstract class FlutyRemoteBehavior {
     //                                      Create RemoteApi
     //                                      ----------------
     protected FlutyRemoteApi createRemoteApi() {
-        return newRemoteApi(createRemoteApiOptionSetupper(), getFacadeExp());
+        final FlutyRemoteApi remoteApi = newRemoteApi(createRemoteApiOptionSetupper(), getFacadeExp());
+        if (isUseDefaultRuleTemplate()) {
+            remoteApi.enableDefaultRuleTemplate();
+        }
+        return remoteApi;
+    }
+
+    /**
+     * Does it use the frozen template of default rule? (evaluated once, not per request) <br>
+     * Your default rule should not depend on request state (e.g. requested HTTP method), and senders/receivers are shared by requests.
+     * @return The determination, true if default rule is evaluated once.
+     */
+    protected boolean isUseDefaultRuleTemplate() {
+        return false; // as default, for compatible
     }
 
     // -----------------------------------------------------
@@ -216,6 +251,80 @@ public abstract class FlutyRemoteBehavior {
         return remoteApi.requestGet(returnType, getUrlBase(), actionPath, pathVariables, param, ruleLambda);
     }
 
+    /**
+     * Request as GET, receiving elements of array in response body incrementally as stream. <br>
+     * Only current element is on memory, e.g. for huge export. The stream should be closed to release connection.
+     * <pre>
+     * e.g. /lido/product/export?sea=mystic, response body is [{...}, {...}, ...]
+     *  try (Stream&lt;RemoteProductRowReturn&gt; stream = doRequestGetStream(RemoteProductRowReturn.class, "/lido/product/export"
+     *          , noMoreUrl(), OptionalThing.of(form), rule -&gt; {})) {
+     *      stream.forEach(row -&gt; ...);
+     *  }
+     *
+     * e.g. response body is {"paging": {...}, "rows": [{...}, {...}, ...]}
+     *  ... = doRequestGetStream(RemoteProductRowReturn.class, ..., rule -&gt; rule.streamElementsAt("rows"))
+     * </pre>
+     * @param <ELEMENT> The type of element.
+     * @param elementType The class type of element in the array, should have default constructor. (NotNull)
+     * @param actionPath The path to action without path variables. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional object of query parameter. (NotNull, EmptyAllowed)
+     * @param ruleLambda The callback for rule of remote API. (NotNull)
+     * @return The stream of elements read lazily, should be closed. (NotNull)
+     */
+    protected <ELEMENT> Stream<ELEMENT> doRequestGetStream(Class<? extends ELEMENT> elementType //
+            , String actionPath, Object[] pathVariables, OptionalThing<? extends Object> param, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        return remoteApi.<ELEMENT> requestGetStream(elementType, getUrlBase(), actionPath, pathVariables, param, ruleLambda).stream();
+    }
+
+    /**
+     * Request as GET, receiving elements of array in response body incrementally as stream, element is parameterized type.
+     * @param <ELEMENT> The type of element.
+     * @param elementType The parameterized type of element in the array, should have default constructor. (NotNull)
+     * @param actionPath The path to action without path variables. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional object of query parameter. (NotNull, EmptyAllowed)
+     * @param ruleLambda The callback for rule of remote API. (NotNull)
+     * @return The stream of elements read lazily, should be closed. (NotNull)
+     */
+    protected <ELEMENT> Stream<ELEMENT> doRequestGetStream(ParameterizedType elementType //
+            , String actionPath, Object[] pathVariables, OptionalThing<? extends Object> param, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        return remoteApi.<ELEMENT> requestGetStream(elementType, getUrlBase(), actionPath, pathVariables, param, ruleLambda).stream();
+    }
+
+    /**
+     * Request as GET, downloading response body to the file as binary, e.g. PDF, image, archive.
+     * <pre>
+     * e.g. /lido/product/image/7
+     *  RemoteDownloadResult result = doRequestDownload("/lido/product/image", moreUrl(7), OptionalThing.empty(), imagePath, rule -&gt; {});
+     *  ... = result.getByteCount(); // also digest for verification
+     * </pre>
+     * @param actionPath The path to action without path variables. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional object of query parameter. (NotNull, EmptyAllowed)
+     * @param destination The path of file to be written, overwritten if exists, deleted if failure. (NotNull)
+     * @param ruleLambda The callback for rule of remote API. (NotNull)
+     * @return The result of download, e.g. size and digest. (NotNull)
+     */
+    protected RemoteDownloadResult doRequestDownload(String actionPath, Object[] pathVariables, OptionalThing<? extends Object> param,
+            Path destination, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        return remoteApi.requestDownload(getUrlBase(), actionPath, pathVariables, param, destination, ruleLambda);
+    }
+
+    /**
+     * Request as GET, downloading response body to the channel as binary, e.g. PDF, image, archive.
+     * @param actionPath The path to action without path variables. e.g. /sea/land (NotNull)
+     * @param pathVariables The array of URL path variables, e.g. ["hangar", 3]. (NotNull, EmptyAllowed)
+     * @param param The optional object of query parameter. (NotNull, EmptyAllowed)
+     * @param destination The channel to be written, not closed in this method. (NotNull)
+     * @param ruleLambda The callback for rule of remote API. (NotNull)
+     * @return The result of download, e.g. size and digest. (NotNull)
+     */
+    protected RemoteDownloadResult doRequestDownload(String actionPath, Object[] pathVariables, OptionalThing<? extends Object> param,
+            WritableByteChannel destination, Consumer<FlutyRemoteApiRule> ruleLambda) {
+        return remoteApi.requestDownload(getUrlBase(), actionPath, pathVariables, param, destination, ruleLambda);
+    }
+
     // -----------------------------------------------------
     //                                                 Post
     //                                                ------
@@ -488,6 +597,205 @@ public abstract class FlutyRemoteBehavior {
         return remoteApi.requestPatch(returnType, getUrlBase(), actionPath, pathVariables, param, ruleLambda);
     }
 
+    // ===================================================================================
+    //                                                                        Batch Facade
+    //                                                                        ============
+    /**
+     * Create the batch loader that combines per-key lookups in a short window into one batch request. <br>
+     * The loader should be created once and shared (e.g. field of your behavior).
+     * <pre>
+     * private final RemoteBatchLoader&lt;Integer, RemoteProductReturn&gt; productLoader = newBatchLoader(productIdList -&gt; {
+     *     List&lt;RemoteProductReturn&gt; productList = doRequestPost(..., "/lido/product/batch", noMoreUrl(), productIdList, rule -&gt; {});
+     *     return productList.stream().collect(Collectors.toMap(product -&gt; product.productId, product -&gt; product));
+     * }, op -&gt; op.maxBatchSize(50).windowMillis(5L));
+     *
+     * public CompletableFuture&lt;RemoteProductReturn&gt; loadProduct(Integer productId) {
+     *     return productLoader.<span style="color: #CC4747">load</span>(productId); // requested with other keys in the window
+     * }
+     * </pre>
+     * @param <KEY> The type of key for lookup.
+     * @param <VALUE> The type of value for the key.
+     * @param batchRequester The requester of batch endpoint, returns map of key to value. (NotNull)
+     * @param opLambda The callback for option of batch, e.g. max batch size, window. (NotNull)
+     * @return The new-created loader. (NotNull)
+     */
+    protected <KEY, VALUE> RemoteBatchLoader<KEY, VALUE> newBatchLoader(Function<List<KEY>, Map<KEY, VALUE>> batchRequester,
+            Consumer<RemoteBatchOption> opLambda) {
+        remoteApi.assertArgumentNotNull("batchRequester", batchRequester);
+        remoteApi.assertArgumentNotNull("opLambda", opLambda);
+        final RemoteBatchOption option = createRemoteBatchOption(opLambda);
+        return new RemoteBatchLoader<KEY, VALUE>(batchRequester, option, prepareRemoteAsyncScheduler(), prepareRemoteAsyncExecutor());
+    }
+
+    /**
+     * Create the bulk coalescer that accumulates small writes into one bulk request. <br>
+     * The coalescer should be created once and shared (e.g. field of your behavior).
+     * <pre>
+     * private final RemoteBulkCoalescer&lt;RemoteEventBody, RemoteEventResult&gt; eventCoalescer = newBulkCoalescer(bodyList -&gt; {
+     *     return doRequestPost(new ParameterizedRef&lt;List&lt;RemoteEventResult&gt;&gt;() {
+     *     }.getType(), "/lido/event/bulk", noMoreUrl(), bodyList, rule -&gt; {}); // sent by your body sender
+     * }, op -&gt; op.maxBatchSize(500).windowMillis(50L));
+     *
+     * public CompletableFuture&lt;RemoteEventResult&gt; sendEvent(RemoteEventBody body) {
+     *     return eventCoalescer.<span style="color: #CC4747">submit</span>(body); // requested with other bodies as bulk
+     * }
+     * </pre>
+     * @param <PARAM> The type of one parameter (element of bulk request body).
+     * @param <RESULT> The type of one result (element of bulk response).
+     * @param bulkRequester The requester of bulk endpoint, returns results in the same order as parameters. (NotNull)
+     * @param opLambda The callback for option of batch, e.g. max batch size, linger time as window. (NotNull)
+     * @return The new-created coalescer. (NotNull)
+     */
+    protected <PARAM, RESULT> RemoteBulkCoalescer<PARAM, RESULT> newBulkCoalescer(Function<List<PARAM>, List<RESULT>> bulkRequester,
+            Consumer<RemoteBatchOption> opLambda) {
+        remoteApi.assertArgumentNotNull("bulkRequester", bulkRequester);
+        remoteApi.assertArgumentNotNull("opLambda", opLambda);
+        return doNewBulkCoalescer(bulkRequester, /*sizeEstimator*/null, opLambda);
+    }
+
+    /**
+     * Create the bulk coalescer that accumulates small writes into one bulk request, also limited by bytes.
+     * @param <PARAM> The type of one parameter (element of bulk request body).
+     * @param <RESULT> The type of one result (element of bulk response).
+     * @param bulkRequester The requester of bulk endpoint, returns results in the same order as parameters. (NotNull)
+     * @param sizeEstimator The estimator of bytes for one parameter, for option of max batch bytes. (NotNull)
+     * @param opLambda The callback for option of batch, e.g. max batch bytes, linger time as window. (NotNull)
+     * @return The new-created coalescer. (NotNull)
+     */
+    protected <PARAM, RESULT> RemoteBulkCoalescer<PARAM, RESULT> newBulkCoalescer(Function<List<PARAM>, List<RESULT>> bulkRequester,
+            ToLongFunction<PARAM> sizeEstimator, Consumer<RemoteBatchOption> opLambda) {
+        remoteApi.assertArgumentNotNull("bulkRequester", bulkRequester);
+        remoteApi.assertArgumentNotNull("sizeEstimator", sizeEstimator);
+        remoteApi.assertArgumentNotNull("opLambda", opLambda);
+        return doNewBulkCoalescer(bulkRequester, sizeEstimator, opLambda);
+    }
+
+    protected <PARAM, RESULT> RemoteBulkCoalescer<PARAM, RESULT> doNewBulkCoalescer(Function<List<PARAM>, List<RESULT>> bulkRequester,
+            ToLongFunction<PARAM> sizeEstimator, Consumer<RemoteBatchOption> opLambda) {
+        final RemoteBatchOption option = createRemoteBatchOption(opLambda);
+        return new RemoteBulkCoalescer<PARAM, RESULT>(bulkRequester, sizeEstimator, option, prepareRemoteAsyncScheduler(),
+                prepareRemoteAsyncExecutor());
+    }
+
+    protected RemoteBatchOption createRemoteBatchOption(Consumer<RemoteBatchOption> opLambda) {
+        final RemoteBatchOption option = new RemoteBatchOption();
+        opLambda.accept(option);
+        return option;
+    }
+
+    // ===================================================================================
+    //                                                                       Paging Facade
+    //                                                                       =============
+    /**
+     * Create the iterator of pages from paged endpoint, prefetching next pages while you consume the current page.
+     * <pre>
+     * try (RemotePagingIterator&lt;Integer, RemoteSearchPagingReturn&gt; iterator = newPagingIterator(1, pageNumber -&gt; {
+     *     return doRequestGet(RemoteSearchPagingReturn.class, "/lido/product/search", moreUrl(pageNumber), noQuery(), rule -&gt; {});
+     * }, (pageNumber, page) -&gt; { // empty if last page
+     *     return page.allPageCount &gt; pageNumber ? OptionalThing.of(pageNumber + 1) : OptionalThing.empty();
+     * }, op -&gt; op.prefetchDepth(2))) {
+     *     iterator.<span style="color: #CC4747">stream()</span>.flatMap(page -&gt; page.rows.stream()).forEach(row -&gt; ...);
+     * }
+     * </pre>
+     * @param <CURSOR> The type of cursor for page, e.g. page number or cursor string.
+     * @param <PAGE> The type of page returned by the endpoint.
+     * @param firstCursor The cursor of first page, e.g. 1 as page number. (NotNull)
+     * @param pageRequester The requester of one page by the cursor. (NotNull)
+     * @param nextCursorProvider The provider of next cursor from the current cursor and page, empty if last page. (NotNull)
+     * @param opLambda The callback for option of paging, e.g. prefetch depth. (NotNull)
+     * @return The new-created iterator, already requesting first pages if prefetch. (NotNull)
+     */
+    protected <CURSOR, PAGE> RemotePagingIterator<CURSOR, PAGE> newPagingIterator(CURSOR firstCursor, Function<CURSOR, PAGE> pageRequester,
+            BiFunction<CURSOR, PAGE, OptionalThing<CURSOR>> nextCursorProvider, Consumer<RemotePagingOption> opLambda) {
+        remoteApi.assertArgumentNotNull("firstCursor", firstCursor);
+        remoteApi.assertArgumentNotNull("pageRequester", pageRequester);
+        remoteApi.assertArgumentNotNull("nextCursorProvider", nextCursorProvider);
+        remoteApi.assertArgumentNotNull("opLambda", opLambda);
+        final RemotePagingOption option = new RemotePagingOption();
+        opLambda.accept(option);
+        return new RemotePagingIterator<CURSOR, PAGE>(firstCursor, pageRequester, nextCursorProvider, option,
+                prepareRemoteAsyncExecutor());
+    }
+
+    // ===================================================================================
+    //                                                                      Async Executor
+    //                                                                      ==============
+    /**
+     * Prepare the executor for asynchronous requests of remote API, e.g. batch request, prefetching page. <br>
+     * The executor is created once by createRemoteAsyncExecutor(), which you can override to use your application thread pool.
+     * @return The shared executor in the behavior. (NotNull)
+     */
+    protected synchronized Executor prepareRemoteAsyncExecutor() {
+        assertRemoteAsyncNotClosed();
+        if (remoteAsyncExecutor == null) {
+            remoteAsyncExecutor = createRemoteAsyncExecutor();
+        }
+        return remoteAsyncExecutor;
+    }
+
+    /**
+     * Create the executor for asynchronous requests of remote API, called once in the behavior.
+     * @return The new-created executor, not shut down by closeRemoteAsync() if overridden. (NotNull)
+     */
+    protected Executor createRemoteAsyncExecutor() { // may be overridden e.g. LastaFlute async manager
+        remoteAsyncDefaultPool = newRemoteAsyncDefaultPool(); // closed with this behavior
+        return remoteAsyncDefaultPool;
+    }
+
+    protected ExecutorService newRemoteAsyncDefaultPool() {
+        return Executors.newFixedThreadPool(getRemoteAsyncPoolSize(), newRemoteAsyncThreadFactory("remoteapi-"));
+    }
+
+    protected int getRemoteAsyncPoolSize() { // may be overridden
+        return 4; // as default, requests of remote API are blocking I/O
+    }
+
+    /**
+     * Prepare the scheduler only for timer of asynchronous process, e.g. window of batch. <br>
+     * The timer task just dispatches the work to the async executor so one thread is enough.
+     * @return The shared scheduler in the behavior. (NotNull)
+     */
+    protected synchronized ScheduledExecutorService prepareRemoteAsyncScheduler() {
+        assertRemoteAsyncNotClosed();
+        if (remoteAsyncScheduler == null) {
+            remoteAsyncScheduler = Executors.newSingleThreadScheduledExecutor(newRemoteAsyncThreadFactory("remoteapi-timer-"));
+        }
+        return remoteAsyncScheduler;
+    }
+
+    protected ThreadFactory newRemoteAsyncThreadFactory(String prefix) {
+        final String threadName = prefix + getClass().getSimpleName();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true); // not block application shutdown even if not closed
+            return thread;
+        };
+    }
+
+    /**
+     * Close the asynchronous resources of the behavior, e.g. when your application is shut down. <br>
+     * The pending windows are flushed, and the default pool finishes the running requests. <br>
+     * The executor from your application is not shut down here, and batch and paging cannot be created after this.
+     */
+    public synchronized void closeRemoteAsync() {
+        if (remoteAsyncClosed) {
+            return;
+        }
+        remoteAsyncClosed = true;
+        if (remoteAsyncScheduler != null) {
+            remoteAsyncScheduler.shutdown(); // delayed flushes are still executed
+        }
+        if (remoteAsyncDefaultPool != null) {
+            remoteAsyncDefaultPool.shutdown(); // rejected dispatch is executed in the caller thread
+        }
+    }
+
+    protected void assertRemoteAsyncNotClosed() { // called in lock
+        if (remoteAsyncClosed) {
+            throw new IllegalStateException("The remote async resources are already closed: " + getClass().getSimpleName());
+        }
+    }
+
     // ===================================================================================
     //                                                                        Assist Logic
     //                                                                        ============
@@ -568,5 +876,6 @@ public abstract class FlutyRemoteBehavior {
      */
     public void setMockHttpClient(MockHttpClient mockHttpClient) {
         this.__xmockHttpClient = mockHttpClient;
+        remoteApi.clearDefaultRuleTemplate(); // to reflect the mock at next request
     }
 }
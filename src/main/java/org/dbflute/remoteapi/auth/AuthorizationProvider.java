@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.auth;
+
+import org.dbflute.remoteapi.exception.retry.ClientErrorRetryResource;
+
+/**
+ * The provider of Authorization header, shared by requests so should be thread safe.
+ * <pre>
+ * rule.authorizeBy(yourProvider); // e.g. BearerTokenProvider
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public interface AuthorizationProvider {
+
+    /**
+     * Provide the value of Authorization header for the current request.
+     * @return The header value, e.g. "Bearer xxx". (NotNull)
+     */
+    String provideAuthorization();
+
+    /**
+     * Refresh the authorization if the client error means unauthorized, called by retry process.
+     * @param resource The resource of client error retry. (NotNull)
+     * @return true if the authorization is refreshed so the request should be retried.
+     */
+    boolean refreshIfUnauthorized(ClientErrorRetryResource resource);
+}
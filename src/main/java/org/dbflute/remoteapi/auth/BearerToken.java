@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.auth;
+
+/**
+ * The bearer token with its expiration, immutable. <br>
+ * The token by expireIn() has relative expiration, which is anchored by the clock of provider when fetched.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class BearerToken {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String token; // not null
+    protected final long expireTimeMillis; // absolute time, or relative milliseconds if not anchored
+    protected final boolean anchored; // false if relative expiration by expireIn(), until anchored
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param token The token string without "Bearer " prefix. (NotNull)
+     * @param expireTimeMillis The absolute time (epoch milliseconds) when the token expires.
+     */
+    public BearerToken(String token, long expireTimeMillis) {
+        this(token, expireTimeMillis, /*anchored*/true);
+    }
+
+    protected BearerToken(String token, long expireTimeMillis, boolean anchored) {
+        if (token == null) {
+            throw new IllegalArgumentException("The argument 'token' should not be null.");
+        }
+        this.token = token;
+        this.expireTimeMillis = expireTimeMillis;
+        this.anchored = anchored;
+    }
+
+    /**
+     * Create the token expired in the milliseconds from when the provider receives it. <br>
+     * The expiration is calculated by the clock of the provider, so faked clock in your test is also applied.
+     * @param token The token string without "Bearer " prefix. (NotNull)
+     * @param expiresInMillis The milliseconds from now until the token expires, e.g. expires_in * 1000.
+     * @return The new-created token with relative expiration. (NotNull)
+     */
+    public static BearerToken expireIn(String token, long expiresInMillis) {
+        return new BearerToken(token, expiresInMillis, /*anchored*/false);
+    }
+
+    /**
+     * Anchor the relative expiration to the current time, called by the provider.
+     * @param currentTimeMillis The current time of the provider's clock.
+     * @return The token with absolute expiration, this if already anchored. (NotNull)
+     */
+    public BearerToken anchorTo(long currentTimeMillis) {
+        return anchored ? this : new BearerToken(token, currentTimeMillis + expireTimeMillis, /*anchored*/true);
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean isExpired(long currentTimeMillis) {
+        assertAnchored();
+        return currentTimeMillis >= expireTimeMillis;
+    }
+
+    public boolean isExpiredWithin(long currentTimeMillis, long aheadMillis) {
+        assertAnchored();
+        return currentTimeMillis + aheadMillis >= expireTimeMillis;
+    }
+
+    protected void assertAnchored() {
+        if (!anchored) {
+            throw new IllegalStateException("The relative expiration is not anchored yet, call anchorTo(): " + toString());
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final String expireExp = anchored ? String.valueOf(expireTimeMillis) : "in " + expireTimeMillis + "ms";
+        return "bearer:{****, expire=" + expireExp + "}"; // token is secret
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getToken() {
+        return token;
+    }
+
+    public long getExpireTimeMillis() { // relative milliseconds if not anchored
+        return expireTimeMillis;
+    }
+
+    public boolean isAnchored() {
+        return anchored;
+    }
+}
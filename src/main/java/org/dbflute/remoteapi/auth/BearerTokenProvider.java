@@ -0,0 +1,217 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.auth;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.dbflute.remoteapi.exception.retry.ClientErrorRetryResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The provider of bearer token, thread safe, basically defined as field of behavior and shared by requests. <br>
+ * The token is fetched only by one thread at the same time (single flight), and refreshed in background
+ * before its expiration, so token endpoint latency does not leak into application requests.
+ * <pre>
+ * private final BearerTokenProvider tokenProvider = new BearerTokenProvider(() -&gt; {
+ *     RemoteAuthTokenReturn ret = remoteAuthBhv.requestToken(...);
+ *     return BearerToken.expireIn(ret.accessToken, ret.expiresIn * 1000L);
+ * }).refreshAheadMillis(60000L);
+ *
+ * protected void yourDefaultRule(FlutyRemoteApiRule rule) {
+ *     rule.authorizeBy(tokenProvider); // also retried once with new token if 401
+ * }
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class BearerTokenProvider implements AuthorizationProvider {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(BearerTokenProvider.class);
+    protected static final String BEARER_PREFIX = "Bearer ";
+    protected static final int UNAUTHORIZED_STATUS = 401;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Supplier<BearerToken> tokenFetcher; // not null
+    protected long refreshAheadMillis = 30000L; // as default, should be set up before sharing
+    protected Executor refreshExecutor; // null allowed, lazy-loaded if no specified
+    protected volatile BearerToken currentToken; // null allowed until first fetch
+    protected final Object refreshLock = new Object(); // for single flight
+    protected final AtomicBoolean backgroundRefreshing = new AtomicBoolean();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param tokenFetcher The fetcher of new token, e.g. call of token endpoint, called by one thread at a time. (NotNull)
+     */
+    public BearerTokenProvider(Supplier<BearerToken> tokenFetcher) {
+        if (tokenFetcher == null) {
+            throw new IllegalArgumentException("The argument 'tokenFetcher' should not be null.");
+        }
+        this.tokenFetcher = tokenFetcher;
+    }
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param refreshAheadMillis The milliseconds before expiration to start background refresh. (ZeroAllowed: no background)
+     * @return this. (NotNull)
+     */
+    public BearerTokenProvider refreshAheadMillis(long refreshAheadMillis) {
+        if (refreshAheadMillis < 0L) {
+            throw new IllegalArgumentException("The argument 'refreshAheadMillis' should not be minus: " + refreshAheadMillis);
+        }
+        this.refreshAheadMillis = refreshAheadMillis;
+        return this;
+    }
+
+    /**
+     * @param refreshExecutor The executor for background refresh, e.g. your application thread pool. (NotNull)
+     * @return this. (NotNull)
+     */
+    public BearerTokenProvider refreshOn(Executor refreshExecutor) {
+        if (refreshExecutor == null) {
+            throw new IllegalArgumentException("The argument 'refreshExecutor' should not be null.");
+        }
+        this.refreshExecutor = refreshExecutor;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                             Provide
+    //                                                                             =======
+    @Override
+    public String provideAuthorization() {
+        BearerToken token = currentToken;
+        final long currentTimeMillis = currentTimeMillis();
+        if (token == null || token.isExpired(currentTimeMillis)) {
+            token = refreshToken(token); // the request waits for it
+        } else if (refreshAheadMillis > 0L && token.isExpiredWithin(currentTimeMillis, refreshAheadMillis)) {
+            refreshInBackground(token); // the request uses current token
+        }
+        return buildAuthorization(token);
+    }
+
+    protected String buildAuthorization(BearerToken token) {
+        return BEARER_PREFIX + token.getToken();
+    }
+
+    // ===================================================================================
+    //                                                                             Refresh
+    //                                                                             =======
+    @Override
+    public boolean refreshIfUnauthorized(ClientErrorRetryResource resource) {
+        if (resource.getClientError().getHttpStatus() != UNAUTHORIZED_STATUS) {
+            return false;
+        }
+        final String providedAuthorization = resource.getProvidedAuthorization().orElse(null); // null allowed
+        final BearerToken providedToken = findProvidedToken(providedAuthorization); // null allowed e.g. already refreshed
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow #remote ...Refreshing bearer token by unauthorized: provided={}", providedToken);
+        }
+        refreshToken(providedToken); // no fetch if already refreshed by other thread
+        return true;
+    }
+
+    protected BearerToken findProvidedToken(String providedAuthorization) {
+        final BearerToken latestToken = currentToken; // null allowed
+        if (latestToken != null && buildAuthorization(latestToken).equals(providedAuthorization)) {
+            return latestToken; // the current token is rejected so stale
+        }
+        return null; // other token was provided (refreshed after it), or unknown
+    }
+
+    /**
+     * Refresh the token if the current token is still the stale one. (single flight)
+     * @param staleToken The token regarded as stale by the caller. (NullAllowed: when first)
+     * @return The fresh token. (NotNull)
+     */
+    protected BearerToken refreshToken(BearerToken staleToken) {
+        synchronized (refreshLock) {
+            final BearerToken latestToken = currentToken;
+            if (latestToken != null && latestToken != staleToken && !latestToken.isExpired(currentTimeMillis())) {
+                return latestToken; // already refreshed by other thread while waiting
+            }
+            final BearerToken fetchedToken = tokenFetcher.get();
+            if (fetchedToken == null) {
+                throw new IllegalStateException("The token fetcher returned null: " + tokenFetcher);
+            }
+            final BearerToken anchoredToken = fetchedToken.anchorTo(currentTimeMillis()); // e.g. expireIn() by this clock
+            currentToken = anchoredToken;
+            return anchoredToken;
+        }
+    }
+
+    protected void refreshInBackground(BearerToken staleToken) {
+        if (!backgroundRefreshing.compareAndSet(false, true)) {
+            return; // already refreshing
+        }
+        try {
+            prepareRefreshExecutor().execute(() -> {
+                try {
+                    refreshToken(staleToken);
+                } catch (RuntimeException e) { // current token is still available so only logging
+                    logger.info("Failed to refresh bearer token in background, will retry at next request.", e);
+                } finally {
+                    backgroundRefreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) { // e.g. shutdown, refreshed by later request
+            backgroundRefreshing.set(false);
+        }
+    }
+
+    protected Executor prepareRefreshExecutor() {
+        synchronized (this) { // not refresh lock not to wait for fetching
+            if (refreshExecutor == null) {
+                refreshExecutor = newDefaultRefreshExecutor();
+            }
+            return refreshExecutor;
+        }
+    }
+
+    protected ExecutorService newDefaultRefreshExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "remoteapi-token-refresh");
+            thread.setDaemon(true); // not block application shutdown
+            return thread;
+        });
+    }
+
+    protected long currentTimeMillis() { // may be overridden
+        return System.currentTimeMillis();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "bearerTokenProvider:{" + currentToken + ", ahead=" + refreshAheadMillis + "ms}";
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The accumulator of elements for one batch request, thread safe. <br>
+ * The pending elements are dispatched to the executor when the window passes (by the scheduler) or the batch is full,
+ * and each caller's future is completed from the result of the batch request.
+ * @param <ELEMENT> The type of accumulated element, e.g. key or request body.
+ * @param <RESULT> The type of result for each element.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public abstract class RemoteBatchAccumulator<ELEMENT, RESULT> {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(RemoteBatchAccumulator.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final RemoteBatchOption option; // not null
+    protected final ScheduledExecutorService scheduler; // only for timer of window, not null
+    protected final Executor executor; // for batch request, not null
+    protected final Object pendingLock = new Object();
+    protected List<PendingElement<ELEMENT, RESULT>> pendingList = new ArrayList<>(); // guarded by lock
+    protected long pendingBytes; // guarded by lock
+    protected ScheduledFuture<?> scheduledFlush; // null allowed, guarded by lock
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected RemoteBatchAccumulator(RemoteBatchOption option, ScheduledExecutorService scheduler, Executor executor) {
+        if (option == null) {
+            throw new IllegalArgumentException("The argument 'option' should not be null.");
+        }
+        if (scheduler == null) {
+            throw new IllegalArgumentException("The argument 'scheduler' should not be null.");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("The argument 'executor' should not be null.");
+        }
+        this.option = option;
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    // ===================================================================================
+    //                                                                          Accumulate
+    //                                                                          ==========
+    protected CompletableFuture<RESULT> accumulate(ELEMENT element, long bytes) {
+        final List<List<PendingElement<ELEMENT, RESULT>>> readyBatchList = new ArrayList<>(2);
+        final CompletableFuture<RESULT> future;
+        synchronized (pendingLock) {
+            final CompletableFuture<RESULT> duplicate = findDuplicatePending(element);
+            if (duplicate != null) {
+                return duplicate;
+            }
+            if (!pendingList.isEmpty() && pendingBytes + bytes > option.getMaxBatchBytes()) {
+                readyBatchList.add(drainPending()); // the element is for next batch
+            }
+            future = new CompletableFuture<>();
+            pendingList.add(new PendingElement<>(element, future));
+            pendingBytes += bytes;
+            if (pendingList.size() >= option.getMaxBatchSize() || pendingBytes >= option.getMaxBatchBytes()) {
+                readyBatchList.add(drainPending());
+            } else if (scheduledFlush == null) { // first element of the window
+                scheduledFlush = scheduleFlush();
+                if (scheduledFlush == null) { // cannot wait for the window e.g. closed
+                    readyBatchList.add(drainPending());
+                }
+            }
+        }
+        readyBatchList.forEach(batchList -> dispatch(batchList));
+        return future;
+    }
+
+    protected CompletableFuture<RESULT> findDuplicatePending(ELEMENT element) { // called in lock
+        return null; // as default, no de-duplication
+    }
+
+    protected ScheduledFuture<?> scheduleFlush() {
+        try {
+            return scheduler.schedule(() -> flush(), option.getWindowMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) { // e.g. shutdown, dispatched immediately by caller
+            logger.debug("Cannot schedule the flush of remote batch: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                               Flush
+    //                                                                               =====
+    /**
+     * Dispatch the pending elements immediately without waiting for the window, e.g. at the end of your process.
+     */
+    public void flush() {
+        final List<PendingElement<ELEMENT, RESULT>> batchList;
+        synchronized (pendingLock) {
+            if (pendingList.isEmpty()) {
+                return;
+            }
+            batchList = drainPending();
+        }
+        dispatch(batchList);
+    }
+
+    protected List<PendingElement<ELEMENT, RESULT>> drainPending() { // called in lock
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        final List<PendingElement<ELEMENT, RESULT>> batchList = pendingList;
+        pendingList = new ArrayList<>();
+        pendingBytes = 0L;
+        return batchList;
+    }
+
+    // ===================================================================================
+    //                                                                            Dispatch
+    //                                                                            ========
+    protected void dispatch(List<PendingElement<ELEMENT, RESULT>> batchList) {
+        try {
+            executor.execute(() -> executeSafely(batchList));
+        } catch (RejectedExecutionException e) { // e.g. shutdown, so request in caller thread
+            executeSafely(batchList);
+        }
+    }
+
+    protected void executeSafely(List<PendingElement<ELEMENT, RESULT>> batchList) {
+        try {
+            executeBatch(Collections.unmodifiableList(batchList));
+        } catch (RuntimeException | Error e) { // e.g. client error of batch request
+            batchList.forEach(pending -> pending.getFuture().completeExceptionally(e));
+            if (e instanceof Error) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Execute the batch request and complete all futures of the elements.
+     * @param batchList The list of pending elements for one batch request. (NotNull, NotEmpty)
+     */
+    protected abstract void executeBatch(List<PendingElement<ELEMENT, RESULT>> batchList);
+
+    // ===================================================================================
+    //                                                                     Pending Element
+    //                                                                     ===============
+    protected static class PendingElement<ELEMENT, RESULT> {
+
+        protected final ELEMENT element;
+        protected final CompletableFuture<RESULT> future;
+
+        public PendingElement(ELEMENT element, CompletableFuture<RESULT> future) {
+            this.element = element;
+            this.future = future;
+        }
+
+        public ELEMENT getElement() {
+            return element;
+        }
+
+        public CompletableFuture<RESULT> getFuture() {
+            return future;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ":{" + option + "}";
+    }
+}
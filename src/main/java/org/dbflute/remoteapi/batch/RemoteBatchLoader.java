@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The loader of per-key lookups combined into one batch request, like DataLoader. <br>
+ * The same keys in one window share the same future, and the key not found in the batch result is completed as null.
+ * <pre>
+ * private final RemoteBatchLoader&lt;Integer, RemoteProductReturn&gt; productLoader = newBatchLoader(productIdList -&gt; {
+ *     List&lt;RemoteProductReturn&gt; productList = doRequestPost(..., "/product/batch", noMoreUrl(), productIdList, rule -&gt; {});
+ *     return productList.stream().collect(Collectors.toMap(product -&gt; product.productId, product -&gt; product));
+ * }, op -&gt; op.maxBatchSize(50).windowMillis(5L));
+ *
+ * public CompletableFuture&lt;RemoteProductReturn&gt; loadProduct(Integer productId) {
+ *     return productLoader.load(productId);
+ * }
+ * </pre>
+ * @param <KEY> The type of key, should implement equals() and hashCode().
+ * @param <VALUE> The type of value for the key.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemoteBatchLoader<KEY, VALUE> extends RemoteBatchAccumulator<KEY, VALUE> {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Function<List<KEY>, Map<KEY, VALUE>> batchRequester; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param batchRequester The requester of batch endpoint, returns map of key to value. (NotNull)
+     * @param option The option of batch. (NotNull)
+     * @param scheduler The scheduler only for timer of window. (NotNull)
+     * @param executor The executor for batch request. (NotNull)
+     */
+    public RemoteBatchLoader(Function<List<KEY>, Map<KEY, VALUE>> batchRequester, RemoteBatchOption option,
+            ScheduledExecutorService scheduler, Executor executor) {
+        super(option, scheduler, executor);
+        if (batchRequester == null) {
+            throw new IllegalArgumentException("The argument 'batchRequester' should not be null.");
+        }
+        this.batchRequester = batchRequester;
+    }
+
+    // ===================================================================================
+    //                                                                                Load
+    //                                                                                ====
+    /**
+     * Load the value by the key, requested later with other keys in the same window.
+     * @param key The key of lookup. (NotNull)
+     * @return The future of value, completed as null if not found. (NotNull)
+     */
+    public CompletableFuture<VALUE> load(KEY key) {
+        if (key == null) {
+            throw new IllegalArgumentException("The argument 'key' should not be null.");
+        }
+        return accumulate(key, 0L);
+    }
+
+    @Override
+    protected CompletableFuture<VALUE> findDuplicatePending(KEY key) {
+        for (PendingElement<KEY, VALUE> pending : pendingList) { // small list, max batch size
+            if (pending.getElement().equals(key)) {
+                return pending.getFuture();
+            }
+        }
+        return null;
+    }
+
+    // ===================================================================================
+    //                                                                       Execute Batch
+    //                                                                       =============
+    @Override
+    protected void executeBatch(List<PendingElement<KEY, VALUE>> batchList) {
+        final List<KEY> keyList = batchList.stream().map(pending -> pending.getElement()).collect(Collectors.toList());
+        final Map<KEY, VALUE> valueMap = batchRequester.apply(keyList);
+        for (PendingElement<KEY, VALUE> pending : batchList) {
+            pending.getFuture().complete(valueMap != null ? valueMap.get(pending.getElement()) : null);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.batch;
+
+/**
+ * The option of remote batch, e.g. batch loader and bulk coalescer. <br>
+ * Accumulated elements are dispatched when the window passes or the batch is full.
+ * <pre>
+ * op.maxBatchSize(100).windowMillis(10L);
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemoteBatchOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int maxBatchSize = 100; // as default
+    protected long maxBatchBytes = Long.MAX_VALUE; // as default, unlimited
+    protected long windowMillis = 10L; // as default, also known as linger time
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param maxBatchSize The max count of elements in one batch request. (PositiveOnly)
+     * @return this. (NotNull)
+     */
+    public RemoteBatchOption maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("The argument 'maxBatchSize' should be positive: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * @param maxBatchBytes The max (estimated) bytes of one batch request, used if element size is estimated. (PositiveOnly)
+     * @return this. (NotNull)
+     */
+    public RemoteBatchOption maxBatchBytes(long maxBatchBytes) {
+        if (maxBatchBytes <= 0L) {
+            throw new IllegalArgumentException("The argument 'maxBatchBytes' should be positive: " + maxBatchBytes);
+        }
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    /**
+     * @param windowMillis The milliseconds to wait for more elements from the first element. (PositiveOnly)
+     * @return this. (NotNull)
+     */
+    public RemoteBatchOption windowMillis(long windowMillis) {
+        if (windowMillis <= 0L) {
+            throw new IllegalArgumentException("The argument 'windowMillis' should be positive: " + windowMillis);
+        }
+        this.windowMillis = windowMillis;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final String bytesExp = maxBatchBytes != Long.MAX_VALUE ? String.valueOf(maxBatchBytes) : "unlimited";
+        return "batch:{size=" + maxBatchSize + ", bytes=" + bytesExp + ", window=" + windowMillis + "ms}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+}
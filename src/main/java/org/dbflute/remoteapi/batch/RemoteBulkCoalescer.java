@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.batch;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * The coalescer of small writes (e.g. POST/PUT per record) into one bulk request. <br>
+ * The bulk request is sent by your requester lambda (so by the request body sender of the rule),
+ * and it should return results in the same order as the requested list.
+ * <pre>
+ * private final RemoteBulkCoalescer&lt;RemoteEventBody, RemoteEventResult&gt; eventCoalescer = newBulkCoalescer(bodyList -&gt; {
+ *     return doRequestPost(new ParameterizedRef&lt;List&lt;RemoteEventResult&gt;&gt;() {
+ *     }.getType(), "/lido/event/bulk", noMoreUrl(), bodyList, rule -&gt; {});
+ * }, body -&gt; body.payload.length(), op -&gt; op.maxBatchSize(500).maxBatchBytes(1024 * 1024).windowMillis(50L));
+ *
+ * public CompletableFuture&lt;RemoteEventResult&gt; sendEvent(RemoteEventBody body) {
+ *     return eventCoalescer.submit(body);
+ * }
+ * </pre>
+ * @param <PARAM> The type of one parameter (element of bulk request body).
+ * @param <RESULT> The type of one result (element of bulk response).
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemoteBulkCoalescer<PARAM, RESULT> extends RemoteBatchAccumulator<PARAM, RESULT> {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Function<List<PARAM>, List<RESULT>> bulkRequester; // not null
+    protected final ToLongFunction<PARAM> sizeEstimator; // null allowed, then no bytes limit
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param bulkRequester The requester of bulk endpoint, returns results in the same order. (NotNull)
+     * @param sizeEstimator The estimator of bytes for one parameter for max batch bytes. (NullAllowed: no bytes limit)
+     * @param option The option of batch. (NotNull)
+     * @param scheduler The scheduler only for timer of window. (NotNull)
+     * @param executor The executor for bulk request. (NotNull)
+     */
+    public RemoteBulkCoalescer(Function<List<PARAM>, List<RESULT>> bulkRequester, ToLongFunction<PARAM> sizeEstimator,
+            RemoteBatchOption option, ScheduledExecutorService scheduler, Executor executor) {
+        super(option, scheduler, executor);
+        if (bulkRequester == null) {
+            throw new IllegalArgumentException("The argument 'bulkRequester' should not be null.");
+        }
+        this.bulkRequester = bulkRequester;
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    // ===================================================================================
+    //                                                                              Submit
+    //                                                                              ======
+    /**
+     * Submit the parameter, requested later with other parameters as one bulk request.
+     * @param param The parameter of one write. (NotNull)
+     * @return The future of result for the parameter. (NotNull)
+     */
+    public CompletableFuture<RESULT> submit(PARAM param) {
+        if (param == null) {
+            throw new IllegalArgumentException("The argument 'param' should not be null.");
+        }
+        final long bytes = sizeEstimator != null ? sizeEstimator.applyAsLong(param) : 0L;
+        return accumulate(param, bytes);
+    }
+
+    // ===================================================================================
+    //                                                                       Execute Batch
+    //                                                                       =============
+    @Override
+    protected void executeBatch(List<PendingElement<PARAM, RESULT>> batchList) {
+        final List<PARAM> paramList = batchList.stream().map(pending -> pending.getElement()).collect(Collectors.toList());
+        final List<RESULT> resultList = bulkRequester.apply(paramList);
+        if (resultList == null || resultList.size() != batchList.size()) {
+            final Integer resultSize = resultList != null ? resultList.size() : null;
+            String msg = "The bulk results should be the same size as the parameters: params=" + batchList.size() + ", results="
+                    + resultSize + ", requester=" + bulkRequester;
+            throw new IllegalStateException(msg); // completed as exceptionally
+        }
+        int index = 0;
+        for (PendingElement<PARAM, RESULT> pending : batchList) {
+            pending.getFuture().complete(resultList.get(index));
+            ++index;
+        }
+    }
+}
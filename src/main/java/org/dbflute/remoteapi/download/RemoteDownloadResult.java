@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.download;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The result of download from remote API, the body itself is already written to the destination.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemoteDownloadResult {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final long byteCount; // written bytes
+    protected final String digestAlgorithm; // not null e.g. SHA-256
+    protected final String digestHex; // not null, lower case
+    protected final String contentType; // null allowed
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public RemoteDownloadResult(long byteCount, String digestAlgorithm, String digestHex, String contentType) {
+        if (digestAlgorithm == null) {
+            throw new IllegalArgumentException("The argument 'digestAlgorithm' should not be null.");
+        }
+        if (digestHex == null) {
+            throw new IllegalArgumentException("The argument 'digestHex' should not be null.");
+        }
+        this.byteCount = byteCount;
+        this.digestAlgorithm = digestAlgorithm;
+        this.digestHex = digestHex;
+        this.contentType = contentType;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "download:{" + byteCount + "bytes, " + digestAlgorithm + "=" + digestHex + ", " + contentType + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public String getDigestAlgorithm() {
+        return digestAlgorithm;
+    }
+
+    public String getDigestHex() {
+        return digestHex;
+    }
+
+    public OptionalThing<String> getContentType() {
+        return OptionalThing.ofNullable(contentType, () -> {
+            throw new IllegalStateException("Not found the content type of downloaded body.");
+        });
+    }
+}
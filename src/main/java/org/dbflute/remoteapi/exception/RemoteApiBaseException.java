@@ -15,6 +15,10 @@
  */
 package org.dbflute.remoteapi.exception;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 /**
  * @author awane
  * @author jflute
@@ -23,6 +27,15 @@ public class RemoteApiBaseException extends RuntimeException {
 
     private static final long serialVersionUID = 1L;
 
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected transient Supplier<String> messageProvider; // null allowed: normal message, released after built
+    protected volatile String deferredMessage; // null allowed: normal message or until first getMessage()
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
     public RemoteApiBaseException(String msg) {
         super(msg);
     }
@@ -30,4 +43,60 @@ public class RemoteApiBaseException extends RuntimeException {
     public RemoteApiBaseException(String msg, Throwable cause) {
         super(msg, cause);
     }
+
+    /**
+     * @param msg The message of the exception. (NullAllowed)
+     * @param cause The cause of the exception. (NullAllowed)
+     * @param writableStackTrace Is the stack trace filled? (false: stackless, cheap for expected error)
+     */
+    protected RemoteApiBaseException(String msg, Throwable cause, boolean writableStackTrace) {
+        super(msg, cause, /*enableSuppression*/true, writableStackTrace);
+    }
+
+    /**
+     * @param messageProvider The provider of message called at first getMessage(), e.g. heavy message. (NotNull)
+     * @param cause The cause of the exception. (NullAllowed)
+     * @param writableStackTrace Is the stack trace filled? (false: stackless, cheap for expected error)
+     */
+    protected RemoteApiBaseException(Supplier<String> messageProvider, Throwable cause, boolean writableStackTrace) {
+        super(null, cause, /*enableSuppression*/true, writableStackTrace);
+        if (messageProvider == null) {
+            throw new IllegalArgumentException("The argument 'messageProvider' should not be null.");
+        }
+        this.messageProvider = messageProvider;
+    }
+
+    // ===================================================================================
+    //                                                                    Deferred Message
+    //                                                                    ================
+    @Override
+    public String getMessage() {
+        final String built = deferredMessage;
+        if (built != null) {
+            return built;
+        }
+        if (messageProvider == null) { // normal message
+            return super.getMessage();
+        }
+        return resolveDeferredMessage();
+    }
+
+    protected synchronized String resolveDeferredMessage() { // may be shared by e.g. client error cache
+        if (deferredMessage == null) {
+            String msg;
+            try {
+                msg = messageProvider.get();
+            } catch (RuntimeException e) { // not to break e.g. logging of this exception
+                msg = "*Failed to build the exception message: " + e;
+            }
+            deferredMessage = msg != null ? msg : "";
+            messageProvider = null; // to release captured context e.g. response body
+        }
+        return deferredMessage;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException { // provider is not serializable
+        getMessage(); // builds the deferred message if needed
+        out.defaultWriteObject();
+    }
 }
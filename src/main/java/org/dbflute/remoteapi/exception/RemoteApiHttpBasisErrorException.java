@@ -15,6 +15,8 @@
  */
 package org.dbflute.remoteapi.exception;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.function.Supplier;
 
 import org.dbflute.helper.message.ExceptionMessageBuilder;
@@ -35,7 +37,7 @@ public class RemoteApiHttpBasisErrorException extends RemoteApiBaseException {
     //                                                                           =========
     protected final SupportedHttpMethod httpMethod; // null allowed for compatible
     protected final int httpStatus;
-    protected final RemoteApiFailureResponseHolder failureResponseHolder; // not null
+    protected transient RemoteApiFailureResponseHolder failureResponseHolder; // not null, null holder after deserialization
 
     public static class RemoteApiFailureResponseHolder {
 
@@ -56,12 +58,75 @@ public class RemoteApiHttpBasisErrorException extends RemoteApiBaseException {
         }
     }
 
+    /**
+     * The holder that parses the failure response lazily at first access, and memorizes it. <br>
+     * Thread-safe because the exception may be shared by e.g. client error cache.
+     */
+    public static class RemoteApiLazyFailureResponseHolder extends RemoteApiFailureResponseHolder {
+
+        protected final Supplier<RemoteApiFailureResponseHolder> resolver; // not null, called only once
+        protected volatile RemoteApiFailureResponseHolder resolved; // null allowed until first access
+
+        public RemoteApiLazyFailureResponseHolder(Supplier<RemoteApiFailureResponseHolder> resolver) {
+            super(null, null);
+            if (resolver == null) {
+                throw new IllegalArgumentException("The argument 'resolver' should not be null.");
+            }
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Object getFailureResponse() {
+            return resolve().getFailureResponse();
+        }
+
+        @Override
+        public Supplier<RuntimeException> getEmptyResponseCause() {
+            return resolve().getEmptyResponseCause();
+        }
+
+        protected RemoteApiFailureResponseHolder resolve() {
+            RemoteApiFailureResponseHolder holder = resolved;
+            if (holder == null) {
+                synchronized (this) {
+                    holder = resolved;
+                    if (holder == null) {
+                        holder = resolver.get(); // parse failure is kept as empty response cause
+                        resolved = holder;
+                    }
+                }
+            }
+            return holder;
+        }
+
+        public boolean isResolved() {
+            return resolved != null;
+        }
+    }
+
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
     public RemoteApiHttpBasisErrorException(String msg, SupportedHttpMethod httpMethod, int httpStatus,
             RemoteApiFailureResponseHolder failureResponseHolder) {
-        super(msg);
+        this(msg, httpMethod, httpStatus, failureResponseHolder, /*writableStackTrace*/true);
+    }
+
+    protected RemoteApiHttpBasisErrorException(String msg, SupportedHttpMethod httpMethod, int httpStatus,
+            RemoteApiFailureResponseHolder failureResponseHolder, boolean writableStackTrace) {
+        super(msg, /*cause*/null, writableStackTrace);
+        this.httpMethod = httpMethod; // null allowed for compatible
+        this.httpStatus = httpStatus;
+        if (failureResponseHolder != null) {
+            this.failureResponseHolder = failureResponseHolder;
+        } else { // for outer framework
+            this.failureResponseHolder = createNullFailureResponseHolder();
+        }
+    }
+
+    protected RemoteApiHttpBasisErrorException(Supplier<String> messageProvider, SupportedHttpMethod httpMethod, int httpStatus,
+            RemoteApiFailureResponseHolder failureResponseHolder, boolean writableStackTrace) {
+        super(messageProvider, /*cause*/null, writableStackTrace);
         this.httpMethod = httpMethod; // null allowed for compatible
         this.httpStatus = httpStatus;
         if (failureResponseHolder != null) {
@@ -159,6 +224,7 @@ public class RemoteApiHttpBasisErrorException extends RemoteApiBaseException {
      *  =&gt; RemoteApiResponseParseFailureException
      * 
      * </pre>
+     * The failure response may be parsed at the first call of this method. (not when the exception is thrown)
      * @return The optional object for failure response. (NotNull, EmptyAllowed: when no type or parse failure) 
      */
     public OptionalThing<Object> getFailureResponse() {
@@ -168,4 +234,20 @@ public class RemoteApiHttpBasisErrorException extends RemoteApiBaseException {
             throw emptyResponseCause != null ? emptyResponseCause.get() : new IllegalStateException("Not found the failure response.");
         });
     }
+
+    /**
+     * Get the holder of failure response, e.g. to create the same error again. (for framework)
+     * @return The holder having e.g. failure response and cause. (NotNull)
+     */
+    public RemoteApiFailureResponseHolder getFailureResponseHolder() {
+        return failureResponseHolder;
+    }
+
+    // ===================================================================================
+    //                                                                       Serialization
+    //                                                                       =============
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException { // holder is not serializable
+        in.defaultReadObject();
+        failureResponseHolder = createNullFailureResponseHolder(); // failure response is not restored
+    }
 }
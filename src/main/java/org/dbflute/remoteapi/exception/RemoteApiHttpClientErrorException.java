@@ -15,6 +15,8 @@
  */
 package org.dbflute.remoteapi.exception;
 
+import java.util.function.Supplier;
+
 import org.dbflute.remoteapi.http.SupportedHttpMethod;
 
 /**
@@ -29,4 +31,28 @@ public class RemoteApiHttpClientErrorException extends RemoteApiHttpBasisErrorEx
             RemoteApiFailureResponseHolder failureResponseHolder) {
         super(msg, httpMethod, httpStatus, failureResponseHolder);
     }
+
+    /**
+     * @param msg The message of the exception. (NotNull)
+     * @param httpMethod The HTTP method of the request. (NullAllowed: for compatible)
+     * @param httpStatus The HTTP status of the response.
+     * @param failureResponseHolder The holder of failure response. (NullAllowed: for outer framework)
+     * @param writableStackTrace Is the stack trace filled? (false: stackless for expected client error e.g. 404)
+     */
+    public RemoteApiHttpClientErrorException(String msg, SupportedHttpMethod httpMethod, int httpStatus,
+            RemoteApiFailureResponseHolder failureResponseHolder, boolean writableStackTrace) {
+        super(msg, httpMethod, httpStatus, failureResponseHolder, writableStackTrace);
+    }
+
+    /**
+     * @param messageProvider The provider of message built at first getMessage(). (NotNull)
+     * @param httpMethod The HTTP method of the request. (NullAllowed: for compatible)
+     * @param httpStatus The HTTP status of the response.
+     * @param failureResponseHolder The holder of failure response. (NullAllowed: for outer framework)
+     * @param writableStackTrace Is the stack trace filled? (false: stackless for expected client error e.g. 404)
+     */
+    public RemoteApiHttpClientErrorException(Supplier<String> messageProvider, SupportedHttpMethod httpMethod, int httpStatus,
+            RemoteApiFailureResponseHolder failureResponseHolder, boolean writableStackTrace) {
+        super(messageProvider, httpMethod, httpStatus, failureResponseHolder, writableStackTrace);
+    }
 }
@@ -15,6 +15,8 @@
  */
 package org.dbflute.remoteapi.exception;
 
+import java.util.function.Supplier;
+
 import org.dbflute.remoteapi.http.SupportedHttpMethod;
 
 /**
@@ -28,4 +30,15 @@ public class RemoteApiHttpServerErrorException extends RemoteApiHttpBasisErrorEx
             RemoteApiFailureResponseHolder failureResponseHolder) {
         super(msg, httpMethod, httpStatus, failureResponseHolder);
     }
+
+    /**
+     * @param messageProvider The provider of message built at first getMessage(). (NotNull)
+     * @param httpMethod The HTTP method of the request. (NullAllowed: for compatible)
+     * @param httpStatus The HTTP status of the response.
+     * @param failureResponseHolder The holder of failure response. (NullAllowed: for outer framework)
+     */
+    public RemoteApiHttpServerErrorException(Supplier<String> messageProvider, SupportedHttpMethod httpMethod, int httpStatus,
+            RemoteApiFailureResponseHolder failureResponseHolder) {
+        super(messageProvider, httpMethod, httpStatus, failureResponseHolder, /*writableStackTrace*/true);
+    }
 }
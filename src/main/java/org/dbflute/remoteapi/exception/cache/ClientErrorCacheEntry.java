@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.exception.cache;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.exception.RemoteApiHttpBasisErrorException.RemoteApiFailureResponseHolder;
+
+/**
+ * The cached entry of client error, immutable. <br>
+ * It does not keep the exception instance, a new exception is created per cache hit (not shared between threads).
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ClientErrorCacheEntry {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final int httpStatus;
+    protected final String body; // null allowed when no body
+    protected final RemoteApiFailureResponseHolder failureResponseHolder; // not null, shared as read-only
+    protected final long expireTimeMillis; // absolute time
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ClientErrorCacheEntry(int httpStatus, String body, RemoteApiFailureResponseHolder failureResponseHolder,
+            long expireTimeMillis) {
+        this.httpStatus = httpStatus;
+        this.body = body;
+        this.failureResponseHolder = failureResponseHolder;
+        this.expireTimeMillis = expireTimeMillis;
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean isExpired(long currentTimeMillis) {
+        return currentTimeMillis >= expireTimeMillis;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "cachedClientError:{" + httpStatus + ", expire=" + expireTimeMillis + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    public OptionalThing<String> getBody() {
+        return OptionalThing.ofNullable(body, () -> {
+            throw new IllegalStateException("Not found the response body.");
+        });
+    }
+
+    public RemoteApiFailureResponseHolder getFailureResponseHolder() {
+        return failureResponseHolder;
+    }
+
+    public long getExpireTimeMillis() {
+        return expireTimeMillis;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.exception.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The option of client error cache (negative cache). <br>
+ * The cached client error is thrown again without network until it expires.
+ * <pre>
+ * rule.cacheClientError(op -&gt; op.targetStatus(404, 410).expireAfterMillis(3000L));
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ClientErrorCacheOption {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int DEFAULT_TARGET_STATUS = 404; // not found
+    protected static final long DEFAULT_EXPIRE_MILLIS = 5000L; // short life
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected Set<Integer> targetStatusSet; // null allowed, not found only if null
+    protected long expireMillis = DEFAULT_EXPIRE_MILLIS;
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param httpStatuses The HTTP statuses of client error to be cached, 4xx only. (NotNull, NotEmpty)
+     * @return this. (NotNull)
+     */
+    public ClientErrorCacheOption targetStatus(int... httpStatuses) {
+        if (httpStatuses == null || httpStatuses.length == 0) {
+            throw new IllegalArgumentException("The argument 'httpStatuses' should not be null or empty.");
+        }
+        for (int httpStatus : httpStatuses) {
+            if (httpStatus < 400 || httpStatus >= 500) {
+                String msg = "The HTTP status of client error cache should be 4xx: " + Arrays.toString(httpStatuses);
+                throw new IllegalArgumentException(msg);
+            }
+        }
+        targetStatusSet = Collections.unmodifiableSet(Arrays.stream(httpStatuses).boxed().collect(Collectors.toSet()));
+        return this;
+    }
+
+    /**
+     * @param expireMillis The milliseconds to expire the cached client error. (PositiveOnly)
+     * @return this. (NotNull)
+     */
+    public ClientErrorCacheOption expireAfterMillis(long expireMillis) {
+        if (expireMillis <= 0L) {
+            throw new IllegalArgumentException("The argument 'expireMillis' should be positive: " + expireMillis);
+        }
+        this.expireMillis = expireMillis;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                           Framework
+    //                                                                           =========
+    /**
+     * @return The new-created option that has the same settings, for one request. (NotNull)
+     */
+    public ClientErrorCacheOption xcopyForRequest() { // for framework, e.g. overlay of default rule template
+        final ClientErrorCacheOption copied = newClientErrorCacheOption();
+        copied.targetStatusSet = targetStatusSet; // read-only, replaced when changed
+        copied.expireMillis = expireMillis;
+        return copied;
+    }
+
+    protected ClientErrorCacheOption newClientErrorCacheOption() {
+        return new ClientErrorCacheOption();
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean isTargetStatus(int httpStatus) {
+        if (targetStatusSet != null) {
+            return targetStatusSet.contains(httpStatus);
+        }
+        return httpStatus == DEFAULT_TARGET_STATUS;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final Object statusExp = targetStatusSet != null ? targetStatusSet : DEFAULT_TARGET_STATUS;
+        return "clientErrorCache:{status=" + statusExp + ", expire=" + expireMillis + "ms}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getExpireMillis() {
+        return expireMillis;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.exception.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The storage of client error cache, thread safe, shared by requests of the remote API. <br>
+ * Expired entries are removed when found, and also when the storage is full.
+ * If still full after removing expired entries, the oldest entry is evicted (not all entries).
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ClientErrorCacheStorage {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final int maxEntries; // to avoid memory leak by e.g. crawler's various keys
+    protected final Map<String, ClientErrorCacheEntry> entryMap = new LinkedHashMap<>(); // insertion order, synchronized by itself
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ClientErrorCacheStorage(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("The argument 'maxEntries' should be positive: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    // ===================================================================================
+    //                                                                         Find / Save
+    //                                                                         ===========
+    /**
+     * @param cacheKey The key of cache, e.g. method and URL. (NotNull)
+     * @param currentTimeMillis The current time to determine expiration.
+     * @return The optional entry of cached client error, empty if not found or expired. (NotNull, EmptyAllowed)
+     */
+    public OptionalThing<ClientErrorCacheEntry> find(String cacheKey, long currentTimeMillis) {
+        ClientErrorCacheEntry entry;
+        synchronized (entryMap) {
+            entry = entryMap.get(cacheKey);
+            if (entry != null && entry.isExpired(currentTimeMillis)) {
+                entryMap.remove(cacheKey);
+                entry = null;
+            }
+        }
+        final ClientErrorCacheEntry found = entry;
+        return OptionalThing.ofNullable(found, () -> {
+            throw new IllegalStateException("Not found the cached client error: " + cacheKey);
+        });
+    }
+
+    /**
+     * @param cacheKey The key of cache, e.g. method and URL. (NotNull)
+     * @param entry The entry of client error to be cached. (NotNull)
+     * @param currentTimeMillis The current time to sweep expired entries.
+     */
+    public void save(String cacheKey, ClientErrorCacheEntry entry, long currentTimeMillis) {
+        synchronized (entryMap) {
+            entryMap.remove(cacheKey); // to be newest in insertion order
+            if (entryMap.size() >= maxEntries) {
+                sweepExpired(currentTimeMillis);
+                if (entryMap.size() >= maxEntries) { // still full so evict the oldest
+                    evictOldest();
+                }
+            }
+            entryMap.put(cacheKey, entry);
+        }
+    }
+
+    protected void sweepExpired(long currentTimeMillis) { // in lock
+        entryMap.values().removeIf(entry -> entry.isExpired(currentTimeMillis));
+    }
+
+    protected void evictOldest() { // in lock
+        final Iterator<ClientErrorCacheEntry> ite = entryMap.values().iterator();
+        if (ite.hasNext()) {
+            ite.next();
+            ite.remove();
+        }
+    }
+
+    /**
+     * Clear all cached client errors, e.g. when the remote data are registered.
+     */
+    public void clear() {
+        synchronized (entryMap) {
+            entryMap.clear();
+        }
+    }
+
+    /**
+     * @return The count of current entries, including not-yet-swept expired entries.
+     */
+    public int size() {
+        synchronized (entryMap) {
+            return entryMap.size();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "clientErrorCacheStorage:{entries=" + size() + "/" + maxEntries + "}";
+    }
+}
@@ -130,4 +130,13 @@ public class ClientErrorRetryResource {
     public RemoteApiHttpClientErrorException getClientError() {
         return clientError;
     }
+
+    /**
+     * Get the value of Authorization header provided by the authorization provider for the failed request.
+     * @return The optional header value, e.g. "Bearer xxx". (NotNull, EmptyAllowed: when no authorization provider)
+     */
+    @SuppressWarnings("deprecation")
+    public OptionalThing<String> getProvidedAuthorization() {
+        return rule.xgetFrameworkInternallyProvidedAuthorization();
+    }
 }
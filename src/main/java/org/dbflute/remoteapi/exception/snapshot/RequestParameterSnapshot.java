@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.exception.snapshot;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.dbflute.remoteapi.mapping.FlSerializationPlan;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan.PropertyPlan;
+
+/**
+ * The snapshot of request parameter at the error, for the exception message built lazily. <br>
+ * It keeps immutable values as they are and copies property values of bean (shallow),
+ * so it is cheap to take and the debug string is not built until the message is needed.
+ * <pre>
+ * e.g. String, Number, enum, date: as it is
+ * e.g. List, Map, array: copied collection
+ * e.g. form bean: property name to value map (by cached getters)
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RequestParameterSnapshot {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String SNAPSHOT_NAMING_KEY = "snapshot"; // property names as they are
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Object parameter; // null allowed: if bean, immutable value or copied collection
+    protected final Class<?> beanType; // null allowed: not bean
+    protected final Map<String, Object> propertyMap; // null allowed: not bean, read-only
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected RequestParameterSnapshot(Object parameter, Class<?> beanType, Map<String, Object> propertyMap) {
+        this.parameter = parameter;
+        this.beanType = beanType;
+        this.propertyMap = propertyMap;
+    }
+
+    /**
+     * Take the snapshot of the request parameter.
+     * @param param The request parameter, e.g. form bean. (NotNull)
+     * @return The new-created snapshot. (NotNull)
+     */
+    public static RequestParameterSnapshot of(Object param) {
+        if (param == null) {
+            throw new IllegalArgumentException("The argument 'param' should not be null.");
+        }
+        if (isImmutableValue(param)) {
+            return new RequestParameterSnapshot(param, null, null);
+        } else if (param instanceof Map<?, ?>) {
+            return new RequestParameterSnapshot(Collections.unmodifiableMap(new LinkedHashMap<>((Map<?, ?>) param)), null, null);
+        } else if (param instanceof Collection<?>) {
+            return new RequestParameterSnapshot(Collections.unmodifiableList(new ArrayList<>((Collection<?>) param)), null, null);
+        } else if (param instanceof Object[]) {
+            return new RequestParameterSnapshot(Collections.unmodifiableList(Arrays.asList(((Object[]) param).clone())), null, null);
+        } else if (param.getClass().isArray()) { // primitive array, small basically
+            return new RequestParameterSnapshot(param.getClass().getComponentType().getName() + "[]", null, null);
+        }
+        final Class<?> beanType = param.getClass();
+        final FlSerializationPlan plan = FlSerializationPlan.of(beanType, SNAPSHOT_NAMING_KEY, desc -> desc.getPropertyName());
+        final Map<String, Object> propertyMap = new LinkedHashMap<>();
+        for (PropertyPlan propertyPlan : plan.getPropertyPlanList()) {
+            propertyMap.put(propertyPlan.getParameterName(), propertyPlan.getValue(param));
+        }
+        return new RequestParameterSnapshot(null, beanType, Collections.unmodifiableMap(propertyMap));
+    }
+
+    protected static boolean isImmutableValue(Object param) {
+        return param instanceof String || param instanceof Number || param instanceof Boolean || param instanceof Character
+                || param instanceof Enum<?> || param instanceof TemporalAccessor || param instanceof UUID;
+    }
+
+    // ===================================================================================
+    //                                                                          Expression
+    //                                                                          ==========
+    /**
+     * Build the debug string of the bean snapshot, which is only for bean.
+     * @return The string as e.g. "SeaForm:{sea=mystic, land=oneman}". (NotNull)
+     */
+    public String buildBeanExpression() {
+        if (beanType == null) {
+            throw new IllegalStateException("Not bean snapshot: " + parameter);
+        }
+        return beanType.getSimpleName() + ":" + propertyMap;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return isBean() ? buildBeanExpression() : String.valueOf(parameter);
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public boolean isBean() {
+        return beanType != null;
+    }
+
+    /**
+     * @return The immutable value or copied collection. (NullAllowed: if bean snapshot)
+     */
+    public Object getParameter() {
+        return parameter;
+    }
+
+    /**
+     * @return The type of the bean. (NullAllowed: if not bean snapshot)
+     */
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * @return The read-only map of property name to value. (NullAllowed: if not bean snapshot)
+     */
+    public Map<String, Object> getPropertyMap() {
+        return propertyMap;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dbflute.util.Srl;
+
+/**
+ * The compiled template of action path, e.g. /sea/{hangar}/land/{showbase}. <br>
+ * The path is split into literal segments and variable slots only once, and cached per action path,
+ * so URL building needs no split and join per request. Immutable and thread-safe.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ActionPathTemplate {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int CACHE_LIMIT = 2048; // not to be leak by dynamic action path e.g. concatenated ID
+    protected static final int ESTIMATED_VARIABLE_LENGTH = 16; // for initial capacity of builder
+    protected static final Map<String, ActionPathTemplate> templateCache = new ConcurrentHashMap<>();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String actionPath; // not null
+    protected final String[] segments; // not null, literal or null if variable slot, joined by slash
+    protected final int variableCount;
+    protected final int estimatedLength;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected ActionPathTemplate(String actionPath, String[] segments, int variableCount) {
+        this.actionPath = actionPath;
+        this.segments = segments;
+        this.variableCount = variableCount;
+        this.estimatedLength = actionPath.length() + variableCount * ESTIMATED_VARIABLE_LENGTH;
+    }
+
+    /**
+     * Find the compiled template from cache, or compile it if not cached yet.
+     * @param actionPath The path to action, may contain variable slots e.g. /sea/{hangar}. (NotNull)
+     * @return The compiled template of the action path. (NotNull)
+     */
+    public static ActionPathTemplate of(String actionPath) {
+        if (actionPath == null) {
+            throw new IllegalArgumentException("The argument 'actionPath' should not be null.");
+        }
+        final ActionPathTemplate cached = templateCache.get(actionPath);
+        if (cached != null) {
+            return cached;
+        }
+        final ActionPathTemplate compiled = compile(actionPath);
+        if (templateCache.size() < CACHE_LIMIT) { // roughly limited, over is no problem
+            templateCache.putIfAbsent(actionPath, compiled);
+        }
+        return compiled;
+    }
+
+    protected static ActionPathTemplate compile(String actionPath) {
+        if (!Srl.containsAll(actionPath, "{", "}")) { // e.g. sea/land
+            return new ActionPathTemplate(actionPath, new String[] { actionPath }, 0);
+        }
+        final List<String> pathElementList = Srl.splitList(actionPath, "/"); // e.g. [, sea, {hangar}, land, {showbase}]
+        final String[] segments = new String[pathElementList.size()];
+        int variableCount = 0;
+        for (int i = 0; i < segments.length; i++) {
+            final String token = pathElementList.get(i);
+            if (Srl.isQuotedAnything(token, "{", "}")) {
+                ++variableCount; // null segment means variable slot
+            } else {
+                segments[i] = token;
+            }
+        }
+        return new ActionPathTemplate(actionPath, segments, variableCount);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "template:{" + actionPath + ", variables=" + variableCount + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getActionPath() {
+        return actionPath;
+    }
+
+    public boolean hasVariableSlot() {
+        return variableCount > 0;
+    }
+
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    public boolean isVariableSlot(int index) {
+        return segments[index] == null;
+    }
+
+    public String getLiteral(int index) { // null if variable slot
+        return segments[index];
+    }
+
+    public int getEstimatedLength() {
+        return estimatedLength;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The input stream counting read bytes, e.g. for accounting of response body.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ByteCountingInputStream extends FilterInputStream {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected long byteCount;
+    protected long markedByteCount;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param in The input stream to be counted. (NotNull)
+     */
+    public ByteCountingInputStream(InputStream in) {
+        super(in);
+        if (in == null) {
+            throw new IllegalArgumentException("The argument 'in' should not be null.");
+        }
+    }
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    @Override
+    public int read() throws IOException {
+        final int read = super.read();
+        if (read >= 0) {
+            countBytes(1L);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            countBytes(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = super.skip(n);
+        if (skipped > 0L) {
+            countBytes(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        super.mark(readlimit);
+        markedByteCount = byteCount;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        byteCount = markedByteCount;
+    }
+
+    /**
+     * Count the read bytes, called per reading.
+     * @param readBytes The count of bytes read this time. (PositiveOnly)
+     * @throws IOException When the count is unacceptable. (for sub-class)
+     */
+    protected void countBytes(long readBytes) throws IOException { // may be overridden e.g. limit
+        byteCount += readBytes;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getByteCount() {
+        return byteCount;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * The file part of multipart request, specifying file name and content type explicitly. <br>
+ * Path, File and InputStream can be also used as property type of multipart form without this.
+ * <pre>
+ * public class RemoteMediaUploadForm {
+ *     public String title;
+ *     public MultipartFilePart media; // e.g. MultipartFilePart.of(path).fileName("sea.mp4").contentType("video/mp4")
+ * }
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class MultipartFilePart {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Object source; // not null, Path or InputStream
+    protected String fileName; // null allowed, derived from path if null
+    protected String contentType; // null allowed, derived from path if null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected MultipartFilePart(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The argument 'source' should not be null.");
+        }
+        this.source = source;
+    }
+
+    /**
+     * @param path The path of file to be sent, read when writing. (NotNull)
+     * @return The new-created file part. (NotNull)
+     */
+    public static MultipartFilePart of(Path path) {
+        return new MultipartFilePart(path);
+    }
+
+    /**
+     * @param file The file to be sent, read when writing. (NotNull)
+     * @return The new-created file part. (NotNull)
+     */
+    public static MultipartFilePart of(File file) {
+        if (file == null) {
+            throw new IllegalArgumentException("The argument 'file' should not be null.");
+        }
+        return new MultipartFilePart(file.toPath());
+    }
+
+    /**
+     * @param stream The input stream to be sent, read only once and closed after writing. (NotNull)
+     * @return The new-created file part. (NotNull)
+     */
+    public static MultipartFilePart of(InputStream stream) {
+        return new MultipartFilePart(stream);
+    }
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param fileName The file name in Content-Disposition. (NotNull)
+     * @return this. (NotNull)
+     */
+    public MultipartFilePart fileName(String fileName) {
+        if (fileName == null) {
+            throw new IllegalArgumentException("The argument 'fileName' should not be null.");
+        }
+        this.fileName = fileName;
+        return this;
+    }
+
+    /**
+     * @param contentType The content type of the part, e.g. image/png. (NotNull)
+     * @return this. (NotNull)
+     */
+    public MultipartFilePart contentType(String contentType) {
+        if (contentType == null) {
+            throw new IllegalArgumentException("The argument 'contentType' should not be null.");
+        }
+        this.contentType = contentType;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "filePart:{" + source + ", " + fileName + ", " + contentType + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Object getSource() {
+        return source;
+    }
+
+    public boolean isStreamSource() {
+        return source instanceof InputStream;
+    }
+
+    public String getFileName() { // null allowed
+        return fileName;
+    }
+
+    public String getContentType() { // null allowed
+        return contentType;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+/**
+ * The HTTP entity that writes the body directly into the output stream. <br>
+ * The body is not held as byte array, and it is written again (e.g. retry) if repeatable.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class StreamingHttpEntity extends AbstractHttpEntity {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final BodyWriter bodyWriter; // not null
+    protected final long contentLength; // minus if unknown (chunked)
+    protected final boolean repeatable;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param bodyWriter The writer of body into output stream, called per writing. (NotNull)
+     * @param contentLength The length of content if known, minus if unknown (then chunked).
+     * @param repeatable Can the body writer write the same body again?
+     */
+    public StreamingHttpEntity(BodyWriter bodyWriter, long contentLength, boolean repeatable) {
+        if (bodyWriter == null) {
+            throw new IllegalArgumentException("The argument 'bodyWriter' should not be null.");
+        }
+        this.bodyWriter = bodyWriter;
+        this.contentLength = contentLength;
+        this.repeatable = repeatable;
+        setChunked(contentLength < 0);
+    }
+
+    /**
+     * Create the entity of string without copy of whole bytes.
+     * @param text The text of body. (NotNull)
+     * @param charset The charset to encode the text. (NotNull)
+     * @return The new-created repeatable entity, with content length. (NotNull)
+     */
+    public static StreamingHttpEntity ofString(String text, Charset charset) {
+        final BodyWriter writer = out -> {
+            final Writer textWriter = new OutputStreamWriter(out, charset); // encoded per small buffer
+            textWriter.write(text);
+            textWriter.flush(); // not close the stream
+        };
+        final long contentLength = calculateEncodedLength(text, charset); // not chunked like StringEntity
+        return new StreamingHttpEntity(writer, contentLength, /*repeatable*/true);
+    }
+
+    /**
+     * Calculate the bytes length of the text encoded by the charset without holding the whole bytes. <br>
+     * The unmappable characters are counted as replacement bytes, the same as the writer of the body.
+     * @param text The text to be calculated. (NotNull)
+     * @param charset The charset to encode the text. (NotNull)
+     * @return The length of encoded bytes.
+     */
+    public static long calculateEncodedLength(CharSequence text, Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) { // fast path without encoder
+            return calculateUtf8Length(text);
+        }
+        final CharsetEncoder encoder = charset.newEncoder() // same actions as OutputStreamWriter
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer in = CharBuffer.wrap(text);
+        final ByteBuffer out = ByteBuffer.allocate(4096); // reused, only counted
+        long byteLength = 0;
+        CoderResult result;
+        do {
+            result = encoder.encode(in, out, /*endOfInput*/true);
+            byteLength += out.position();
+            out.clear();
+        } while (result.isOverflow());
+        do { // for stateful charset e.g. ISO-2022-JP
+            result = encoder.flush(out);
+            byteLength += out.position();
+            out.clear();
+        } while (result.isOverflow());
+        return byteLength;
+    }
+
+    /**
+     * Calculate the bytes length of the text as UTF-8 without encoding.
+     * @param text The text to be calculated. (NotNull)
+     * @return The length of bytes as UTF-8.
+     */
+    public static long calculateUtf8Length(CharSequence text) {
+        final int charLength = text.length();
+        long byteLength = 0;
+        for (int i = 0; i < charLength; i++) {
+            final char ch = text.charAt(i);
+            if (ch < 0x80) {
+                ++byteLength;
+            } else if (ch < 0x800) {
+                byteLength += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < charLength && Character.isLowSurrogate(text.charAt(i + 1))) {
+                byteLength += 4; // supplementary character
+                ++i;
+            } else if (Character.isSurrogate(ch)) {
+                ++byteLength; // unpaired surrogate is replaced with '?' by encoder
+            } else {
+                byteLength += 3;
+            }
+        }
+        return byteLength;
+    }
+
+    // ===================================================================================
+    //                                                                         Body Writer
+    //                                                                         ===========
+    @FunctionalInterface
+    public static interface BodyWriter {
+
+        /**
+         * @param out The output stream of request body, should not be closed here. (NotNull)
+         * @throws IOException When it fails to write.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    // ===================================================================================
+    //                                                                         HTTP Entity
+    //                                                                         ===========
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (outStream == null) {
+            throw new IllegalArgumentException("The argument 'outStream' should not be null.");
+        }
+        bodyWriter.write(outStream);
+        outStream.flush();
+    }
+
+    @Override
+    public InputStream getContent() throws IOException { // basically for e.g. mock client, not used by real client
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(contentLength > 0 ? (int) Math.min(contentLength, 8192) : 8192);
+        writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false; // not from input stream so always writable
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The table-driven percent-encoder of URL component by RFC 3986, not form-encoding (so space is %20). <br>
+ * The encoded value is written into the URL builder directly, and already-safe value is appended as it is.
+ * <pre>
+ * PATH_SEGMENT: unreserved and ':', '@' are safe, e.g. "my/s ti-c" to "my%2Fs%20ti-c"
+ * QUERY_COMPONENT: unreserved and ':', '@', '/', '?' are safe, e.g. "a+b&amp;c" to "a%2Bb%26c"
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class UrlPercentEncoder {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String UNRESERVED = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-._~";
+    protected static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /** The encoder for path segment, e.g. path variable, slash is encoded. */
+    public static final UrlPercentEncoder PATH_SEGMENT = new UrlPercentEncoder(UNRESERVED + ":@");
+
+    /** The encoder for name or value of query parameter, '&amp;', '=' and '+' are encoded. */
+    public static final UrlPercentEncoder QUERY_COMPONENT = new UrlPercentEncoder(UNRESERVED + ":@/?");
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final boolean[] safeTable = new boolean[128]; // ASCII only, others are always encoded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected UrlPercentEncoder(String safeChars) {
+        for (int i = 0; i < safeChars.length(); i++) {
+            safeTable[safeChars.charAt(i)] = true;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                              Encode
+    //                                                                              ======
+    /**
+     * @param value The plain value to be encoded. (NotNull)
+     * @param charset The charset of the bytes to be percent-encoded. (NotNull)
+     * @return The encoded value, the same instance if no needs to encode. (NotNull)
+     */
+    public String encode(String value, Charset charset) {
+        final int firstUnsafe = findFirstUnsafe(value);
+        if (firstUnsafe < 0) { // fast path
+            return value;
+        }
+        final StringBuilder sb = new StringBuilder(value.length() + 16);
+        doEncode(sb, value, charset, firstUnsafe);
+        return sb.toString();
+    }
+
+    /**
+     * @param sb The builder of URL that the encoded value is appended to. (NotNull)
+     * @param value The plain value to be encoded. (NotNull)
+     * @param charset The charset of the bytes to be percent-encoded. (NotNull)
+     */
+    public void encode(StringBuilder sb, String value, Charset charset) {
+        final int firstUnsafe = findFirstUnsafe(value);
+        if (firstUnsafe < 0) { // fast path
+            sb.append(value);
+            return;
+        }
+        doEncode(sb, value, charset, firstUnsafe);
+    }
+
+    protected int findFirstUnsafe(String value) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (!isSafe(value.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    protected boolean isSafe(int ch) {
+        return ch < 128 && safeTable[ch];
+    }
+
+    protected void doEncode(StringBuilder sb, String value, Charset charset, int firstUnsafe) {
+        sb.append(value, 0, firstUnsafe);
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            encodeAsUtf8(sb, value, firstUnsafe);
+        } else { // e.g. Shift_JIS
+            encodeByCharset(sb, value, charset, firstUnsafe);
+        }
+    }
+
+    protected void encodeByCharset(StringBuilder sb, String value, Charset charset, int beginIndex) {
+        final int length = value.length();
+        int index = beginIndex;
+        while (index < length) {
+            final char ch = value.charAt(index);
+            if (isSafe(ch)) {
+                sb.append(ch);
+                ++index;
+                continue;
+            }
+            int runEnd = index + 1; // unsafe run, all bytes are escaped even if ASCII-like trail byte
+            while (runEnd < length && !isSafe(value.charAt(runEnd))) {
+                ++runEnd;
+            }
+            for (byte bt : value.substring(index, runEnd).getBytes(charset)) {
+                appendEscaped(sb, bt & 0xFF);
+            }
+            index = runEnd;
+        }
+    }
+
+    protected void encodeAsUtf8(StringBuilder sb, String value, int beginIndex) { // no byte array
+        final int length = value.length();
+        for (int i = beginIndex; i < length; i++) {
+            final char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (safeTable[ch]) {
+                    sb.append(ch);
+                } else {
+                    appendEscaped(sb, ch);
+                }
+            } else if (ch < 0x800) {
+                appendEscaped(sb, 0xC0 | (ch >> 6));
+                appendEscaped(sb, 0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                appendEscaped(sb, 0xF0 | (codePoint >> 18));
+                appendEscaped(sb, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendEscaped(sb, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendEscaped(sb, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(ch)) { // broken pair, replaced as String.getBytes()
+                if (safeTable['?']) {
+                    sb.append('?');
+                } else {
+                    appendEscaped(sb, '?');
+                }
+            } else {
+                appendEscaped(sb, 0xE0 | (ch >> 12));
+                appendEscaped(sb, 0x80 | ((ch >> 6) & 0x3F));
+                appendEscaped(sb, 0x80 | (ch & 0x3F));
+            }
+        }
+    }
+
+    protected void appendEscaped(StringBuilder sb, int unsigned) {
+        sb.append('%').append(HEX_DIGITS[(unsigned >> 4) & 0x0F]).append(HEX_DIGITS[unsigned & 0x0F]);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.buffering;
+
+import java.nio.file.Path;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The option of response size, max size and buffering to disk for large body.
+ * <pre>
+ * rule.limitResponseSize(op -&gt; op.maxBytes(50_000_000L)); // fails if over 50MB
+ * rule.limitResponseSize(op -&gt; op.maxBytes(200_000_000L).spillToDiskOver(4_000_000L)); // temp file if over 4MB
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ResponseSizeOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected long maxBytes = Long.MAX_VALUE; // no limit as default
+    protected long spillThresholdBytes = Long.MAX_VALUE; // no spill as default
+    protected Path spillDirectory; // null allowed, default temp directory if null
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param maxBytes The max bytes of response body (after decompression), fails fast if over. (PositiveOnly)
+     * @return this. (NotNull)
+     */
+    public ResponseSizeOption maxBytes(long maxBytes) {
+        if (maxBytes <= 0L) {
+            throw new IllegalArgumentException("The argument 'maxBytes' should be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * Buffer the response body over the threshold to temp file instead of heap. <br>
+     * The spilled body is handed to streaming receiver as file stream, not string,
+     * so it fails as too large for string receiver. (failure response is handled by the prefix of the body)
+     * @param spillThresholdBytes The bytes of response body to be buffered to temp file instead of heap. (PositiveOnly)
+     * @return this. (NotNull)
+     */
+    public ResponseSizeOption spillToDiskOver(long spillThresholdBytes) {
+        if (spillThresholdBytes <= 0L) {
+            throw new IllegalArgumentException("The argument 'spillThresholdBytes' should be positive: " + spillThresholdBytes);
+        }
+        this.spillThresholdBytes = spillThresholdBytes;
+        return this;
+    }
+
+    /**
+     * @param spillDirectory The directory for temp file of spilled body. (NotNull)
+     * @return this. (NotNull)
+     */
+    public ResponseSizeOption spillDirectory(Path spillDirectory) {
+        if (spillDirectory == null) {
+            throw new IllegalArgumentException("The argument 'spillDirectory' should not be null.");
+        }
+        this.spillDirectory = spillDirectory;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                           Framework
+    //                                                                           =========
+    /**
+     * @return The new-created option that has the same settings, for one request. (NotNull)
+     */
+    public ResponseSizeOption xcopyForRequest() { // for framework, e.g. overlay of default rule template
+        final ResponseSizeOption copied = newResponseSizeOption();
+        copied.maxBytes = maxBytes;
+        copied.spillThresholdBytes = spillThresholdBytes;
+        copied.spillDirectory = spillDirectory;
+        return copied;
+    }
+
+    protected ResponseSizeOption newResponseSizeOption() {
+        return new ResponseSizeOption();
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    public boolean isOverMax(long bytes) {
+        return bytes > maxBytes;
+    }
+
+    public boolean isLimited() {
+        return maxBytes < Long.MAX_VALUE;
+    }
+
+    public boolean isSpillable() {
+        return spillThresholdBytes < Long.MAX_VALUE;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final String maxExp = isLimited() ? maxBytes + "bytes" : "unlimited";
+        final String spillExp = isSpillable() ? spillThresholdBytes + "bytes" : "none";
+        return "responseSize:{max=" + maxExp + ", spill=" + spillExp + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getSpillThresholdBytes() {
+        return spillThresholdBytes;
+    }
+
+    public OptionalThing<Path> getSpillDirectory() {
+        return OptionalThing.ofNullable(spillDirectory, () -> {
+            throw new IllegalStateException("Not found the spill directory: " + toString());
+        });
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.buffering;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.LongFunction;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.dbflute.remoteapi.http.ByteCountingInputStream;
+
+/**
+ * The HTTP entity that fails when read bytes exceed the max size, while streaming. <br>
+ * The failure is runtime exception provided by the framework, so it is not treated as I/O error.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class SizeLimitedHttpEntity extends HttpEntityWrapper {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final long maxBytes;
+    protected final LongFunction<RuntimeException> exceededExceptionProvider; // not null, argument is read bytes
+    protected ByteCountingInputStream limitedStream; // null allowed until reading
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param wrappedEntity The entity of response body. (NotNull)
+     * @param maxBytes The max bytes of the body. (PositiveOnly)
+     * @param exceededExceptionProvider The provider of exception when exceeded, argument is read bytes. (NotNull)
+     */
+    public SizeLimitedHttpEntity(HttpEntity wrappedEntity, long maxBytes, LongFunction<RuntimeException> exceededExceptionProvider) {
+        super(wrappedEntity);
+        if (exceededExceptionProvider == null) {
+            throw new IllegalArgumentException("The argument 'exceededExceptionProvider' should not be null.");
+        }
+        this.maxBytes = maxBytes;
+        this.exceededExceptionProvider = exceededExceptionProvider;
+    }
+
+    // ===================================================================================
+    //                                                                         HTTP Entity
+    //                                                                         ===========
+    @Override
+    public InputStream getContent() throws IOException {
+        if (limitedStream == null) { // streaming, only once
+            limitedStream = new ByteCountingInputStream(wrappedEntity.getContent()) {
+                @Override
+                protected void countBytes(long readBytes) throws IOException {
+                    super.countBytes(readBytes);
+                    if (byteCount > maxBytes) { // fail fast before buffering the rest
+                        throw exceededExceptionProvider.apply(byteCount);
+                    }
+                }
+            };
+        }
+        return limitedStream;
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (outStream == null) {
+            throw new IllegalArgumentException("The argument 'outStream' should not be null.");
+        }
+        try (InputStream ins = getContent()) {
+            ins.transferTo(outStream);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "sizeLimitedEntity:{max=" + maxBytes + ", read=" + (limitedStream != null ? limitedStream.getByteCount() : 0L) + "}";
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.buffering;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+
+/**
+ * The buffer of response body that spills to temp file when the body is over threshold. <br>
+ * Small body is kept as bytes on memory, and large body is transferred to file channel without heap buffers.
+ * The spilled body is not decoded to string here, it is read as file stream, so heap is kept small.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class SpillableBodyBuffer {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String SPILL_FILE_PREFIX = "remoteapi-body-";
+    protected static final long TRANSFER_CHUNK_BYTES = 1024L * 1024L; // per transfer call
+    protected static final int MAX_ARRAY_BYTES = Integer.MAX_VALUE - 8; // VM limit of array
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final long spillThresholdBytes; // positive
+    protected final Path spillDirectory; // null allowed, default temp directory if null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param spillThresholdBytes The bytes of body to be spilled to temp file. (PositiveOnly)
+     * @param spillDirectory The directory for temp file. (NullAllowed: default temp directory)
+     */
+    public SpillableBodyBuffer(long spillThresholdBytes, Path spillDirectory) {
+        if (spillThresholdBytes <= 0L) {
+            throw new IllegalArgumentException("The argument 'spillThresholdBytes' should be positive: " + spillThresholdBytes);
+        }
+        this.spillThresholdBytes = spillThresholdBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    // ===================================================================================
+    //                                                                       Buffer Entity
+    //                                                                       =============
+    /**
+     * Read all the content of the entity, spilling to temp file if over threshold.
+     * @param entity The entity of response body, its content is closed here. (NotNull)
+     * @return The buffered entity, bytes on memory or SpilledHttpEntity if over threshold. (NotNull)
+     * @throws IOException When it fails to read the content or to use temp file.
+     */
+    public HttpEntity buffer(HttpEntity entity) throws IOException {
+        if (entity == null) {
+            throw new IllegalArgumentException("The argument 'entity' should not be null.");
+        }
+        try (InputStream content = entity.getContent()) {
+            if (content == null) { // no body
+                return entity;
+            }
+            final long contentLength = entity.getContentLength(); // minus if unknown
+            if (contentLength >= 0L && contentLength < spillThresholdBytes) { // small, so on memory directly
+                return toMemoryEntity(entity, content.readAllBytes());
+            }
+            if (contentLength >= 0L) { // known as large
+                return spill(entity, content, new byte[0]);
+            }
+            final int headLength = (int) Math.min(spillThresholdBytes, MAX_ARRAY_BYTES);
+            final byte[] head = content.readNBytes(headLength); // unknown length so read until threshold
+            if (head.length < headLength) { // reached end of stream under threshold
+                return toMemoryEntity(entity, head);
+            }
+            return spill(entity, content, head);
+        }
+    }
+
+    protected HttpEntity toMemoryEntity(HttpEntity entity, byte[] bytes) {
+        final ByteArrayEntity memoryEntity = new ByteArrayEntity(bytes);
+        memoryEntity.setContentType(entity.getContentType()); // for charset
+        memoryEntity.setContentEncoding(entity.getContentEncoding());
+        return memoryEntity;
+    }
+
+    protected SpilledHttpEntity spill(HttpEntity entity, InputStream content, byte[] head) throws IOException {
+        final Path spillFile = createSpillFile();
+        try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.WRITE)) {
+            final ByteBuffer headBuffer = ByteBuffer.wrap(head);
+            while (headBuffer.hasRemaining()) {
+                channel.write(headBuffer);
+            }
+            long position = head.length;
+            final ReadableByteChannel source = Channels.newChannel(content); // not closed, content is closed by caller
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_BYTES)) > 0L) {
+                position += transferred;
+            }
+            return new SpilledHttpEntity(spillFile, position, entity.getContentType());
+        } catch (IOException | RuntimeException e) { // e.g. too large exception while reading
+            Files.deleteIfExists(spillFile);
+            throw e;
+        }
+    }
+
+    protected Path createSpillFile() throws IOException {
+        if (spillDirectory != null) {
+            return Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, ".tmp");
+        } else {
+            return Files.createTempFile(SPILL_FILE_PREFIX, ".tmp");
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "spillableBuffer:{threshold=" + spillThresholdBytes + ", dir=" + spillDirectory + "}";
+    }
+}
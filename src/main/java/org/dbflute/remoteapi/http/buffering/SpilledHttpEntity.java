@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.buffering;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.http.Header;
+import org.apache.http.entity.AbstractHttpEntity;
+
+/**
+ * The HTTP entity of response body spilled to temp file, read as file stream only once. <br>
+ * The temp file is deleted when the content is closed, or by discard() if it is not read.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class SpilledHttpEntity extends AbstractHttpEntity {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Path spillFile; // not null
+    protected final long contentLength; // zero or positive, spilled bytes
+    protected boolean consumed; // true after getContent() or discard()
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param spillFile The temp file that has the body. (NotNull)
+     * @param contentLength The bytes of the spilled body. (ZeroAllowed)
+     * @param contentType The header of content type from original entity. (NullAllowed)
+     */
+    public SpilledHttpEntity(Path spillFile, long contentLength, Header contentType) {
+        if (spillFile == null) {
+            throw new IllegalArgumentException("The argument 'spillFile' should not be null.");
+        }
+        this.spillFile = spillFile;
+        this.contentLength = contentLength;
+        setContentType(contentType);
+    }
+
+    // ===================================================================================
+    //                                                                         HTTP Entity
+    //                                                                         ===========
+    @Override
+    public InputStream getContent() throws IOException {
+        if (consumed) {
+            throw new IllegalStateException("The spilled body has already been read or discarded: " + toString());
+        }
+        consumed = true;
+        return Files.newInputStream(spillFile, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (outStream == null) {
+            throw new IllegalArgumentException("The argument 'outStream' should not be null.");
+        }
+        try (InputStream ins = getContent()) {
+            ins.transferTo(outStream);
+        }
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return false; // deleted after reading
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return !consumed;
+    }
+
+    /**
+     * Delete the temp file without reading, e.g. when the body is not used by failure.
+     * @throws IOException When it fails to delete the temp file.
+     */
+    public void discard() throws IOException {
+        consumed = true;
+        Files.deleteIfExists(spillFile);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "spilledEntity:{" + contentLength + "bytes, " + spillFile + ", consumed=" + consumed + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Path getSpillFile() {
+        return spillFile;
+    }
+}
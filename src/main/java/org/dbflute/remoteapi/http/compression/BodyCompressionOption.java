@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.compression;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The option of HTTP body compression, request body and response body. <br>
+ * Request body is compressed only if its size is over threshold (or unknown),
+ * and response body is decompressed while reading, counting compressed and decompressed bytes.
+ * <pre>
+ * rule.compressBody(op -&gt; {}); // gzip over 2KB, accepting gzip and deflate response
+ * rule.compressBody(op -&gt; op.compressRequestBy(CompressionEncoding.DEFLATE).thresholdBytes(8192L));
+ * rule.compressBody(op -&gt; op.noRequestCompression()); // only response
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class BodyCompressionOption {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final long DEFAULT_THRESHOLD_BYTES = 2048L; // small body is not worth compressing
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected CompressionEncoding requestEncoding = CompressionEncoding.GZIP; // null allowed, no compression if null
+    protected long thresholdBytes = DEFAULT_THRESHOLD_BYTES;
+    protected List<CompressionEncoding> acceptEncodingList = // not null, read-only
+            Collections.unmodifiableList(Arrays.asList(CompressionEncoding.values()));
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * @param requestEncoding The encoding to compress request body. (NotNull)
+     * @return this. (NotNull)
+     */
+    public BodyCompressionOption compressRequestBy(CompressionEncoding requestEncoding) {
+        if (requestEncoding == null) {
+            throw new IllegalArgumentException("The argument 'requestEncoding' should not be null.");
+        }
+        this.requestEncoding = requestEncoding;
+        return this;
+    }
+
+    /**
+     * Send request body as plain, only response compression is used.
+     * @return this. (NotNull)
+     */
+    public BodyCompressionOption noRequestCompression() {
+        this.requestEncoding = null;
+        return this;
+    }
+
+    /**
+     * @param thresholdBytes The minimum bytes of request body to be compressed, unknown length is always compressed. (ZeroAllowed)
+     * @return this. (NotNull)
+     */
+    public BodyCompressionOption thresholdBytes(long thresholdBytes) {
+        if (thresholdBytes < 0L) {
+            throw new IllegalArgumentException("The argument 'thresholdBytes' should not be minus: " + thresholdBytes);
+        }
+        this.thresholdBytes = thresholdBytes;
+        return this;
+    }
+
+    /**
+     * @param acceptEncodings The encodings accepted for response body, in order of preference. (NotNull, NotEmpty)
+     * @return this. (NotNull)
+     */
+    public BodyCompressionOption acceptEncoding(CompressionEncoding... acceptEncodings) {
+        if (acceptEncodings == null || acceptEncodings.length == 0) {
+            throw new IllegalArgumentException("The argument 'acceptEncodings' should not be null or empty.");
+        }
+        this.acceptEncodingList = Collections.unmodifiableList(Arrays.asList(acceptEncodings.clone()));
+        return this;
+    }
+
+    /**
+     * Receive response body as plain (identity), no Accept-Encoding of compression.
+     * @return this. (NotNull)
+     */
+    public BodyCompressionOption noResponseCompression() {
+        this.acceptEncodingList = Collections.emptyList();
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                           Framework
+    //                                                                           =========
+    /**
+     * @return The new-created option that has the same settings, for one request. (NotNull)
+     */
+    public BodyCompressionOption xcopyForRequest() { // for framework, e.g. overlay of default rule template
+        final BodyCompressionOption copied = newBodyCompressionOption();
+        copied.requestEncoding = requestEncoding;
+        copied.thresholdBytes = thresholdBytes;
+        copied.acceptEncodingList = acceptEncodingList; // read-only, replaced when changed
+        return copied;
+    }
+
+    protected BodyCompressionOption newBodyCompressionOption() {
+        return new BodyCompressionOption();
+    }
+
+    // ===================================================================================
+    //                                                                           Determine
+    //                                                                           =========
+    /**
+     * @param contentLength The length of request body, minus if unknown.
+     * @return Should the request body be compressed?
+     */
+    public boolean isRequestCompressionTarget(long contentLength) {
+        return requestEncoding != null && (contentLength < 0L || contentLength >= thresholdBytes);
+    }
+
+    public boolean isAcceptedEncoding(CompressionEncoding encoding) {
+        return acceptEncodingList.contains(encoding);
+    }
+
+    /**
+     * @return The value of Accept-Encoding header. (NullAllowed: when no response compression)
+     */
+    public String buildAcceptEncodingValue() {
+        if (acceptEncodingList.isEmpty()) {
+            return null;
+        }
+        return acceptEncodingList.stream().map(encoding -> encoding.code()).collect(Collectors.joining(", "));
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final String requestExp = requestEncoding != null ? requestEncoding.code() + " over " + thresholdBytes + "bytes" : "none";
+        return "compression:{request=" + requestExp + ", accept=" + acceptEncodingList + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public CompressionEncoding getRequestEncoding() { // null allowed
+        return requestEncoding;
+    }
+
+    public long getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    public List<CompressionEncoding> getAcceptEncodingList() {
+        return acceptEncodingList;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HTTP;
+
+/**
+ * The HTTP entity that compresses the wrapped entity while writing, sent as chunked. <br>
+ * The Content-Encoding header is set from this entity by HTTP client.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class CompressingHttpEntity extends HttpEntityWrapper {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final CompressionEncoding encoding; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param wrappedEntity The entity of plain body. (NotNull)
+     * @param encoding The encoding of compression. (NotNull)
+     */
+    public CompressingHttpEntity(HttpEntity wrappedEntity, CompressionEncoding encoding) {
+        super(wrappedEntity);
+        if (encoding == null) {
+            throw new IllegalArgumentException("The argument 'encoding' should not be null.");
+        }
+        this.encoding = encoding;
+    }
+
+    // ===================================================================================
+    //                                                                         HTTP Entity
+    //                                                                         ===========
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (outStream == null) {
+            throw new IllegalArgumentException("The argument 'outStream' should not be null.");
+        }
+        final OutputStream compressing = encoding.compress(outStream);
+        wrappedEntity.writeTo(compressing);
+        compressing.close(); // finishes compression, underlying stream is e.g. chunked stream so no problem
+    }
+
+    @Override
+    public InputStream getContent() throws IOException { // basically for e.g. mock client, not used by real client
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return new BasicHeader(HTTP.CONTENT_ENCODING, encoding.code());
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1L; // unknown until compressed
+    }
+
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "compressingEntity:{" + encoding.code() + ", " + wrappedEntity + "}";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.client.entity.DeflateInputStream;
+
+/**
+ * The encoding of HTTP body compression, as Content-Encoding.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public enum CompressionEncoding {
+
+    GZIP("gzip") {
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, COMPRESSION_BUFFER_SIZE);
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new DeflaterOutputStream(out); // zlib format as HTTP deflate
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) throws IOException {
+            return new DeflateInputStream(in); // accepts also raw deflate sent by some servers
+        }
+    };
+
+    protected static final int COMPRESSION_BUFFER_SIZE = 8192;
+
+    private final String code;
+
+    private CompressionEncoding(String code) {
+        this.code = code;
+    }
+
+    /**
+     * @param out The output stream to be written compressed bytes. (NotNull)
+     * @return The new-created stream to write plain bytes, closing it finishes compression. (NotNull)
+     * @throws IOException When it fails to write e.g. header.
+     */
+    public abstract OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * @param in The input stream to read compressed bytes. (NotNull)
+     * @return The new-created stream to read plain bytes. (NotNull)
+     * @throws IOException When it fails to read e.g. header.
+     */
+    public abstract InputStream decompress(InputStream in) throws IOException;
+
+    /**
+     * @param code The code of encoding, e.g. value of Content-Encoding. (NullAllowed: returns null)
+     * @return The found encoding. (NullAllowed: when not found)
+     */
+    public static CompressionEncoding codeOf(String code) {
+        if (code == null) {
+            return null;
+        }
+        final String normalized = code.trim().toLowerCase();
+        if ("x-gzip".equals(normalized)) { // old alias
+            return GZIP;
+        }
+        for (CompressionEncoding encoding : values()) {
+            if (encoding.code.equals(normalized)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    public String code() {
+        return code;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.http.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.dbflute.remoteapi.http.ByteCountingInputStream;
+
+/**
+ * The HTTP entity that decompresses the wrapped entity while reading, counting bytes of both sides. <br>
+ * The content stream is created only once, so the entity can be read only once like the wrapped one.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class DecompressingHttpEntity extends HttpEntityWrapper {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final CompressionEncoding encoding; // not null
+    protected final Consumer<DecompressingHttpEntity> closedListener; // null allowed, e.g. for logging
+    protected ByteCountingInputStream compressedStream; // null allowed until reading
+    protected ByteCountingInputStream decompressedStream; // null allowed until reading
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param wrappedEntity The entity of compressed body. (NotNull)
+     * @param encoding The encoding of the compression. (NotNull)
+     * @param closedListener The listener called when the content is closed, e.g. for logging. (NullAllowed)
+     */
+    public DecompressingHttpEntity(HttpEntity wrappedEntity, CompressionEncoding encoding,
+            Consumer<DecompressingHttpEntity> closedListener) {
+        super(wrappedEntity);
+        if (encoding == null) {
+            throw new IllegalArgumentException("The argument 'encoding' should not be null.");
+        }
+        this.encoding = encoding;
+        this.closedListener = closedListener;
+    }
+
+    // ===================================================================================
+    //                                                                         HTTP Entity
+    //                                                                         ===========
+    @Override
+    public InputStream getContent() throws IOException {
+        if (decompressedStream == null) { // streaming, only once
+            compressedStream = new ByteCountingInputStream(wrappedEntity.getContent());
+            decompressedStream = new ByteCountingInputStream(encoding.decompress(compressedStream)) {
+                private boolean closed;
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        if (!closed && closedListener != null) {
+                            closed = true;
+                            closedListener.accept(DecompressingHttpEntity.this);
+                        }
+                    }
+                }
+            };
+        }
+        return decompressedStream;
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+        if (outStream == null) {
+            throw new IllegalArgumentException("The argument 'outStream' should not be null.");
+        }
+        try (InputStream ins = getContent()) {
+            ins.transferTo(outStream);
+        }
+    }
+
+    @Override
+    public Header getContentEncoding() {
+        return null; // already decompressed
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1L; // unknown until decompressed
+    }
+
+    // ===================================================================================
+    //                                                                          Accounting
+    //                                                                          ==========
+    /**
+     * @return The count of compressed bytes read from network until now.
+     */
+    public long getCompressedByteCount() {
+        return compressedStream != null ? compressedStream.getByteCount() : 0L;
+    }
+
+    /**
+     * @return The count of decompressed bytes read by application until now.
+     */
+    public long getDecompressedByteCount() {
+        return decompressedStream != null ? decompressedStream.getByteCount() : 0L;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "decompressingEntity:{" + encoding.code() + ", compressed=" + getCompressedByteCount() + ", decompressed="
+                + getDecompressedByteCount() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public CompressionEncoding getEncoding() {
+        return encoding;
+    }
+}
@@ -120,6 +120,25 @@ public class SendReceiveLogOption {
         enabled = true;
     }
 
+    /**
+     * @return The new-created option that has the same settings without kept data, for one request. (NotNull)
+     */
+    public SendReceiveLogOption xcopyForRequest() { // for framework, e.g. overlay of default rule template
+        final SendReceiveLogOption copied = newSendReceiveLogOption();
+        copied.categoryName = categoryName;
+        copied.suppressResponseBody = suppressResponseBody;
+        copied.requestParameterFilter = requestParameterFilter;
+        copied.requestBodyFilter = requestBodyFilter;
+        copied.responseHeaderTargetSet = responseHeaderTargetSet != null ? new HashSet<String>(responseHeaderTargetSet) : null;
+        copied.responseBodyFilter = responseBodyFilter;
+        copied.enabled = enabled;
+        return copied;
+    }
+
+    protected SendReceiveLogOption newSendReceiveLogOption() {
+        return new SendReceiveLogOption();
+    }
+
     // ===================================================================================
     //                                                                        Small Helper
     //                                                                        ============
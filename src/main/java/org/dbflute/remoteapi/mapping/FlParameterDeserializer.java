@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+import org.dbflute.jdbc.Classification;
+
+/**
+ * The deserializer of parameter value, the reverse of FlParameterSerializer. <br>
+ * The value (e.g. string of response body) is converted to the property type by the mapping policy.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlParameterDeserializer {
+
+    // ===================================================================================
+    //                                                                     Parameter Value
+    //                                                                     ===============
+    /**
+     * @param value The plain value e.g. string, number. (NullAllowed: if null, returns null)
+     * @param propertyType The type of destination property. (NotNull)
+     * @param mappingPolicy The policy of mapping for e.g. date format. (NotNull)
+     * @return The value converted to the property type. (NullAllowed: when null value)
+     * @throws IllegalArgumentException When the value cannot be converted to the type.
+     */
+    public Object asDeserializedParameterValue(Object value, Class<?> propertyType, FlRemoteMappingPolicy mappingPolicy) {
+        if (value == null) {
+            return null;
+        }
+        final Class<?> wrapperType = toWrapperType(propertyType);
+        if (wrapperType.isInstance(value)) {
+            return value; // e.g. String to String, Long to Long
+        }
+        if (String.class.equals(wrapperType)) {
+            return value instanceof byte[] ? new String((byte[]) value, StandardCharsets.UTF_8) : value.toString();
+        } else if (Number.class.isAssignableFrom(wrapperType)) {
+            return handleDeserializedNumberParameter(value, wrapperType);
+        } else if (Boolean.class.equals(wrapperType)) {
+            return mappingPolicy.deserializeBoolean(value);
+        } else if (LocalDate.class.equals(wrapperType)) {
+            return handleDeserializedLocalDateParameter(value.toString(), mappingPolicy);
+        } else if (LocalDateTime.class.equals(wrapperType)) {
+            return handleDeserializedLocalDateTimeParameter(value.toString(), mappingPolicy);
+        } else if (LocalTime.class.equals(wrapperType)) {
+            return LocalTime.parse(value.toString());
+        } else if (Classification.class.isAssignableFrom(wrapperType)) {
+            return handleDeserializedClassificationParameter(value, wrapperType, mappingPolicy);
+        } else if (wrapperType.isEnum()) {
+            return handleDeserializedEnumParameter(value, wrapperType);
+        } else if (byte[].class.equals(wrapperType)) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        } else if (Character.class.equals(wrapperType)) {
+            final String str = value.toString();
+            if (str.length() != 1) {
+                throw new IllegalArgumentException("Cannot convert to character: " + str);
+            }
+            return str.charAt(0);
+        } else {
+            throw new IllegalArgumentException("Cannot convert the value to the type: type=" + propertyType + ", value=" + value);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                                Number
+    //                                                ------
+    protected Object handleDeserializedNumberParameter(Object value, Class<?> numberType) {
+        if (value instanceof Number) {
+            return convertNumber((Number) value, numberType);
+        }
+        final String exp = value.toString().trim();
+        if (Integer.class.equals(numberType)) {
+            return Integer.valueOf(exp);
+        } else if (Long.class.equals(numberType)) {
+            return Long.valueOf(exp);
+        } else if (BigDecimal.class.equals(numberType)) {
+            return new BigDecimal(exp);
+        } else if (Double.class.equals(numberType)) {
+            return Double.valueOf(exp);
+        } else if (Float.class.equals(numberType)) {
+            return Float.valueOf(exp);
+        } else if (Short.class.equals(numberType)) {
+            return Short.valueOf(exp);
+        } else if (Byte.class.equals(numberType)) {
+            return Byte.valueOf(exp);
+        } else if (BigInteger.class.equals(numberType)) {
+            return new BigInteger(exp);
+        } else {
+            throw new IllegalArgumentException("Unsupported number type: type=" + numberType + ", value=" + exp);
+        }
+    }
+
+    protected Object convertNumber(Number number, Class<?> numberType) {
+        if (Integer.class.equals(numberType)) {
+            return Math.toIntExact(number.longValue()); // overflow is error
+        } else if (Long.class.equals(numberType)) {
+            return number instanceof BigInteger ? ((BigInteger) number).longValueExact() : number.longValue();
+        } else if (BigDecimal.class.equals(numberType)) {
+            if (number instanceof BigInteger) {
+                return new BigDecimal((BigInteger) number);
+            }
+            final boolean floating = number instanceof Double || number instanceof Float;
+            return floating ? BigDecimal.valueOf(number.doubleValue()) : BigDecimal.valueOf(number.longValue());
+        } else if (Double.class.equals(numberType)) {
+            return number.doubleValue();
+        } else if (Float.class.equals(numberType)) {
+            return number.floatValue();
+        } else if (Short.class.equals(numberType)) {
+            return (short) Math.toIntExact(number.longValue());
+        } else if (Byte.class.equals(numberType)) {
+            return (byte) Math.toIntExact(number.longValue());
+        } else if (BigInteger.class.equals(numberType)) {
+            return BigInteger.valueOf(number.longValue());
+        } else {
+            throw new IllegalArgumentException("Unsupported number type: type=" + numberType + ", value=" + number);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                                  Date
+    //                                                  ----
+    protected LocalDate handleDeserializedLocalDateParameter(String exp, FlRemoteMappingPolicy mappingPolicy) {
+        final DateTimeFormatter formatter = mappingPolicy.getDateFormatter(); // null allowed
+        return LocalDate.parse(exp, formatter != null ? formatter : DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    protected LocalDateTime handleDeserializedLocalDateTimeParameter(String exp, FlRemoteMappingPolicy mappingPolicy) {
+        final DateTimeFormatter formatter = mappingPolicy.getDateTimeFormatter(); // null allowed
+        return LocalDateTime.parse(exp, formatter != null ? formatter : DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    // -----------------------------------------------------
+    //                                        Classification
+    //                                        --------------
+    protected Object handleDeserializedClassificationParameter(Object value, Class<?> clsType, FlRemoteMappingPolicy mappingPolicy) {
+        if (!clsType.isEnum()) {
+            throw new IllegalArgumentException("The classification type should be enum: " + clsType);
+        }
+        final String exp = value.toString();
+        final String clsPreferredItem = mappingPolicy.getClsPreferredItem(); // null allowed
+        for (Object constant : clsType.getEnumConstants()) {
+            final Classification cls = (Classification) constant;
+            if (cls.code().equals(exp)) {
+                return cls;
+            }
+            if (clsPreferredItem != null && exp.equals(cls.subItemMap().get(clsPreferredItem))) { // means Flg
+                return cls;
+            }
+        }
+        throw new IllegalArgumentException("Unknown classification code: type=" + clsType.getName() + ", code=" + exp);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected Object handleDeserializedEnumParameter(Object value, Class<?> enumType) {
+        return Enum.valueOf((Class<? extends Enum>) enumType, value.toString());
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected Class<?> toWrapperType(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (int.class.equals(type)) {
+            return Integer.class;
+        } else if (long.class.equals(type)) {
+            return Long.class;
+        } else if (boolean.class.equals(type)) {
+            return Boolean.class;
+        } else if (double.class.equals(type)) {
+            return Double.class;
+        } else if (float.class.equals(type)) {
+            return Float.class;
+        } else if (short.class.equals(type)) {
+            return Short.class;
+        } else if (byte.class.equals(type)) {
+            return Byte.class;
+        } else if (char.class.equals(type)) {
+            return Character.class;
+        } else {
+            return type; // e.g. void
+        }
+    }
+}
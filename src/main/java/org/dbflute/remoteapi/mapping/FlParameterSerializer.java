@@ -19,15 +19,68 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.dbflute.helper.beans.DfPropertyDesc;
 import org.dbflute.jdbc.Classification;
 
 /**
+ * The serializer of parameter for e.g. query and form. <br>
+ * Values of date, boolean and classification are serialized by the lookup tables prepared once per mapping policy,
+ * so it is thread-safe as long as the mapping policy is not changed after the first serialization.
  * @author jflute
  */
 public class FlParameterSerializer {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String NO_PREFERRED_ITEM = ""; // key of classification table when no preferred item
+
+    // classification type to (preferred item to serialized values by ordinal), class value does not block unloading
+    protected static final ClassValue<Map<String, String[]>> clsTableCache = new ClassValue<Map<String, String[]>>() {
+        @Override
+        protected Map<String, String[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // serializer class to whether doSerializeClassification() is overridden, the shared table cannot be used if overridden
+    protected static final ClassValue<Boolean> clsSerializationOverriddenCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlParameterSerializer.class, "doSerializeClassification", Classification.class,
+                    String.class);
+        }
+    };
+
+    // serializer class to whether the naming is identified by buildNamingCacheKey(),
+    // false if asSerializedParameterName() is overridden under the class that builds the key
+    protected static final ClassValue<Boolean> namingCacheKeyAvailableCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            final Class<?> keyDeclaringType = findNamingCacheKeyDeclaringType(type);
+            return !FlSerializationPlan.isOverridden(type, keyDeclaringType, "asSerializedParameterName", DfPropertyDesc.class,
+                    FlRemoteMappingPolicy.class);
+        }
+    };
+
+    protected static Class<?> findNamingCacheKeyDeclaringType(Class<?> type) {
+        for (Class<?> current = type; current != null && !current.equals(FlParameterSerializer.class); current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod("buildNamingCacheKey", FlRemoteMappingPolicy.class);
+                return current;
+            } catch (NoSuchMethodException continued) { // next super class
+            }
+        }
+        return FlParameterSerializer.class;
+    }
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected volatile PolicyTable policyTable; // null allowed until first use, for the last-used policy (basically one)
+
     // ===================================================================================
     //                                                                      Parameter Name
     //                                                                      ==============
@@ -35,6 +88,27 @@ public class FlParameterSerializer {
         return propertyDesc.getPropertyName();
     }
 
+    /**
+     * Build the key of parameter naming for cache of serialization plan. <br>
+     * Override this with asSerializedParameterName() if the names depend on other state (e.g. mapping policy),
+     * otherwise the plan is not shared because the key cannot identify the names. (see isNamingCacheKeyAvailable())
+     * @param mappingPolicy The policy of mapping. (NotNull)
+     * @return The key that identifies the naming, same key means same names. (NotNull)
+     */
+    public String buildNamingCacheKey(FlRemoteMappingPolicy mappingPolicy) {
+        return getClass().getName(); // as default, names depend only on serializer
+    }
+
+    /**
+     * Can the naming cache key identify the names of this serializer? <br>
+     * It is false if asSerializedParameterName() is overridden without buildNamingCacheKey() at the same or sub class,
+     * because the names may depend on e.g. the mapping policy that the key does not know.
+     * @return The determination, true if the serialization plan can be shared by the key.
+     */
+    public boolean isNamingCacheKeyAvailable() {
+        return namingCacheKeyAvailableCache.get(getClass());
+    }
+
     // ===================================================================================
     //                                                                     Parameter Value
     //                                                                     ===============
@@ -58,23 +132,44 @@ public class FlParameterSerializer {
     }
 
     protected String handleSerializedLocalDateParameter(LocalDate date, FlRemoteMappingPolicy mappingPolicy) {
-        final DateTimeFormatter formatter = mappingPolicy.getDateFormatter(); // null allowed
-        return date.format(formatter != null ? formatter : DateTimeFormatter.ISO_LOCAL_DATE);
+        return date.format(findPolicyTable(mappingPolicy).getDateFormatter());
     }
 
     protected String handleSerializedLocalDateTimeParameter(LocalDateTime dateTime, FlRemoteMappingPolicy mappingPolicy) {
-        final DateTimeFormatter formatter = mappingPolicy.getDateTimeFormatter(); // null allowed
-        return dateTime.format(formatter != null ? formatter : DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        return dateTime.format(findPolicyTable(mappingPolicy).getDateTimeFormatter());
     }
 
     protected String handleSerializedBooleanParameter(boolean boo, FlRemoteMappingPolicy mappingPolicy) {
-        return mappingPolicy.serializeBoolean(boo);
+        return findPolicyTable(mappingPolicy).serializeBoolean(boo);
     }
 
     protected String handleSerializedClassificationParameter(Classification cls, FlRemoteMappingPolicy mappingPolicy) {
+        final String clsPreferredItem = findPolicyTable(mappingPolicy).getClsPreferredItem(); // null allowed
+        if (cls instanceof Enum<?> && !clsSerializationOverriddenCache.get(getClass())) { // basically here, e.g. CDef
+            final Enum<?> clsEnum = (Enum<?>) cls;
+            return findClassificationTable(clsEnum.getDeclaringClass(), clsPreferredItem)[clsEnum.ordinal()];
+        }
+        return doSerializeClassification(cls, clsPreferredItem);
+    }
+
+    protected String[] findClassificationTable(Class<?> clsType, String clsPreferredItem) { // indexed by ordinal
+        final Map<String, String[]> preferredMap = clsTableCache.get(clsType);
+        final String preferredKey = clsPreferredItem != null ? clsPreferredItem : NO_PREFERRED_ITEM;
+        String[] table = preferredMap.get(preferredKey);
+        if (table == null) { // first time for the classification and preferred item
+            final Object[] constants = clsType.getEnumConstants();
+            table = new String[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                table[i] = doSerializeClassification((Classification) constants[i], clsPreferredItem);
+            }
+            preferredMap.putIfAbsent(preferredKey, table); // same table in race, no problem
+        }
+        return table;
+    }
+
+    protected String doSerializeClassification(Classification cls, String clsPreferredItem) {
         final String realValue;
         final Map<String, Object> map = cls.subItemMap();
-        final String clsPreferredItem = mappingPolicy.getClsPreferredItem(); // null allowed
         final String preferredValue = clsPreferredItem != null ? (String) map.get(clsPreferredItem) : null;
         if (preferredValue != null) { // means Flg
             realValue = preferredValue;
@@ -87,4 +182,64 @@ public class FlParameterSerializer {
     protected String handleSerializedStringParameter(Object value, FlRemoteMappingPolicy mappingPolicy) {
         return value.toString();
     }
+
+    // ===================================================================================
+    //                                                                        Policy Table
+    //                                                                        ============
+    protected PolicyTable findPolicyTable(FlRemoteMappingPolicy mappingPolicy) {
+        PolicyTable table = policyTable;
+        if (table == null || table.getMappingPolicy() != mappingPolicy) { // first or other policy
+            table = createPolicyTable(mappingPolicy);
+            policyTable = table;
+        }
+        return table;
+    }
+
+    protected PolicyTable createPolicyTable(FlRemoteMappingPolicy mappingPolicy) {
+        return new PolicyTable(mappingPolicy);
+    }
+
+    /**
+     * The lookup table of the mapping policy, resolved once and immutable.
+     */
+    protected static class PolicyTable {
+
+        protected final FlRemoteMappingPolicy mappingPolicy; // not null, compared by identity
+        protected final DateTimeFormatter dateFormatter; // not null, ISO if no policy formatter
+        protected final DateTimeFormatter dateTimeFormatter; // not null, ISO if no policy formatter
+        protected final String trueString; // null allowed: if policy returns null
+        protected final String falseString; // null allowed: if policy returns null
+        protected final String clsPreferredItem; // null allowed: unused
+
+        public PolicyTable(FlRemoteMappingPolicy mappingPolicy) {
+            this.mappingPolicy = mappingPolicy;
+            final DateTimeFormatter policyDateFormatter = mappingPolicy.getDateFormatter(); // null allowed
+            this.dateFormatter = policyDateFormatter != null ? policyDateFormatter : DateTimeFormatter.ISO_LOCAL_DATE;
+            final DateTimeFormatter policyDateTimeFormatter = mappingPolicy.getDateTimeFormatter(); // null allowed
+            this.dateTimeFormatter = policyDateTimeFormatter != null ? policyDateTimeFormatter : DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+            this.trueString = mappingPolicy.serializeBoolean(true);
+            this.falseString = mappingPolicy.serializeBoolean(false);
+            this.clsPreferredItem = mappingPolicy.getClsPreferredItem();
+        }
+
+        public String serializeBoolean(boolean boo) {
+            return boo ? trueString : falseString;
+        }
+
+        public FlRemoteMappingPolicy getMappingPolicy() {
+            return mappingPolicy;
+        }
+
+        public DateTimeFormatter getDateFormatter() {
+            return dateFormatter;
+        }
+
+        public DateTimeFormatter getDateTimeFormatter() {
+            return dateTimeFormatter;
+        }
+
+        public String getClsPreferredItem() {
+            return clsPreferredItem;
+        }
+    }
 }
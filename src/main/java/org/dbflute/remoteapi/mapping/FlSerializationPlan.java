@@ -0,0 +1,238 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.dbflute.helper.beans.DfBeanDesc;
+import org.dbflute.helper.beans.DfPropertyDesc;
+import org.dbflute.helper.beans.factory.DfBeanDescFactory;
+
+/**
+ * The plan of parameter serialization for the bean class, compiled once and cached per naming. <br>
+ * It has properties with method-handle getters and their parameter names resolved only once,
+ * so query and form senders need no bean description look-up and name resolution per request.
+ * Immutable (names are memorized lazily) and thread-safe.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlSerializationPlan {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int NAMING_CACHE_LIMIT = 32; // per class, basically one or two
+    protected static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    // bean class to (naming key to plan), class value does not block unloading of the class
+    protected static final ClassValue<Map<String, FlSerializationPlan>> planCache = new ClassValue<Map<String, FlSerializationPlan>>() {
+        @Override
+        protected Map<String, FlSerializationPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Class<?> beanType; // not null
+    protected final List<PropertyPlan> propertyPlanList; // not null, read-only, same order as bean description
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected FlSerializationPlan(Class<?> beanType, List<PropertyPlan> propertyPlanList) {
+        this.beanType = beanType;
+        this.propertyPlanList = Collections.unmodifiableList(propertyPlanList);
+    }
+
+    /**
+     * Find the plan from cache, or compile it if not cached yet.
+     * @param beanType The class of parameter bean. (NotNull)
+     * @param namingKey The key that identifies the parameter naming, same key should return same names. (NotNull)
+     * @param nameResolver The resolver of parameter name from property, called once per property. (NotNull)
+     * @return The plan of serialization for the bean class. (NotNull)
+     */
+    public static FlSerializationPlan of(Class<?> beanType, String namingKey, Function<DfPropertyDesc, String> nameResolver) {
+        if (beanType == null) {
+            throw new IllegalArgumentException("The argument 'beanType' should not be null.");
+        }
+        if (namingKey == null) {
+            throw new IllegalArgumentException("The argument 'namingKey' should not be null.");
+        }
+        final Map<String, FlSerializationPlan> namingMap = planCache.get(beanType);
+        final FlSerializationPlan cached = namingMap.get(namingKey);
+        if (cached != null) {
+            return cached;
+        }
+        final FlSerializationPlan compiled = compile(beanType, nameResolver);
+        if (namingMap.size() < NAMING_CACHE_LIMIT) { // roughly limited, over is no problem
+            namingMap.putIfAbsent(namingKey, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compile the plan without cache.
+     * @param beanType The class of parameter bean. (NotNull)
+     * @param nameResolver The resolver of parameter name from property, called once per property. (NotNull)
+     * @return The new-created plan of serialization. (NotNull)
+     */
+    public static FlSerializationPlan compile(Class<?> beanType, Function<DfPropertyDesc, String> nameResolver) {
+        if (beanType == null) {
+            throw new IllegalArgumentException("The argument 'beanType' should not be null.");
+        }
+        if (nameResolver == null) {
+            throw new IllegalArgumentException("The argument 'nameResolver' should not be null.");
+        }
+        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(beanType);
+        final List<PropertyPlan> propertyPlanList = new ArrayList<>(beanDesc.getPropertyDescSize());
+        for (String propertyName : beanDesc.getProppertyNameList()) {
+            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(propertyName);
+            propertyPlanList.add(new PropertyPlan(propertyDesc, prepareGetter(propertyDesc), nameResolver));
+        }
+        return new FlSerializationPlan(beanType, propertyPlanList);
+    }
+
+    protected static MethodHandle prepareGetter(DfPropertyDesc propertyDesc) { // null allowed: uses property description
+        try {
+            final Method readMethod = propertyDesc.getReadMethod(); // null allowed
+            if (readMethod != null) {
+                if (isPublicAccessible(readMethod.getDeclaringClass(), readMethod.getModifiers())) {
+                    return MethodHandles.publicLookup().unreflect(readMethod).asType(GETTER_TYPE);
+                }
+                return null; // e.g. getter of private class
+            }
+            final Field field = propertyDesc.isReadable() ? propertyDesc.getField() : null; // e.g. public field
+            if (field != null && isPublicAccessible(field.getDeclaringClass(), field.getModifiers())) {
+                return MethodHandles.publicLookup().unreflectGetter(field).asType(GETTER_TYPE);
+            }
+        } catch (IllegalAccessException | RuntimeException continued) { // e.g. module restriction, same as before
+        }
+        return null;
+    }
+
+    protected static boolean isPublicAccessible(Class<?> declaringClass, int modifiers) {
+        return Modifier.isPublic(modifiers) && Modifier.isPublic(declaringClass.getModifiers());
+    }
+
+    /**
+     * Is the method overridden by the type under the base type? e.g. naming that may depend on instance.
+     * @param type The type to be determined, basically sub-class of the base type. (NotNull)
+     * @param baseType The type that defines the method. (NotNull)
+     * @param methodName The name of the method. (NotNull)
+     * @param parameterTypes The parameter types of the method. (NotNull, EmptyAllowed)
+     * @return true if one of classes between the type and the base type declares the method.
+     */
+    public static boolean isOverridden(Class<?> type, Class<?> baseType, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> current = type; current != null && !current.equals(baseType); current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException continued) { // next super class
+            }
+        }
+        return false;
+    }
+
+    // ===================================================================================
+    //                                                                       Property Plan
+    //                                                                       =============
+    /**
+     * The plan of one property, getter and parameter name.
+     */
+    public static class PropertyPlan {
+
+        protected final DfPropertyDesc propertyDesc; // not null, for e.g. hook of sender
+        protected final MethodHandle getter; // null allowed: uses property description
+        protected final Function<DfPropertyDesc, String> nameResolver; // not null
+        protected volatile String parameterName; // null allowed until first use, lazy not to resolve unused name
+
+        public PropertyPlan(DfPropertyDesc propertyDesc, MethodHandle getter, Function<DfPropertyDesc, String> nameResolver) {
+            this.propertyDesc = propertyDesc;
+            this.getter = getter;
+            this.nameResolver = nameResolver;
+        }
+
+        /**
+         * @param bean The instance of parameter bean. (NotNull)
+         * @return The plain value of the property. (NullAllowed)
+         */
+        public Object getValue(Object bean) {
+            if (getter == null) {
+                return propertyDesc.getValue(bean);
+            }
+            try {
+                return getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) { // e.g. checked exception from getter
+                throw new IllegalStateException("Failed to get the property value: " + propertyDesc.getPropertyName(), e);
+            }
+        }
+
+        /**
+         * @return The serialized parameter name resolved only once. (NotNull)
+         */
+        public String getParameterName() {
+            String name = parameterName;
+            if (name == null) { // benign race, same name
+                name = nameResolver.apply(propertyDesc);
+                parameterName = name;
+            }
+            return name;
+        }
+
+        public DfPropertyDesc getPropertyDesc() {
+            return propertyDesc;
+        }
+
+        @Override
+        public String toString() {
+            return "propertyPlan:{" + propertyDesc.getPropertyName() + ", " + parameterName + ", handle=" + (getter != null) + "}";
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "serializationPlan:{" + beanType.getName() + ", properties=" + propertyPlanList.size() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Class<?> getBeanType() {
+        return beanType;
+    }
+
+    public List<PropertyPlan> getPropertyPlanList() {
+        return propertyPlanList;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping.cbor;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbflute.helper.beans.DfBeanDesc;
+import org.dbflute.helper.beans.DfPropertyDesc;
+import org.dbflute.helper.beans.factory.DfBeanDescFactory;
+import org.dbflute.jdbc.Classification;
+import org.dbflute.remoteapi.mapping.FlParameterDeserializer;
+import org.dbflute.remoteapi.mapping.FlParameterSerializer;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.util.DfReflectionUtil;
+
+/**
+ * The mapper between bean and CBOR, using the property model of DfBeanDesc. <br>
+ * Bean is written as map of property name (by parameter serializer) and value,
+ * and date, boolean and classification follow the mapping policy in the same way as form parameter.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class CborBeanMapper {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final FlRemoteMappingPolicy mappingPolicy; // not null
+    protected final FlParameterSerializer parameterSerializer; // not null, for e.g. name
+    protected final FlParameterDeserializer parameterDeserializer; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public CborBeanMapper(FlRemoteMappingPolicy mappingPolicy, FlParameterSerializer parameterSerializer,
+            FlParameterDeserializer parameterDeserializer) {
+        this.mappingPolicy = mappingPolicy;
+        this.parameterSerializer = parameterSerializer;
+        this.parameterDeserializer = parameterDeserializer;
+    }
+
+    // ===================================================================================
+    //                                                                               Write
+    //                                                                               =====
+    /**
+     * @param writer The writer of CBOR. (NotNull)
+     * @param value The value to be written e.g. bean, list, scalar. (NullAllowed: written as null)
+     * @throws IOException When it fails to write.
+     */
+    public void writeValue(CborWriter writer, Object value) throws IOException {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof String) {
+            writer.writeString((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writer.writeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            writeBoolean(writer, (Boolean) value);
+        } else if (value instanceof Double) {
+            writer.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            writer.writeFloat((Float) value);
+        } else if (value instanceof BigDecimal) {
+            writer.writeString(((BigDecimal) value).toPlainString()); // no precision loss
+        } else if (value instanceof BigInteger) {
+            final BigInteger bigInteger = (BigInteger) value;
+            if (bigInteger.bitLength() < 64) {
+                writer.writeLong(bigInteger.longValue());
+            } else {
+                writer.writeString(bigInteger.toString());
+            }
+        } else if (value instanceof LocalDate || value instanceof LocalDateTime || value instanceof Classification) {
+            writer.writeString(parameterSerializer.asSerializedParameterValue(value, mappingPolicy)); // by mapping policy
+        } else if (value instanceof Enum<?>) {
+            writer.writeString(((Enum<?>) value).name());
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof TemporalAccessor) {
+            writer.writeString(value.toString()); // e.g. LocalTime as ISO
+        } else if (value instanceof byte[]) {
+            writer.writeBytes((byte[]) value);
+        } else if (value instanceof Collection<?>) {
+            final Collection<?> collection = (Collection<?>) value;
+            writer.writeArrayHeader(collection.size());
+            for (Object element : collection) {
+                writeValue(writer, element);
+            }
+        } else if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            writer.writeArrayHeader(length);
+            for (int i = 0; i < length; i++) {
+                writeValue(writer, Array.get(value, i));
+            }
+        } else if (value instanceof Map<?, ?>) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            writer.writeMapHeader(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writer.writeString(String.valueOf(entry.getKey()));
+                writeValue(writer, entry.getValue());
+            }
+        } else {
+            writeBean(writer, value);
+        }
+    }
+
+    protected void writeBoolean(CborWriter writer, Boolean value) throws IOException {
+        final String exp = mappingPolicy.serializeBoolean(value); // null allowed
+        if ("true".equals(exp) || "false".equals(exp)) { // as default, native boolean
+            writer.writeBoolean(Boolean.parseBoolean(exp));
+        } else if (exp != null) { // e.g. "1", "0"
+            writer.writeString(exp);
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    protected void writeBean(CborWriter writer, Object bean) throws IOException {
+        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(bean.getClass());
+        final List<DfPropertyDesc> propertyList = new ArrayList<>(beanDesc.getPropertyDescSize());
+        for (String proppertyName : beanDesc.getProppertyNameList()) {
+            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(proppertyName);
+            if (propertyDesc.isReadable()) {
+                propertyList.add(propertyDesc);
+            }
+        }
+        writer.writeMapHeader(propertyList.size());
+        for (DfPropertyDesc propertyDesc : propertyList) {
+            writer.writeString(parameterSerializer.asSerializedParameterName(propertyDesc, mappingPolicy));
+            writeValue(writer, propertyDesc.getValue(bean));
+        }
+    }
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    /**
+     * @param value The generic value read by CborReader. (NullAllowed: returns null)
+     * @param targetType The type of destination e.g. bean class, List&lt;Bean&gt;. (NotNull)
+     * @return The value converted to the type. (NullAllowed: when null value)
+     */
+    public Object toTypedValue(Object value, Type targetType) {
+        if (value == null) {
+            return null;
+        }
+        final Class<?> rawType = toRawType(targetType);
+        if (Object.class.equals(rawType)) {
+            return value; // as generic value
+        }
+        if (Collection.class.isAssignableFrom(rawType)) {
+            final Collection<Object> collection = Set.class.isAssignableFrom(rawType) ? new LinkedHashSet<>() : new ArrayList<>();
+            final Type elementType = extractTypeArgument(targetType, 0);
+            for (Object element : asList(value, targetType)) {
+                collection.add(toTypedValue(element, elementType));
+            }
+            return collection;
+        } else if (rawType.isArray() && !byte[].class.equals(rawType)) {
+            final List<?> list = asList(value, targetType);
+            final Type componentType = targetType instanceof GenericArrayType ? ((GenericArrayType) targetType).getGenericComponentType()
+                    : rawType.getComponentType();
+            final Object array = Array.newInstance(rawType.getComponentType(), list.size());
+            for (int i = 0; i < list.size(); i++) {
+                Array.set(array, i, toTypedValue(list.get(i), componentType));
+            }
+            return array;
+        } else if (Map.class.isAssignableFrom(rawType)) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            final Type valueType = extractTypeArgument(targetType, 1);
+            for (Map.Entry<String, Object> entry : asMap(value, targetType).entrySet()) {
+                map.put(entry.getKey(), toTypedValue(entry.getValue(), valueType));
+            }
+            return map;
+        } else if (value instanceof Map<?, ?>) {
+            return toBean(asMap(value, targetType), rawType);
+        } else {
+            return parameterDeserializer.asDeserializedParameterValue(value, rawType, mappingPolicy);
+        }
+    }
+
+    protected Object toBean(Map<String, Object> map, Class<?> beanType) {
+        final Object bean = DfReflectionUtil.newInstance(beanType);
+        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(beanType);
+        for (String proppertyName : beanDesc.getProppertyNameList()) {
+            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(proppertyName);
+            if (!propertyDesc.isWritable()) {
+                continue;
+            }
+            final String name = parameterSerializer.asSerializedParameterName(propertyDesc, mappingPolicy);
+            if (!map.containsKey(name)) {
+                continue;
+            }
+            final Object propertyValue = toTypedValue(map.get(name), findGenericPropertyType(propertyDesc));
+            if (propertyValue == null && propertyDesc.getPropertyType().isPrimitive()) {
+                continue; // keep default value
+            }
+            propertyDesc.setValue(bean, propertyValue);
+        }
+        return bean;
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected Class<?> toRawType(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return toRawType(((ParameterizedType) type).getRawType());
+        } else if (type instanceof GenericArrayType) {
+            final Class<?> componentType = toRawType(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(componentType, 0).getClass();
+        } else { // e.g. type variable, wildcard
+            return Object.class;
+        }
+    }
+
+    protected Type extractTypeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            final Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < arguments.length) {
+                return arguments[index];
+            }
+        }
+        return Object.class; // e.g. raw type
+    }
+
+    protected Type findGenericPropertyType(DfPropertyDesc propertyDesc) {
+        final Field field = propertyDesc.getField(); // null allowed if non-field property
+        if (field != null) {
+            return field.getGenericType();
+        }
+        final Method writeMethod = propertyDesc.getWriteMethod(); // null allowed if field property
+        if (writeMethod != null) {
+            return writeMethod.getGenericParameterTypes()[0];
+        }
+        return propertyDesc.getPropertyType();
+    }
+
+    protected List<?> asList(Object value, Type targetType) {
+        if (!(value instanceof List<?>)) {
+            throw new IllegalArgumentException("The value should be array for the type: type=" + targetType + ", value=" + value);
+        }
+        return (List<?>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> asMap(Object value, Type targetType) {
+        if (!(value instanceof Map<?, ?>)) {
+            throw new IllegalArgumentException("The value should be map for the type: type=" + targetType + ", value=" + value);
+        }
+        return (Map<String, Object>) value; // keys are string by reader
+    }
+}
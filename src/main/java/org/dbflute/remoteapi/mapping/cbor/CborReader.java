@@ -0,0 +1,313 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping.cbor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The low-level reader of CBOR (RFC 8949) data items from the input stream. <br>
+ * Items are read as generic values: Long (or BigInteger if out of range), Double, Float, String, byte[],
+ * Boolean, null, List (array) and Map (key as string). Tags are skipped except bignum.
+ * Both definite and indefinite lengths are supported.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class CborReader {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final Object BREAK = new Object(); // marker of indefinite-length end
+    protected static final int INDEFINITE = 31;
+    protected static final int TAG_POSITIVE_BIGNUM = 2;
+    protected static final int TAG_NEGATIVE_BIGNUM = 3;
+    protected static final int DEFAULT_MAX_DEPTH = 512;
+    protected static final int INITIAL_CONTAINER_CAPACITY_LIMIT = 1024; // not to trust declared size
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final InputStream in; // not null, not closed here
+    protected final int maxDepth;
+    protected int depth;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public CborReader(InputStream in) {
+        this(in, DEFAULT_MAX_DEPTH);
+    }
+
+    public CborReader(InputStream in, int maxDepth) {
+        if (in == null) {
+            throw new IllegalArgumentException("The argument 'in' should not be null.");
+        }
+        this.in = in;
+        this.maxDepth = maxDepth;
+    }
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    /**
+     * Read the next data item.
+     * @return The generic value of the item. (NullAllowed: when null or undefined)
+     * @throws IOException When it fails to read or the data is broken.
+     */
+    public Object readValue() throws IOException {
+        final Object value = readItem(readInitial());
+        if (value == BREAK) {
+            throw new IOException("Unexpected break code outside indefinite-length item.");
+        }
+        return value;
+    }
+
+    /**
+     * @return true if no more data item exists.
+     * @throws IOException When it fails to read.
+     */
+    public boolean isEnd() throws IOException {
+        if (!in.markSupported()) {
+            throw new IllegalStateException("The input stream should support mark: " + in);
+        }
+        in.mark(1);
+        final int next = in.read();
+        in.reset();
+        return next < 0;
+    }
+
+    protected int readInitial() throws IOException {
+        final int initial = in.read();
+        if (initial < 0) {
+            throw new EOFException("Unexpected end of CBOR data.");
+        }
+        return initial;
+    }
+
+    protected Object readItem(int initial) throws IOException {
+        final int majorType = initial >>> 5;
+        final int info = initial & 0x1F;
+        switch (majorType) {
+        case CborWriter.MAJOR_UNSIGNED:
+            return toInteger(readArgument(info), /*negative*/false);
+        case CborWriter.MAJOR_NEGATIVE:
+            return toInteger(readArgument(info), /*negative*/true);
+        case CborWriter.MAJOR_BYTES:
+            return readByteString(majorType, info);
+        case CborWriter.MAJOR_TEXT:
+            return new String(readByteString(majorType, info), StandardCharsets.UTF_8);
+        case CborWriter.MAJOR_ARRAY:
+            return readArray(info);
+        case CborWriter.MAJOR_MAP:
+            return readMap(info);
+        case CborWriter.MAJOR_TAG:
+            return readTagged(readArgument(info));
+        default: // simple and float
+            return readSimple(info);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                               Integer
+    //                                               -------
+    protected Object toInteger(long argument, boolean negative) { // argument is unsigned 64 bits
+        if (argument >= 0L) {
+            return negative ? -1L - argument : argument;
+        }
+        final BigInteger unsigned = new BigInteger(Long.toUnsignedString(argument));
+        return negative ? BigInteger.valueOf(-1L).subtract(unsigned) : unsigned;
+    }
+
+    protected long readArgument(int info) throws IOException {
+        if (info < 24) {
+            return info;
+        }
+        switch (info) {
+        case 24:
+            return readByte();
+        case 25:
+            return (readByte() << 8) | readByte();
+        case 26:
+            return readInt() & 0xFFFFFFFFL;
+        case 27:
+            return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        default:
+            throw new IOException("Unsupported additional information of CBOR: " + info);
+        }
+    }
+
+    protected int readByte() throws IOException {
+        final int value = in.read();
+        if (value < 0) {
+            throw new EOFException("Unexpected end of CBOR data.");
+        }
+        return value;
+    }
+
+    protected int readInt() throws IOException {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    // -----------------------------------------------------
+    //                                           Byte String
+    //                                           -----------
+    protected byte[] readByteString(int majorType, int info) throws IOException {
+        if (info == INDEFINITE) { // chunks until break
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            while (true) {
+                final int chunkInitial = readInitial();
+                if (chunkInitial == 0xFF) {
+                    return out.toByteArray();
+                }
+                if ((chunkInitial >>> 5) != majorType) {
+                    throw new IOException("Unexpected chunk type in indefinite-length string: " + (chunkInitial >>> 5));
+                }
+                if ((chunkInitial & 0x1F) == INDEFINITE) { // chunk should be definite-length (RFC 8949), no recursion
+                    throw new IOException("Unexpected indefinite-length chunk in indefinite-length string.");
+                }
+                out.write(readByteString(majorType, chunkInitial & 0x1F));
+            }
+        }
+        final int length = toLength(readArgument(info));
+        final byte[] bytes = in.readNBytes(length); // grown per read, not allocated by declared length
+        if (bytes.length < length) {
+            throw new EOFException("Unexpected end of CBOR string: expected=" + length + ", actual=" + bytes.length);
+        }
+        return bytes;
+    }
+
+    protected int toLength(long argument) throws IOException {
+        if (argument < 0L || argument > Integer.MAX_VALUE) {
+            throw new IOException("Too large length of CBOR item: " + Long.toUnsignedString(argument));
+        }
+        return (int) argument;
+    }
+
+    // -----------------------------------------------------
+    //                                             Container
+    //                                             ---------
+    protected List<Object> readArray(int info) throws IOException {
+        enterContainer();
+        final List<Object> list;
+        if (info == INDEFINITE) {
+            list = new ArrayList<>();
+            Object element;
+            while ((element = readItem(readInitial())) != BREAK) {
+                list.add(element);
+            }
+        } else {
+            final int size = toLength(readArgument(info));
+            list = new ArrayList<>(Math.min(size, INITIAL_CONTAINER_CAPACITY_LIMIT));
+            for (int i = 0; i < size; i++) {
+                list.add(readValue());
+            }
+        }
+        --depth;
+        return list;
+    }
+
+    protected Map<String, Object> readMap(int info) throws IOException {
+        enterContainer();
+        final Map<String, Object> map;
+        if (info == INDEFINITE) {
+            map = new LinkedHashMap<>();
+            Object key;
+            while ((key = readItem(readInitial())) != BREAK) {
+                map.put(String.valueOf(key), readValue());
+            }
+        } else {
+            final int size = toLength(readArgument(info));
+            map = new LinkedHashMap<>(Math.min(size, INITIAL_CONTAINER_CAPACITY_LIMIT));
+            for (int i = 0; i < size; i++) {
+                final Object key = readValue();
+                map.put(String.valueOf(key), readValue()); // e.g. integer key as string
+            }
+        }
+        --depth;
+        return map;
+    }
+
+    protected void enterContainer() throws IOException {
+        if (++depth > maxDepth) {
+            throw new IOException("Too deep nesting of CBOR data: max=" + maxDepth);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                                Tagged
+    //                                                ------
+    protected Object readTagged(long tag) throws IOException {
+        enterContainer(); // nested tags are also counted, e.g. chain of tag bytes
+        final Object content = readValue();
+        --depth;
+        if ((tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) && content instanceof byte[]) {
+            final BigInteger unsigned = new BigInteger(1, (byte[]) content);
+            return tag == TAG_POSITIVE_BIGNUM ? unsigned : BigInteger.valueOf(-1L).subtract(unsigned);
+        }
+        return content; // e.g. date-time string, only content is used
+    }
+
+    // -----------------------------------------------------
+    //                                                Simple
+    //                                                ------
+    protected Object readSimple(int info) throws IOException {
+        switch (info) {
+        case 20:
+            return Boolean.FALSE;
+        case 21:
+            return Boolean.TRUE;
+        case 22: // null
+        case 23: // undefined
+            return null;
+        case 25:
+            return toHalfFloat((readByte() << 8) | readByte());
+        case 26:
+            return Float.intBitsToFloat(readInt());
+        case 27:
+            return Double.longBitsToDouble(((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL));
+        case INDEFINITE:
+            return BREAK;
+        default:
+            if (info == 24) { // simple value as next byte
+                readByte();
+            }
+            return null; // unassigned simple value is treated as null
+        }
+    }
+
+    protected Float toHalfFloat(int half) {
+        final int exponent = (half >>> 10) & 0x1F;
+        final int mantissa = half & 0x3FF;
+        final float value;
+        if (exponent == 0) {
+            value = mantissa * (float) Math.pow(2, -24); // subnormal
+        } else if (exponent == 31) {
+            value = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+        } else {
+            value = (float) Math.pow(2, exponent - 15) * (1 + mantissa / 1024f);
+        }
+        return (half & 0x8000) != 0 ? -value : value;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping.cbor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The low-level writer of CBOR (RFC 8949) data items into the output stream. <br>
+ * Only definite-length items are written, and the integer argument is always the shortest form.
+ * The output stream should be buffered because items are written per small bytes.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class CborWriter {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final int MAJOR_UNSIGNED = 0;
+    public static final int MAJOR_NEGATIVE = 1;
+    public static final int MAJOR_BYTES = 2;
+    public static final int MAJOR_TEXT = 3;
+    public static final int MAJOR_ARRAY = 4;
+    public static final int MAJOR_MAP = 5;
+    public static final int MAJOR_TAG = 6;
+    public static final int MAJOR_SIMPLE = 7;
+
+    protected static final int SIMPLE_FALSE = 0xF4;
+    protected static final int SIMPLE_TRUE = 0xF5;
+    protected static final int SIMPLE_NULL = 0xF6;
+    protected static final int FLOAT_32 = 0xFA;
+    protected static final int FLOAT_64 = 0xFB;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final OutputStream out; // not null, not closed here
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public CborWriter(OutputStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("The argument 'out' should not be null.");
+        }
+        this.out = out;
+    }
+
+    // ===================================================================================
+    //                                                                              Simple
+    //                                                                              ======
+    public void writeNull() throws IOException {
+        out.write(SIMPLE_NULL);
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        out.write(value ? SIMPLE_TRUE : SIMPLE_FALSE);
+    }
+
+    // ===================================================================================
+    //                                                                              Number
+    //                                                                              ======
+    public void writeLong(long value) throws IOException {
+        if (value >= 0L) {
+            writeTypeAndArgument(MAJOR_UNSIGNED, value);
+        } else {
+            writeTypeAndArgument(MAJOR_NEGATIVE, -1L - value); // -1 - n is not overflow even if min value
+        }
+    }
+
+    public void writeFloat(float value) throws IOException {
+        out.write(FLOAT_32);
+        writeInt(Float.floatToIntBits(value));
+    }
+
+    public void writeDouble(double value) throws IOException {
+        out.write(FLOAT_64);
+        final long bits = Double.doubleToLongBits(value);
+        writeInt((int) (bits >>> 32));
+        writeInt((int) bits);
+    }
+
+    // ===================================================================================
+    //                                                                        Text & Bytes
+    //                                                                        ============
+    public void writeString(String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeTypeAndArgument(MAJOR_TEXT, bytes.length);
+        out.write(bytes);
+    }
+
+    public void writeBytes(byte[] value) throws IOException {
+        writeTypeAndArgument(MAJOR_BYTES, value.length);
+        out.write(value);
+    }
+
+    // ===================================================================================
+    //                                                                           Container
+    //                                                                           =========
+    /**
+     * @param size The count of elements written after this.
+     * @throws IOException When it fails to write.
+     */
+    public void writeArrayHeader(int size) throws IOException {
+        writeTypeAndArgument(MAJOR_ARRAY, size);
+    }
+
+    /**
+     * @param size The count of key-value pairs written after this.
+     * @throws IOException When it fails to write.
+     */
+    public void writeMapHeader(int size) throws IOException {
+        writeTypeAndArgument(MAJOR_MAP, size);
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected void writeTypeAndArgument(int majorType, long argument) throws IOException { // argument is unsigned
+        final int initial = majorType << 5;
+        if (argument >= 0L && argument < 24L) {
+            out.write(initial | (int) argument);
+        } else if (argument >= 0L && argument <= 0xFFL) {
+            out.write(initial | 24);
+            out.write((int) argument);
+        } else if (argument >= 0L && argument <= 0xFFFFL) {
+            out.write(initial | 25);
+            out.write((int) (argument >>> 8));
+            out.write((int) argument);
+        } else if (argument >= 0L && argument <= 0xFFFFFFFFL) {
+            out.write(initial | 26);
+            writeInt((int) argument);
+        } else { // also minus as unsigned 64 bits
+            out.write(initial | 27);
+            writeInt((int) (argument >>> 32));
+            writeInt((int) argument);
+        }
+    }
+
+    protected void writeInt(int value) throws IOException { // big endian
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+}
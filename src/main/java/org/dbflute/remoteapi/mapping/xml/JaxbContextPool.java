@@ -0,0 +1,234 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping.xml;
+
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The pool of JAXB context and (un)marshallers for one type, cached per type. <br>
+ * The context is created only once (very heavy), and (un)marshallers are pooled because not thread-safe.
+ * XML is parsed by StAX with DTD and external entity disabled (XXE safe).
+ * <pre>
+ * SeaBean bean = JaxbContextPool.of(SeaBean.class).unmarshal(reader);
+ * JaxbContextPool.of(SeaBean.class).marshal(bean, out, charset); // wrapped if no XmlRootElement
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class JaxbContextPool {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int POOL_LIMIT = 16; // per type, basically concurrent requests
+
+    // class value does not block unloading of the class
+    protected static final ClassValue<JaxbContextPool> poolCache = new ClassValue<JaxbContextPool>() {
+        @Override
+        protected JaxbContextPool computeValue(Class<?> type) {
+            return new JaxbContextPool(type);
+        }
+    };
+
+    protected static final XMLInputFactory xmlInputFactory = createXmlInputFactory(); // thread-safe after configuration
+
+    protected static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false); // XXE
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try {
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        } catch (IllegalArgumentException continued) { // e.g. non-JDK implementation, already disabled
+        }
+        return factory;
+    }
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Class<?> type; // not null
+    protected final boolean rootElement; // true if XmlRootElement, else wrapped by JAXBElement when marshal
+    protected final Queue<Unmarshaller> unmarshallerPool = new ConcurrentLinkedQueue<>();
+    protected final Queue<Marshaller> marshallerPool = new ConcurrentLinkedQueue<>();
+    protected volatile JAXBContext context; // null allowed until first use, lazy-loaded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected JaxbContextPool(Class<?> type) {
+        this.type = type;
+        this.rootElement = type.isAnnotationPresent(XmlRootElement.class);
+    }
+
+    /**
+     * @param type The type of XML bean. (NotNull)
+     * @return The pool for the type, cached per type. (NotNull)
+     */
+    public static JaxbContextPool of(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("The argument 'type' should not be null.");
+        }
+        return poolCache.get(type);
+    }
+
+    // ===================================================================================
+    //                                                                           Unmarshal
+    //                                                                           =========
+    /**
+     * Unmarshal the XML as the type, the same as JAXB.unmarshal() (declared type, root element name is free).
+     * @param <RESULT> The type of XML bean.
+     * @param reader The reader of XML, not closed here. (NotNull)
+     * @return The unmarshalled bean. (NullAllowed: when e.g. nil)
+     */
+    @SuppressWarnings("unchecked")
+    public <RESULT> RESULT unmarshal(Reader reader) {
+        final Unmarshaller unmarshaller = borrowUnmarshaller();
+        XMLStreamReader xmlReader = null;
+        try {
+            xmlReader = xmlInputFactory.createXMLStreamReader(reader);
+            final JAXBElement<?> element = unmarshaller.unmarshal(xmlReader, type);
+            return (RESULT) element.getValue();
+        } catch (JAXBException | XMLStreamException e) {
+            throw new IllegalStateException("Failed to unmarshal the XML: type=" + type.getName(), e);
+        } finally {
+            closeQuietly(xmlReader);
+            giveBack(unmarshallerPool, unmarshaller); // broken state is reset by next unmarshal()
+        }
+    }
+
+    protected Unmarshaller borrowUnmarshaller() {
+        final Unmarshaller pooled = unmarshallerPool.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        try {
+            return prepareContext().createUnmarshaller();
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Failed to create the unmarshaller: type=" + type.getName(), e);
+        }
+    }
+
+    protected void closeQuietly(XMLStreamReader xmlReader) {
+        if (xmlReader != null) {
+            try {
+                xmlReader.close(); // underlying reader is not closed
+            } catch (XMLStreamException ignored) {}
+        }
+    }
+
+    // ===================================================================================
+    //                                                                             Marshal
+    //                                                                             =======
+    /**
+     * Marshal the bean as XML into the stream, wrapped by element of decapitalized class name if no XmlRootElement.
+     * @param bean The instance of the type. (NotNull)
+     * @param out The output stream of XML, not closed here. (NotNull)
+     * @param charset The charset of XML. (NotNull)
+     */
+    public void marshal(Object bean, OutputStream out, Charset charset) {
+        final Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, charset.name());
+            marshaller.marshal(prepareMarshalledObject(bean), out);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Failed to marshal the XML: type=" + type.getName(), e);
+        } finally {
+            giveBack(marshallerPool, marshaller);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected Object prepareMarshalledObject(Object bean) {
+        if (rootElement || bean instanceof JAXBElement) {
+            return bean;
+        }
+        return new JAXBElement(new QName(inferElementName(type)), type, bean); // same as JAXB.marshal()
+    }
+
+    protected String inferElementName(Class<?> type) { // same as Introspector.decapitalize()
+        final String simpleName = type.getSimpleName();
+        if (simpleName.length() > 1 && Character.isUpperCase(simpleName.charAt(1)) && Character.isUpperCase(simpleName.charAt(0))) {
+            return simpleName; // e.g. URL
+        }
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+
+    protected Marshaller borrowMarshaller() {
+        final Marshaller pooled = marshallerPool.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        try {
+            final Marshaller marshaller = prepareContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false); // compact for network
+            return marshaller;
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Failed to create the marshaller: type=" + type.getName(), e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                       Pool Handling
+    //                                                                       =============
+    protected <ELEMENT> void giveBack(Queue<ELEMENT> pool, ELEMENT element) {
+        if (pool.size() < POOL_LIMIT) { // roughly limited, over is no problem (garbage)
+            pool.offer(element);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                             Context
+    //                                                                             =======
+    protected JAXBContext prepareContext() throws JAXBException {
+        JAXBContext cached = context;
+        if (cached == null) {
+            synchronized (this) { // to create heavy context only once
+                cached = context;
+                if (cached == null) {
+                    cached = JAXBContext.newInstance(type);
+                    context = cached;
+                }
+            }
+        }
+        return cached;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "jaxbContextPool:{" + type.getName() + ", context=" + (context != null) + ", pooled=" + unmarshallerPool.size() + "/"
+                + marshallerPool.size() + "}";
+    }
+}
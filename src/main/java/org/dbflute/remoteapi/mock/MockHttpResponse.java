@@ -35,7 +35,7 @@ import org.apache.http.params.HttpParams;
 @SuppressWarnings("all")
 public class MockHttpResponse implements CloseableHttpResponse {
 
-    protected final HttpEntity httpEntity; // null allowed if no content
+    protected HttpEntity httpEntity; // null allowed if no content, wrapped by e.g. decompression
 
     protected Integer httpStatus;
 
@@ -151,7 +151,7 @@ public class MockHttpResponse implements CloseableHttpResponse {
 
     @Override
     public void setEntity(HttpEntity entity) {
-        throw new UnsupportedOperationException("not supported by mock.");
+        this.httpEntity = entity;
     }
 
     @Override
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.paging;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The iterator of pages from paged remote endpoint, prefetching next pages asynchronously. <br>
+ * The next page is requested as soon as the previous page arrives, up to the prefetch depth
+ * ahead of your consuming, so your process of page N overlaps the request of page N+1. <br>
+ * Not thread safe for consuming (one consumer), and close it if you stop in the middle.
+ * @param <CURSOR> The type of cursor for page, e.g. page number or cursor string.
+ * @param <PAGE> The type of page returned by the endpoint.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemotePagingIterator<CURSOR, PAGE> implements Iterator<PAGE>, AutoCloseable {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Function<CURSOR, PAGE> pageRequester; // not null
+    protected final BiFunction<CURSOR, PAGE, OptionalThing<CURSOR>> nextCursorProvider; // not null
+    protected final RemotePagingOption option; // not null
+    protected final Executor executor; // not null
+    protected final Deque<CompletableFuture<FetchedPage<CURSOR, PAGE>>> fetchingQueue = new ArrayDeque<>(); // head is next page
+    protected final CURSOR firstCursor; // not null
+    protected CompletableFuture<FetchedPage<CURSOR, PAGE>> tailFuture; // last requested page, null allowed before first request
+    protected boolean closed;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param firstCursor The cursor of first page, e.g. 1 as page number. (NotNull)
+     * @param pageRequester The requester of one page by the cursor. (NotNull)
+     * @param nextCursorProvider The provider of next cursor from the current cursor and page, empty if last page. (NotNull)
+     * @param option The option of paging. (NotNull)
+     * @param executor The executor for prefetching request. (NotNull)
+     */
+    public RemotePagingIterator(CURSOR firstCursor, Function<CURSOR, PAGE> pageRequester,
+            BiFunction<CURSOR, PAGE, OptionalThing<CURSOR>> nextCursorProvider, RemotePagingOption option, Executor executor) {
+        assertArgumentNotNull("firstCursor", firstCursor);
+        assertArgumentNotNull("pageRequester", pageRequester);
+        assertArgumentNotNull("nextCursorProvider", nextCursorProvider);
+        assertArgumentNotNull("option", option);
+        assertArgumentNotNull("executor", executor);
+        this.pageRequester = pageRequester;
+        this.nextCursorProvider = nextCursorProvider;
+        this.option = option;
+        this.executor = executor;
+        this.firstCursor = firstCursor;
+        if (option.getPrefetchDepth() > 0) { // first page and the depth ahead of it
+            for (int i = 0; i <= option.getPrefetchDepth(); i++) {
+                prefetchNext();
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                           Iteration
+    //                                                                           =========
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (fetchingQueue.isEmpty()) { // no prefetch
+            requestNext(Runnable::run); // in the consumer thread
+        }
+        return !waitFor(fetchingQueue.peekFirst()).isEnd();
+    }
+
+    @Override
+    public PAGE next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more page: " + toString());
+        }
+        final FetchedPage<CURSOR, PAGE> fetched = waitFor(fetchingQueue.pollFirst()); // already done by hasNext()
+        while (fetchingQueue.size() < option.getPrefetchDepth()) { // keep the depth ahead of consuming
+            prefetchNext();
+        }
+        return fetched.getPage();
+    }
+
+    protected void prefetchNext() {
+        requestNext(executor);
+    }
+
+    protected void requestNext(Executor requestExecutor) {
+        if (tailFuture == null) { // first page
+            tailFuture = CompletableFuture.supplyAsync(() -> fetchPage(firstCursor), requestExecutor);
+            fetchingQueue.add(tailFuture);
+            return;
+        }
+        // requested just after the previous page arrives (next cursor may be in the page)
+        tailFuture = tailFuture.thenApplyAsync(previous -> {
+            if (previous.isEnd()) {
+                return previous; // keeps end
+            }
+            final OptionalThing<CURSOR> nextCursor = previous.getNextCursor();
+            return nextCursor.isPresent() ? fetchPage(nextCursor.get()) : newEndPage();
+        }, requestExecutor);
+        fetchingQueue.add(tailFuture);
+    }
+
+    protected FetchedPage<CURSOR, PAGE> fetchPage(CURSOR cursor) {
+        final PAGE page = pageRequester.apply(cursor);
+        if (page == null) { // treated as end
+            return newEndPage();
+        }
+        final OptionalThing<CURSOR> nextCursor = nextCursorProvider.apply(cursor, page);
+        if (nextCursor == null) {
+            throw new IllegalStateException("The next cursor provider should not return null: " + nextCursorProvider);
+        }
+        return new FetchedPage<CURSOR, PAGE>(page, nextCursor);
+    }
+
+    protected FetchedPage<CURSOR, PAGE> newEndPage() {
+        return new FetchedPage<CURSOR, PAGE>(null, OptionalThing.empty());
+    }
+
+    protected FetchedPage<CURSOR, PAGE> waitFor(CompletableFuture<FetchedPage<CURSOR, PAGE>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) { // to throw e.g. client error as it is
+            close();
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            close();
+            throw e;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                              Stream
+    //                                                                              ======
+    /**
+     * Get the stream of pages, which closes this iterator when the stream is closed.
+     * <pre>
+     * try (Stream&lt;RemoteSearchPagingReturn&gt; pageStream = iterator.stream()) {
+     *     pageStream.flatMap(page -&gt; page.rows.stream()).forEach(row -&gt; ...);
+     * }
+     * </pre>
+     * @return The sequential stream of pages. (NotNull)
+     */
+    public Stream<PAGE> stream() {
+        final Spliterator<PAGE> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, /*parallel*/false).onClose(() -> close());
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    @Override
+    public void close() { // cancels not-started requests, running requests are just ignored
+        if (closed) {
+            return;
+        }
+        closed = true;
+        fetchingQueue.forEach(future -> future.cancel(false));
+        fetchingQueue.clear();
+    }
+
+    // ===================================================================================
+    //                                                                        Fetched Page
+    //                                                                        ============
+    protected static class FetchedPage<CURSOR, PAGE> {
+
+        protected final PAGE page; // null allowed when end
+        protected final OptionalThing<CURSOR> nextCursor; // not null
+
+        public FetchedPage(PAGE page, OptionalThing<CURSOR> nextCursor) {
+            this.page = page;
+            this.nextCursor = nextCursor;
+        }
+
+        public boolean isEnd() {
+            return page == null;
+        }
+
+        public PAGE getPage() {
+            return page;
+        }
+
+        public OptionalThing<CURSOR> getNextCursor() {
+            return nextCursor;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected void assertArgumentNotNull(String variableName, Object value) {
+        if (variableName == null) {
+            throw new IllegalArgumentException("The variableName should not be null.");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The argument '" + variableName + "' should not be null.");
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "pagingIterator:{" + option + ", fetching=" + fetchingQueue.size() + ", closed=" + closed + "}";
+    }
+}
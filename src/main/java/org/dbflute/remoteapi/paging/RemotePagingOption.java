@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.paging;
+
+/**
+ * The option of remote paging, e.g. prefetch depth.
+ * <pre>
+ * op.prefetchDepth(2); // requests up to two pages ahead of your consuming
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemotePagingOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int prefetchDepth = 1; // as default, next one page
+
+    // ===================================================================================
+    //                                                                              Option
+    //                                                                              ======
+    /**
+     * The first page is also requested when the iterator is created if one or more. <br>
+     * If zero, no request until you call hasNext(), and each page is requested in your thread.
+     * @param prefetchDepth The count of pages requested ahead of the consumed page. (ZeroAllowed: no prefetch)
+     * @return this. (NotNull)
+     */
+    public RemotePagingOption prefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("The argument 'prefetchDepth' should not be minus: " + prefetchDepth);
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "paging:{prefetch=" + prefetchDepth + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+}
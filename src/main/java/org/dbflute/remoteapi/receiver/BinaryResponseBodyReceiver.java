@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.util.Base64;
+
+/**
+ * The receiver of binary response body, e.g. CBOR. <br>
+ * The success response body is always read from stream (never decoded as string) even if logging is enabled,
+ * so the receiver keeps e.g. size instead of body for logging by itself. <br>
+ * The other body (e.g. failure response) is handed to the string version of toResponseReturn() as Base64 of the bytes,
+ * because the handling of failure response is based on string. (e.g. exception message, client error cache)
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public interface BinaryResponseBodyReceiver extends StreamingResponseBodyReceiver {
+
+    /**
+     * @param bodyBytes The bytes of response body. (NotNull)
+     * @return The Base64 string of the bytes. (NotNull)
+     */
+    static String encodeBodyBytes(byte[] bodyBytes) {
+        return Base64.getEncoder().encodeToString(bodyBytes);
+    }
+
+    /**
+     * @param encodedBody The Base64 string of response body, from the string version of toResponseReturn(). (NotNull)
+     * @return The bytes of response body. (NotNull)
+     * @throws IllegalArgumentException When the string is not Base64.
+     */
+    static byte[] decodeBodyBytes(String encodedBody) {
+        return Base64.getDecoder().decode(encodedBody);
+    }
+}
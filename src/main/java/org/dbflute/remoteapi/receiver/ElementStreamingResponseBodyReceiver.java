@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+
+/**
+ * The receiver of response body that can parse elements of the body incrementally, e.g. for requestGetStream(). <br>
+ * Only current element is on memory so the memory is constant regardless of the body size.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public interface ElementStreamingResponseBodyReceiver extends ResponseBodyReceiver {
+
+    /**
+     * Convert response body stream to iterator of elements, which reads the stream lazily per element.
+     * @param <ELEMENT> The type of element.
+     * @param bodyStream The stream of response body with content metadata, closed by framework. (NotNull)
+     * @param elementType The specified type of element. (NotNull)
+     * @param rule The rule of remote API, e.g. stream element path. (NotNull)
+     * @return The iterator of elements, read lazily while iteration. (NotNull)
+     */
+    <ELEMENT> Iterator<ELEMENT> toElementIterator(ResponseBodyStream bodyStream, Type elementType, FlutyRemoteApiRule rule);
+}
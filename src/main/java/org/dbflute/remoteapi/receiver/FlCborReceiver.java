@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.ByteCountingInputStream;
+import org.dbflute.remoteapi.mapping.FlParameterDeserializer;
+import org.dbflute.remoteapi.mapping.FlParameterSerializer;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.remoteapi.mapping.cbor.CborBeanMapper;
+import org.dbflute.remoteapi.mapping.cbor.CborReader;
+
+/**
+ * The receiver of CBOR (binary JSON-like format) response body, no external library. <br>
+ * Property names and values (e.g. date format) follow the mapping policy in the same way as FlCborSender.
+ * The success body is read from stream, and the send-receive log keeps only its size.
+ * The failure body is handed as Base64 string (not decoded as text) and parsed from the bytes.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlCborReceiver extends FlBaseReceiver implements BinaryResponseBodyReceiver {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final FlRemoteMappingPolicy mappingPolicy;
+    protected final CborBeanMapper beanMapper;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public FlCborReceiver(FlRemoteMappingPolicy mappingPolicy) {
+        this.mappingPolicy = mappingPolicy;
+        this.beanMapper = createCborBeanMapper();
+    }
+
+    protected CborBeanMapper createCborBeanMapper() {
+        return new CborBeanMapper(mappingPolicy, createParameterSerializer(), createParameterDeserializer());
+    }
+
+    protected FlParameterSerializer createParameterSerializer() { // for e.g. property name
+        return new FlParameterSerializer();
+    }
+
+    protected FlParameterDeserializer createParameterDeserializer() {
+        return new FlParameterDeserializer();
+    }
+
+    // ===================================================================================
+    //                                                                          Convert to
+    //                                                                          ==========
+    @Override
+    public <RETURN> RETURN toResponseReturn(OptionalThing<String> body, Type beanType, FlutyRemoteApiRule rule) {
+        // e.g. failure response, the bytes are encoded as Base64 (see BinaryResponseBodyReceiver)
+        final String encodedBody = body.orElseThrow(() -> { // translated with rich message so simple here
+            return new IllegalStateException("Not found the response body as CBOR.");
+        });
+        final byte[] bodyBytes = BinaryResponseBodyReceiver.decodeBodyBytes(encodedBody);
+        return resolveCborReturn(new ByteCountingInputStream(new ByteArrayInputStream(bodyBytes)), beanType, rule);
+    }
+
+    @Override
+    public <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type beanType, FlutyRemoteApiRule rule) {
+        return resolveCborReturn(new ByteCountingInputStream(bodyStream.getContent()), beanType, rule);
+    }
+
+    protected <RETURN> RETURN resolveCborReturn(ByteCountingInputStream countingStream, Type beanType, FlutyRemoteApiRule rule) {
+        final Object value;
+        try {
+            value = createCborReader(countingStream).readValue(); // one item as body
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the CBOR body: " + beanType, e);
+        }
+        @SuppressWarnings("unchecked")
+        final RETURN ret = (RETURN) beanMapper.toTypedValue(value, beanType);
+        readySendReceiveLogIfNeeds(rule, OptionalThing.empty(), "size=" + countingStream.getByteCount()); // not binary itself
+        return ret;
+    }
+
+    protected CborReader createCborReader(ByteCountingInputStream countingStream) {
+        return new CborReader(new BufferedInputStream(countingStream)); // reader reads per byte
+    }
+
+    // -----------------------------------------------------
+    //                                  Send/Receive Logging
+    //                                  --------------------
+    @Override
+    protected String getSendReceiveLogResponseBodyType() {
+        return "cbor";
+    }
+}
@@ -17,15 +17,31 @@ package org.dbflute.remoteapi.receiver;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.List;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan;
 
 /**
  * @author inoue
  * @author jflute
  */
-public abstract class FlJsonReceiver extends FlBaseReceiver {
+public abstract class FlJsonReceiver extends FlBaseReceiver implements StreamingResponseBodyReceiver, ElementStreamingResponseBodyReceiver {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    // receiver class to whether stream versions of fromJson() are overridden, they read string as default
+    protected static final ClassValue<Boolean> trulyStreamingCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlJsonReceiver.class, "fromJsonStream", ResponseBodyStream.class, Class.class)
+                    && FlSerializationPlan.isOverridden(type, FlJsonReceiver.class, "fromJsonParameteriedStream",
+                            ResponseBodyStream.class, ParameterizedType.class);
+        }
+    };
 
     // ===================================================================================
     //                                                                          Convert to
@@ -53,6 +69,60 @@ public abstract class FlJsonReceiver extends FlBaseReceiver {
 
     protected abstract <BEAN> BEAN fromJsonParameteried(String json, ParameterizedType parameterizedType);
 
+    // -----------------------------------------------------
+    //                                           from Stream
+    //                                           -----------
+    @Override
+    public <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type beanType, FlutyRemoteApiRule rule) {
+        return resolveJsonReturn(bodyStream, beanType); // not logging here, stream is used only when no logging
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <RETURN> RETURN resolveJsonReturn(ResponseBodyStream bodyStream, Type beanType) {
+        if (beanType instanceof Class<?>) {
+            return (RETURN) fromJsonStream(bodyStream, (Class<?>) beanType);
+        } else {
+            return (RETURN) fromJsonParameteriedStream(bodyStream, (ParameterizedType) beanType);
+        }
+    }
+
+    protected <BEAN> BEAN fromJsonStream(ResponseBodyStream bodyStream, Class<BEAN> beanType) { // may be overridden
+        return fromJson(bodyStream.readAsString(), beanType); // as default, override it if your engine can read stream
+    }
+
+    protected <BEAN> BEAN fromJsonParameteriedStream(ResponseBodyStream bodyStream, ParameterizedType parameterizedType) {
+        return fromJsonParameteried(bodyStream.readAsString(), parameterizedType); // me too
+    }
+
+    @Override
+    public boolean isTrulyStreaming(Type beanType) { // true if your engine reads stream
+        return trulyStreamingCache.get(getClass());
+    }
+
+    // -----------------------------------------------------
+    //                                          as Elements
+    //                                          -----------
+    @Override
+    public <ELEMENT> Iterator<ELEMENT> toElementIterator(ResponseBodyStream bodyStream, Type elementType, FlutyRemoteApiRule rule) {
+        final Iterator<String> elementReader = createJsonArrayElementReader(bodyStream, rule.getStreamElementPath());
+        return new Iterator<ELEMENT>() {
+
+            @Override
+            public boolean hasNext() {
+                return elementReader.hasNext();
+            }
+
+            @Override
+            public ELEMENT next() {
+                return resolveJsonReturn(elementReader.next(), elementType); // one element JSON on memory
+            }
+        };
+    }
+
+    protected Iterator<String> createJsonArrayElementReader(ResponseBodyStream bodyStream, List<String> elementPath) {
+        return new JsonArrayElementReader(bodyStream.openReader(), elementPath);
+    }
+
     // -----------------------------------------------------
     //                                  Send/Receive Logging
     //                                  --------------------
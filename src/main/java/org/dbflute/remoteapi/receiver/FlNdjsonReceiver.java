@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+
+/**
+ * The receiver of NDJSON (JSON Lines), which is one JSON element per line. <br>
+ * The return type should be List of element for normal request,
+ * and elements are read incrementally by e.g. requestGetStream() with element type. <br>
+ * The other return type (e.g. failure response type) is parsed as single JSON document.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public abstract class FlNdjsonReceiver extends FlJsonReceiver {
+
+    // ===================================================================================
+    //                                                                          Convert to
+    //                                                                          ==========
+    @Override
+    public <RETURN> RETURN toResponseReturn(OptionalThing<String> body, Type beanType, FlutyRemoteApiRule rule) {
+        final String ndjson = body.orElseThrow(() -> { // translated with rich message so simple here
+            return new IllegalStateException("Not found the response body as NDJSON.");
+        });
+        final RETURN ret;
+        if (isJsonLinesReturnType(beanType)) {
+            ret = resolveJsonLinesReturn(new StringReader(ndjson), beanType);
+        } else { // e.g. failure response, error body is basically single JSON
+            ret = resolveJsonReturn(ndjson, beanType);
+        }
+        readySendReceiveLogIfNeeds(rule, body, ndjson);
+        return ret;
+    }
+
+    @Override
+    public <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type beanType, FlutyRemoteApiRule rule) {
+        if (isJsonLinesReturnType(beanType)) { // not logging here, stream is used only when no logging
+            return resolveJsonLinesReturn(bodyStream.openReader(), beanType);
+        } else {
+            return resolveJsonReturn(bodyStream, beanType);
+        }
+    }
+
+    @Override
+    public boolean isTrulyStreaming(Type beanType) {
+        return isJsonLinesReturnType(beanType) || super.isTrulyStreaming(beanType); // lines are read one by one
+    }
+
+    protected boolean isJsonLinesReturnType(Type beanType) { // e.g. List<RemoteProductRowReturn>
+        return findElementType(beanType) != null;
+    }
+
+    protected <RETURN> RETURN resolveJsonLinesReturn(Reader reader, Type beanType) {
+        final Type elementType = extractElementType(beanType);
+        final List<Object> elementList = new ArrayList<>();
+        final Iterator<String> elementReader = createJsonLinesElementReader(reader);
+        while (elementReader.hasNext()) {
+            elementList.add(resolveJsonReturn(elementReader.next(), elementType));
+        }
+        @SuppressWarnings("unchecked")
+        final RETURN ret = (RETURN) elementList;
+        return ret;
+    }
+
+    protected Type extractElementType(Type beanType) { // e.g. List<RemoteProductRowReturn>
+        final Type elementType = findElementType(beanType);
+        if (elementType == null) {
+            throw new IllegalStateException("The return type for NDJSON should be List<ELEMENT>: " + beanType);
+        }
+        return elementType;
+    }
+
+    protected Type findElementType(Type beanType) { // null allowed if not list
+        if (beanType instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) beanType;
+            final Type rawType = parameterizedType.getRawType();
+            if (rawType instanceof Class<?> && ((Class<?>) rawType).isAssignableFrom(ArrayList.class)) {
+                return parameterizedType.getActualTypeArguments()[0];
+            }
+        }
+        return null;
+    }
+
+    // -----------------------------------------------------
+    //                                           as Elements
+    //                                           -----------
+    @Override
+    public <ELEMENT> Iterator<ELEMENT> toElementIterator(ResponseBodyStream bodyStream, Type elementType, FlutyRemoteApiRule rule) {
+        final Iterator<String> elementReader = createJsonLinesElementReader(bodyStream.openReader());
+        return new Iterator<ELEMENT>() {
+
+            @Override
+            public boolean hasNext() {
+                return elementReader.hasNext();
+            }
+
+            @Override
+            public ELEMENT next() {
+                return resolveJsonReturn(elementReader.next(), elementType); // one line on memory
+            }
+        };
+    }
+
+    protected Iterator<String> createJsonLinesElementReader(Reader reader) {
+        return new JsonLinesElementReader(reader);
+    }
+
+    // -----------------------------------------------------
+    //                                  Send/Receive Logging
+    //                                  --------------------
+    @Override
+    protected String getSendReceiveLogResponseBodyType() {
+        return "ndjson";
+    }
+}
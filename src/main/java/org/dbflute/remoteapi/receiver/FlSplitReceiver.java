@@ -16,22 +16,47 @@
 package org.dbflute.remoteapi.receiver;
 
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.dbflute.helper.beans.DfBeanDesc;
 import org.dbflute.helper.beans.DfPropertyDesc;
 import org.dbflute.helper.beans.factory.DfBeanDescFactory;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
-import org.dbflute.util.DfCollectionUtil;
+import org.dbflute.remoteapi.mapping.FlParameterDeserializer;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
 import org.dbflute.util.DfReflectionUtil;
 
 /**
+ * The receiver of split response body e.g. "sea=mystic&amp;land=oneman". <br>
+ * The body is scanned once without regular expression if the delimiters are literal,
+ * and the split result is same as String.split() (e.g. entry that does not have just one key-value is ignored).
+ * <pre>
+ * rule.receiveBodyBy(new FlSplitReceiver("&amp;", "=")); // string is set to property (converted by bean description)
+ * rule.receiveBodyBy(new FlSplitReceiver("&amp;", "=", mappingPolicy)); // typed conversion by the mapping policy
+ * </pre>
  * @author awane
  * @author jflute
  */
-public class FlSplitReceiver extends FlBaseReceiver {
+public class FlSplitReceiver extends FlBaseReceiver implements StreamingResponseBodyReceiver {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String REGEX_META_CHARS = "\\[](){}.*+?^$|";
+    protected static final int NAMING_CACHE_LIMIT = 32; // per class, basically one or two
+
+    // bean class to (naming key to plan), class value does not block unloading of the class
+    protected static final ClassValue<Map<String, SplitMappingPlan>> planCache = new ClassValue<Map<String, SplitMappingPlan>>() {
+        @Override
+        protected Map<String, SplitMappingPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     // ===================================================================================
     //                                                                           Attribute
@@ -39,20 +64,60 @@ public class FlSplitReceiver extends FlBaseReceiver {
     protected final String delimiter;
     protected final String delimiterByKeyValue;
     protected final String responseBodyType;
+    protected final Pattern delimiterPattern; // null allowed: literal scan if null
+    protected final Pattern delimiterByKeyValuePattern; // null allowed: literal scan if null
+    protected final FlRemoteMappingPolicy mappingPolicy; // null allowed: then string is set as it is
+    protected final FlParameterDeserializer parameterDeserializer; // not null, used if mapping policy exists
 
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
     public FlSplitReceiver(String delimiter, String delimiterByKeyValue) {
+        this(delimiter, delimiterByKeyValue, null);
+    }
+
+    /**
+     * @param delimiter The delimiter between entries, regular expression if it has meta characters. (NotNull)
+     * @param delimiterByKeyValue The delimiter between key and value, the same rule as entry delimiter. (NotNull)
+     * @param mappingPolicy The policy of mapping for e.g. number, date, boolean, classification. (NullAllowed: then no typed conversion)
+     */
+    public FlSplitReceiver(String delimiter, String delimiterByKeyValue, FlRemoteMappingPolicy mappingPolicy) {
         this.delimiter = delimiter;
         this.delimiterByKeyValue = delimiterByKeyValue;
         this.responseBodyType = buildResponseBodyType(delimiter);
+        this.delimiterPattern = prepareDelimiterPattern(delimiter);
+        this.delimiterByKeyValuePattern = prepareDelimiterPattern(delimiterByKeyValue);
+        this.mappingPolicy = mappingPolicy;
+        this.parameterDeserializer = createParameterDeserializer();
     }
 
     protected String buildResponseBodyType(String delimiter) {
         return "split(" + delimiter + ", " + delimiterByKeyValue + ")";
     }
 
+    protected Pattern prepareDelimiterPattern(String delimiter) { // null allowed: literal
+        if (isLiteralDelimiter(delimiter)) {
+            return null;
+        }
+        return Pattern.compile(delimiter); // compiled once, same as String.split()
+    }
+
+    protected boolean isLiteralDelimiter(String delimiter) {
+        if (delimiter.isEmpty()) { // zero-width match by regular expression
+            return false;
+        }
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (REGEX_META_CHARS.indexOf(delimiter.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected FlParameterDeserializer createParameterDeserializer() {
+        return new FlParameterDeserializer();
+    }
+
     // ===================================================================================
     //                                                                          Convert to
     //                                                                          ==========
@@ -64,31 +129,147 @@ public class FlSplitReceiver extends FlBaseReceiver {
         final String target = body.orElseThrow(() -> { // translated with rich message so simple here
             return new IllegalStateException("Not found the response body as SPLIT.");
         });
-        final Map<String, String> returnMap = DfCollectionUtil.newLinkedHashMap();
-        Arrays.stream(target.split(delimiter)).forEach(keyValue -> {
-            String[] keyValueArray = keyValue.split(delimiterByKeyValue);
+        final RETURN ret = resolveSplitReturn(target, (Class<?>) type);
+        readySendReceiveLogIfNeeds(rule, body, target);
+        return ret;
+    }
+
+    @Override
+    public <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type type, FlutyRemoteApiRule rule) {
+        if (!(type instanceof Class<?>)) {
+            throw new IllegalArgumentException("The specified type is not Class: type=" + type);
+        }
+        return resolveSplitReturn(bodyStream.readAsString(), (Class<?>) type); // split body is basically small
+    }
+
+    @Override
+    public boolean isTrulyStreaming(Type type) {
+        return false; // read as string, so large spilled body is not handed
+    }
+
+    protected <RETURN> RETURN resolveSplitReturn(String target, Class<?> type) {
+        final SplitMappingPlan plan = findSplitMappingPlan(type);
+        @SuppressWarnings("unchecked")
+        final RETURN ret = (RETURN) DfReflectionUtil.newInstance(type);
+        if (delimiterPattern != null) {
+            for (String keyValue : delimiterPattern.split(target)) {
+                reflectKeyValue(ret, keyValue, plan);
+            }
+        } else { // literal scan without regular expression, trailing empty entry is ignored anyway
+            final int delimiterLength = delimiter.length();
+            int begin = 0;
+            while (true) {
+                final int end = target.indexOf(delimiter, begin);
+                if (end < 0) {
+                    reflectKeyValue(ret, target.substring(begin), plan);
+                    break;
+                }
+                reflectKeyValue(ret, target.substring(begin, end), plan);
+                begin = end + delimiterLength;
+            }
+        }
+        return ret;
+    }
+
+    protected void reflectKeyValue(Object ret, String keyValue, SplitMappingPlan plan) {
+        final String key;
+        final String value;
+        if (delimiterByKeyValuePattern != null) {
+            final String[] keyValueArray = delimiterByKeyValuePattern.split(keyValue);
             if (keyValueArray.length != 2) {
                 return;
             }
-            final String key = keyValueArray[0];
-            final String value = keyValueArray[1];
-            returnMap.put(key, value);
-        });
-        @SuppressWarnings("unchecked")
-        final RETURN ret = (RETURN) DfReflectionUtil.newInstance((Class<?>) type);
-        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc((Class<?>) type);
-        beanDesc.getProppertyNameList().stream().forEach(proppertyName -> {
-            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(proppertyName);
-            final String deserializeDParameterName = asDeserializedParameterName(propertyDesc);
-            if (returnMap.containsKey(deserializeDParameterName)) {
-                final String value = returnMap.get(deserializeDParameterName);
-                propertyDesc.setValue(ret, value);
+            key = keyValueArray[0];
+            value = keyValueArray[1];
+        } else {
+            final int delimiterIndex = keyValue.indexOf(delimiterByKeyValue);
+            if (delimiterIndex < 0) { // e.g. "sea", one element
+                return;
             }
-        });
-        readySendReceiveLogIfNeeds(rule, body, target);
-        return ret;
+            final int valueBegin = delimiterIndex + delimiterByKeyValue.length();
+            int valueEnd = keyValue.indexOf(delimiterByKeyValue, valueBegin);
+            if (valueEnd < 0) {
+                valueEnd = keyValue.length();
+            } else if (!isOnlyDelimiterRepeated(keyValue, valueEnd)) { // e.g. "sea=mystic=oneman", three elements
+                return;
+            } // e.g. "sea=mystic=" here, trailing empty elements are removed by String.split()
+            if (valueBegin == valueEnd) { // e.g. "sea=", empty value is removed as trailing
+                return;
+            }
+            key = keyValue.substring(0, delimiterIndex);
+            value = keyValue.substring(valueBegin, valueEnd);
+        }
+        final DfPropertyDesc propertyDesc = plan.findPropertyDesc(key);
+        if (propertyDesc != null) {
+            propertyDesc.setValue(ret, asDeserializedParameterValue(asDeserializedParameterValue(value), propertyDesc));
+        }
+    }
+
+    protected boolean isOnlyDelimiterRepeated(String keyValue, int beginIndex) {
+        final int delimiterLength = delimiterByKeyValue.length();
+        int index = beginIndex;
+        while (index < keyValue.length()) {
+            if (!keyValue.startsWith(delimiterByKeyValue, index)) {
+                return false;
+            }
+            index += delimiterLength;
+        }
+        return true;
     }
 
+    // -----------------------------------------------------
+    //                                          Mapping Plan
+    //                                          ------------
+    protected SplitMappingPlan findSplitMappingPlan(Class<?> type) {
+        final Map<String, SplitMappingPlan> namingMap = planCache.get(type);
+        final String namingKey = getClass().getName(); // names depend on receiver class e.g. annotation
+        final SplitMappingPlan cached = namingMap.get(namingKey);
+        if (cached != null) {
+            return cached;
+        }
+        final SplitMappingPlan compiled = compileSplitMappingPlan(type);
+        if (namingMap.size() < NAMING_CACHE_LIMIT) { // roughly limited, over is no problem
+            namingMap.putIfAbsent(namingKey, compiled);
+        }
+        return compiled;
+    }
+
+    protected SplitMappingPlan compileSplitMappingPlan(Class<?> type) {
+        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(type);
+        final Map<String, DfPropertyDesc> propertyDescMap = new LinkedHashMap<>();
+        for (String propertyName : beanDesc.getProppertyNameList()) {
+            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(propertyName);
+            if (propertyDesc.isWritable()) {
+                propertyDescMap.putIfAbsent(asDeserializedParameterName(propertyDesc), propertyDesc);
+            }
+        }
+        return new SplitMappingPlan(propertyDescMap);
+    }
+
+    /**
+     * The plan of mapping from split key to property, compiled once per bean class and receiver class.
+     */
+    protected static class SplitMappingPlan {
+
+        protected final Map<String, DfPropertyDesc> propertyDescMap; // not null, read-only, key is deserialized name
+
+        public SplitMappingPlan(Map<String, DfPropertyDesc> propertyDescMap) {
+            this.propertyDescMap = Collections.unmodifiableMap(propertyDescMap);
+        }
+
+        public DfPropertyDesc findPropertyDesc(String parameterName) { // null allowed: not found
+            return propertyDescMap.get(parameterName);
+        }
+
+        @Override
+        public String toString() {
+            return "splitMappingPlan:" + propertyDescMap.keySet();
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                       Deserialization
+    //                                       ---------------
     protected String asDeserializedParameterName(DfPropertyDesc propertyDesc) {
         return propertyDesc.getPropertyName();
     }
@@ -97,6 +278,13 @@ public class FlSplitReceiver extends FlBaseReceiver {
         return value;
     }
 
+    protected Object asDeserializedParameterValue(Object value, DfPropertyDesc propertyDesc) {
+        if (mappingPolicy == null) { // e.g. string to number by bean description (same as before)
+            return value;
+        }
+        return parameterDeserializer.asDeserializedParameterValue(value, propertyDesc.getPropertyType(), mappingPolicy);
+    }
+
     // -----------------------------------------------------
     //                                  Send/Receive Logging
     //                                  --------------------
@@ -15,19 +15,21 @@
  */
 package org.dbflute.remoteapi.receiver;
 
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
-
-import jakarta.xml.bind.JAXB;
+import org.dbflute.remoteapi.mapping.xml.JaxbContextPool;
 
 /**
+ * The receiver of XML response body by JAXB. <br>
+ * The JAXB context is cached per type and unmarshallers are pooled, parsed by StAX with XXE disabled.
  * @author inoue
  * @author jflute
  */
-public class FlXmlReceiver extends FlBaseReceiver {
+public class FlXmlReceiver extends FlBaseReceiver implements StreamingResponseBodyReceiver {
 
     // ===================================================================================
     //                                                                          Convert to
@@ -42,7 +44,24 @@ public class FlXmlReceiver extends FlBaseReceiver {
             return new IllegalStateException("Not found the response body as XML.");
         });
         readySendReceiveLogIfNeeds(rule, body, target);
-        return (RETURN) JAXB.unmarshal(new StringReader(target), (Class<?>) type);
+        return (RETURN) unmarshal(new StringReader(target), (Class<?>) type);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type type, FlutyRemoteApiRule rule) {
+        if (!(type instanceof Class<?>)) {
+            throw new IllegalArgumentException("The specified type is not Class: type=" + type);
+        }
+        return (RETURN) unmarshal(bodyStream.openReader(), (Class<?>) type); // parsed while reading
+    }
+
+    protected Object unmarshal(Reader reader, Class<?> type) {
+        return findJaxbContextPool(type).unmarshal(reader); // not JAXB.unmarshal() that creates context per call
+    }
+
+    protected JaxbContextPool findJaxbContextPool(Class<?> type) {
+        return JaxbContextPool.of(type);
     }
 
     // -----------------------------------------------------
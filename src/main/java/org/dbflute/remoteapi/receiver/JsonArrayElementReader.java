@@ -0,0 +1,376 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The reader of elements in JSON array from character stream, element by element. <br>
+ * Each element is read as JSON text (not parsed here) so you can parse it by your JSON engine.
+ * The array is top-level or nested in objects by property path, e.g. {"rows": [...]} by ["rows"]. <br>
+ * Only syntax needed to split is checked, so broken element is detected by your JSON engine.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class JsonArrayElementReader implements Iterator<String> {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int BUFFER_SIZE = 8192;
+    protected static final int EOF = -1;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Reader reader; // not null, not closed here
+    protected final List<String> elementPath; // not null, empty allowed
+    protected final char[] buffer = new char[BUFFER_SIZE];
+    protected int bufferPosition;
+    protected int bufferLimit;
+    protected long readCharCount; // for error message
+    protected boolean arrayOpened; // true after reaching '[' of target array
+    protected boolean arrayClosed; // true after reaching ']' of target array (or null array)
+    protected String nextElement; // null allowed, read-ahead element
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param reader The reader of JSON, not closed here. (NotNull)
+     * @param elementPath The property names from top-level object to the array. (NotNull, EmptyAllowed: top-level)
+     */
+    public JsonArrayElementReader(Reader reader, List<String> elementPath) {
+        if (reader == null) {
+            throw new IllegalArgumentException("The argument 'reader' should not be null.");
+        }
+        if (elementPath == null) {
+            throw new IllegalArgumentException("The argument 'elementPath' should not be null.");
+        }
+        this.reader = reader;
+        this.elementPath = elementPath;
+    }
+
+    // ===================================================================================
+    //                                                                            Iterator
+    //                                                                            ========
+    @Override
+    public boolean hasNext() {
+        if (nextElement != null) {
+            return true;
+        }
+        if (!arrayOpened) {
+            openArray();
+        }
+        if (arrayClosed) {
+            return false;
+        }
+        nextElement = readElement(); // null if end of array
+        return nextElement != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more element in the JSON array: " + toString());
+        }
+        final String element = nextElement;
+        nextElement = null;
+        return element;
+    }
+
+    // ===================================================================================
+    //                                                                          Open Array
+    //                                                                          ==========
+    protected void openArray() {
+        arrayOpened = true;
+        for (String propertyName : elementPath) {
+            if (!seekProperty(propertyName)) { // e.g. null object
+                arrayClosed = true;
+                return;
+            }
+        }
+        final int first = readNonWhitespace();
+        if (first == 'n') { // null array is treated as empty
+            expectLiteral("ull");
+            arrayClosed = true;
+            return;
+        }
+        if (first != '[') {
+            throwUnexpectedCharacter(first, "'[' of array");
+        }
+        final int peeked = peekNonWhitespace();
+        if (peeked == ']') {
+            read();
+            arrayClosed = true;
+        }
+    }
+
+    protected boolean seekProperty(String propertyName) {
+        final int first = readNonWhitespace();
+        if (first == 'n') {
+            expectLiteral("ull");
+            return false;
+        }
+        if (first != '{') {
+            throwUnexpectedCharacter(first, "'{' of object having '" + propertyName + "'");
+        }
+        if (peekNonWhitespace() == '}') {
+            throwPropertyNotFound(propertyName);
+        }
+        while (true) {
+            final int quote = readNonWhitespace();
+            if (quote != '"') {
+                throwUnexpectedCharacter(quote, "'\"' of property name");
+            }
+            final String currentName = readPropertyName();
+            final int colon = readNonWhitespace();
+            if (colon != ':') {
+                throwUnexpectedCharacter(colon, "':' after property name");
+            }
+            if (propertyName.equals(currentName)) {
+                return true; // positioned before the value
+            }
+            skipValue(null);
+            final int delimiter = readNonWhitespace();
+            if (delimiter == '}') {
+                throwPropertyNotFound(propertyName);
+            } else if (delimiter != ',') {
+                throwUnexpectedCharacter(delimiter, "',' or '}' in object");
+            }
+        }
+    }
+
+    protected String readPropertyName() { // after '"'
+        final StringBuilder sb = new StringBuilder();
+        while (true) {
+            final int ch = readRequired();
+            if (ch == '"') {
+                return sb.toString();
+            }
+            if (ch == '\\') {
+                final int escaped = readRequired();
+                switch (escaped) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    final char[] hex = new char[4];
+                    for (int i = 0; i < hex.length; i++) {
+                        hex[i] = (char) readRequired();
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(new String(hex), 16));
+                    } catch (NumberFormatException e) {
+                        throwBrokenJson("Invalid unicode escape: \\u" + new String(hex));
+                    }
+                    break;
+                default: // e.g. '"', '\\', '/'
+                    sb.append((char) escaped);
+                }
+            } else {
+                sb.append((char) ch);
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Read Element
+    //                                                                        ============
+    protected String readElement() { // null if end of array
+        final StringBuilder sb = new StringBuilder();
+        skipValue(sb);
+        final int delimiter = readNonWhitespace();
+        if (delimiter == ']') {
+            arrayClosed = true; // rest of JSON is not read, e.g. after nested array
+        } else if (delimiter != ',') {
+            throwUnexpectedCharacter(delimiter, "',' or ']' in array");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Skip the next value, appending its text to the builder if specified.
+     * @param sb The builder of value text. (NullAllowed: only skip)
+     */
+    protected void skipValue(StringBuilder sb) {
+        final int first = readNonWhitespace();
+        if (first == EOF) {
+            throwBrokenJson("Unexpected end of JSON, expected value");
+        }
+        append(sb, first);
+        if (first == '"') {
+            skipStringRest(sb);
+        } else if (first == '{' || first == '[') {
+            skipStructureRest(sb);
+        } else { // literal e.g. number, true, false, null
+            while (true) {
+                final int peeked = peek();
+                if (peeked == EOF || peeked == ',' || peeked == ']' || peeked == '}' || isWhitespace(peeked)) {
+                    break;
+                }
+                append(sb, read());
+            }
+        }
+    }
+
+    protected void skipStringRest(StringBuilder sb) { // after '"'
+        while (true) {
+            final int ch = readRequired();
+            append(sb, ch);
+            if (ch == '"') {
+                return;
+            }
+            if (ch == '\\') {
+                append(sb, readRequired()); // escaped character, e.g. '"'
+            }
+        }
+    }
+
+    protected void skipStructureRest(StringBuilder sb) { // after '{' or '['
+        int depth = 1;
+        while (depth > 0) {
+            final int ch = readRequired();
+            append(sb, ch);
+            if (ch == '"') {
+                skipStringRest(sb);
+            } else if (ch == '{' || ch == '[') {
+                ++depth;
+            } else if (ch == '}' || ch == ']') {
+                --depth;
+            }
+        }
+    }
+
+    protected void append(StringBuilder sb, int ch) {
+        if (sb != null) {
+            sb.append((char) ch);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                     Character Level
+    //                                                                     ===============
+    protected int read() {
+        if (bufferPosition >= bufferLimit && !fillBuffer()) {
+            return EOF;
+        }
+        ++readCharCount;
+        return buffer[bufferPosition++];
+    }
+
+    protected int readRequired() {
+        final int ch = read();
+        if (ch == EOF) {
+            throwBrokenJson("Unexpected end of JSON");
+        }
+        return ch;
+    }
+
+    protected int peek() {
+        if (bufferPosition >= bufferLimit && !fillBuffer()) {
+            return EOF;
+        }
+        return buffer[bufferPosition];
+    }
+
+    protected int readNonWhitespace() {
+        int ch;
+        do {
+            ch = read();
+        } while (isWhitespace(ch));
+        return ch;
+    }
+
+    protected int peekNonWhitespace() {
+        int ch;
+        while (isWhitespace(ch = peek())) {
+            read();
+        }
+        return ch;
+    }
+
+    protected boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\n' || ch == '\r' || ch == '\t';
+    }
+
+    protected void expectLiteral(String rest) {
+        for (int i = 0; i < rest.length(); i++) {
+            final int ch = read();
+            if (ch != rest.charAt(i)) {
+                throwUnexpectedCharacter(ch, "literal rest '" + rest + "'");
+            }
+        }
+    }
+
+    protected boolean fillBuffer() {
+        try {
+            int count;
+            do {
+                count = reader.read(buffer, 0, buffer.length);
+            } while (count == 0);
+            if (count < 0) {
+                return false;
+            }
+            bufferPosition = 0;
+            bufferLimit = count;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the JSON array: " + toString(), e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                       Broken Handle
+    //                                                                       =============
+    protected void throwUnexpectedCharacter(int ch, String expected) {
+        final String actual = ch == EOF ? "(end of JSON)" : "'" + (char) ch + "'";
+        throwBrokenJson("Unexpected character " + actual + ", expected " + expected);
+    }
+
+    protected void throwPropertyNotFound(String propertyName) {
+        throwBrokenJson("Not found the property '" + propertyName + "' of element path " + elementPath);
+    }
+
+    protected void throwBrokenJson(String notice) {
+        throw new IllegalStateException(notice + ": " + toString());
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "jsonArrayReader:{path=" + elementPath + ", readChars=" + readCharCount + ", closed=" + arrayClosed + "}";
+    }
+}
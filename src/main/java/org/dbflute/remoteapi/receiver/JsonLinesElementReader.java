@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The reader of elements in JSON Lines (NDJSON) from character stream, line by line. <br>
+ * Each element is read as JSON text (not parsed here), and blank lines are skipped.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class JsonLinesElementReader implements Iterator<String> {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final BufferedReader reader; // not null, not closed here
+    protected long lineNumber; // for error message
+    protected boolean finished; // true after end of stream
+    protected String nextElement; // null allowed, read-ahead element
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param reader The reader of JSON Lines, not closed here. (NotNull)
+     */
+    public JsonLinesElementReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("The argument 'reader' should not be null.");
+        }
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    // ===================================================================================
+    //                                                                            Iterator
+    //                                                                            ========
+    @Override
+    public boolean hasNext() {
+        if (nextElement != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        nextElement = readElement(); // null if end of stream
+        return nextElement != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more line in the JSON Lines: " + toString());
+        }
+        final String element = nextElement;
+        nextElement = null;
+        return element;
+    }
+
+    protected String readElement() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) { // also handles CRLF
+                ++lineNumber;
+                if (!line.trim().isEmpty()) {
+                    return line;
+                }
+            }
+            finished = true;
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the JSON Lines: " + toString(), e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "jsonLinesReader:{line=" + lineNumber + ", finished=" + finished + "}";
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The stream of response body with content metadata, read only once. <br>
+ * The stream is closed by the framework after receiving so receivers don't need to close it.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class ResponseBodyStream {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final InputStream content; // not null
+    protected final Charset charset; // not null, from content type or rule
+    protected final String contentType; // null allowed
+    protected final long contentLength; // minus if unknown
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ResponseBodyStream(InputStream content, Charset charset, String contentType, long contentLength) {
+        if (content == null) {
+            throw new IllegalArgumentException("The argument 'content' should not be null.");
+        }
+        if (charset == null) {
+            throw new IllegalArgumentException("The argument 'charset' should not be null.");
+        }
+        this.content = content;
+        this.charset = charset;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+    }
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    /**
+     * @return The new-created reader of the content by the charset. (NotNull)
+     */
+    public Reader openReader() {
+        return new InputStreamReader(content, charset);
+    }
+
+    /**
+     * Read all content as string, e.g. for receiver that cannot parse stream. <br>
+     * The memory is used as whole body so basically you should use the stream.
+     * @return The read string of the content. (NotNull, EmptyAllowed)
+     */
+    public String readAsString() {
+        final int initialSize = contentLength > 0 && contentLength < Integer.MAX_VALUE ? (int) contentLength : 4096;
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(initialSize);
+        try {
+            content.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the response body: " + toString(), e);
+        }
+        return out.toString(charset);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "bodyStream:{" + contentType + ", " + charset + ", length=" + contentLength + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public InputStream getContent() {
+        return content;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public OptionalThing<String> getContentType() {
+        return OptionalThing.ofNullable(contentType, () -> {
+            throw new IllegalStateException("Not found the content type of response body.");
+        });
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+}
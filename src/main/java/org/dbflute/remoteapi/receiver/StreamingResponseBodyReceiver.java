@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.lang.reflect.Type;
+
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+
+/**
+ * The receiver of response body that can parse the body from stream. <br>
+ * The stream is used for success response if the body string is not needed
+ * (e.g. send-receive logging and debug logging are disabled), otherwise string version is used.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public interface StreamingResponseBodyReceiver extends ResponseBodyReceiver {
+
+    /**
+     * Convert response body stream to return object.
+     * @param <RETURN> the type of response return.
+     * @param bodyStream The stream of response body with content metadata, closed by framework. (NotNull)
+     * @param beanType The specified bean type as return object. (NotNull)
+     * @param rule The rule of remote API. (NotNull)
+     * @return The converted return object from the response body. (NotNull)
+     */
+    <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type beanType, FlutyRemoteApiRule rule);
+
+    /**
+     * Does it truly parse the body from the stream? (not reading the whole body as string) <br>
+     * The large body spilled to temp file is handed to the receiver only if true,
+     * otherwise it fails as too large to be string. (reading it as string defeats the spill)
+     * @param beanType The specified bean type as return object. (NotNull)
+     * @return The determination, true if the stream version does not read the body as string.
+     */
+    default boolean isTrulyStreaming(Type beanType) { // may be overridden
+        return true; // as default
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.StreamingHttpEntity;
+import org.dbflute.remoteapi.logging.SendReceiveLogOption;
+import org.dbflute.remoteapi.mapping.FlParameterDeserializer;
+import org.dbflute.remoteapi.mapping.FlParameterSerializer;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.remoteapi.mapping.cbor.CborBeanMapper;
+import org.dbflute.remoteapi.mapping.cbor.CborWriter;
+
+/**
+ * The sender of CBOR (binary JSON-like format) request body, no external library. <br>
+ * Beans are written by the property model of DfBeanDesc, and date, boolean and classification
+ * follow the mapping policy in the same way as form parameter. The send-receive log keeps only size.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlCborSender implements RequestBodySender {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final String CONTENT_TYPE = "application/cbor";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final FlRemoteMappingPolicy mappingPolicy;
+    protected final CborBeanMapper beanMapper;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public FlCborSender(FlRemoteMappingPolicy mappingPolicy) {
+        this.mappingPolicy = mappingPolicy;
+        this.beanMapper = createCborBeanMapper();
+    }
+
+    protected CborBeanMapper createCborBeanMapper() {
+        return new CborBeanMapper(mappingPolicy, createParameterSerializer(), createParameterDeserializer());
+    }
+
+    protected FlParameterSerializer createParameterSerializer() { // for e.g. property name
+        return new FlParameterSerializer();
+    }
+
+    protected FlParameterDeserializer createParameterDeserializer() {
+        return new FlParameterDeserializer();
+    }
+
+    // ===================================================================================
+    //                                                                             Prepare
+    //                                                                             =======
+    @Override
+    public void prepareEnclosingRequest(HttpEntityEnclosingRequest enclosingRequest, Object param, FlutyRemoteApiRule rule) {
+        final AbstractHttpEntity entity = prepareCborEntity(param, rule);
+        entity.setContentType(CONTENT_TYPE);
+        enclosingRequest.setEntity(entity);
+    }
+
+    protected AbstractHttpEntity prepareCborEntity(Object param, FlutyRemoteApiRule rule) {
+        if (rule.getSendReceiveLogOption().isEnabled()) { // needs size for logging
+            final byte[] cbor = toCbor(param);
+            readySendReceiveLogIfNeeds(rule, param, cbor);
+            return new ByteArrayEntity(cbor); // compact so small bytes
+        }
+        return new StreamingHttpEntity(out -> { // written again if retry
+            final OutputStream bufferedOut = new BufferedOutputStream(out); // writer writes per small bytes
+            writeCbor(param, bufferedOut);
+            bufferedOut.flush(); // not close the stream
+        }, /*contentLength*/-1L, /*repeatable*/true); // chunked
+    }
+
+    protected byte[] toCbor(Object param) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writeCbor(param, out);
+        } catch (IOException e) { // basically no way
+            throw new UncheckedIOException("Failed to build the CBOR: " + param, e);
+        }
+        return out.toByteArray();
+    }
+
+    protected void writeCbor(Object param, OutputStream out) throws IOException {
+        beanMapper.writeValue(new CborWriter(out), param);
+    }
+
+    // -----------------------------------------------------
+    //                                  Send/Receive Logging
+    //                                  --------------------
+    protected void readySendReceiveLogIfNeeds(FlutyRemoteApiRule rule, Object param, byte[] cbor) {
+        final SendReceiveLogOption option = rule.getSendReceiveLogOption();
+        if (option.isEnabled()) { // binary body is not logged, instead size
+            option.keeper().keepRequestBody("size=" + cbor.length, getSendReceiveLogRequestBodyType());
+        }
+    }
+
+    protected String getSendReceiveLogRequestBodyType() {
+        return "cbor";
+    }
+}
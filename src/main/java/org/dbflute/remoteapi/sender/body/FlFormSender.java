@@ -18,6 +18,7 @@ package org.dbflute.remoteapi.sender.body;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.http.HttpEntity;
@@ -25,13 +26,13 @@ import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.message.BasicNameValuePair;
-import org.dbflute.helper.beans.DfBeanDesc;
 import org.dbflute.helper.beans.DfPropertyDesc;
-import org.dbflute.helper.beans.factory.DfBeanDescFactory;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
 import org.dbflute.remoteapi.logging.SendReceiveLogOption;
 import org.dbflute.remoteapi.mapping.FlParameterSerializer;
 import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan.PropertyPlan;
 
 /**
  * @author awane
@@ -39,11 +40,23 @@ import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
  */
 public class FlFormSender implements RequestBodySender {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    // sender class to whether asSerializedParameterName() is overridden, determined once per class
+    protected static final ClassValue<Boolean> namingOverriddenCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlFormSender.class, "asSerializedParameterName", DfPropertyDesc.class);
+        }
+    };
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected final FlRemoteMappingPolicy mappingPolicy;
     protected final FlParameterSerializer parameterSerializer;
+    protected final Map<Class<?>, FlSerializationPlan> instanceSerializationPlanMap = new ConcurrentHashMap<>(); // naming bound to this
 
     // ===================================================================================
     //                                                                         Constructor
@@ -71,27 +84,56 @@ public class FlFormSender implements RequestBodySender {
     //                                        Text Parameter
     //                                        --------------
     protected List<NameValuePair> prepareParameterList(HttpEntityEnclosingRequest enclosingRequest, Object param, FlutyRemoteApiRule rule) {
-        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(param.getClass());
-        final List<NameValuePair> parameters = new ArrayList<>();
-        beanDesc.getProppertyNameList().stream().forEach(proppertyName -> {
-            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(proppertyName);
+        final FlSerializationPlan plan = findSerializationPlan(param);
+        final List<NameValuePair> parameters = new ArrayList<>(plan.getPropertyPlanList().size());
+        for (PropertyPlan propertyPlan : plan.getPropertyPlanList()) {
+            final DfPropertyDesc propertyDesc = propertyPlan.getPropertyDesc();
             if (isExceptParameter(param, propertyDesc, rule)) { // e.g. multi-part
-                return;
+                continue;
             }
-            final String serializedParameterName = asSerializedParameterName(propertyDesc);
-            final Object plainValue = beanDesc.getPropertyDesc(proppertyName).getValue(param);
-            if (plainValue != null && Iterable.class.isAssignableFrom(plainValue.getClass())) {
-                final Iterable<?> plainValueIterable = (Iterable<?>) plainValue;
-                plainValueIterable.forEach(value -> {
+            final String serializedParameterName = propertyPlan.getParameterName(); // resolved once per naming
+            final Object plainValue = propertyPlan.getValue(param);
+            if (plainValue instanceof Iterable<?>) {
+                for (Object value : (Iterable<?>) plainValue) {
                     parameters.add(createBasicNameValuePair(serializedParameterName, asSerializedParameterValue(value)));
-                });
+                }
             } else {
                 parameters.add(createBasicNameValuePair(serializedParameterName, asSerializedParameterValue(plainValue)));
             }
-        });
+        }
         return parameters;
     }
 
+    protected FlSerializationPlan findSerializationPlan(Object param) {
+        if (!isUseSerializationPlanCache()) {
+            return FlSerializationPlan.compile(param.getClass(), propertyDesc -> asSerializedParameterName(propertyDesc));
+        }
+        final String namingKey = buildSerializationNamingKey(); // null allowed
+        if (namingKey == null) { // not shared with other senders
+            return instanceSerializationPlanMap.computeIfAbsent(param.getClass(), beanType -> {
+                return FlSerializationPlan.compile(beanType, propertyDesc -> asSerializedParameterName(propertyDesc));
+            });
+        }
+        return FlSerializationPlan.of(param.getClass(), namingKey, propertyDesc -> asSerializedParameterName(propertyDesc));
+    }
+
+    protected boolean isUseSerializationPlanCache() { // may be overridden
+        return true; // as default, false if you want to compile the plan per request
+    }
+
+    /**
+     * Build the key of parameter naming to share the serialization plan with other sender instances. <br>
+     * If asSerializedParameterName() is overridden (also of the serializer without its key), the plan is bound to this instance
+     * as default, because the names may depend on the instance. Override this if the names are stable per class.
+     * @return The key that identifies the naming, same key means same names. (NullAllowed: bound to this instance)
+     */
+    protected String buildSerializationNamingKey() { // may be overridden
+        if (namingOverriddenCache.get(getClass()) || !parameterSerializer.isNamingCacheKeyAvailable()) {
+            return null;
+        }
+        return getClass().getName() + "|" + parameterSerializer.buildNamingCacheKey(mappingPolicy);
+    }
+
     protected boolean isExceptParameter(Object param, DfPropertyDesc propertyDesc, FlutyRemoteApiRule rule) {
         return false; // you can override for e.g. multi-part
     }
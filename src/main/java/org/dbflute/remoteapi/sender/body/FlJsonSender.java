@@ -15,11 +15,17 @@
  */
 package org.dbflute.remoteapi.sender.body;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
 import org.apache.http.HttpEntityEnclosingRequest;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HTTP;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.StreamingHttpEntity;
 import org.dbflute.remoteapi.logging.SendReceiveLogOption;
 
 /**
@@ -33,16 +39,42 @@ public abstract class FlJsonSender implements RequestBodySender {
     //                                                                             =======
     @Override
     public void prepareEnclosingRequest(HttpEntityEnclosingRequest enclosingRequest, Object param, FlutyRemoteApiRule rule) {
-        final String json = toJson(param);
-        final String charsetName = rule.getRequestBodyCharset().name();
-        final StringEntity entity = new StringEntity(json, charsetName);
-        entity.setContentType(new BasicHeader(HTTP.CONTENT_TYPE, buildContentType(charsetName)));
+        final Charset charset = rule.getRequestBodyCharset();
+        final AbstractHttpEntity entity = prepareJsonEntity(param, charset, rule);
+        entity.setContentType(new BasicHeader(HTTP.CONTENT_TYPE, buildContentType(charset.name())));
         enclosingRequest.setEntity(entity);
-        readySendReceiveLogIfNeeds(rule, param, json);
+    }
+
+    protected AbstractHttpEntity prepareJsonEntity(Object param, Charset charset, FlutyRemoteApiRule rule) {
+        if (isStreamingJsonWriter() && !rule.getSendReceiveLogOption().isEnabled()) { // no JSON string
+            return new StreamingHttpEntity(out -> { // written again if retry
+                final Writer writer = new OutputStreamWriter(out, charset);
+                writeJson(param, writer);
+                writer.flush(); // not close the stream
+            }, /*contentLength*/-1L, /*repeatable*/true); // chunked
+        }
+        final String json = toJson(param);
+        readySendReceiveLogIfNeeds(rule, param, json); // string is needed only if logging when streaming writer
+        return StreamingHttpEntity.ofString(json, charset); // no copy as bytes, with content length if UTF-8
     }
 
     protected abstract String toJson(Object param);
 
+    /**
+     * Write the JSON of the parameter into the writer directly. <br>
+     * Override this and isStreamingJsonWriter() if your JSON engine can write to writer.
+     * @param param The parameter object of request body. (NotNull)
+     * @param writer The writer of request body, should not be closed here. (NotNull)
+     * @throws IOException When it fails to write.
+     */
+    protected void writeJson(Object param, Writer writer) throws IOException {
+        writer.write(toJson(param)); // as default
+    }
+
+    protected boolean isStreamingJsonWriter() { // may be overridden
+        return false; // as default, writeJson() uses toJson()
+    }
+
     protected String buildContentType(String charsetName) {
         return "application/json; charset=" + charsetName;
     }
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.NameValuePair;
+import org.dbflute.helper.beans.DfPropertyDesc;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.MultipartFilePart;
+import org.dbflute.remoteapi.http.StreamingHttpEntity;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan.PropertyPlan;
+
+/**
+ * The sender of multipart/form-data, which streams file parts without loading them on memory. <br>
+ * Properties of Path, File, InputStream and MultipartFilePart (or Iterable of them) are sent as file parts,
+ * and the others are sent as text parts in the same way as form parameters.
+ * <pre>
+ * public class RemoteMediaUploadForm {
+ *     public String title; // text part
+ *     public Path media; // file part, file name and content type are derived from the path
+ * }
+ * </pre>
+ * The body has Content-Length if all file parts are files, or is chunked if input stream is included. <br>
+ * InputStream can be sent only once (not repeatable) and is closed after sending,
+ * so use Path if you want to retry the request.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlMultipartSender extends FlFormSender {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    protected static final String DEFAULT_FILE_CONTENT_TYPE = "application/octet-stream";
+    protected static final char[] BOUNDARY_CHARS = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public FlMultipartSender(FlRemoteMappingPolicy mappingPolicy) {
+        super(mappingPolicy);
+    }
+
+    // ===================================================================================
+    //                                                                             Prepare
+    //                                                                             =======
+    // -----------------------------------------------------
+    //                                             File Part
+    //                                             ---------
+    @Override
+    protected boolean isExceptParameter(Object param, DfPropertyDesc propertyDesc, FlutyRemoteApiRule rule) {
+        return isFilePartValue(propertyDesc.getValue(param)); // handled as file part later
+    }
+
+    protected boolean isFilePartValue(Object value) {
+        if (isFilePartElement(value)) {
+            return true;
+        }
+        if (value instanceof Iterable<?>) { // e.g. List<Path>
+            boolean existsElement = false;
+            for (Object element : (Iterable<?>) value) {
+                if (!isFilePartElement(element)) {
+                    return false;
+                }
+                existsElement = true;
+            }
+            return existsElement; // empty list is text part (no value)
+        }
+        return false;
+    }
+
+    protected boolean isFilePartElement(Object value) {
+        return value instanceof Path || value instanceof File || value instanceof InputStream || value instanceof MultipartFilePart;
+    }
+
+    protected List<MultipartFilePart> prepareFilePartList(String partName, Object value) {
+        final List<MultipartFilePart> filePartList = new ArrayList<>();
+        if (value instanceof Iterable<?> && !isFilePartElement(value)) { // Path is also iterable (of name elements)
+            for (Object element : (Iterable<?>) value) {
+                filePartList.add(toFilePart(partName, element));
+            }
+        } else {
+            filePartList.add(toFilePart(partName, value));
+        }
+        return filePartList;
+    }
+
+    protected MultipartFilePart toFilePart(String partName, Object element) {
+        final MultipartFilePart filePart;
+        if (element instanceof MultipartFilePart) {
+            filePart = (MultipartFilePart) element;
+        } else if (element instanceof Path) {
+            filePart = MultipartFilePart.of((Path) element);
+        } else if (element instanceof File) {
+            filePart = MultipartFilePart.of((File) element);
+        } else { // input stream
+            filePart = MultipartFilePart.of((InputStream) element);
+        }
+        return filePart;
+    }
+
+    // -----------------------------------------------------
+    //                                           HTTP Entity
+    //                                           -----------
+    @Override
+    protected HttpEntity prepareEnclosedHttpEntity(Object param, List<NameValuePair> parameterList, FlutyRemoteApiRule rule) {
+        final Charset charset = rule.getRequestBodyCharset();
+        final String boundary = generateBoundary();
+        final List<MultipartSection> sectionList = prepareSectionList(param, parameterList, boundary, charset, rule);
+        final byte[] closingBytes = buildClosingBytes(boundary);
+        final long contentLength = calculateContentLength(sectionList, closingBytes);
+        final boolean repeatable = sectionList.stream().noneMatch(section -> section.isStreamBody());
+        final StreamingHttpEntity entity = new StreamingHttpEntity(out -> {
+            for (MultipartSection section : sectionList) {
+                section.write(out);
+            }
+            out.write(closingBytes);
+        }, contentLength, repeatable); // chunked if unknown length e.g. input stream
+        entity.setContentType(buildContentType(boundary));
+        return entity;
+    }
+
+    protected List<MultipartSection> prepareSectionList(Object param, List<NameValuePair> parameterList, String boundary, Charset charset,
+            FlutyRemoteApiRule rule) {
+        final List<MultipartSection> sectionList = new ArrayList<>();
+        for (NameValuePair pair : parameterList) { // text parts first
+            final String value = pair.getValue() != null ? pair.getValue() : "";
+            final String header = buildPartHeader(boundary, pair.getName(), /*fileName*/null, /*contentType*/null);
+            sectionList.add(new MultipartSection(header.getBytes(charset), value.getBytes(charset)));
+        }
+        for (PropertyPlan propertyPlan : findSerializationPlan(param).getPropertyPlanList()) {
+            if (!isExceptParameter(param, propertyPlan.getPropertyDesc(), rule)) {
+                continue;
+            }
+            final String partName = propertyPlan.getParameterName();
+            for (MultipartFilePart filePart : prepareFilePartList(partName, propertyPlan.getValue(param))) {
+                final String fileName = deriveFileName(partName, filePart);
+                final String contentType = deriveContentType(filePart);
+                final String header = buildPartHeader(boundary, partName, fileName, contentType);
+                sectionList.add(new MultipartSection(header.getBytes(charset), filePart.getSource()));
+            }
+        }
+        return sectionList;
+    }
+
+    protected String deriveFileName(String partName, MultipartFilePart filePart) {
+        if (filePart.getFileName() != null) {
+            return filePart.getFileName();
+        }
+        final Object source = filePart.getSource();
+        if (source instanceof Path) {
+            final Path fileName = ((Path) source).getFileName();
+            if (fileName != null) {
+                return fileName.toString();
+            }
+        }
+        return partName; // e.g. input stream
+    }
+
+    protected String deriveContentType(MultipartFilePart filePart) {
+        if (filePart.getContentType() != null) {
+            return filePart.getContentType();
+        }
+        final Object source = filePart.getSource();
+        if (source instanceof Path) {
+            try {
+                final String probed = Files.probeContentType((Path) source); // null allowed
+                if (probed != null) {
+                    return probed;
+                }
+            } catch (IOException ignored) { // unknown is octet-stream
+            }
+        }
+        return DEFAULT_FILE_CONTENT_TYPE;
+    }
+
+    // -----------------------------------------------------
+    //                                              Boundary
+    //                                              --------
+    protected String generateBoundary() { // may be overridden
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final StringBuilder sb = new StringBuilder("----FlutyBoundary");
+        for (int i = 0; i < 24; i++) {
+            sb.append(BOUNDARY_CHARS[random.nextInt(BOUNDARY_CHARS.length)]);
+        }
+        return sb.toString();
+    }
+
+    protected String buildPartHeader(String boundary, String partName, String fileName, String contentType) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("--").append(boundary).append("\r\n");
+        sb.append("Content-Disposition: form-data; name=\"").append(escapeQuotedValue(partName)).append("\"");
+        if (fileName != null) {
+            sb.append("; filename=\"").append(escapeQuotedValue(fileName)).append("\"");
+        }
+        sb.append("\r\n");
+        if (contentType != null) {
+            sb.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        sb.append("\r\n");
+        return sb.toString();
+    }
+
+    protected String escapeQuotedValue(String value) { // same as browsers (HTML form)
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    protected byte[] buildClosingBytes(String boundary) {
+        return ("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    protected String buildContentType(String boundary) {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    protected long calculateContentLength(List<MultipartSection> sectionList, byte[] closingBytes) {
+        long contentLength = closingBytes.length;
+        for (MultipartSection section : sectionList) {
+            final long sectionLength = section.calculateLength();
+            if (sectionLength < 0L) {
+                return -1L; // unknown
+            }
+            contentLength += sectionLength;
+        }
+        return contentLength;
+    }
+
+    // -----------------------------------------------------
+    //                                               Section
+    //                                               -------
+    /**
+     * The section of multipart body, which has the part header and the body source.
+     */
+    protected static class MultipartSection {
+
+        protected final byte[] headerBytes; // not null
+        protected final Object bodySource; // not null, byte[], Path or InputStream
+
+        public MultipartSection(byte[] headerBytes, Object bodySource) {
+            this.headerBytes = headerBytes;
+            this.bodySource = bodySource;
+        }
+
+        public boolean isStreamBody() {
+            return bodySource instanceof InputStream;
+        }
+
+        public long calculateLength() {
+            final long bodyLength;
+            if (bodySource instanceof byte[]) {
+                bodyLength = ((byte[]) bodySource).length;
+            } else if (bodySource instanceof Path) {
+                try {
+                    bodyLength = Files.size((Path) bodySource);
+                } catch (IOException e) { // e.g. not found, failure is reported when writing
+                    return -1L;
+                }
+            } else { // input stream
+                return -1L;
+            }
+            return headerBytes.length + bodyLength + CRLF.length;
+        }
+
+        public void write(OutputStream out) throws IOException {
+            out.write(headerBytes);
+            if (bodySource instanceof byte[]) {
+                out.write((byte[]) bodySource);
+            } else if (bodySource instanceof Path) {
+                Files.copy((Path) bodySource, out); // per small buffer, not whole file
+            } else {
+                try (InputStream ins = (InputStream) bodySource) {
+                    ins.transferTo(out);
+                }
+            }
+            out.write(CRLF);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                  Send/Receive Logging
+    //                                  --------------------
+    @Override
+    protected Map<String, String> prepareLoggingParameterMap(Object param, List<NameValuePair> parameterList) {
+        final Map<String, String> keptMap = new LinkedHashMap<>(super.prepareLoggingParameterMap(param, parameterList));
+        for (PropertyPlan propertyPlan : findSerializationPlan(param).getPropertyPlanList()) {
+            final Object value = propertyPlan.getValue(param);
+            if (!isFilePartValue(value)) {
+                continue;
+            }
+            final String partName = propertyPlan.getParameterName();
+            final StringBuilder sb = new StringBuilder();
+            for (MultipartFilePart filePart : prepareFilePartList(partName, value)) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append("(file: ").append(deriveFileName(partName, filePart)).append(")"); // body is not logged
+            }
+            keptMap.put(partName, sb.toString());
+        }
+        return keptMap;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.StreamingHttpEntity;
+
+/**
+ * The sender of NDJSON (JSON Lines), which writes one JSON element per line. <br>
+ * The parameter is Iterable (e.g. List), Stream, Iterator or array of beans,
+ * and elements are written incrementally so the whole body is not built on memory. <br>
+ * Stream and Iterator can be written only once, so use Iterable if you want to retry the request.
+ * Your JSON engine should not pretty-print because one element must be one line.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public abstract class FlNdjsonSender extends FlJsonSender {
+
+    // ===================================================================================
+    //                                                                             Prepare
+    //                                                                             =======
+    @Override
+    protected AbstractHttpEntity prepareJsonEntity(Object param, Charset charset, FlutyRemoteApiRule rule) {
+        if (rule.getSendReceiveLogOption().isEnabled()) { // needs whole string for logging
+            final String ndjson = buildJsonLines(param);
+            readySendReceiveLogIfNeeds(rule, param, ndjson);
+            return StreamingHttpEntity.ofString(ndjson, charset);
+        }
+        return new StreamingHttpEntity(out -> {
+            final Writer writer = new OutputStreamWriter(out, charset);
+            writeJsonLines(param, writer);
+            writer.flush(); // not close the stream
+        }, /*contentLength*/-1L, isRepeatableParam(param)); // chunked
+    }
+
+    protected String buildJsonLines(Object param) {
+        final StringWriter writer = new StringWriter();
+        try {
+            writeJsonLines(param, writer);
+        } catch (IOException e) { // basically no way
+            throw new UncheckedIOException("Failed to build the JSON Lines: " + param, e);
+        }
+        return writer.toString();
+    }
+
+    protected void writeJsonLines(Object param, Writer writer) throws IOException {
+        final Iterator<?> elementIterator = toElementIterator(param);
+        while (elementIterator.hasNext()) {
+            writeJson(elementIterator.next(), writer); // uses writer directly if streaming writer
+            writer.write('\n');
+        }
+    }
+
+    protected Iterator<?> toElementIterator(Object param) {
+        if (param instanceof Iterable<?>) {
+            return ((Iterable<?>) param).iterator();
+        } else if (param instanceof Stream<?>) {
+            return ((Stream<?>) param).iterator();
+        } else if (param instanceof Iterator<?>) {
+            return (Iterator<?>) param;
+        } else if (param instanceof Object[]) {
+            return Arrays.asList((Object[]) param).iterator();
+        } else {
+            throw new IllegalArgumentException("The parameter for NDJSON should be Iterable, Stream, Iterator or array: " + param);
+        }
+    }
+
+    protected boolean isRepeatableParam(Object param) { // can be iterated again, e.g. retry
+        return param instanceof Iterable<?> || param instanceof Object[];
+    }
+
+    @Override
+    protected String buildContentType(String charsetName) {
+        return "application/x-ndjson; charset=" + charsetName;
+    }
+
+    // -----------------------------------------------------
+    //                                  Send/Receive Logging
+    //                                  --------------------
+    @Override
+    protected String getSendReceiveLogRequestBodyType() {
+        return "ndjson";
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.FileEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.logging.SendReceiveLogOption;
+
+/**
+ * The sender of raw body, which passes through the bytes as they are with the declared content type. <br>
+ * The parameter is byte[], ByteBuffer, Path (file) or InputStream, no bean conversion.
+ * <pre>
+ * e.g. proxy of payload between services
+ *  rule.sendBodyBy(new FlRawBodySender("application/json; charset=UTF-8"));
+ *  ... = doRequestPost(..., "/lido/product/sync", noMoreUrl(), receivedBytes, rule -&gt; {});
+ * </pre>
+ * InputStream can be sent only once (not repeatable), so use the others if you want to retry the request.
+ * The stream is closed after sending.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlRawBodySender implements RequestBodySender {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final String OCTET_STREAM = "application/octet-stream";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String contentType; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param contentType The value of Content-Type header for the body, e.g. application/pdf. (NotNull)
+     */
+    public FlRawBodySender(String contentType) {
+        if (contentType == null) {
+            throw new IllegalArgumentException("The argument 'contentType' should not be null.");
+        }
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return The new-created sender as application/octet-stream. (NotNull)
+     */
+    public static FlRawBodySender asOctetStream() {
+        return new FlRawBodySender(OCTET_STREAM);
+    }
+
+    // ===================================================================================
+    //                                                                             Prepare
+    //                                                                             =======
+    @Override
+    public void prepareEnclosingRequest(HttpEntityEnclosingRequest enclosingRequest, Object param, FlutyRemoteApiRule rule) {
+        final AbstractHttpEntity entity = prepareRawEntity(param);
+        entity.setContentType(contentType);
+        readySendReceiveLogIfNeeds(rule, param, entity);
+        enclosingRequest.setEntity(entity);
+    }
+
+    protected AbstractHttpEntity prepareRawEntity(Object param) {
+        if (param instanceof byte[]) {
+            return new ByteArrayEntity((byte[]) param);
+        } else if (param instanceof ByteBuffer) {
+            return createByteBufferEntity((ByteBuffer) param);
+        } else if (param instanceof Path) {
+            return new FileEntity(((Path) param).toFile()); // written by file stream, not loaded on memory
+        } else if (param instanceof InputStream) {
+            return new InputStreamEntity((InputStream) param, /*length*/-1L); // chunked
+        } else {
+            String msg = "Unsupported parameter type for raw body: " + (param != null ? param.getClass().getName() : null);
+            msg = msg + " (supported: byte[], ByteBuffer, Path, InputStream)";
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    protected AbstractHttpEntity createByteBufferEntity(ByteBuffer buffer) { // position of the buffer is not moved
+        if (buffer.hasArray()) { // no copy
+            return new ByteArrayEntity(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final byte[] bytes = new byte[buffer.remaining()]; // e.g. direct buffer
+        buffer.duplicate().get(bytes);
+        return new ByteArrayEntity(bytes);
+    }
+
+    /**
+     * @param param The parameter object for body part. (NullAllowed)
+     * @return true if the parameter is raw body type of this sender.
+     */
+    public static boolean isRawBody(Object param) {
+        return param instanceof byte[] || param instanceof ByteBuffer || param instanceof Path || param instanceof InputStream;
+    }
+
+    // ===================================================================================
+    //                                                                Send/Receive Logging
+    //                                                                ====================
+    protected void readySendReceiveLogIfNeeds(FlutyRemoteApiRule rule, Object param, AbstractHttpEntity entity) {
+        final SendReceiveLogOption option = rule.getSendReceiveLogOption();
+        if (option.isEnabled()) { // binary body is not logged, instead size
+            final long length = entity.getContentLength(); // minus if unknown e.g. stream
+            final String sizeExp = length >= 0L ? String.valueOf(length) : "unknown";
+            option.keeper().keepRequestBody("size=" + sizeExp + ", " + contentType, getSendReceiveLogRequestBodyType());
+        }
+    }
+
+    protected String getSendReceiveLogRequestBodyType() {
+        return "binary";
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "rawBodySender:{" + contentType + "}";
+    }
+}
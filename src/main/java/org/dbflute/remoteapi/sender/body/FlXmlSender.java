@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HTTP;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.StreamingHttpEntity;
+import org.dbflute.remoteapi.logging.SendReceiveLogOption;
+import org.dbflute.remoteapi.mapping.xml.JaxbContextPool;
+
+import jakarta.xml.bind.JAXBElement;
+
+/**
+ * The sender of XML request body by JAXB, marshalled into the request stream directly. <br>
+ * The JAXB context is cached per type and marshallers are pooled.
+ * The bean without XmlRootElement is wrapped by element of decapitalized class name, the same as JAXB.marshal().
+ * <pre>
+ * rule.sendBodyBy(new FlXmlSender());
+ * </pre>
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlXmlSender implements RequestBodySender {
+
+    // ===================================================================================
+    //                                                                             Prepare
+    //                                                                             =======
+    @Override
+    public void prepareEnclosingRequest(HttpEntityEnclosingRequest enclosingRequest, Object param, FlutyRemoteApiRule rule) {
+        final Charset charset = rule.getRequestBodyCharset();
+        final AbstractHttpEntity entity = prepareXmlEntity(param, charset, rule);
+        entity.setContentType(new BasicHeader(HTTP.CONTENT_TYPE, buildContentType(charset.name())));
+        enclosingRequest.setEntity(entity);
+    }
+
+    protected AbstractHttpEntity prepareXmlEntity(Object param, Charset charset, FlutyRemoteApiRule rule) {
+        final JaxbContextPool pool = findJaxbContextPool(param);
+        if (rule.getSendReceiveLogOption().isEnabled()) { // needs XML string for logging
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            pool.marshal(param, out, charset);
+            final byte[] xmlBytes = out.toByteArray();
+            readySendReceiveLogIfNeeds(rule, param, new String(xmlBytes, charset));
+            return new ByteArrayEntity(xmlBytes); // already encoded
+        }
+        return new StreamingHttpEntity(out -> { // written again if retry
+            pool.marshal(param, out, charset); // marshaller buffers by itself, not close the stream
+        }, /*contentLength*/-1L, /*repeatable*/true); // chunked
+    }
+
+    protected JaxbContextPool findJaxbContextPool(Object param) {
+        final Class<?> type = param instanceof JAXBElement ? ((JAXBElement<?>) param).getDeclaredType() : param.getClass();
+        return JaxbContextPool.of(type);
+    }
+
+    protected String buildContentType(String charsetName) {
+        return "application/xml; charset=" + charsetName;
+    }
+
+    // -----------------------------------------------------
+    //                                  Send/Receive Logging
+    //                                  --------------------
+    protected void readySendReceiveLogIfNeeds(FlutyRemoteApiRule rule, Object param, String xml) {
+        final SendReceiveLogOption option = rule.getSendReceiveLogOption();
+        if (option.isEnabled()) {
+            option.keeper().keepRequestBody(xml, getSendReceiveLogRequestBodyType());
+        }
+    }
+
+    protected String getSendReceiveLogRequestBodyType() {
+        return "xml";
+    }
+}
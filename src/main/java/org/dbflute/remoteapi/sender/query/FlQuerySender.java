@@ -15,28 +15,58 @@
  */
 package org.dbflute.remoteapi.sender.query;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.dbflute.helper.beans.DfBeanDesc;
 import org.dbflute.helper.beans.DfPropertyDesc;
-import org.dbflute.helper.beans.factory.DfBeanDescFactory;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.http.UrlPercentEncoder;
 import org.dbflute.remoteapi.logging.SendReceiveLogOption;
 import org.dbflute.remoteapi.mapping.FlParameterSerializer;
 import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan;
+import org.dbflute.remoteapi.mapping.FlSerializationPlan.PropertyPlan;
 
 /**
  * @author jflute
  */
 public class FlQuerySender implements QueryParameterSender {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    // sender class to whether asSerializedParameterName() is overridden, determined once per class
+    protected static final ClassValue<Boolean> namingOverriddenCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlQuerySender.class, "asSerializedParameterName", DfPropertyDesc.class);
+        }
+    };
+
+    // sender class to whether the old buildParameterElement() by charset name is overridden, to keep compatible
+    protected static final ClassValue<Boolean> legacyElementOverriddenCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlQuerySender.class, "buildParameterElement", StringBuilder.class,
+                    MyValueHolder.class, String.class, String.class, String.class);
+        }
+    };
+
+    // sender class to whether the old encode() returning string is overridden, to keep compatible
+    protected static final ClassValue<Boolean> legacyEncodeOverriddenCache = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return FlSerializationPlan.isOverridden(type, FlQuerySender.class, "encode", String.class, String.class);
+        }
+    };
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected final FlRemoteMappingPolicy mappingPolicy;
     protected final FlParameterSerializer parameterSerializer;
+    protected final Map<Class<?>, FlSerializationPlan> instanceSerializationPlanMap = new ConcurrentHashMap<>(); // naming bound to this
 
     // ===================================================================================
     //                                                                         Constructor
@@ -60,23 +90,21 @@ public class FlQuerySender implements QueryParameterSender {
 
     protected String buildQueryString(Object param, Charset charset, FlutyRemoteApiRule rule) {
         final StringBuilder sb = new StringBuilder();
-        final String charsetName = charset.name();
-        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(param.getClass());
+        final FlSerializationPlan plan = findSerializationPlan(param);
         final MyValueHolder<Integer> paramIndex = new MyValueHolder<>(0);
-        for (String propertyName : beanDesc.getProppertyNameList()) {
-            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(propertyName);
-            final Object plainValue = propertyDesc.getValue(param);
+        for (PropertyPlan propertyPlan : plan.getPropertyPlanList()) {
+            final Object plainValue = propertyPlan.getValue(param);
             if (plainValue != null) {
-                final String parameterName = asSerializedParameterName(propertyDesc);
-                if (Iterable.class.isAssignableFrom(plainValue.getClass())) {
-                    ((Iterable<?>) plainValue).forEach(elementValue -> {
+                final String parameterName = propertyPlan.getParameterName(); // resolved once per naming
+                if (plainValue instanceof Iterable<?>) {
+                    for (Object elementValue : (Iterable<?>) plainValue) {
                         final String parameterValue = asSerializedParameterValue(elementValue);
-                        buildParameterElement(sb, paramIndex, parameterName, parameterValue, charsetName);
+                        buildParameterElement(sb, paramIndex, parameterName, parameterValue, charset);
                         readySendReceiveLogIfNeeds(rule, parameterName, parameterValue);
-                    });
+                    }
                 } else {
                     final String parameterValue = asSerializedParameterValue(plainValue);
-                    buildParameterElement(sb, paramIndex, parameterName, parameterValue, charsetName);
+                    buildParameterElement(sb, paramIndex, parameterName, parameterValue, charset);
                     readySendReceiveLogIfNeeds(rule, parameterName, parameterValue);
                 }
                 paramIndex.setValue(paramIndex.getValue() + 1);
@@ -85,6 +113,56 @@ public class FlQuerySender implements QueryParameterSender {
         return sb.toString();
     }
 
+    protected FlSerializationPlan findSerializationPlan(Object param) {
+        if (!isUseSerializationPlanCache()) {
+            return FlSerializationPlan.compile(param.getClass(), propertyDesc -> asSerializedParameterName(propertyDesc));
+        }
+        final String namingKey = buildSerializationNamingKey(); // null allowed
+        if (namingKey == null) { // not shared with other senders
+            return instanceSerializationPlanMap.computeIfAbsent(param.getClass(), beanType -> {
+                return FlSerializationPlan.compile(beanType, propertyDesc -> asSerializedParameterName(propertyDesc));
+            });
+        }
+        return FlSerializationPlan.of(param.getClass(), namingKey, propertyDesc -> asSerializedParameterName(propertyDesc));
+    }
+
+    protected boolean isUseSerializationPlanCache() { // may be overridden
+        return true; // as default, false if you want to compile the plan per request
+    }
+
+    /**
+     * Build the key of parameter naming to share the serialization plan with other sender instances. <br>
+     * If asSerializedParameterName() is overridden (also of the serializer without its key), the plan is bound to this instance
+     * as default, because the names may depend on the instance. Override this if the names are stable per class.
+     * @return The key that identifies the naming, same key means same names. (NullAllowed: bound to this instance)
+     */
+    protected String buildSerializationNamingKey() { // may be overridden
+        if (namingOverriddenCache.get(getClass()) || !parameterSerializer.isNamingCacheKeyAvailable()) {
+            return null;
+        }
+        return getClass().getName() + "|" + parameterSerializer.buildNamingCacheKey(mappingPolicy);
+    }
+
+    protected void buildParameterElement(StringBuilder sb, MyValueHolder<Integer> paramIndex, String parameterName, String parameterValue,
+            Charset charset) {
+        if (legacyElementOverriddenCache.get(getClass())) { // old hook is prior to keep compatible
+            buildParameterElement(sb, paramIndex, parameterName, parameterValue, charset.name());
+            return;
+        }
+        sb.append(sb.length() == 0 ? "?" : "&");
+        sb.append(parameterName).append("=");
+        encode(sb, parameterValue, charset); // directly into builder
+    }
+
+    /**
+     * @param sb The builder of query string. (NotNull)
+     * @param paramIndex The holder of parameter index. (NotNull)
+     * @param parameterName The name of parameter. (NotNull)
+     * @param parameterValue The serialized value of parameter. (NotNull)
+     * @param charsetName The name of charset. (NotNull)
+     * @deprecated use buildParameterElement(StringBuilder, MyValueHolder, String, String, Charset), called if overridden
+     */
+    @Deprecated
     protected void buildParameterElement(StringBuilder sb, MyValueHolder<Integer> paramIndex, String parameterName, String parameterValue,
             String charsetName) {
         sb.append(sb.length() == 0 ? "?" : "&");
@@ -100,12 +178,29 @@ public class FlQuerySender implements QueryParameterSender {
         return parameterSerializer.asSerializedParameterValue(value, mappingPolicy);
     }
 
+    protected void encode(StringBuilder sb, String parameterValue, Charset charset) { // may be overridden
+        if (legacyEncodeOverriddenCache.get(getClass())) { // old hook is prior to keep compatible
+            sb.append(encode(parameterValue, charset.name()));
+            return;
+        }
+        UrlPercentEncoder.QUERY_COMPONENT.encode(sb, parameterValue, charset); // as query component, e.g. space is %20
+    }
+
+    /**
+     * @param parameterValue The serialized value of parameter. (NotNull)
+     * @param charsetName The name of charset. (NotNull)
+     * @return The encoded value as query component. (NotNull)
+     * @deprecated use encode(StringBuilder, String, Charset) to encode directly into builder, called if overridden
+     */
+    @Deprecated
     protected String encode(String parameterValue, String charsetName) {
+        final Charset charset;
         try {
-            return URLEncoder.encode(parameterValue, charsetName);
-        } catch (UnsupportedEncodingException e) {
+            charset = Charset.forName(charsetName);
+        } catch (IllegalArgumentException e) {
             throw new IllegalStateException("Unknown encoding: " + charsetName, e);
         }
+        return UrlPercentEncoder.QUERY_COMPONENT.encode(parameterValue, charset);
     }
 
     // -----------------------------------------------------
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The iterator of elements read incrementally from response body, keeping the connection until closed. <br>
+ * Closed automatically when all elements are read or reading fails,
+ * but you should use it by try-with-resources for e.g. break in the middle.
+ * <pre>
+ * try (Stream&lt;RemoteProductRowReturn&gt; stream = doRequestGetStream(RemoteProductRowReturn.class, ...)) {
+ *     stream.forEach(row -&gt; ...); // only current row is on memory
+ * }
+ * </pre>
+ * @param <ELEMENT> The type of element.
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class RemoteElementIterator<ELEMENT> implements Iterator<ELEMENT>, AutoCloseable {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(RemoteElementIterator.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Iterator<ELEMENT> elementIterator; // not null, reading response body
+    protected final Consumer<ELEMENT> elementChecker; // not null, e.g. validation of element
+    protected final Consumer<RuntimeException> failureHandler; // not null, throws translated exception
+    protected final Closeable resourceCloser; // not null, releases e.g. connection
+    protected int elementCount;
+    protected boolean closed;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param elementIterator The iterator of elements from receiver, reading response body lazily. (NotNull)
+     * @param elementChecker The checker of each element, e.g. validation. (NotNull)
+     * @param failureHandler The handler of reading failure, which throws translated exception. (NotNull)
+     * @param resourceCloser The closer of resources, e.g. response and HTTP client. (NotNull)
+     */
+    public RemoteElementIterator(Iterator<ELEMENT> elementIterator, Consumer<ELEMENT> elementChecker,
+            Consumer<RuntimeException> failureHandler, Closeable resourceCloser) {
+        assertArgumentNotNull("elementIterator", elementIterator);
+        assertArgumentNotNull("elementChecker", elementChecker);
+        assertArgumentNotNull("failureHandler", failureHandler);
+        assertArgumentNotNull("resourceCloser", resourceCloser);
+        this.elementIterator = elementIterator;
+        this.elementChecker = elementChecker;
+        this.failureHandler = failureHandler;
+        this.resourceCloser = resourceCloser;
+    }
+
+    // ===================================================================================
+    //                                                                            Iterator
+    //                                                                            ========
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        final boolean hasNext;
+        try {
+            hasNext = elementIterator.hasNext();
+        } catch (RuntimeException e) {
+            throw handleFailure(e);
+        }
+        if (!hasNext) {
+            close(); // releases connection as soon as possible
+        }
+        return hasNext;
+    }
+
+    @Override
+    public ELEMENT next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more element from the remote API: " + toString());
+        }
+        final ELEMENT element;
+        try {
+            element = elementIterator.next();
+        } catch (RuntimeException e) {
+            throw handleFailure(e);
+        }
+        try {
+            elementChecker.accept(element);
+        } catch (RuntimeException e) { // e.g. validation error
+            close();
+            throw e;
+        }
+        ++elementCount;
+        return element;
+    }
+
+    protected RuntimeException handleFailure(RuntimeException cause) {
+        close();
+        failureHandler.accept(cause); // basically throws
+        return cause; // if not thrown
+    }
+
+    // ===================================================================================
+    //                                                                              Stream
+    //                                                                              ======
+    /**
+     * @return The sequential stream of elements, which closes this iterator when closed. (NotNull)
+     */
+    public Stream<ELEMENT> stream() {
+        final int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, characteristics), false).onClose(() -> close());
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resourceCloser.close();
+        } catch (IOException | RuntimeException e) { // already read elements are valid so only logging
+            logger.debug("Failed to close the resources of remote element iterator: " + toString(), e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected void assertArgumentNotNull(String variableName, Object value) {
+        if (variableName == null) {
+            throw new IllegalArgumentException("The variableName should not be null.");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The argument '" + variableName + "' should not be null.");
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "remoteElementIterator:{count=" + elementCount + ", closed=" + closed + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -29,6 +29,25 @@ public class SendReceiveValidatorOption {
     protected boolean suppressParam;
     protected boolean suppressReturn;
 
+    // ===================================================================================
+    //                                                                           Framework
+    //                                                                           =========
+    /**
+     * @return The new-created option that has the same settings, for one request. (NotNull)
+     */
+    public SendReceiveValidatorOption xcopyForRequest() { // for framework, e.g. overlay of default rule template
+        final SendReceiveValidatorOption copied = newSendReceiveValidatorOption();
+        copied.handleAsWarnParam = handleAsWarnParam;
+        copied.handleAsWarnReturn = handleAsWarnReturn;
+        copied.suppressParam = suppressParam;
+        copied.suppressReturn = suppressReturn;
+        return copied;
+    }
+
+    protected SendReceiveValidatorOption newSendReceiveValidatorOption() {
+        return new SendReceiveValidatorOption();
+    }
+
     // ===================================================================================
     //                                                                              Option
     //                                                                              ======
@@ -35,6 +35,7 @@ import org.dbflute.remoteapi.exception.RemoteApiResponseValidationErrorException
 import org.dbflute.remoteapi.exception.RemoteApiValidationErrorHookNotFoundException;
 import org.dbflute.remoteapi.logging.SendReceiveLogOption;
 import org.dbflute.remoteapi.logging.SendReceiveLogger;
+import org.dbflute.remoteapi.sender.body.FlRawBodySender;
 import org.dbflute.util.DfTypeUtil;
 import org.dbflute.util.Srl;
 import org.lastaflute.core.magic.ThreadCacheContext;
@@ -96,6 +97,9 @@ public class LastaRemoteApi extends FlutyRemoteApi {
         if (rule.getValidatorOption().isSuppressParam()) {
             return;
         }
+        if (FlRawBodySender.isRawBody(param)) { // e.g. byte[], no bean to be validated
+            return;
+        }
         try {
             createTransferredBeanValidator().validate(param);
         } catch (ResponseBeanValidationErrorException e) {
@@ -116,6 +120,11 @@ public class LastaRemoteApi extends FlutyRemoteApi {
         }
     }
 
+    @Override
+    protected boolean isFailureResponseValidationTarget(FlutyRemoteApiRule rule) {
+        return !rule.getValidatorOption().isSuppressReturn(); // failure response is validated as return
+    }
+
     protected ResponseSimpleBeanValidator createTransferredBeanValidator() {
         // use ActionValidator #for_now (with suppressing request process) by jflute
         return new ResponseSimpleBeanValidator(requestManager, facadeExp, isTransferredBeanValidationAsWarning()) {
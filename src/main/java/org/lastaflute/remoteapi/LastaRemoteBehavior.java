@@ -16,6 +16,7 @@
 package org.lastaflute.remoteapi;
 
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import org.dbflute.remoteapi.FlutyRemoteApi;
@@ -23,9 +24,12 @@ import org.dbflute.remoteapi.FlutyRemoteApiRule;
 import org.dbflute.remoteapi.FlutyRemoteBehavior;
 import org.dbflute.util.DfStringUtil;
 import org.lastaflute.core.direction.AccessibleConfig;
+import org.lastaflute.core.magic.async.AsyncManager;
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall;
 import org.lastaflute.di.naming.NamingConvention;
 import org.lastaflute.web.servlet.request.RequestManager;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Resource;
 
 /**
@@ -81,4 +85,32 @@ public abstract class LastaRemoteBehavior extends FlutyRemoteBehavior {
     protected FlutyRemoteApi newRemoteApi(Consumer<FlutyRemoteApiRule> ruleSetupper, Object callerExp) {
         return new LastaRemoteApi(ruleSetupper, callerExp); // in constructor so you cannot use DI components
     }
+
+    // ===================================================================================
+    //                                                                      Async Executor
+    //                                                                      ==============
+    @Override
+    protected Executor createRemoteAsyncExecutor() { // to inherit e.g. thread cache context
+        final AsyncManager asyncManager = requestManager.getAsyncManager();
+        return runner -> {
+            asyncManager.async(new ConcurrentAsyncCall() {
+
+                @Override
+                public ConcurrentAsyncImportance importance() {
+                    return ConcurrentAsyncImportance.SECONDARY; // caller waits for the future
+                }
+
+                @Override
+                public void callback() {
+                    runner.run();
+                }
+            });
+        };
+    }
+
+    @PreDestroy
+    @Override
+    public void closeRemoteAsync() { // called when the component is destroyed
+        super.closeRemoteAsync();
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.remoteapi.mapping;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.dbflute.helper.beans.DfBeanDesc;
+import org.dbflute.helper.beans.DfPropertyDesc;
+import org.dbflute.helper.beans.factory.DfBeanDescFactory;
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.json.JsonMappingOption;
+import org.lastaflute.core.json.engine.RealJsonEngine;
+import org.lastaflute.web.servlet.request.RequestManager;
+
+/**
+ * The registry of JSON engine shared by senders/receivers, keyed by request manager, engine customizer and mapping option values. <br>
+ * Senders/receivers are basically created per request in your default rule, so the engine (with its caches) is reused here.
+ * <pre>
+ * e.g. LaJsonSender and LaJsonReceiver with the same mapping option use the same (warmed) engine
+ * e.g. your sub-class of LaJsonReceiver uses its own engine, not shared with plain senders/receivers
+ * e.g. mapping option with lambda (e.g. ultimate customizer) is not comparable so the engine is not shared
+ * </pre>
+ * The request manager is weakly referenced, so the engines are released with it. (e.g. hot deploy)
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class LaJsonEngineRegistry {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int REGISTRY_LIMIT = 64; // per request manager, basically a few mapping options
+    protected static final String STANDARD_CUSTOMIZER = "standard"; // key of engine not customized
+
+    // request manager (weak key, no equals() override so identity) to (engine key to engine)
+    protected static final Map<RequestManager, Map<String, RealJsonEngine>> managerEngineMap = new WeakHashMap<>(); // synchronized by itself
+
+    // ===================================================================================
+    //                                                                         Find Engine
+    //                                                                         ===========
+    /**
+     * Find the shared JSON engine for the mapping option, or create it by the creator if not found.
+     * @param requestManager The manager of request to get JSON manager, compared by identity and weakly referenced. (NotNull)
+     * @param customizerType The type customizing the engine creation, not shared with other types. (NullAllowed: if null, standard engine)
+     * @param mappingOption The option of JSON mapping, compared by its property values. (NullAllowed: then default)
+     * @param engineCreator The creator of JSON engine called if not found. (NotNull)
+     * @return The shared JSON engine, or new-created one if the mapping option is not comparable. (NotNull)
+     */
+    public static RealJsonEngine findEngine(RequestManager requestManager, Class<?> customizerType, JsonMappingOption mappingOption,
+            Supplier<RealJsonEngine> engineCreator) {
+        assertArgumentNotNull("requestManager", requestManager);
+        assertArgumentNotNull("engineCreator", engineCreator);
+        final String key = buildEngineKey(customizerType, mappingOption); // null allowed
+        if (key == null) { // not shared, e.g. lambda in mapping option
+            return createEngine(engineCreator, "(not comparable option)");
+        }
+        synchronized (managerEngineMap) {
+            final Map<String, RealJsonEngine> engineMap = managerEngineMap.get(requestManager);
+            final RealJsonEngine cached = engineMap != null ? engineMap.get(key) : null;
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final RealJsonEngine created = createEngine(engineCreator, key); // outside lock because of heavy
+        synchronized (managerEngineMap) {
+            final Map<String, RealJsonEngine> engineMap = managerEngineMap.computeIfAbsent(requestManager, manager -> newEngineMap());
+            final RealJsonEngine existing = engineMap.get(key);
+            if (existing != null) { // created by other thread in race
+                return existing;
+            }
+            engineMap.put(key, created);
+        }
+        return created;
+    }
+
+    protected static RealJsonEngine createEngine(Supplier<RealJsonEngine> engineCreator, Object keyExp) {
+        final RealJsonEngine created = engineCreator.get();
+        if (created == null) {
+            throw new IllegalStateException("The engine creator returned null: key=" + keyExp);
+        }
+        return created;
+    }
+
+    protected static Map<String, RealJsonEngine> newEngineMap() {
+        return new LinkedHashMap<String, RealJsonEngine>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RealJsonEngine> eldest) { // as LRU
+                return size() > REGISTRY_LIMIT;
+            }
+        };
+    }
+
+    /**
+     * Clear the registered engines, e.g. for hot deploy or test.
+     */
+    public static void clear() {
+        synchronized (managerEngineMap) {
+            managerEngineMap.clear();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                          Engine Key
+    //                                                                          ==========
+    protected static String buildEngineKey(Class<?> customizerType, JsonMappingOption mappingOption) { // null allowed: not comparable
+        // type name not to refer the class (and its class loader) from the static map
+        final String customizerKey = customizerType != null ? customizerType.getName() : STANDARD_CUSTOMIZER;
+        final String optionKey = buildMappingOptionKey(mappingOption); // null allowed
+        return optionKey != null ? customizerKey + "|" + optionKey : null;
+    }
+
+    /**
+     * Build the key of mapping option from all its property values (by getters), not toString() that may omit some values.
+     * @param mappingOption The option of JSON mapping. (NullAllowed: then default)
+     * @return The key that identifies the option values. (NullAllowed: not comparable, e.g. lambda)
+     */
+    protected static String buildMappingOptionKey(JsonMappingOption mappingOption) {
+        if (mappingOption == null) {
+            return "default";
+        }
+        final DfBeanDesc beanDesc = DfBeanDescFactory.getBeanDesc(mappingOption.getClass());
+        final StringBuilder sb = new StringBuilder(mappingOption.getClass().getName());
+        for (String propertyName : beanDesc.getProppertyNameList()) {
+            final DfPropertyDesc propertyDesc = beanDesc.getPropertyDesc(propertyName);
+            if (!propertyDesc.isReadable()) {
+                continue;
+            }
+            final String valueKey = buildComparableValueKey(propertyDesc.getValue(mappingOption));
+            if (valueKey == null) { // e.g. lambda, identity hash code may churn the registry
+                return null;
+            }
+            sb.append("|").append(propertyName).append("=").append(valueKey);
+        }
+        return sb.toString();
+    }
+
+    protected static String buildComparableValueKey(Object value) { // null allowed: not comparable
+        final Object plainValue = value instanceof OptionalThing<?> ? ((OptionalThing<?>) value).orElse(null) : value;
+        if (plainValue == null) {
+            return "null";
+        } else if (plainValue instanceof String || plainValue instanceof Number || plainValue instanceof Boolean
+                || plainValue instanceof Character || plainValue instanceof Enum<?>) {
+            return plainValue.toString();
+        } else if (plainValue instanceof DateTimeFormatter) { // toString() shows the pattern
+            final DateTimeFormatter formatter = (DateTimeFormatter) plainValue;
+            return formatter + "@" + formatter.getLocale() + "@" + formatter.getZone() + "@" + formatter.getResolverStyle();
+        } else if (plainValue instanceof Collection<?>) {
+            final StringBuilder sb = new StringBuilder("[");
+            for (Object element : (Collection<?>) plainValue) {
+                final String elementKey = buildComparableValueKey(element);
+                if (elementKey == null) {
+                    return null;
+                }
+                sb.append(sb.length() > 1 ? ", " : "").append(elementKey);
+            }
+            return sb.append("]").toString();
+        }
+        return null; // e.g. lambda, filter, customizer
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected static void assertArgumentNotNull(String variableName, Object value) {
+        if (variableName == null) {
+            throw new IllegalArgumentException("The variableName should not be null.");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The argument '" + variableName + "' should not be null.");
+        }
+    }
+}
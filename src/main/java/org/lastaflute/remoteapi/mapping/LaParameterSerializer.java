@@ -61,6 +61,14 @@ public class LaParameterSerializer extends FlParameterSerializer {
         }
     }
 
+    @Override
+    public String buildNamingCacheKey(FlRemoteMappingPolicy mappingPolicy) {
+        if (mappingPolicy instanceof LaSelectedMappingPolicy) { // names depend on field naming
+            return super.buildNamingCacheKey(mappingPolicy) + ":" + ((LaSelectedMappingPolicy) mappingPolicy).getFieldNaming();
+        }
+        return super.buildNamingCacheKey(mappingPolicy);
+    }
+
     // -----------------------------------------------------
     //                                        to Lower Snake
     //                                        --------------
@@ -22,6 +22,7 @@ import org.lastaflute.core.json.JsonEngineResource;
 import org.lastaflute.core.json.JsonManager;
 import org.lastaflute.core.json.JsonMappingOption;
 import org.lastaflute.core.json.engine.RealJsonEngine;
+import org.lastaflute.remoteapi.mapping.LaJsonEngineRegistry;
 import org.lastaflute.web.servlet.request.RequestManager;
 
 /**
@@ -33,7 +34,33 @@ public class LaJsonReceiver extends FlJsonReceiver {
     protected final RealJsonEngine jsonEngine; // to parse JSON response and request as JsonBody
 
     public LaJsonReceiver(RequestManager requestManager, JsonMappingOption mappingOption) {
-        this.jsonEngine = createJsonEngine(requestManager.getJsonManager(), mappingOption);
+        this.jsonEngine = prepareJsonEngine(requestManager, mappingOption);
+    }
+
+    protected RealJsonEngine prepareJsonEngine(RequestManager requestManager, JsonMappingOption mappingOption) {
+        if (isUseSharedJsonEngine()) { // reused by same mapping option
+            return LaJsonEngineRegistry.findEngine(requestManager, deriveJsonEngineCustomizerType(), mappingOption, () -> {
+                return createJsonEngine(requestManager.getJsonManager(), mappingOption);
+            });
+        }
+        return createJsonEngine(requestManager.getJsonManager(), mappingOption);
+    }
+
+    /**
+     * Does it use the JSON engine shared by senders/receivers that have the same mapping option? <br>
+     * The engine of your sub-class is shared only by the same type, so override this as false if it depends on instance state.
+     * @return The determination, true if shared engine is used.
+     */
+    protected boolean isUseSharedJsonEngine() { // may be overridden
+        return true; // as default
+    }
+
+    /**
+     * Derive the type customizing the JSON engine, whose shared engine is separated from other types.
+     * @return The type of sub-class that may customize the engine. (NullAllowed: if null, standard engine)
+     */
+    protected Class<?> deriveJsonEngineCustomizerType() { // may be overridden
+        return getClass().equals(LaJsonReceiver.class) ? null : getClass(); // e.g. overridden prepareJsonEngineResource()
     }
 
     protected RealJsonEngine createJsonEngine(JsonManager jsonManager, JsonMappingOption mappingOption) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.remoteapi.receiver;
+
+import java.lang.reflect.ParameterizedType;
+
+import org.dbflute.remoteapi.receiver.FlNdjsonReceiver;
+import org.lastaflute.core.json.JsonEngineResource;
+import org.lastaflute.core.json.JsonManager;
+import org.lastaflute.core.json.JsonMappingOption;
+import org.lastaflute.core.json.engine.RealJsonEngine;
+import org.lastaflute.remoteapi.mapping.LaJsonEngineRegistry;
+import org.lastaflute.web.servlet.request.RequestManager;
+
+/**
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class LaNdjsonReceiver extends FlNdjsonReceiver {
+
+    protected final RealJsonEngine jsonEngine; // to handle each element (line)
+
+    public LaNdjsonReceiver(RequestManager requestManager, JsonMappingOption mappingOption) {
+        this.jsonEngine = prepareJsonEngine(requestManager, mappingOption);
+    }
+
+    protected RealJsonEngine prepareJsonEngine(RequestManager requestManager, JsonMappingOption mappingOption) {
+        if (isUseSharedJsonEngine()) { // reused by same mapping option
+            return LaJsonEngineRegistry.findEngine(requestManager, deriveJsonEngineCustomizerType(), mappingOption, () -> {
+                return createJsonEngine(requestManager.getJsonManager(), mappingOption);
+            });
+        }
+        return createJsonEngine(requestManager.getJsonManager(), mappingOption);
+    }
+
+    /**
+     * Does it use the JSON engine shared by senders/receivers that have the same mapping option? <br>
+     * The engine of your sub-class is shared only by the same type, so override this as false if it depends on instance state.
+     * @return The determination, true if shared engine is used.
+     */
+    protected boolean isUseSharedJsonEngine() { // may be overridden
+        return true; // as default
+    }
+
+    /**
+     * Derive the type customizing the JSON engine, whose shared engine is separated from other types.
+     * @return The type of sub-class that may customize the engine. (NullAllowed: if null, standard engine)
+     */
+    protected Class<?> deriveJsonEngineCustomizerType() { // may be overridden
+        return getClass().equals(LaNdjsonReceiver.class) ? null : getClass(); // e.g. overridden prepareJsonEngineResource()
+    }
+
+    protected RealJsonEngine createJsonEngine(JsonManager jsonManager, JsonMappingOption mappingOption) {
+        return jsonManager.newRuledEngine(prepareJsonEngineResource(mappingOption));
+    }
+
+    protected JsonEngineResource prepareJsonEngineResource(JsonMappingOption mappingOption) {
+        final JsonEngineResource resource = new JsonEngineResource();
+        resource.acceptMappingOption(mappingOption);
+        return resource;
+    }
+
+    @Override
+    protected <BEAN> BEAN fromJson(String json, Class<BEAN> beanType) {
+        return jsonEngine.fromJson(json, beanType);
+    }
+
+    @Override
+    protected <BEAN> BEAN fromJsonParameteried(String json, ParameterizedType parameterizedType) {
+        return jsonEngine.fromJsonParameteried(json, parameterizedType);
+    }
+}
@@ -15,7 +15,10 @@
  */
 package org.lastaflute.remoteapi.receiver;
 
+import java.lang.reflect.Field;
+
 import org.dbflute.helper.beans.DfPropertyDesc;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
 import org.dbflute.remoteapi.receiver.FlSplitReceiver;
 
 import com.google.gson.annotations.SerializedName;
@@ -30,10 +33,15 @@ public class LaSplitReceiver extends FlSplitReceiver {
         super(delimiter, delimiterByKeyValue);
     }
 
+    public LaSplitReceiver(String delimiter, String delimiterByKeyValue, FlRemoteMappingPolicy mappingPolicy) {
+        super(delimiter, delimiterByKeyValue, mappingPolicy);
+    }
+
     @Override
     protected String asDeserializedParameterName(DfPropertyDesc propertyDesc) {
-        final SerializedName serializedName = propertyDesc.getField().getAnnotation(SerializedName.class);
-        if (serializedName != null) {
+        final Field field = propertyDesc.getField(); // null allowed: e.g. setter only
+        final SerializedName serializedName = field != null ? field.getAnnotation(SerializedName.class) : null;
+        if (serializedName != null) { // resolved once per class by mapping plan
             return serializedName.value();
         }
         return super.asDeserializedParameterName(propertyDesc);
@@ -15,10 +15,58 @@
  */
 package org.dbflute.remoteapi;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.exception.RemoteApiHttpBasisErrorException.RemoteApiLazyFailureResponseHolder;
+import org.dbflute.remoteapi.exception.RemoteApiHttpClientErrorException;
 import org.dbflute.remoteapi.exception.RemoteApiPathVariableNullElementException;
 import org.dbflute.remoteapi.exception.RemoteApiPathVariableShortElementException;
+import org.dbflute.remoteapi.exception.RemoteApiResponseTooLargeException;
+import org.dbflute.remoteapi.http.ActionPathTemplate;
+import org.dbflute.remoteapi.http.SupportedHttpMethod;
+import org.dbflute.remoteapi.http.buffering.SpilledHttpEntity;
+import org.dbflute.remoteapi.http.compression.BodyCompressionOption;
+import org.dbflute.remoteapi.http.compression.CompressingHttpEntity;
+import org.dbflute.remoteapi.http.compression.CompressionEncoding;
+import org.dbflute.remoteapi.http.compression.DecompressingHttpEntity;
+import org.dbflute.remoteapi.mapping.FlParameterDeserializer;
+import org.dbflute.remoteapi.mapping.FlParameterSerializer;
+import org.dbflute.remoteapi.mapping.FlVacantMappingPolicy;
+import org.dbflute.remoteapi.mapping.cbor.CborBeanMapper;
+import org.dbflute.remoteapi.mapping.cbor.CborWriter;
 import org.dbflute.remoteapi.mock.MockCDef;
+import org.dbflute.remoteapi.mock.MockHttpClient;
+import org.dbflute.remoteapi.mock.MockHttpResponse;
+import org.dbflute.remoteapi.receiver.FlCborReceiver;
+import org.dbflute.remoteapi.receiver.ResponseBodyReceiver;
+import org.dbflute.remoteapi.receiver.ResponseBodyStream;
+import org.dbflute.remoteapi.receiver.StreamingResponseBodyReceiver;
+import org.dbflute.remoteapi.sender.body.FlFormSender;
 import org.dbflute.utflute.core.PlainTestCase;
 
 /**
@@ -59,6 +107,25 @@ public class FlutyRemoteApiTest extends PlainTestCase {
         }
     }
 
+    public void test_buildUrl_actionPathVariables_templateCached() {
+        // ## Arrange ##
+        String path = "/sea/{hangar}/land/{showbase}";
+
+        // ## Act ##
+        ActionPathTemplate first = ActionPathTemplate.of(path);
+        ActionPathTemplate second = ActionPathTemplate.of(path);
+
+        // ## Assert ##
+        assertSame(first, second);
+        assertTrue(first.hasVariableSlot());
+        assertEquals(5, first.getSegmentCount()); // [, sea, {hangar}, land, {showbase}]
+        assertTrue(first.isVariableSlot(2));
+        assertEquals("land", first.getLiteral(3));
+        assertFalse(ActionPathTemplate.of("/sea/land").hasVariableSlot());
+        assertEquals("8080/sea/mystic/land/oneman", buildUrl_withPath(path, "mystic", "oneman")); // reused
+        assertEquals("8080/sea/dockside/land/oneman", buildUrl_withPath(path, "dockside", "oneman"));
+    }
+
     private String buildUrl_withPath(String actionPath, Object... pathVariables) {
         FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
         Class<Object> beanType = Object.class;
@@ -98,7 +165,7 @@ public class FlutyRemoteApiTest extends PlainTestCase {
 
         // ## Assert ##
         log(part);
-        assertEquals("sea/my%2Fs+ti-c", part);
+        assertEquals("sea/my%2Fs%20ti-c", part); // space is not form-encoded in path
     }
 
     public void test_buildPathVariablePart_nullElement() {
@@ -113,4 +180,784 @@ public class FlutyRemoteApiTest extends PlainTestCase {
                     rule);
         });
     }
+
+    // ===================================================================================
+    //                                                               createRemoteApiRule()
+    //                                                               =====================
+    public void test_createRemoteApiRule_defaultRuleTemplate() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            rule.setHeader("X-Sea", "mystic");
+            rule.setSocketTimeout(5000);
+        }, this);
+        remoteApi.enableDefaultRuleTemplate();
+
+        // ## Act ##
+        FlutyRemoteApiRule first = remoteApi.createRemoteApiRule(rule -> rule.addHeader("X-Sea", "oneman"), SupportedHttpMethod.GET);
+        FlutyRemoteApiRule second = remoteApi.createRemoteApiRule(rule -> {}, SupportedHttpMethod.POST);
+
+        // ## Assert ##
+        log(first, second);
+        assertEquals(5000, first.getSocketTimeout());
+        assertEquals("[mystic, oneman]", first.getHeaders().get().get("X-Sea").toString());
+        assertEquals("[mystic]", second.getHeaders().get().get("X-Sea").toString()); // copied on write
+        assertNotSame(first.getSendReceiveLogOption(), second.getSendReceiveLogOption());
+        FlutyRemoteApiRule template = remoteApi.prepareDefaultRuleTemplate();
+        assertSame(template, remoteApi.prepareDefaultRuleTemplate());
+        assertException(IllegalStateException.class, () -> template.setHeader("X-Land", "dockside"));
+    }
+
+    public void test_createRemoteApiRule_defaultRuleTemplate_optionCopied() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            rule.compressBody(op -> op.thresholdBytes(4096L));
+            rule.limitResponseSize(op -> op.maxBytes(1000L));
+            rule.cacheClientError(op -> op.expireAfterMillis(3000L));
+        }, this);
+        remoteApi.enableDefaultRuleTemplate();
+
+        // ## Act ##
+        FlutyRemoteApiRule first = remoteApi.createRemoteApiRule(rule -> {}, SupportedHttpMethod.GET);
+        first.getBodyCompressionOption().get().thresholdBytes(0L); // per request
+        first.getResponseSizeOption().get().maxBytes(9999L);
+        first.getClientErrorCacheOption().get().expireAfterMillis(1L);
+        first.getValidatorOption().suppressReturn();
+        FlutyRemoteApiRule second = remoteApi.createRemoteApiRule(rule -> {}, SupportedHttpMethod.GET);
+
+        // ## Assert ##
+        assertEquals(4096L, second.getBodyCompressionOption().get().getThresholdBytes()); // template not changed
+        assertEquals(1000L, second.getResponseSizeOption().get().getMaxBytes());
+        assertEquals(3000L, second.getClientErrorCacheOption().get().getExpireMillis());
+        assertFalse(second.getValidatorOption().isSuppressReturn());
+        FlutyRemoteApiRule template = remoteApi.prepareDefaultRuleTemplate();
+        assertNotSame(template.getBodyCompressionOption().get(), second.getBodyCompressionOption().get());
+        assertNotSame(template.getValidatorOption(), second.getValidatorOption());
+    }
+
+    @SuppressWarnings("deprecation")
+    public void test_createRemoteApiRule_defaultRuleTemplate_requestedHttpMethod() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            rule.xgetFrameworkInternallyRequestedHttpMethod().get(); // depends on request
+        }, this);
+        remoteApi.enableDefaultRuleTemplate();
+
+        // ## Act ##
+        // ## Assert ##
+        IllegalStateException cause = assertException(IllegalStateException.class, () -> {
+            remoteApi.createRemoteApiRule(rule -> {}, SupportedHttpMethod.GET);
+        });
+        assertContains(cause.getMessage(), "default rule template");
+        FlutyRemoteApi perRequestApi = new FlutyRemoteApi(rule -> {
+            assertEquals(SupportedHttpMethod.GET, rule.xgetFrameworkInternallyRequestedHttpMethod().get());
+        }, this);
+        perRequestApi.createRemoteApiRule(rule -> {}, SupportedHttpMethod.GET); // no template, available
+    }
+
+    // ===================================================================================
+    //                                                                   ClientError Cache
+    //                                                                   =================
+    public void test_requestGet_clientErrorCache_hit() {
+        // ## Arrange ##
+        AtomicInteger requestCount = new AtomicInteger();
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.peekRequest(request -> requestCount.incrementAndGet());
+            response.asJsonDirectly("{\"sea\": \"notFound\"}", request -> true).httpStatus(404);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+        Consumer<FlutyRemoteApiRule> ruleLambda = rule -> rule.cacheClientError(op -> {});
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException first = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), ruleLambda);
+        });
+        RemoteApiHttpClientErrorException second = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), ruleLambda);
+        });
+
+        // ## Assert ##
+        assertEquals(1, requestCount.get()); // second is from cache
+        assertEquals(404, second.getHttpStatus());
+        assertNotSame(first, second); // not shared between threads
+        assertContains(second.getMessage(), "notFound");
+    }
+
+    public void test_requestGet_clientErrorCache_expired() {
+        // ## Arrange ##
+        AtomicInteger requestCount = new AtomicInteger();
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.peekRequest(request -> requestCount.incrementAndGet());
+            response.asJsonDirectly("{}", request -> true).httpStatus(404);
+        });
+        long[] currentTime = { 1000L };
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this) {
+            @Override
+            protected long currentClientErrorCacheTimeMillis() {
+                return currentTime[0];
+            }
+        };
+        Consumer<FlutyRemoteApiRule> ruleLambda = rule -> rule.cacheClientError(op -> op.expireAfterMillis(500L));
+
+        // ## Act ##
+        for (long time : new long[] { 1000L, 1499L, 1500L }) {
+            currentTime[0] = time;
+            assertException(RemoteApiHttpClientErrorException.class, () -> {
+                remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), ruleLambda);
+            });
+        }
+
+        // ## Assert ##
+        assertEquals(2, requestCount.get()); // first and after expired
+    }
+
+    public void test_requestGet_clientErrorCache_getOnly() {
+        // ## Arrange ##
+        AtomicInteger requestCount = new AtomicInteger();
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.peekRequest(request -> requestCount.incrementAndGet());
+            response.asJsonDirectly("{}", request -> true).httpStatus(404);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+        Consumer<FlutyRemoteApiRule> ruleLambda = rule -> rule.cacheClientError(op -> {});
+
+        // ## Act ##
+        for (int i = 0; i < 2; i++) {
+            assertException(RemoteApiHttpClientErrorException.class, () -> {
+                remoteApi.requestDelete(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), ruleLambda);
+            });
+        }
+
+        // ## Assert ##
+        assertEquals(2, requestCount.get()); // not cached
+    }
+
+    public void test_buildClientErrorCacheKey_secretHeader() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = new FlutyRemoteApiRule();
+        rule.setHeader("Authorization", "Bearer mystic-secret");
+        rule.setHeader("Accept-Language", "ja");
+
+        // ## Act ##
+        String key = remoteApi.buildClientErrorCacheKey("http://localhost/sea", rule, SupportedHttpMethod.GET);
+
+        // ## Assert ##
+        log(key);
+        assertNotContains(key, "mystic-secret");
+        assertContains(key, "Authorization=sha256:");
+        assertContains(key, "Accept-Language=[ja]");
+        FlutyRemoteApiRule other = new FlutyRemoteApiRule();
+        other.setHeader("Authorization", "Bearer oneman-secret");
+        other.setHeader("Accept-Language", "ja");
+        assertFalse(key.equals(remoteApi.buildClientErrorCacheKey("http://localhost/sea", other, SupportedHttpMethod.GET)));
+    }
+
+    // ===================================================================================
+    //                                                                  Streaming Response
+    //                                                                  ==================
+    public void test_requestGet_streaming_parseStreamingResponse() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"mystic\"}", request -> true);
+        });
+        List<String> parsedList = new ArrayList<>();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            rule.xregisterMockHttpClient(client);
+            rule.receiveBodyBy(new MockStreamingReceiver());
+        }, this) {
+            @Override
+            protected <RETURN> RETURN parseStreamingResponse(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
+                    ResponseBodyStream bodyStream, FlutyRemoteApiRule rule) {
+                parsedList.add(url);
+                return super.parseStreamingResponse(returnType, url, form, httpStatus, bodyStream, rule);
+            }
+
+            @Override
+            protected <RETURN> RETURN parseResponse(Type returnType, String url, OptionalThing<Object> form, int httpStatus,
+                    OptionalThing<String> body, FlutyRemoteApiRule rule) {
+                throw new IllegalStateException("not called for streamed response");
+            }
+        };
+
+        // ## Act ##
+        String ret = remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {});
+
+        // ## Assert ##
+        assertEquals("streamed:{\"sea\": \"mystic\"}", ret);
+        assertEquals(newArrayList("http://localhost/sea"), parsedList);
+    }
+
+    // ===================================================================================
+    //                                                                   Failure Hand-over
+    //                                                                   =================
+    public void test_requestGetStream_failure_wrappedOnce() {
+        // ## Arrange ##
+        List<String> wrappedList = new ArrayList<>();
+        FlutyRemoteApi remoteApi = createWrappingCountRemoteApi(wrappedList);
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGetStream(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {});
+        });
+
+        // ## Assert ##
+        assertEquals(404, cause.getHttpStatus());
+        assertEquals(newArrayList("decompress", "limit"), wrappedList); // not twice by handleResponse()
+    }
+
+    public void test_requestDownload_failure_wrappedOnce() {
+        // ## Arrange ##
+        List<String> wrappedList = new ArrayList<>();
+        FlutyRemoteApi remoteApi = createWrappingCountRemoteApi(wrappedList);
+        WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestDownload("http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), channel, rule -> {});
+        });
+
+        // ## Assert ##
+        assertEquals(404, cause.getHttpStatus());
+        assertEquals(newArrayList("decompress", "limit"), wrappedList);
+    }
+
+    private FlutyRemoteApi createWrappingCountRemoteApi(List<String> wrappedList) {
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"notFound\"}", request -> true).httpStatus(404);
+        });
+        return new FlutyRemoteApi(rule -> setupMockRule(rule, client), this) {
+            @Override
+            protected void decompressResponseIfNeeds(CloseableHttpResponse response, FlutyRemoteApiRule rule) {
+                wrappedList.add("decompress");
+                super.decompressResponseIfNeeds(response, rule);
+            }
+
+            @Override
+            protected void limitResponseSizeIfNeeds(Type returnType, String url, OptionalThing<Object> param,
+                    CloseableHttpResponse response, FlutyRemoteApiRule rule) {
+                wrappedList.add("limit");
+                super.limitResponseSizeIfNeeds(returnType, url, param, response, rule);
+            }
+        };
+    }
+
+    // ===================================================================================
+    //                                                                    Body Compression
+    //                                                                    ================
+    public void test_compressRequestBodyIfNeeds_threshold() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = createCompressionRule(op -> op.thresholdBytes(4L));
+        HttpPost under = new HttpPost("http://localhost/sea");
+        under.setEntity(new StringEntity("sea", StandardCharsets.UTF_8));
+        HttpPost over = new HttpPost("http://localhost/sea");
+        over.setEntity(new StringEntity("land", StandardCharsets.UTF_8));
+
+        // ## Act ##
+        remoteApi.compressRequestBodyIfNeeds(under, rule);
+        remoteApi.compressRequestBodyIfNeeds(over, rule);
+
+        // ## Assert ##
+        assertFalse(under.getEntity() instanceof CompressingHttpEntity);
+        assertTrue(over.getEntity() instanceof CompressingHttpEntity);
+        assertEquals("gzip", over.getEntity().getContentEncoding().getValue());
+    }
+
+    public void test_compressRequestBodyIfNeeds_skipped() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = createCompressionRule(op -> op.thresholdBytes(0L));
+        HttpPost encoded = new HttpPost("http://localhost/sea");
+        StringEntity encodedEntity = new StringEntity("sea", StandardCharsets.UTF_8);
+        encodedEntity.setContentEncoding("br");
+        encoded.setEntity(encodedEntity);
+        HttpPost oneShot = new HttpPost("http://localhost/sea");
+        InputStreamEntity oneShotEntity = new InputStreamEntity(new ByteArrayInputStream("land".getBytes(StandardCharsets.UTF_8)));
+        oneShot.setEntity(oneShotEntity);
+
+        // ## Act ##
+        remoteApi.compressRequestBodyIfNeeds(encoded, rule);
+        remoteApi.compressRequestBodyIfNeeds(oneShot, rule);
+
+        // ## Assert ##
+        assertSame(encodedEntity, encoded.getEntity()); // not compressed twice
+        assertSame(oneShotEntity, oneShot.getEntity()); // non-repeatable
+    }
+
+    public void test_decompressResponseIfNeeds_accepted() throws Exception {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = createCompressionRule(op -> {});
+        ByteArrayOutputStream compressedOut = new ByteArrayOutputStream();
+        try (OutputStream out = CompressionEncoding.DEFLATE.compress(compressedOut)) {
+            out.write("{\"sea\": \"mystic\"}".getBytes(StandardCharsets.UTF_8));
+        }
+        ByteArrayEntity entity = new ByteArrayEntity(compressedOut.toByteArray());
+        entity.setContentEncoding("deflate");
+        MockHttpResponse response = new MockHttpResponse(entity);
+
+        // ## Act ##
+        remoteApi.decompressResponseIfNeeds(response, rule);
+
+        // ## Assert ##
+        assertTrue(response.getEntity() instanceof DecompressingHttpEntity);
+        assertEquals("{\"sea\": \"mystic\"}", EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8));
+    }
+
+    public void test_decompressResponseIfNeeds_unknownEncoding() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = createCompressionRule(op -> {});
+        StringEntity unknown = new StringEntity("sea", StandardCharsets.UTF_8);
+        unknown.setContentEncoding("br");
+        MockHttpResponse unknownResponse = new MockHttpResponse(unknown);
+        StringEntity notAccepted = new StringEntity("land", StandardCharsets.UTF_8);
+        notAccepted.setContentEncoding("deflate");
+        MockHttpResponse notAcceptedResponse = new MockHttpResponse(notAccepted);
+        FlutyRemoteApiRule gzipOnlyRule = createCompressionRule(op -> op.acceptEncoding(CompressionEncoding.GZIP));
+
+        // ## Act ##
+        remoteApi.decompressResponseIfNeeds(unknownResponse, rule);
+        remoteApi.decompressResponseIfNeeds(notAcceptedResponse, gzipOnlyRule);
+
+        // ## Assert ##
+        assertSame(unknown, unknownResponse.getEntity()); // passed through as it is
+        assertSame(notAccepted, notAcceptedResponse.getEntity());
+    }
+
+    private FlutyRemoteApiRule createCompressionRule(Consumer<BodyCompressionOption> opLambda) {
+        FlutyRemoteApiRule rule = new FlutyRemoteApiRule();
+        rule.compressBody(opLambda);
+        return rule;
+    }
+
+    // ===================================================================================
+    //                                                                       Response Size
+    //                                                                       =============
+    public void test_requestGet_responseSize_maxBytes() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"mystic\"}", request -> true);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(RemoteApiResponseTooLargeException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.limitResponseSize(op -> op.maxBytes(8L));
+            });
+        });
+        String ret = remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+            rule.limitResponseSize(op -> op.maxBytes(17L)); // just size
+        });
+        assertEquals("{\"sea\": \"mystic\"}", ret);
+    }
+
+    public void test_requestGet_responseSize_spill_underThreshold() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"mystic\"}", request -> true);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+
+        // ## Act ##
+        String ret = remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+            rule.limitResponseSize(op -> op.spillToDiskOver(18L));
+        });
+
+        // ## Assert ##
+        assertEquals("{\"sea\": \"mystic\"}", ret); // as string on memory
+    }
+
+    public void test_requestGet_responseSize_spill_stringReceiver() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"mystic\"}", request -> true);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+
+        // ## Act ##
+        RemoteApiResponseTooLargeException cause = assertException(RemoteApiResponseTooLargeException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.limitResponseSize(op -> op.spillToDiskOver(17L));
+            });
+        });
+
+        // ## Assert ##
+        assertContains(cause.getMessage(), "too large to be string"); // not string on heap
+    }
+
+    public void test_requestGet_responseSize_spill_streamingReceiver() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"mystic\"}", request -> true);
+        });
+        List<Object> entityList = new ArrayList<>();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            setupMockRule(rule, client);
+            rule.receiveBodyBy(new MockStreamingReceiver());
+        }, this) {
+            @Override
+            protected boolean isStreamingResponseBodyAvailable(Type returnType, int httpStatus, CloseableHttpResponse response,
+                    FlutyRemoteApiRule rule) {
+                return false; // e.g. debug logging
+            }
+
+            @Override
+            protected ResponseBodyStream createResponseBodyStream(HttpEntity entity, InputStream content, FlutyRemoteApiRule rule) {
+                entityList.add(entity);
+                return super.createResponseBodyStream(entity, content, rule);
+            }
+        };
+
+        // ## Act ##
+        String ret = remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+            rule.limitResponseSize(op -> op.spillToDiskOver(17L));
+        });
+
+        // ## Assert ##
+        assertEquals("streamed:{\"sea\": \"mystic\"}", ret); // read from temp file
+        assertEquals(1, entityList.size());
+        SpilledHttpEntity spilled = (SpilledHttpEntity) entityList.get(0);
+        assertFalse(Files.exists(spilled.getSpillFile())); // deleted after reading
+    }
+
+    public void test_requestGet_responseSize_spill_notTrulyStreamingReceiver() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"mystic\"}", request -> true);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            setupMockRule(rule, client);
+            rule.receiveBodyBy(new MockStreamingReceiver() {
+                @Override
+                public boolean isTrulyStreaming(Type beanType) {
+                    return false; // e.g. JSON receiver that reads stream as string
+                }
+            });
+        }, this) {
+            @Override
+            protected boolean isStreamingResponseBodyAvailable(Type returnType, int httpStatus, CloseableHttpResponse response,
+                    FlutyRemoteApiRule rule) {
+                return false; // e.g. debug logging
+            }
+        };
+
+        // ## Act ##
+        RemoteApiResponseTooLargeException cause = assertException(RemoteApiResponseTooLargeException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.limitResponseSize(op -> op.spillToDiskOver(17L));
+            });
+        });
+
+        // ## Assert ##
+        assertContains(cause.getMessage(), "too large to be string"); // not read as string from temp file
+    }
+
+    public void test_requestGet_responseSize_spill_failureResponse() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"badRequest\"}", request -> true).httpStatus(400);
+        });
+        List<SpilledHttpEntity> entityList = new ArrayList<>();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this) {
+            @Override
+            protected String extractSpilledFailureResponseBody(SpilledHttpEntity entity, FlutyRemoteApiRule rule) throws IOException {
+                entityList.add(entity);
+                return super.extractSpilledFailureResponseBody(entity, rule);
+            }
+
+            @Override
+            protected int getSpilledFailureResponseBodyPrefixBytes(FlutyRemoteApiRule rule) {
+                return 8;
+            }
+        };
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.limitResponseSize(op -> op.spillToDiskOver(17L));
+                rule.handleFailureResponseAs(String.class);
+            });
+        });
+
+        // ## Assert ##
+        assertEquals(400, cause.getHttpStatus()); // HTTP error flow, not too-large
+        assertEquals("{\"sea\": ", cause.getFailureResponse().get()); // only prefix
+        assertEquals(1, entityList.size());
+        assertFalse(Files.exists(entityList.get(0).getSpillFile())); // deleted after reading prefix
+    }
+
+    public void test_requestGet_responseSize_spill_failureResponse_translated() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"badRequest\"}", request -> true).httpStatus(400);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+
+        // ## Act ##
+        IllegalStateException cause = assertException(IllegalStateException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.limitResponseSize(op -> op.spillToDiskOver(17L));
+                rule.translateClientError(resource -> new IllegalStateException("translated"));
+            });
+        });
+
+        // ## Assert ##
+        assertEquals("translated", cause.getMessage());
+    }
+
+    // ===================================================================================
+    //                                                                    Failure Response
+    //                                                                    ================
+    public void test_requestGet_failureResponse_binaryReceiver() throws Exception {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("(replaced)", request -> true).httpStatus(400);
+        });
+        SeaFailureResult result = new SeaFailureResult();
+        result.cause = "BUSINESS_ERROR";
+        ByteArrayOutputStream cborOut = new ByteArrayOutputStream();
+        createCborBeanMapper().writeValue(new CborWriter(cborOut), result);
+        byte[] cborBytes = cborOut.toByteArray();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            setupMockRule(rule, client);
+            rule.receiveBodyBy(new FlCborReceiver(new FlVacantMappingPolicy()));
+        }, this) {
+            @Override
+            protected void decompressResponseIfNeeds(CloseableHttpResponse response, FlutyRemoteApiRule rule) {
+                response.setEntity(new ByteArrayEntity(cborBytes)); // as CBOR server
+            }
+        };
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.handleFailureResponseAs(SeaFailureResult.class);
+            });
+        });
+
+        // ## Assert ##
+        SeaFailureResult failureResponse = (SeaFailureResult) cause.getFailureResponse().get();
+        assertEquals("BUSINESS_ERROR", failureResponse.cause); // parsed from the bytes
+        assertContains(cause.getMessage(), Base64.getEncoder().encodeToString(cborBytes)); // not decoded as text
+    }
+
+    public void test_requestGet_failureResponse_validatedIfOverridden() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"badRequest\"}", request -> true).httpStatus(400);
+        });
+        List<Object> validatedList = new ArrayList<>();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this) {
+            @Override
+            protected void validateReturn(Type returnType, String url, OptionalThing<Object> param, int httpStatus,
+                    OptionalThing<String> body, Object ret, FlutyRemoteApiRule rule) {
+                validatedList.add(ret);
+            }
+        };
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.handleFailureResponseAs(String.class);
+            });
+        });
+
+        // ## Assert ##
+        assertEquals(1, validatedList.size()); // failure response is validated as before
+        assertEquals("{\"sea\": \"badRequest\"}", validatedList.get(0));
+        assertFalse(cause.getFailureResponseHolder() instanceof RemoteApiLazyFailureResponseHolder); // parsed for validation
+    }
+
+    public void test_requestGet_failureResponse_lazyParsing() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"badRequest\"}", request -> true).httpStatus(400);
+        });
+        AtomicInteger parsedCount = new AtomicInteger();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {
+            rule.xregisterMockHttpClient(client);
+            rule.receiveBodyBy(new MockStringReceiver() {
+                @Override
+                public <RETURN> RETURN toResponseReturn(OptionalThing<String> body, Type beanType, FlutyRemoteApiRule rule) {
+                    parsedCount.incrementAndGet();
+                    return super.toResponseReturn(body, beanType, rule);
+                }
+            });
+        }, this);
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {
+                rule.handleFailureResponseAs(String.class);
+            });
+        });
+
+        // ## Assert ##
+        RemoteApiLazyFailureResponseHolder holder = (RemoteApiLazyFailureResponseHolder) cause.getFailureResponseHolder();
+        assertFalse(holder.isResolved());
+        assertEquals(0, parsedCount.get()); // not parsed if unused
+        assertEquals("{\"sea\": \"badRequest\"}", cause.getFailureResponse().get());
+        assertEquals("{\"sea\": \"badRequest\"}", cause.getFailureResponse().get());
+        assertTrue(holder.isResolved());
+        assertEquals(1, parsedCount.get()); // only once
+    }
+
+    public void test_requestGet_clientError_stackless() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"notFound\"}", request -> request.getUrl().contains("/sea")).httpStatus(404);
+            response.asJsonDirectly("{\"land\": \"badRequest\"}", request -> request.getUrl().contains("/land")).httpStatus(400);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this);
+        Consumer<FlutyRemoteApiRule> ruleLambda = rule -> rule.suppressClientErrorStackTrace(404);
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException suppressed = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), ruleLambda);
+        });
+        RemoteApiHttpClientErrorException written = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/land", new Object[] {}, OptionalThing.empty(), ruleLambda);
+        });
+
+        // ## Assert ##
+        assertEquals(0, suppressed.getStackTrace().length);
+        assertEquals(404, suppressed.getHttpStatus());
+        assertContains(suppressed.getMessage(), "notFound"); // message is kept
+        assertTrue(written.getStackTrace().length > 0); // not target status
+    }
+
+    // ===================================================================================
+    //                                                                       Error Message
+    //                                                                       =============
+    public void test_requestGet_clientError_messageNotBuiltIfTranslated() {
+        // ## Arrange ##
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.asJsonDirectly("{\"sea\": \"badRequest\"}", request -> true).httpStatus(400);
+        });
+        AtomicInteger builtCount = new AtomicInteger();
+        AtomicInteger debugStringCount = new AtomicInteger();
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client), this) {
+            @Override
+            protected void setupResponseInfo(ExceptionMessageBuilder br, int httpStatus, OptionalThing<String> body) {
+                builtCount.incrementAndGet();
+                super.setupResponseInfo(br, httpStatus, body);
+            }
+
+            @Override
+            protected String convertBeanToDebugString(Object param) {
+                debugStringCount.incrementAndGet();
+                return super.convertBeanToDebugString(param);
+            }
+        };
+        SeaForm form = new SeaForm();
+        form.sea = "mystic";
+
+        // ## Act ##
+        IllegalStateException translated = assertException(IllegalStateException.class, () -> {
+            remoteApi.requestPost(String.class, "http://localhost", "/sea", new Object[] {}, form, rule -> {
+                rule.sendBodyBy(new FlFormSender(new FlVacantMappingPolicy()));
+                rule.translateClientError(resource -> new IllegalStateException("translated"));
+            });
+        });
+
+        // ## Assert ##
+        assertEquals("translated", translated.getMessage());
+        assertEquals(0, builtCount.get()); // message of client error is never built
+        assertEquals(0, debugStringCount.get()); // also debug string of the form
+    }
+
+    public void test_createRemoteApiHttpClientErrorException_snapshot() {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = remoteApi.createRemoteApiRule(op -> {}, SupportedHttpMethod.POST);
+        SeaForm form = new SeaForm();
+        form.sea = "mystic";
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = remoteApi.createRemoteApiHttpClientErrorException(String.class,
+                "http://localhost/sea", OptionalThing.of(form), 400, OptionalThing.of("{\"sea\": \"badRequest\"}"), null, rule);
+        form.sea = "oneman"; // e.g. reused form after the error
+
+        // ## Assert ##
+        String message = cause.getMessage();
+        log(message);
+        assertContains(message, "sea=mystic"); // at the error
+        assertFalse(message.contains("oneman"));
+        assertContains(message, "POST");
+        assertContains(message, "http://localhost/sea");
+        assertContains(message, "badRequest");
+    }
+
+    public void test_createRemoteApiHttpClientErrorException_serialized() throws Exception {
+        // ## Arrange ##
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> {}, this);
+        FlutyRemoteApiRule rule = remoteApi.createRemoteApiRule(op -> {}, SupportedHttpMethod.GET);
+        RemoteApiHttpClientErrorException cause = remoteApi.createRemoteApiHttpClientErrorException(String.class,
+                "http://localhost/sea", OptionalThing.empty(), 404, OptionalThing.of("{\"sea\": \"notFound\"}"), null, rule);
+
+        // ## Act ##
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(cause);
+        }
+        Object deserialized;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            deserialized = ois.readObject();
+        }
+
+        // ## Assert ##
+        RemoteApiHttpClientErrorException restored = (RemoteApiHttpClientErrorException) deserialized;
+        assertEquals(404, restored.getHttpStatus());
+        assertContains(restored.getMessage(), "notFound"); // resolved before serialization
+        assertEquals(cause.getMessage(), restored.getMessage());
+        assertFalse(restored.getFailureResponse().isPresent()); // not restored
+    }
+
+    // ===================================================================================
+    //                                                                        Mock Helper
+    //                                                                        ===========
+    private void setupMockRule(FlutyRemoteApiRule rule, MockHttpClient client) {
+        rule.xregisterMockHttpClient(client);
+        rule.receiveBodyBy(new MockStringReceiver());
+    }
+
+    public static class SeaFailureResult {
+
+        public String cause;
+    }
+
+    private CborBeanMapper createCborBeanMapper() {
+        return new CborBeanMapper(new FlVacantMappingPolicy(), new FlParameterSerializer(), new FlParameterDeserializer());
+    }
+
+    private static class SeaForm {
+
+        public String sea;
+
+        @Override
+        public String toString() {
+            return "{sea=" + sea + "}";
+        }
+    }
+
+    private static class MockStreamingReceiver extends MockStringReceiver implements StreamingResponseBodyReceiver {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <RETURN> RETURN toResponseReturn(ResponseBodyStream bodyStream, Type beanType, FlutyRemoteApiRule rule) {
+            return (RETURN) ("streamed:" + bodyStream.readAsString());
+        }
+    }
+
+    private static class MockStringReceiver implements ResponseBodyReceiver {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <RETURN> RETURN toResponseReturn(OptionalThing<String> body, Type beanType, FlutyRemoteApiRule rule) {
+            return (RETURN) body.orElse("");
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package org.dbflute.remoteapi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.dbflute.remoteapi.batch.RemoteBatchLoader;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class FlutyRemoteBehaviorTest extends PlainTestCase {
+
+    public void test_closeRemoteAsync_flushPending() throws Exception {
+        // ## Arrange ##
+        MockBehavior behavior = new MockBehavior();
+        RemoteBatchLoader<Integer, String> loader = behavior.newBatchLoader(keyList -> {
+            return keyList.stream().collect(Collectors.toMap(key -> key, key -> "sea" + key));
+        }, op -> op.windowMillis(50L));
+        CompletableFuture<String> future = loader.load(1);
+
+        // ## Act ##
+        behavior.closeRemoteAsync();
+
+        // ## Assert ##
+        assertEquals("sea1", future.get(5, TimeUnit.SECONDS)); // delayed flush is executed
+        assertException(IllegalStateException.class, () -> behavior.newBatchLoader(keyList -> null, op -> {}));
+        behavior.closeRemoteAsync(); // no exception
+    }
+
+    public void test_createRemoteAsyncExecutor_application() throws Exception {
+        // ## Arrange ##
+        StringBuilder sb = new StringBuilder();
+        MockBehavior behavior = new MockBehavior() {
+            @Override
+            protected Executor createRemoteAsyncExecutor() {
+                return runner -> {
+                    sb.append("application");
+                    runner.run();
+                };
+            }
+        };
+        RemoteBatchLoader<Integer, String> loader = behavior.newBatchLoader(keyList -> {
+            return keyList.stream().collect(Collectors.toMap(key -> key, key -> "sea" + key));
+        }, op -> op.maxBatchSize(1));
+
+        // ## Act ##
+        String value = loader.load(1).get(5, TimeUnit.SECONDS);
+
+        // ## Assert ##
+        assertEquals("sea1", value);
+        assertEquals("application", sb.toString());
+        behavior.closeRemoteAsync();
+        assertNull(behavior.remoteAsyncDefaultPool); // not created so not shut down
+    }
+
+    private static class MockBehavior extends FlutyRemoteBehavior {
+
+        @Override
+        protected void yourDefaultRule(FlutyRemoteApiRule rule) {
+        }
+
+        @Override
+        protected String getUrlBase() {
+            return "http://localhost";
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.dbflute.remoteapi.auth;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.FlutyRemoteApi;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.exception.RemoteApiHttpClientErrorException;
+import org.dbflute.remoteapi.mock.MockHttpClient;
+import org.dbflute.remoteapi.mock.supporter.MockSupposedRequest;
+import org.dbflute.remoteapi.receiver.ResponseBodyReceiver;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class BearerTokenProviderTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                             Provide
+    //                                                                             =======
+    public void test_provideAuthorization_expireIn_byProviderClock() {
+        // ## Arrange ##
+        long[] currentTime = { 1000L };
+        AtomicInteger fetchCount = new AtomicInteger();
+        BearerTokenProvider provider = new MockClockProvider(() -> {
+            return BearerToken.expireIn("sea" + fetchCount.incrementAndGet(), 500L);
+        }, currentTime).refreshAheadMillis(0L);
+
+        // ## Act ##
+        String first = provider.provideAuthorization();
+        currentTime[0] = 1499L;
+        String second = provider.provideAuthorization();
+        currentTime[0] = 1500L;
+        String third = provider.provideAuthorization();
+
+        // ## Assert ##
+        assertEquals("Bearer sea1", first);
+        assertEquals("Bearer sea1", second); // still alive by faked clock
+        assertEquals("Bearer sea2", third); // expired by faked clock
+        assertEquals(2, fetchCount.get());
+    }
+
+    public void test_provideAuthorization_refreshAhead() {
+        // ## Arrange ##
+        long[] currentTime = { 1000L };
+        AtomicInteger fetchCount = new AtomicInteger();
+        BearerTokenProvider provider = new MockClockProvider(() -> {
+            return BearerToken.expireIn("sea" + fetchCount.incrementAndGet(), 1000L);
+        }, currentTime).refreshAheadMillis(300L).refreshOn(Runnable::run);
+
+        // ## Act ##
+        String first = provider.provideAuthorization(); // expires at 2000
+        currentTime[0] = 1600L;
+        String notAhead = provider.provideAuthorization();
+        currentTime[0] = 1700L;
+        String ahead = provider.provideAuthorization(); // background refresh, synchronous here
+        String refreshed = provider.provideAuthorization();
+
+        // ## Assert ##
+        assertEquals("Bearer sea1", first);
+        assertEquals("Bearer sea1", notAhead);
+        assertEquals("Bearer sea1", ahead); // the request uses current token
+        assertEquals("Bearer sea2", refreshed);
+        assertEquals(2, fetchCount.get());
+    }
+
+    public void test_provideAuthorization_singleFlight() throws Exception {
+        // ## Arrange ##
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch fetchingLatch = new CountDownLatch(1);
+        BearerTokenProvider provider = new BearerTokenProvider(() -> {
+            fetchCount.incrementAndGet();
+            try {
+                fetchingLatch.await(); // other threads come here while fetching
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return BearerToken.expireIn("sea", 60000L);
+        });
+        List<String> authorizationList = new ArrayList<>();
+        List<Thread> threadList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Thread thread = new Thread(() -> {
+                String authorization = provider.provideAuthorization();
+                synchronized (authorizationList) {
+                    authorizationList.add(authorization);
+                }
+            });
+            threadList.add(thread);
+        }
+
+        // ## Act ##
+        for (Thread thread : threadList) {
+            thread.start();
+        }
+        Thread.sleep(100L);
+        fetchingLatch.countDown();
+        for (Thread thread : threadList) {
+            thread.join(5000L);
+        }
+
+        // ## Assert ##
+        assertEquals(1, fetchCount.get());
+        assertEquals(5, authorizationList.size());
+        for (String authorization : authorizationList) {
+            assertEquals("Bearer sea", authorization);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Unauthorized
+    //                                                                        ============
+    public void test_refreshIfUnauthorized_retryOnce() {
+        // ## Arrange ##
+        AtomicInteger fetchCount = new AtomicInteger();
+        BearerTokenProvider provider = new BearerTokenProvider(() -> {
+            return BearerToken.expireIn("sea" + fetchCount.incrementAndGet(), 60000L);
+        });
+        List<String> requestedList = new ArrayList<>();
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.peekRequest(request -> requestedList.add(findAuthorization(request)));
+            response.asJsonDirectly("{}", request -> "Bearer sea1".equals(findAuthorization(request)))
+                    .httpStatus(401);
+            response.asJsonDirectly("{\"land\": \"oneman\"}", request -> true);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client, provider), this);
+
+        // ## Act ##
+        String ret = remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {});
+
+        // ## Assert ##
+        assertContains(ret, "oneman");
+        assertEquals(2, requestedList.size());
+        assertEquals("Bearer sea1", requestedList.get(0));
+        assertEquals("Bearer sea2", requestedList.get(1));
+        assertEquals(2, fetchCount.get()); // first and refresh
+    }
+
+    public void test_refreshIfUnauthorized_alwaysUnauthorized() {
+        // ## Arrange ##
+        AtomicInteger fetchCount = new AtomicInteger();
+        BearerTokenProvider provider = new BearerTokenProvider(() -> {
+            return BearerToken.expireIn("sea" + fetchCount.incrementAndGet(), 60000L);
+        });
+        AtomicInteger requestCount = new AtomicInteger();
+        MockHttpClient client = MockHttpClient.create(response -> {
+            response.peekRequest(request -> requestCount.incrementAndGet());
+            response.asJsonDirectly("{}", request -> true).httpStatus(401);
+        });
+        FlutyRemoteApi remoteApi = new FlutyRemoteApi(rule -> setupMockRule(rule, client, provider), this);
+
+        // ## Act ##
+        RemoteApiHttpClientErrorException cause = assertException(RemoteApiHttpClientErrorException.class, () -> {
+            remoteApi.requestGet(String.class, "http://localhost", "/sea", new Object[] {}, OptionalThing.empty(), rule -> {});
+        });
+
+        // ## Assert ##
+        assertEquals(401, cause.getHttpStatus());
+        assertEquals(2, requestCount.get()); // retried only once
+        assertEquals(2, fetchCount.get());
+    }
+
+    // ===================================================================================
+    //                                                                        Bearer Token
+    //                                                                        ============
+    public void test_BearerToken_notAnchored() {
+        // ## Arrange ##
+        BearerToken token = BearerToken.expireIn("sea", 500L);
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(token.isAnchored());
+        assertException(IllegalStateException.class, () -> token.isExpired(1000L));
+        BearerToken anchored = token.anchorTo(1000L);
+        assertTrue(anchored.isAnchored());
+        assertEquals(1500L, anchored.getExpireTimeMillis());
+        assertSame(anchored, anchored.anchorTo(2000L));
+        assertFalse(anchored.isExpired(1499L));
+        assertTrue(anchored.isExpired(1500L));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private void setupMockRule(FlutyRemoteApiRule rule, MockHttpClient client, BearerTokenProvider provider) {
+        rule.xregisterMockHttpClient(client);
+        rule.receiveBodyBy(new MockStringReceiver());
+        rule.authorizeBy(provider);
+    }
+
+    private String findAuthorization(MockSupposedRequest request) {
+        List<String> valueList = request.getHeaderMap().get("Authorization");
+        return valueList != null && !valueList.isEmpty() ? valueList.get(0) : null;
+    }
+
+    private static class MockClockProvider extends BearerTokenProvider {
+
+        private final long[] currentTime;
+
+        public MockClockProvider(Supplier<BearerToken> tokenFetcher, long[] currentTime) {
+            super(tokenFetcher);
+            this.currentTime = currentTime;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return currentTime[0];
+        }
+    }
+
+    private static class MockStringReceiver implements ResponseBodyReceiver {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <RETURN> RETURN toResponseReturn(OptionalThing<String> body, Type beanType, FlutyRemoteApiRule rule) {
+            return (RETURN) body.orElse("");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.dbflute.remoteapi.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class RemoteBatchLoaderTest extends PlainTestCase {
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        scheduler.shutdownNow();
+        super.tearDown();
+    }
+
+    // ===================================================================================
+    //                                                                               Flush
+    //                                                                               =====
+    public void test_load_flushBySize() {
+        // ## Arrange ##
+        List<List<Integer>> requestedList = new ArrayList<>();
+        RemoteBatchLoader<Integer, String> loader = new RemoteBatchLoader<>(keyList -> {
+            requestedList.add(keyList);
+            return keyList.stream().collect(Collectors.toMap(key -> key, key -> "sea" + key));
+        }, new RemoteBatchOption().maxBatchSize(2).windowMillis(60000L), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> first = loader.load(1);
+        CompletableFuture<String> second = loader.load(2);
+
+        // ## Assert ##
+        assertEquals(1, requestedList.size()); // not waiting for the window
+        assertEquals(newArrayList(1, 2), requestedList.get(0));
+        assertEquals("sea1", first.join());
+        assertEquals("sea2", second.join());
+    }
+
+    public void test_load_flushByWindow() throws Exception {
+        // ## Arrange ##
+        List<List<Integer>> requestedList = new ArrayList<>();
+        RemoteBatchLoader<Integer, String> loader = new RemoteBatchLoader<>(keyList -> {
+            synchronized (requestedList) {
+                requestedList.add(keyList);
+            }
+            return keyList.stream().filter(key -> key != 3).collect(Collectors.toMap(key -> key, key -> "sea" + key));
+        }, new RemoteBatchOption().maxBatchSize(10).windowMillis(20L), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> first = loader.load(1);
+        CompletableFuture<String> duplicate = loader.load(1);
+        CompletableFuture<String> notFound = loader.load(3);
+
+        // ## Assert ##
+        assertSame(first, duplicate); // same key in the window
+        assertEquals("sea1", first.get(5, TimeUnit.SECONDS));
+        assertNull(notFound.get(5, TimeUnit.SECONDS));
+        assertEquals(1, requestedList.size());
+        assertEquals(newArrayList(1, 3), requestedList.get(0));
+    }
+
+    public void test_flush_explicitly() {
+        // ## Arrange ##
+        List<List<Integer>> requestedList = new ArrayList<>();
+        RemoteBatchLoader<Integer, String> loader = new RemoteBatchLoader<>(keyList -> {
+            requestedList.add(keyList);
+            return keyList.stream().collect(Collectors.toMap(key -> key, key -> "sea" + key));
+        }, new RemoteBatchOption().windowMillis(60000L), scheduler, Runnable::run);
+        CompletableFuture<String> future = loader.load(1);
+
+        // ## Act ##
+        loader.flush();
+        loader.flush(); // no pending
+
+        // ## Assert ##
+        assertEquals(1, requestedList.size());
+        assertEquals("sea1", future.join());
+    }
+
+    public void test_load_closedScheduler() {
+        // ## Arrange ##
+        scheduler.shutdown();
+        RemoteBatchLoader<Integer, String> loader = new RemoteBatchLoader<>(keyList -> {
+            return keyList.stream().collect(Collectors.toMap(key -> key, key -> "sea" + key));
+        }, new RemoteBatchOption().windowMillis(60000L), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> future = loader.load(1);
+
+        // ## Assert ##
+        assertTrue(future.isDone()); // not left pending
+        assertEquals("sea1", future.join());
+    }
+
+    // ===================================================================================
+    //                                                                               Error
+    //                                                                               =====
+    public void test_load_errorFanOut() {
+        // ## Arrange ##
+        IllegalStateException cause = new IllegalStateException("mystic");
+        RemoteBatchLoader<Integer, String> loader = new RemoteBatchLoader<>(keyList -> {
+            throw cause;
+        }, new RemoteBatchOption().maxBatchSize(2), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> first = loader.load(1);
+        CompletableFuture<String> second = loader.load(2);
+
+        // ## Assert ##
+        for (CompletableFuture<String> future : newArrayList(first, second)) {
+            ExecutionException e = assertException(ExecutionException.class, () -> future.get());
+            assertSame(cause, e.getCause());
+        }
+    }
+
+    public void test_load_nullMap() {
+        // ## Arrange ##
+        RemoteBatchLoader<Integer, String> loader = new RemoteBatchLoader<>(keyList -> {
+            return (Map<Integer, String>) null;
+        }, new RemoteBatchOption().maxBatchSize(1), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> future = loader.load(1);
+
+        // ## Assert ##
+        assertNull(future.join());
+    }
+}
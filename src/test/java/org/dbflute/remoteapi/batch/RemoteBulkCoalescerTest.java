@@ -0,0 +1,98 @@
+package org.dbflute.remoteapi.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class RemoteBulkCoalescerTest extends PlainTestCase {
+
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        scheduler.shutdownNow();
+        super.tearDown();
+    }
+
+    // ===================================================================================
+    //                                                                               Flush
+    //                                                                               =====
+    public void test_submit_flushByBytes() {
+        // ## Arrange ##
+        List<List<String>> requestedList = new ArrayList<>();
+        RemoteBulkCoalescer<String, String> coalescer = new RemoteBulkCoalescer<>(paramList -> {
+            requestedList.add(paramList);
+            return paramList.stream().map(param -> param + "-done").collect(Collectors.toList());
+        }, param -> param.length(), new RemoteBatchOption().maxBatchBytes(10L).windowMillis(60000L), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> sea = coalescer.submit("seaaaa"); // 6 bytes
+        CompletableFuture<String> land = coalescer.submit("landdd"); // over 10 bytes so sea is sent
+        CompletableFuture<String> piari = coalescer.submit("pia"); // 9 bytes with land, pending
+
+        // ## Assert ##
+        assertEquals(1, requestedList.size());
+        assertEquals(newArrayList("seaaaa"), requestedList.get(0));
+        assertEquals("seaaaa-done", sea.join());
+        assertFalse(land.isDone());
+        coalescer.flush();
+        assertEquals(newArrayList("landdd", "pia"), requestedList.get(1));
+        assertEquals("landdd-done", land.join());
+        assertEquals("pia-done", piari.join());
+    }
+
+    public void test_submit_flushByWindow_sameOrder() throws Exception {
+        // ## Arrange ##
+        RemoteBulkCoalescer<String, String> coalescer = new RemoteBulkCoalescer<>(paramList -> {
+            return paramList.stream().map(param -> param + "-done").collect(Collectors.toList());
+        }, null, new RemoteBatchOption().windowMillis(20L), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> sea = coalescer.submit("sea");
+        CompletableFuture<String> land = coalescer.submit("land");
+        CompletableFuture<String> sameLand = coalescer.submit("land"); // no de-duplication for writes
+
+        // ## Assert ##
+        assertEquals("sea-done", sea.get(5, TimeUnit.SECONDS));
+        assertEquals("land-done", land.get(5, TimeUnit.SECONDS));
+        assertEquals("land-done", sameLand.get(5, TimeUnit.SECONDS));
+        assertNotSame(land, sameLand);
+    }
+
+    // ===================================================================================
+    //                                                                               Error
+    //                                                                               =====
+    public void test_submit_errorFanOut_sizeMismatch() {
+        // ## Arrange ##
+        RemoteBulkCoalescer<String, String> coalescer = new RemoteBulkCoalescer<>(paramList -> {
+            return newArrayList("only-one");
+        }, null, new RemoteBatchOption().maxBatchSize(2), scheduler, Runnable::run);
+
+        // ## Act ##
+        CompletableFuture<String> sea = coalescer.submit("sea");
+        CompletableFuture<String> land = coalescer.submit("land");
+
+        // ## Assert ##
+        for (CompletableFuture<String> future : newArrayList(sea, land)) {
+            ExecutionException e = assertException(ExecutionException.class, () -> future.get());
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertContains(e.getCause().getMessage(), "results=1");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.exception.cache;
+
+import org.dbflute.remoteapi.exception.RemoteApiHttpBasisErrorException.RemoteApiFailureResponseHolder;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class ClientErrorCacheStorageTest extends PlainTestCase {
+
+    public void test_find_expired() {
+        // ## Arrange ##
+        ClientErrorCacheStorage storage = new ClientErrorCacheStorage(10);
+        storage.save("sea", newEntry(1500L), 1000L);
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(storage.find("sea", 1499L).isPresent());
+        assertFalse(storage.find("sea", 1500L).isPresent());
+        assertEquals(0, storage.size()); // removed when found
+    }
+
+    public void test_save_full_evictOldestOnly() {
+        // ## Arrange ##
+        ClientErrorCacheStorage storage = new ClientErrorCacheStorage(3);
+        storage.save("sea", newEntry(9000L), 1000L);
+        storage.save("land", newEntry(9000L), 1000L);
+        storage.save("piari", newEntry(9000L), 1000L);
+        storage.save("sea", newEntry(9000L), 1000L); // re-saved so newest
+
+        // ## Act ##
+        storage.save("bonvo", newEntry(9000L), 1000L);
+
+        // ## Assert ##
+        log(storage);
+        assertEquals(3, storage.size());
+        assertFalse(storage.find("land", 1000L).isPresent()); // oldest
+        assertTrue(storage.find("piari", 1000L).isPresent());
+        assertTrue(storage.find("sea", 1000L).isPresent());
+        assertTrue(storage.find("bonvo", 1000L).isPresent());
+    }
+
+    public void test_save_full_sweepExpiredFirst() {
+        // ## Arrange ##
+        ClientErrorCacheStorage storage = new ClientErrorCacheStorage(2);
+        storage.save("sea", newEntry(9000L), 1000L);
+        storage.save("land", newEntry(1200L), 1000L);
+
+        // ## Act ##
+        storage.save("piari", newEntry(9000L), 1300L);
+
+        // ## Assert ##
+        assertTrue(storage.find("sea", 1300L).isPresent()); // not evicted because expired one is swept
+        assertTrue(storage.find("piari", 1300L).isPresent());
+        assertEquals(2, storage.size());
+    }
+
+    private ClientErrorCacheEntry newEntry(long expireTimeMillis) {
+        return new ClientErrorCacheEntry(404, "{}", new RemoteApiFailureResponseHolder(null, null), expireTimeMillis);
+    }
+}
@@ -0,0 +1,52 @@
+package org.dbflute.remoteapi.http;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class StreamingHttpEntityTest extends PlainTestCase {
+
+    public void test_ofString_contentLength_utf8() throws Exception {
+        assertContentLength("sea海🌊", StandardCharsets.UTF_8);
+    }
+
+    public void test_ofString_contentLength_shiftJis() throws Exception {
+        assertContentLength("sea海ランド", Charset.forName("Shift_JIS"));
+    }
+
+    public void test_ofString_contentLength_unmappable() throws Exception {
+        assertContentLength("sea🌊", StandardCharsets.ISO_8859_1); // replaced with '?'
+    }
+
+    public void test_ofString_contentLength_stateful() throws Exception {
+        assertContentLength("sea海land", Charset.forName("ISO-2022-JP")); // escape sequence at switching
+    }
+
+    public void test_ofString_contentLength_large() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("海");
+        }
+        assertContentLength(sb.toString(), Charset.forName("Shift_JIS")); // over the counting buffer
+    }
+
+    private void assertContentLength(String text, Charset charset) throws Exception {
+        // ## Arrange ##
+        StreamingHttpEntity entity = StreamingHttpEntity.ofString(text, charset);
+
+        // ## Act ##
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        // ## Assert ##
+        assertEquals(text.getBytes(charset).length, (int) entity.getContentLength());
+        assertEquals(out.size(), (int) entity.getContentLength());
+        assertFalse(entity.isChunked());
+        assertTrue(entity.isRepeatable());
+    }
+}
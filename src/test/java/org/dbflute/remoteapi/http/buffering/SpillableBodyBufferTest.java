@@ -0,0 +1,144 @@
+package org.dbflute.remoteapi.http.buffering;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class SpillableBodyBufferTest extends PlainTestCase {
+
+    private Path spillDirectory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        spillDirectory = Files.createTempDirectory("remoteapi-spill-test");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try (Stream<Path> stream = Files.list(spillDirectory)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(spillDirectory);
+        super.tearDown();
+    }
+
+    // ===================================================================================
+    //                                                                           On Memory
+    //                                                                           =========
+    public void test_buffer_knownLength_underThreshold() throws Exception {
+        // ## Arrange ##
+        SpillableBodyBuffer buffer = new SpillableBodyBuffer(7L, spillDirectory);
+
+        // ## Act ##
+        HttpEntity buffered = buffer.buffer(new StringEntity("sea海", ContentType.create("text/plain", StandardCharsets.UTF_8)));
+
+        // ## Assert ##
+        assertFalse(buffered instanceof SpilledHttpEntity); // 6 bytes
+        assertEquals("sea海", EntityUtils.toString(buffered)); // charset from content type
+        assertEquals(0, countSpillFile());
+    }
+
+    public void test_buffer_unknownLength_underThreshold() throws Exception {
+        // ## Arrange ##
+        SpillableBodyBuffer buffer = new SpillableBodyBuffer(5L, spillDirectory);
+
+        // ## Act ##
+        HttpEntity buffered = buffer.buffer(createUnknownLengthEntity("land"));
+
+        // ## Assert ##
+        assertFalse(buffered instanceof SpilledHttpEntity);
+        assertEquals("land", EntityUtils.toString(buffered, StandardCharsets.UTF_8));
+    }
+
+    // ===================================================================================
+    //                                                                               Spill
+    //                                                                               =====
+    public void test_buffer_knownLength_atThreshold() throws Exception {
+        // ## Arrange ##
+        SpillableBodyBuffer buffer = new SpillableBodyBuffer(4L, spillDirectory);
+
+        // ## Act ##
+        HttpEntity buffered = buffer.buffer(new StringEntity("land", StandardCharsets.UTF_8));
+
+        // ## Assert ##
+        assertTrue(buffered instanceof SpilledHttpEntity); // inclusive
+        assertEquals(4L, buffered.getContentLength());
+        assertEquals(1, countSpillFile());
+        assertEquals("land", EntityUtils.toString(buffered, StandardCharsets.UTF_8));
+        assertEquals(0, countSpillFile()); // deleted when closed
+    }
+
+    public void test_buffer_unknownLength_overThreshold() throws Exception {
+        // ## Arrange ##
+        SpillableBodyBuffer buffer = new SpillableBodyBuffer(3L, spillDirectory);
+
+        // ## Act ##
+        HttpEntity buffered = buffer.buffer(createUnknownLengthEntity("mystic"));
+
+        // ## Assert ##
+        assertTrue(buffered instanceof SpilledHttpEntity);
+        assertEquals(6L, buffered.getContentLength()); // head and rest
+        assertFalse(buffered.isRepeatable());
+        try (InputStream ins = buffered.getContent()) {
+            assertEquals("mystic", new String(ins.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertException(IllegalStateException.class, () -> buffered.getContent()); // only once
+        assertEquals(0, countSpillFile());
+    }
+
+    public void test_buffer_discard() throws Exception {
+        // ## Arrange ##
+        SpillableBodyBuffer buffer = new SpillableBodyBuffer(3L, spillDirectory);
+        SpilledHttpEntity spilled = (SpilledHttpEntity) buffer.buffer(createUnknownLengthEntity("oneman"));
+        assertTrue(Files.exists(spilled.getSpillFile()));
+
+        // ## Act ##
+        spilled.discard();
+
+        // ## Assert ##
+        assertFalse(Files.exists(spilled.getSpillFile()));
+        assertException(IllegalStateException.class, () -> spilled.getContent());
+    }
+
+    public void test_buffer_failedWhileSpilling() throws Exception {
+        // ## Arrange ##
+        SpillableBodyBuffer buffer = new SpillableBodyBuffer(3L, spillDirectory);
+        SizeLimitedHttpEntity limited = new SizeLimitedHttpEntity(createUnknownLengthEntity("dockside"), 5L, readBytes -> {
+            return new IllegalStateException("too large: " + readBytes);
+        });
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> buffer.buffer(limited));
+        assertEquals(0, countSpillFile()); // deleted by failure
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private HttpEntity createUnknownLengthEntity(String body) {
+        return new InputStreamEntity(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long countSpillFile() throws Exception {
+        try (Stream<Path> stream = Files.list(spillDirectory)) {
+            return stream.count();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.dbflute.remoteapi.http.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class BodyCompressionTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                           Threshold
+    //                                                                           =========
+    public void test_isRequestCompressionTarget_thresholdBoundary() {
+        // ## Arrange ##
+        BodyCompressionOption option = new BodyCompressionOption().thresholdBytes(100L);
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(option.isRequestCompressionTarget(99L));
+        assertTrue(option.isRequestCompressionTarget(100L)); // inclusive
+        assertTrue(option.isRequestCompressionTarget(101L));
+        assertTrue(option.isRequestCompressionTarget(-1L)); // unknown length
+    }
+
+    public void test_isRequestCompressionTarget_default() {
+        // ## Arrange ##
+        BodyCompressionOption option = new BodyCompressionOption();
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(option.isRequestCompressionTarget(2047L));
+        assertTrue(option.isRequestCompressionTarget(2048L));
+    }
+
+    public void test_isRequestCompressionTarget_noRequestCompression() {
+        // ## Arrange ##
+        BodyCompressionOption option = new BodyCompressionOption().thresholdBytes(0L).noRequestCompression();
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(option.isRequestCompressionTarget(0L));
+        assertFalse(option.isRequestCompressionTarget(-1L));
+        assertException(IllegalArgumentException.class, () -> option.thresholdBytes(-1L));
+    }
+
+    // ===================================================================================
+    //                                                                     Accept Encoding
+    //                                                                     ===============
+    public void test_buildAcceptEncodingValue() {
+        assertEquals("gzip, deflate", new BodyCompressionOption().buildAcceptEncodingValue());
+        assertEquals("deflate", new BodyCompressionOption().acceptEncoding(CompressionEncoding.DEFLATE).buildAcceptEncodingValue());
+        assertNull(new BodyCompressionOption().noResponseCompression().buildAcceptEncodingValue());
+    }
+
+    public void test_codeOf() {
+        assertEquals(CompressionEncoding.GZIP, CompressionEncoding.codeOf("gzip"));
+        assertEquals(CompressionEncoding.GZIP, CompressionEncoding.codeOf(" GZIP "));
+        assertEquals(CompressionEncoding.GZIP, CompressionEncoding.codeOf("x-gzip"));
+        assertEquals(CompressionEncoding.DEFLATE, CompressionEncoding.codeOf("deflate"));
+        assertNull(CompressionEncoding.codeOf("br"));
+        assertNull(CompressionEncoding.codeOf(null));
+    }
+
+    // ===================================================================================
+    //                                                                          Round Trip
+    //                                                                          ==========
+    public void test_roundTrip_gzip() throws Exception {
+        assertRoundTrip(CompressionEncoding.GZIP);
+    }
+
+    public void test_roundTrip_deflate() throws Exception {
+        assertRoundTrip(CompressionEncoding.DEFLATE);
+    }
+
+    private void assertRoundTrip(CompressionEncoding encoding) throws Exception {
+        // ## Arrange ##
+        String plain = buildLargeJson();
+        CompressingHttpEntity compressing = new CompressingHttpEntity(new StringEntity(plain, StandardCharsets.UTF_8), encoding);
+        ByteArrayOutputStream compressedOut = new ByteArrayOutputStream();
+        compressing.writeTo(compressedOut);
+        byte[] compressed = compressedOut.toByteArray();
+        List<DecompressingHttpEntity> closedList = new ArrayList<>();
+        DecompressingHttpEntity decompressing = new DecompressingHttpEntity(new ByteArrayEntity(compressed), encoding, closedList::add);
+
+        // ## Act ##
+        String decompressed;
+        try (InputStream ins = decompressing.getContent()) {
+            decompressed = new String(ins.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // ## Assert ##
+        log(compressing, decompressing);
+        assertEquals(encoding.code(), compressing.getContentEncoding().getValue());
+        assertEquals(-1L, compressing.getContentLength());
+        assertTrue(compressing.isChunked());
+        assertTrue(compressed.length < plain.length());
+        assertEquals(plain, decompressed);
+        assertNull(decompressing.getContentEncoding()); // already decompressed
+        assertEquals(compressed.length, decompressing.getCompressedByteCount());
+        assertEquals(plain.getBytes(StandardCharsets.UTF_8).length, decompressing.getDecompressedByteCount());
+        assertEquals(1, closedList.size());
+        assertSame(decompressing, closedList.get(0));
+    }
+
+    public void test_CompressingHttpEntity_getContent_sameAsWriteTo() throws Exception {
+        // ## Arrange ##
+        String plain = buildLargeJson();
+        CompressingHttpEntity compressing =
+                new CompressingHttpEntity(new StringEntity(plain, StandardCharsets.UTF_8), CompressionEncoding.GZIP);
+
+        // ## Act ##
+        byte[] compressed;
+        try (InputStream ins = compressing.getContent()) {
+            compressed = ins.readAllBytes();
+        }
+
+        // ## Assert ##
+        try (InputStream ins = CompressionEncoding.GZIP.decompress(new ByteArrayInputStream(compressed))) {
+            assertEquals(plain, new String(ins.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private String buildLargeJson() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            sb.append(i > 0 ? "," : "").append("{\"sea\": \"mystic\", \"land\": \"oneman海\", \"no\": ").append(i).append("}");
+        }
+        return sb.append("]").toString();
+    }
+}
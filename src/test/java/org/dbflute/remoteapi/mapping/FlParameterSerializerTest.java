@@ -0,0 +1,231 @@
+package org.dbflute.remoteapi.mapping;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbflute.helper.beans.DfPropertyDesc;
+import org.dbflute.jdbc.Classification;
+import org.dbflute.jdbc.ClassificationMeta;
+import org.dbflute.remoteapi.mock.MockCDef;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class FlParameterSerializerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                    Naming Cache Key
+    //                                                                    ================
+    public void test_isNamingCacheKeyAvailable() {
+        // ## Arrange ##
+        FlParameterSerializer plainSerializer = new FlParameterSerializer();
+        FlParameterSerializer namingSerializer = new NamingParameterSerializer();
+        FlParameterSerializer keyedSerializer = new KeyedNamingParameterSerializer();
+        FlParameterSerializer subNamingSerializer = new KeyedNamingParameterSerializer() {
+            @Override
+            public String asSerializedParameterName(DfPropertyDesc propertyDesc, FlRemoteMappingPolicy mappingPolicy) {
+                return "sub_" + super.asSerializedParameterName(propertyDesc, mappingPolicy);
+            }
+        };
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(plainSerializer.isNamingCacheKeyAvailable());
+        assertFalse(namingSerializer.isNamingCacheKeyAvailable()); // key does not know the naming
+        assertTrue(keyedSerializer.isNamingCacheKeyAvailable()); // overridden with the key
+        assertFalse(subNamingSerializer.isNamingCacheKeyAvailable()); // naming overridden under the key
+    }
+
+    // ===================================================================================
+    //                                                                      Classification
+    //                                                                      ==============
+    public void test_asSerializedParameterValue_classification_byOrdinal() {
+        // ## Arrange ##
+        FlParameterSerializer serializer = new FlParameterSerializer();
+        FlSelectedMappingPolicy policy = new FlSelectedMappingPolicy();
+
+        // ## Act ##
+        // ## Assert ##
+        for (MockCDef.ServiceRank rank : MockCDef.ServiceRank.values()) {
+            assertEquals(rank.code(), serializer.asSerializedParameterValue(rank, policy));
+        }
+        assertEquals("1", serializer.asSerializedParameterValue(MockCDef.Flg.True, policy));
+        assertEquals("0", serializer.asSerializedParameterValue(MockCDef.Flg.False, policy));
+    }
+
+    public void test_asSerializedParameterValue_classification_preferredItem() {
+        // ## Arrange ##
+        FlParameterSerializer serializer = new FlParameterSerializer();
+        FlSelectedMappingPolicy plainPolicy = new FlSelectedMappingPolicy();
+        FlSelectedMappingPolicy preferredPolicy = new FlSelectedMappingPolicy().clsPreferredItem("sea");
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals("MYS", serializer.asSerializedParameterValue(SeaCls.Mystic, plainPolicy));
+        assertEquals("mystic", serializer.asSerializedParameterValue(SeaCls.Mystic, preferredPolicy));
+        assertEquals("ONE", serializer.asSerializedParameterValue(SeaCls.Oneman, preferredPolicy)); // no sub item, so code
+        assertEquals("MYS", serializer.asSerializedParameterValue(SeaCls.Mystic, plainPolicy)); // not polluted by preferred
+    }
+
+    public void test_findClassificationTable_cachedPerPreferredItem() {
+        // ## Arrange ##
+        FlParameterSerializer serializer = new FlParameterSerializer();
+
+        // ## Act ##
+        String[] plainTable = serializer.findClassificationTable(SeaCls.class, null);
+        String[] preferredTable = serializer.findClassificationTable(SeaCls.class, "sea");
+
+        // ## Assert ##
+        assertSame(plainTable, serializer.findClassificationTable(SeaCls.class, null));
+        assertSame(plainTable, new FlParameterSerializer().findClassificationTable(SeaCls.class, null)); // shared by serializers
+        assertSame(preferredTable, serializer.findClassificationTable(SeaCls.class, "sea"));
+        assertNotSame(plainTable, preferredTable);
+        assertEquals(SeaCls.values().length, plainTable.length);
+        assertEquals("MYS", plainTable[SeaCls.Mystic.ordinal()]);
+        assertEquals("ONE", plainTable[SeaCls.Oneman.ordinal()]);
+        assertEquals("mystic", preferredTable[SeaCls.Mystic.ordinal()]);
+        assertEquals("ONE", preferredTable[SeaCls.Oneman.ordinal()]);
+    }
+
+    public void test_asSerializedParameterValue_classification_overriddenSerialization() {
+        // ## Arrange ##
+        FlParameterSerializer plainSerializer = new FlParameterSerializer();
+        FlParameterSerializer aliasSerializer = new AliasParameterSerializer();
+        FlSelectedMappingPolicy policy = new FlSelectedMappingPolicy();
+        plainSerializer.asSerializedParameterValue(SeaCls.Mystic, policy); // prepare shared table first
+
+        // ## Act ##
+        String aliasValue = aliasSerializer.asSerializedParameterValue(SeaCls.Mystic, policy);
+
+        // ## Assert ##
+        assertEquals("Mystic Alias", aliasValue); // not shared table of plain serializer
+        assertEquals("MYS", plainSerializer.asSerializedParameterValue(SeaCls.Mystic, policy));
+    }
+
+    // ===================================================================================
+    //                                                                        Policy Table
+    //                                                                        ============
+    public void test_asSerializedParameterValue_policyTable_default() {
+        // ## Arrange ##
+        FlParameterSerializer serializer = new FlParameterSerializer();
+        FlSelectedMappingPolicy policy = new FlSelectedMappingPolicy();
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals("2026-10-18", serializer.asSerializedParameterValue(LocalDate.of(2026, 10, 18), policy));
+        assertEquals("2026-10-18T12:34:56", serializer.asSerializedParameterValue(LocalDateTime.of(2026, 10, 18, 12, 34, 56), policy));
+        assertEquals("true", serializer.asSerializedParameterValue(true, policy));
+        assertEquals("false", serializer.asSerializedParameterValue(Boolean.FALSE, policy));
+        assertEquals("sea", serializer.asSerializedParameterValue("sea", policy));
+        assertNull(serializer.asSerializedParameterValue(null, policy));
+    }
+
+    public void test_asSerializedParameterValue_policyTable_switched() {
+        // ## Arrange ##
+        FlParameterSerializer serializer = new FlParameterSerializer();
+        FlSelectedMappingPolicy defaultPolicy = new FlSelectedMappingPolicy();
+        FlSelectedMappingPolicy customPolicy = new FlSelectedMappingPolicy() //
+                .dateFormatter(DateTimeFormatter.ofPattern("yyyy/MM/dd"))
+                .dateTimeFormatter(DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm"))
+                .booleanSerializer(boo -> boo ? "1" : "0");
+        LocalDate date = LocalDate.of(2026, 10, 18);
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 18, 12, 34);
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals("2026-10-18", serializer.asSerializedParameterValue(date, defaultPolicy));
+        assertEquals("2026/10/18", serializer.asSerializedParameterValue(date, customPolicy));
+        assertEquals("2026/10/18 12:34", serializer.asSerializedParameterValue(dateTime, customPolicy));
+        assertEquals("1", serializer.asSerializedParameterValue(true, customPolicy));
+        assertEquals("0", serializer.asSerializedParameterValue(false, customPolicy));
+        assertEquals("true", serializer.asSerializedParameterValue(true, defaultPolicy)); // switched back
+    }
+
+    public void test_findPolicyTable_reusedForSamePolicy() {
+        // ## Arrange ##
+        FlParameterSerializer serializer = new FlParameterSerializer();
+        FlSelectedMappingPolicy policy = new FlSelectedMappingPolicy();
+
+        // ## Act ##
+        FlParameterSerializer.PolicyTable first = serializer.findPolicyTable(policy);
+        FlParameterSerializer.PolicyTable second = serializer.findPolicyTable(policy);
+        FlParameterSerializer.PolicyTable other = serializer.findPolicyTable(new FlSelectedMappingPolicy());
+
+        // ## Assert ##
+        assertSame(first, second);
+        assertNotSame(first, other); // compared by identity
+        assertSame(policy, first.getMappingPolicy());
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private static class NamingParameterSerializer extends FlParameterSerializer {
+
+        @Override
+        public String asSerializedParameterName(DfPropertyDesc propertyDesc, FlRemoteMappingPolicy mappingPolicy) {
+            return mappingPolicy.getClsPreferredItem() + "_" + super.asSerializedParameterName(propertyDesc, mappingPolicy);
+        }
+    }
+
+    private static class KeyedNamingParameterSerializer extends NamingParameterSerializer {
+
+        @Override
+        public String buildNamingCacheKey(FlRemoteMappingPolicy mappingPolicy) {
+            return super.buildNamingCacheKey(mappingPolicy) + ":" + mappingPolicy.getClsPreferredItem();
+        }
+    }
+
+    private static class AliasParameterSerializer extends FlParameterSerializer {
+
+        @Override
+        protected String doSerializeClassification(Classification cls, String clsPreferredItem) {
+            return cls.alias();
+        }
+    }
+
+    public enum SeaCls implements Classification {
+
+        Mystic("MYS", "Mystic Alias", Collections.singletonMap("sea", "mystic")), //
+        Oneman("ONE", "Oneman Alias", Collections.emptyMap());
+
+        private final String code;
+        private final String alias;
+        private final Map<String, Object> subItemMap;
+
+        private SeaCls(String code, String alias, Map<String, Object> subItemMap) {
+            this.code = code;
+            this.alias = alias;
+            this.subItemMap = subItemMap;
+        }
+
+        public String code() {
+            return code;
+        }
+
+        public String alias() {
+            return alias;
+        }
+
+        public Set<String> sisterSet() {
+            return Collections.emptySet();
+        }
+
+        public boolean inGroup(String groupName) {
+            return false;
+        }
+
+        public Map<String, Object> subItemMap() {
+            return subItemMap;
+        }
+
+        public ClassificationMeta meta() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package org.dbflute.remoteapi.mapping;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.dbflute.remoteapi.mapping.FlSerializationPlan.PropertyPlan;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class FlSerializationPlanTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                              Getter
+    //                                                                              ======
+    public void test_compile_getterAndField() {
+        // ## Arrange ##
+        PublicBean bean = new PublicBean();
+        bean.sea = "mystic";
+        bean.setLand("oneman");
+
+        // ## Act ##
+        FlSerializationPlan plan = FlSerializationPlan.compile(PublicBean.class, propertyDesc -> propertyDesc.getPropertyName());
+
+        // ## Assert ##
+        PropertyPlan seaPlan = findPropertyPlan(plan, "sea");
+        PropertyPlan landPlan = findPropertyPlan(plan, "land");
+        assertNotNull(seaPlan.getter); // public field
+        assertNotNull(landPlan.getter); // public getter
+        assertEquals("mystic", seaPlan.getValue(bean));
+        assertEquals("oneman", landPlan.getValue(bean));
+    }
+
+    public void test_compile_nonPublicClass_fallback() {
+        // ## Arrange ##
+        PrivateBean bean = new PrivateBean();
+        bean.sea = "mystic";
+        bean.setLand("oneman");
+
+        // ## Act ##
+        FlSerializationPlan plan = FlSerializationPlan.compile(PrivateBean.class, propertyDesc -> propertyDesc.getPropertyName());
+
+        // ## Assert ##
+        PropertyPlan seaPlan = findPropertyPlan(plan, "sea");
+        PropertyPlan landPlan = findPropertyPlan(plan, "land");
+        assertNull(seaPlan.getter); // not accessible by public lookup
+        assertNull(landPlan.getter);
+        assertEquals("mystic", seaPlan.getValue(bean)); // by property description
+        assertEquals("oneman", landPlan.getValue(bean));
+    }
+
+    // ===================================================================================
+    //                                                                              Naming
+    //                                                                              ======
+    public void test_of_cachedPerNamingKey() {
+        // ## Arrange ##
+        String keyPrefix = getClass().getName() + ":" + System.nanoTime(); // not to be affected by other tests
+
+        // ## Act ##
+        FlSerializationPlan upperPlan = FlSerializationPlan.of(PublicBean.class, keyPrefix + ":upper", desc -> {
+            return desc.getPropertyName().toUpperCase();
+        });
+        FlSerializationPlan upperAgain = FlSerializationPlan.of(PublicBean.class, keyPrefix + ":upper", desc -> {
+            return "not used";
+        });
+        FlSerializationPlan plainPlan = FlSerializationPlan.of(PublicBean.class, keyPrefix + ":plain", desc -> {
+            return desc.getPropertyName();
+        });
+
+        // ## Assert ##
+        assertSame(upperPlan, upperAgain);
+        assertNotSame(upperPlan, plainPlan);
+        assertEquals("SEA", findPropertyPlan(upperAgain, "sea").getParameterName()); // first naming of the key
+        assertEquals("sea", findPropertyPlan(plainPlan, "sea").getParameterName());
+    }
+
+    public void test_isOverridden() {
+        assertFalse(FlSerializationPlan.isOverridden(BaseNaming.class, BaseNaming.class, "toName", String.class));
+        assertTrue(FlSerializationPlan.isOverridden(OverriddenNaming.class, BaseNaming.class, "toName", String.class));
+        assertTrue(FlSerializationPlan.isOverridden(SubOverriddenNaming.class, BaseNaming.class, "toName", String.class));
+        assertFalse(FlSerializationPlan.isOverridden(OtherMethodNaming.class, BaseNaming.class, "toName", String.class));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private PropertyPlan findPropertyPlan(FlSerializationPlan plan, String propertyName) {
+        List<PropertyPlan> found = plan.getPropertyPlanList().stream().filter(propertyPlan -> {
+            return propertyPlan.getPropertyDesc().getPropertyName().equals(propertyName);
+        }).collect(Collectors.toList());
+        assertEquals(1, found.size());
+        return found.get(0);
+    }
+
+    public static class PublicBean {
+
+        public String sea;
+
+        private String land;
+
+        public String getLand() {
+            return land;
+        }
+
+        public void setLand(String land) {
+            this.land = land;
+        }
+    }
+
+    private static class PrivateBean {
+
+        public String sea;
+
+        private String land;
+
+        @SuppressWarnings("unused")
+        public String getLand() {
+            return land;
+        }
+
+        public void setLand(String land) {
+            this.land = land;
+        }
+    }
+
+    public static class BaseNaming {
+
+        protected String toName(String name) {
+            return name;
+        }
+    }
+
+    public static class OverriddenNaming extends BaseNaming {
+
+        @Override
+        protected String toName(String name) {
+            return "over:" + name;
+        }
+    }
+
+    public static class SubOverriddenNaming extends OverriddenNaming {
+    }
+
+    public static class OtherMethodNaming extends BaseNaming {
+
+        protected String toName(Object name) { // overload, not override
+            return "other:" + name;
+        }
+    }
+}
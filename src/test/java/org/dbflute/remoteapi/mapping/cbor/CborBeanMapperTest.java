@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.mapping.cbor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.remoteapi.mapping.FlParameterDeserializer;
+import org.dbflute.remoteapi.mapping.FlParameterSerializer;
+import org.dbflute.remoteapi.mapping.FlVacantMappingPolicy;
+import org.dbflute.remoteapi.mock.MockCDef;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class CborBeanMapperTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                           Low Level
+    //                                                                           =========
+    public void test_readValue_specExamples() throws Exception {
+        // RFC 8949 Appendix A
+        assertEquals(0L, read("00"));
+        assertEquals(500L, read("1901f4"));
+        assertEquals(-1000L, read("3903e7"));
+        assertEquals(new BigInteger("18446744073709551616"), read("c249010000000000000000"));
+        assertEquals(1.0f, read("f93c00"));
+        assertEquals(1.1d, read("fb3ff199999999999a"));
+        assertEquals("streaming", read("7f657374726561646d696e67ff"));
+        assertEquals(newArrayList(1L, newArrayList(2L, 3L), newArrayList(4L, 5L)), read("9f018202039f0405ffff"));
+        assertNull(read("f6"));
+    }
+
+    public void test_writeLong_shortestForm() throws Exception {
+        assertEquals("17", write(23L));
+        assertEquals("1818", write(24L));
+        assertEquals("1a000f4240", write(1000000L));
+        assertEquals("3863", write(-100L));
+        assertEquals("3b7fffffffffffffff", write(Long.MIN_VALUE));
+    }
+
+    public void test_readValue_tooDeepTag() {
+        // ## Arrange ##
+        byte[] bytes = new byte[100001];
+        Arrays.fill(bytes, (byte) 0xC0); // chain of date-time tags
+        bytes[bytes.length - 1] = 0x00;
+
+        // ## Act ##
+        // ## Assert ##
+        try {
+            new CborReader(new ByteArrayInputStream(bytes)).readValue();
+            fail();
+        } catch (IOException e) { // not stack overflow
+            log(e.getMessage());
+            assertContains(e.getMessage(), "Too deep");
+        }
+    }
+
+    public void test_readValue_nestedIndefiniteChunk() {
+        // ## Arrange ##
+        byte[] bytes = new byte[] { 0x7F, 0x7F, 0x7F, (byte) 0xFF };
+
+        // ## Act ##
+        // ## Assert ##
+        try {
+            new CborReader(new ByteArrayInputStream(bytes)).readValue();
+            fail();
+        } catch (IOException e) { // chunk should be definite-length
+            log(e.getMessage());
+        }
+    }
+
+    // ===================================================================================
+    //                                                                                Bean
+    //                                                                                ====
+    public void test_bean_roundTrip() throws Exception {
+        // ## Arrange ##
+        CborBeanMapper mapper = new CborBeanMapper(new FlVacantMappingPolicy(), new FlParameterSerializer(), new FlParameterDeserializer());
+        SeaBean bean = new SeaBean();
+        bean.name = "mystic";
+        bean.count = 3;
+        bean.price = new BigDecimal("12.30");
+        bean.birthdate = LocalDate.of(2001, 9, 4);
+        bean.open = true;
+        bean.status = MockCDef.MemberStatus.Formalized;
+        bean.stageList = newArrayList("dockside", "hangar");
+        LandBean land = new LandBean();
+        land.code = "oneman";
+        bean.landList = newArrayList(land);
+
+        // ## Act ##
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapper.writeValue(new CborWriter(out), bean);
+        Object value = new CborReader(new ByteArrayInputStream(out.toByteArray())).readValue();
+        SeaBean actual = (SeaBean) mapper.toTypedValue(value, SeaBean.class);
+
+        // ## Assert ##
+        log(value);
+        assertEquals("FML", ((Map<?, ?>) value).get("status"));
+        assertEquals("mystic", actual.name);
+        assertEquals(3, actual.count);
+        assertEquals(new BigDecimal("12.30"), actual.price);
+        assertEquals(LocalDate.of(2001, 9, 4), actual.birthdate);
+        assertTrue(actual.open);
+        assertEquals(MockCDef.MemberStatus.Formalized, actual.status);
+        assertEquals(newArrayList("dockside", "hangar"), actual.stageList);
+        assertEquals("oneman", actual.landList.get(0).code);
+    }
+
+    public static class SeaBean {
+
+        public String name;
+
+        public int count;
+
+        public BigDecimal price;
+
+        public LocalDate birthdate;
+
+        public boolean open;
+
+        public MockCDef.MemberStatus status;
+
+        public List<String> stageList;
+
+        public List<LandBean> landList;
+    }
+
+    public static class LandBean {
+
+        public String code;
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private Object read(String hex) throws Exception {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return new CborReader(new ByteArrayInputStream(bytes)).readValue();
+    }
+
+    private String write(long value) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CborWriter(out).writeLong(value);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : out.toByteArray()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package org.dbflute.remoteapi.mapping.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+/**
+ * @author agent
+ */
+public class JaxbContextPoolTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                             Marshal
+    //                                                                             =======
+    public void test_marshal_rootElement() {
+        // ## Arrange ##
+        SeaBean bean = new SeaBean();
+        bean.name = "mystic";
+
+        // ## Act ##
+        String xml = marshalAsString(bean);
+
+        // ## Assert ##
+        log(xml);
+        assertContains(xml, "<sea><name>mystic</name></sea>"); // by XmlRootElement
+    }
+
+    public void test_marshal_nonRootElement_wrapped() {
+        // ## Arrange ##
+        LandBean bean = new LandBean();
+        bean.name = "oneman";
+
+        // ## Act ##
+        String xml = marshalAsString(bean);
+
+        // ## Assert ##
+        log(xml);
+        assertContains(xml, "<landBean><name>oneman</name></landBean>"); // decapitalized class name, same as JAXB.marshal()
+    }
+
+    public void test_marshal_pooled() {
+        // ## Arrange ##
+        JaxbContextPool pool = JaxbContextPool.of(SeaBean.class);
+        SeaBean bean = new SeaBean();
+        bean.name = "hangar";
+
+        // ## Act ##
+        marshalAsString(bean);
+        marshalAsString(bean);
+
+        // ## Assert ##
+        assertSame(pool, JaxbContextPool.of(SeaBean.class));
+        assertEquals(1, pool.marshallerPool.size()); // reused, not created per call
+    }
+
+    // ===================================================================================
+    //                                                                           Unmarshal
+    //                                                                           =========
+    public void test_unmarshal_roundTrip() {
+        // ## Arrange ##
+        LandBean bean = new LandBean();
+        bean.name = "dockside";
+        String xml = marshalAsString(bean);
+
+        // ## Act ##
+        LandBean unmarshalled = JaxbContextPool.of(LandBean.class).unmarshal(new StringReader(xml));
+
+        // ## Assert ##
+        assertEquals("dockside", unmarshalled.name);
+    }
+
+    public void test_unmarshal_externalEntity_disabled() throws Exception {
+        // ## Arrange ##
+        Path secretFile = Files.createTempFile("remoteapi-xxe-", ".txt");
+        try {
+            Files.write(secretFile, "secretvalue".getBytes(StandardCharsets.UTF_8));
+            String xml = "<?xml version=\"1.0\"?>" //
+                    + "<!DOCTYPE sea [<!ENTITY xxe SYSTEM \"" + secretFile.toUri() + "\">]>" //
+                    + "<sea><name>&xxe;</name></sea>";
+
+            // ## Act ##
+            // ## Assert ##
+            IllegalStateException cause = assertException(IllegalStateException.class, () -> {
+                JaxbContextPool.of(SeaBean.class).unmarshal(new StringReader(xml)); // entity is not declared without DTD
+            });
+            assertFalse(String.valueOf(cause.getMessage()).contains("secretvalue"));
+        } finally {
+            Files.deleteIfExists(secretFile);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private String marshalAsString(Object bean) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JaxbContextPool.of(bean.getClass()).marshal(bean, out, StandardCharsets.UTF_8);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @XmlRootElement(name = "sea")
+    public static class SeaBean {
+
+        public String name;
+    }
+
+    public static class LandBean {
+
+        public String name;
+    }
+}
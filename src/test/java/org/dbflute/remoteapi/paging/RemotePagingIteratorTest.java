@@ -0,0 +1,139 @@
+package org.dbflute.remoteapi.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class RemotePagingIteratorTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                            Prefetch
+    //                                                                            ========
+    public void test_iterate_prefetchOrdering() {
+        // ## Arrange ##
+        List<Integer> requestedList = new ArrayList<>();
+        List<Runnable> taskList = new ArrayList<>();
+        Executor executor = task -> taskList.add(task); // run manually
+        RemotePagingIterator<Integer, String> iterator = new RemotePagingIterator<>(1, pageNumber -> {
+            requestedList.add(pageNumber);
+            return "page" + pageNumber;
+        }, (pageNumber, page) -> pageNumber < 4 ? OptionalThing.of(pageNumber + 1) : OptionalThing.empty(),
+                new RemotePagingOption().prefetchDepth(2), executor);
+
+        // ## Act ##
+        runAll(taskList); // first page and two pages ahead of it
+
+        // ## Assert ##
+        assertEquals(newArrayList(1, 2, 3), requestedList);
+        assertEquals("page1", iterator.next());
+        runAll(taskList);
+        assertEquals(newArrayList(1, 2, 3), requestedList); // already two pages ahead of page1
+        assertEquals("page2", iterator.next());
+        runAll(taskList); // keeps the depth ahead of consuming
+        assertEquals(newArrayList(1, 2, 3, 4), requestedList);
+        assertEquals("page3", iterator.next());
+        runAll(taskList);
+        assertEquals("page4", iterator.next());
+        runAll(taskList);
+        assertFalse(iterator.hasNext());
+        assertEquals(newArrayList(1, 2, 3, 4), requestedList);
+    }
+
+    public void test_iterate_noPrefetch() {
+        // ## Arrange ##
+        List<Integer> requestedList = new ArrayList<>();
+        List<Thread> threadList = new ArrayList<>();
+        Executor executor = task -> {
+            throw new IllegalStateException("no prefetch so not used");
+        };
+        RemotePagingIterator<Integer, String> iterator = new RemotePagingIterator<>(1, pageNumber -> {
+            requestedList.add(pageNumber);
+            threadList.add(Thread.currentThread());
+            return "page" + pageNumber;
+        }, (pageNumber, page) -> pageNumber < 3 ? OptionalThing.of(pageNumber + 1) : OptionalThing.empty(),
+                new RemotePagingOption().prefetchDepth(0), executor);
+
+        // ## Act ##
+        List<Integer> beforeList = new ArrayList<>(requestedList);
+        List<String> pageList = iterator.stream().collect(Collectors.toList());
+
+        // ## Assert ##
+        assertTrue(beforeList.isEmpty()); // not requested in constructor
+        assertEquals(newArrayList("page1", "page2", "page3"), pageList);
+        assertEquals(newArrayList(1, 2, 3), requestedList);
+        for (Thread thread : threadList) {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                               Error
+    //                                                                               =====
+    public void test_iterate_pageError() {
+        // ## Arrange ##
+        IllegalStateException cause = new IllegalStateException("mystic");
+        RemotePagingIterator<Integer, String> iterator = new RemotePagingIterator<>(1, pageNumber -> {
+            if (pageNumber == 2) {
+                throw cause;
+            }
+            return "page" + pageNumber;
+        }, (pageNumber, page) -> OptionalThing.of(pageNumber + 1), new RemotePagingOption(), Runnable::run);
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals("page1", iterator.next());
+        IllegalStateException actual = assertException(IllegalStateException.class, () -> iterator.next());
+        assertSame(cause, actual); // as it is
+        assertFalse(iterator.hasNext()); // closed
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    public void test_close_cancelNotStarted() {
+        // ## Arrange ##
+        List<Integer> requestedList = new ArrayList<>();
+        List<Runnable> taskList = new ArrayList<>();
+        RemotePagingIterator<Integer, String> iterator = new RemotePagingIterator<>(1, pageNumber -> {
+            requestedList.add(pageNumber);
+            return "page" + pageNumber;
+        }, (pageNumber, page) -> OptionalThing.of(pageNumber + 1), new RemotePagingOption().prefetchDepth(2), task -> taskList.add(task));
+
+        // ## Act ##
+        iterator.close();
+        runAll(taskList);
+
+        // ## Assert ##
+        assertTrue(requestedList.isEmpty()); // cancelled before started
+        assertFalse(iterator.hasNext());
+        iterator.close(); // no exception
+    }
+
+    public void test_stream_closeByStream() {
+        // ## Arrange ##
+        RemotePagingIterator<Integer, String> iterator = new RemotePagingIterator<>(1, pageNumber -> "page" + pageNumber,
+                (pageNumber, page) -> OptionalThing.of(pageNumber + 1), new RemotePagingOption(), Runnable::run);
+
+        // ## Act ##
+        iterator.stream().limit(2).close();
+
+        // ## Assert ##
+        assertFalse(iterator.hasNext());
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private void runAll(List<Runnable> taskList) {
+        while (!taskList.isEmpty()) {
+            taskList.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.dbflute.remoteapi.receiver;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class FlNdjsonReceiverTest extends PlainTestCase {
+
+    private static final String NDJSON = "{\"sea\":1}\r\n\n{\"land\":2}\n";
+
+    // ===================================================================================
+    //                                                                           as List
+    //                                                                           =======
+    public void test_toResponseReturn_list_string() {
+        // ## Arrange ##
+        MockNdjsonReceiver receiver = new MockNdjsonReceiver();
+
+        // ## Act ##
+        List<String> elementList = receiver.toResponseReturn(OptionalThing.of(NDJSON), prepareStringListType(), new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("parsed:{\"sea\":1}", "parsed:{\"land\":2}"), elementList);
+    }
+
+    public void test_toResponseReturn_list_stream() {
+        // ## Arrange ##
+        MockNdjsonReceiver receiver = new MockNdjsonReceiver();
+
+        // ## Act ##
+        List<String> elementList = receiver.toResponseReturn(createBodyStream(NDJSON), prepareStringListType(), new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("parsed:{\"sea\":1}", "parsed:{\"land\":2}"), elementList);
+    }
+
+    // ===================================================================================
+    //                                                                    Single Document
+    //                                                                    ===============
+    public void test_toResponseReturn_notList_string() { // e.g. failure response
+        // ## Arrange ##
+        MockNdjsonReceiver receiver = new MockNdjsonReceiver();
+        String errorJson = "{\"cause\": \"BUSINESS_ERROR\",\n \"errors\": []}";
+
+        // ## Act ##
+        String ret = receiver.toResponseReturn(OptionalThing.of(errorJson), String.class, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("parsed:" + errorJson, ret); // as one document
+    }
+
+    public void test_toResponseReturn_notList_stream() {
+        // ## Arrange ##
+        MockNdjsonReceiver receiver = new MockNdjsonReceiver();
+        String errorJson = "{\"cause\": \"BUSINESS_ERROR\"}";
+
+        // ## Act ##
+        String ret = receiver.toResponseReturn(createBodyStream(errorJson), String.class, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("parsed:" + errorJson, ret);
+    }
+
+    // ===================================================================================
+    //                                                                     Truly Streaming
+    //                                                                     ===============
+    public void test_isTrulyStreaming() {
+        // ## Arrange ##
+        MockNdjsonReceiver receiver = new MockNdjsonReceiver();
+        MockNdjsonReceiver streamReceiver = new MockNdjsonReceiver() {
+            @SuppressWarnings("unchecked")
+            @Override
+            protected <BEAN> BEAN fromJsonStream(ResponseBodyStream bodyStream, Class<BEAN> beanType) {
+                return (BEAN) "streamed";
+            }
+
+            @Override
+            protected <BEAN> BEAN fromJsonParameteriedStream(ResponseBodyStream bodyStream, ParameterizedType parameterizedType) {
+                throw new IllegalStateException("Unexpected parameterized type: " + parameterizedType);
+            }
+        };
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(receiver.isTrulyStreaming(prepareStringListType())); // lines are read one by one
+        assertFalse(receiver.isTrulyStreaming(String.class)); // read as string by default
+        assertTrue(streamReceiver.isTrulyStreaming(String.class)); // stream versions are overridden
+    }
+
+    // ===================================================================================
+    //                                                                        as Elements
+    //                                                                        ===========
+    public void test_toElementIterator() {
+        // ## Arrange ##
+        MockNdjsonReceiver receiver = new MockNdjsonReceiver();
+
+        // ## Act ##
+        Iterator<String> iterator = receiver.toElementIterator(createBodyStream(NDJSON), String.class, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("parsed:{\"sea\":1}", iterator.next());
+        assertEquals("parsed:{\"land\":2}", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private Type prepareStringListType() {
+        return new ParameterizedType() {
+
+            @Override
+            public Type getRawType() {
+                return List.class;
+            }
+
+            @Override
+            public Type getOwnerType() {
+                return null;
+            }
+
+            @Override
+            public Type[] getActualTypeArguments() {
+                return new Type[] { String.class };
+            }
+        };
+    }
+
+    private ResponseBodyStream createBodyStream(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return new ResponseBodyStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8, "application/x-ndjson", bytes.length);
+    }
+
+    private static class MockNdjsonReceiver extends FlNdjsonReceiver {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected <BEAN> BEAN fromJson(String json, Class<BEAN> beanType) {
+            return (BEAN) ("parsed:" + json);
+        }
+
+        @Override
+        protected <BEAN> BEAN fromJsonParameteried(String json, ParameterizedType parameterizedType) {
+            throw new IllegalStateException("Unexpected parameterized type: " + parameterizedType);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.time.LocalDate;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.mock.MockCDef;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.remoteapi.mapping.LaVacantMappingPolicy;
+
+/**
+ * @author agent
+ * @since 2.0.0 (2026/10/18 Sunday)
+ */
+public class FlSplitReceiverTest extends PlainTestCase {
+
+    public void test_toResponseReturn_literal_typed() {
+        // ## Arrange ##
+        FlSplitReceiver receiver = new FlSplitReceiver("&", "=", new LaVacantMappingPolicy());
+        String body = "name=mystic&count=3&birthdate=2001-09-04&formal=true&status=FML&broken=a=b&unknown=x&";
+
+        // ## Act ##
+        SeaResult result = receiver.toResponseReturn(OptionalThing.of(body), SeaResult.class, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        log(result.name, result.count, result.birthdate, result.formal, result.status);
+        assertEquals("mystic", result.name);
+        assertEquals(Integer.valueOf(3), result.count);
+        assertEquals(LocalDate.of(2001, 9, 4), result.birthdate);
+        assertTrue(result.formal);
+        assertEquals(MockCDef.MemberStatus.Formalized, result.status);
+        assertNull(result.broken); // three elements are ignored
+    }
+
+    public void test_toResponseReturn_sameAsStringSplit() {
+        // ## Arrange ##
+        FlSplitReceiver literal = new FlSplitReceiver(",", ":");
+        FlSplitReceiver regex = new FlSplitReceiver(",\\s*", ":"); // pattern compiled
+        String body = "name:mystic:, count:7,broken:,:empty";
+
+        // ## Act ##
+        SeaResult literalResult = literal.toResponseReturn(OptionalThing.of(body.replace(", ", ",")), SeaResult.class,
+                new FlutyRemoteApiRule());
+        SeaResult regexResult = regex.toResponseReturn(OptionalThing.of(body), SeaResult.class, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("mystic", literalResult.name); // trailing empty element is removed like String.split()
+        assertEquals(Integer.valueOf(7), literalResult.count);
+        assertNull(literalResult.broken);
+        assertEquals("mystic", regexResult.name);
+        assertEquals(Integer.valueOf(7), regexResult.count);
+        assertNull(regexResult.broken);
+    }
+
+    public static class SeaResult {
+        public String name;
+        public Integer count;
+        public LocalDate birthdate;
+        public boolean formal;
+        public MockCDef.MemberStatus status;
+        public String broken;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.receiver;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class JsonArrayElementReaderTest extends PlainTestCase {
+
+    public void test_next_topLevel() {
+        // ## Arrange ##
+        String json = "[ {\"sea\":[1,{\"land\":\"x]}\\\"\"}]}, 2 ,\"pi,]ari\" , null ]";
+        JsonArrayElementReader reader = new JsonArrayElementReader(new StringReader(json), Collections.emptyList());
+
+        // ## Act ##
+        List<String> elementList = readAll(reader);
+
+        // ## Assert ##
+        log(elementList);
+        assertEquals(Arrays.asList("{\"sea\":[1,{\"land\":\"x]}\\\"\"}]}", "2", "\"pi,]ari\"", "null"), elementList);
+    }
+
+    public void test_next_topLevel_empty() {
+        // ## Arrange ##
+        JsonArrayElementReader reader = new JsonArrayElementReader(new StringReader(" [ ] "), Collections.emptyList());
+
+        // ## Act ##
+        List<String> elementList = readAll(reader);
+
+        // ## Assert ##
+        assertTrue(elementList.isEmpty());
+    }
+
+    public void test_next_nested() {
+        // ## Arrange ##
+        String json = "{\"paging\":{\"rows\":[9]},\"ro\\u0077s\":[{\"id\":1},{\"id\":2}],\"tail\":1}";
+        JsonArrayElementReader reader = new JsonArrayElementReader(new StringReader(json), Arrays.asList("rows"));
+
+        // ## Act ##
+        List<String> elementList = readAll(reader);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("{\"id\":1}", "{\"id\":2}"), elementList);
+    }
+
+    public void test_next_nested_null() {
+        // ## Arrange ##
+        String json = "{\"data\":{\"items\":null}}";
+        JsonArrayElementReader reader = new JsonArrayElementReader(new StringReader(json), Arrays.asList("data", "items"));
+
+        // ## Act ##
+        List<String> elementList = readAll(reader);
+
+        // ## Assert ##
+        assertTrue(elementList.isEmpty());
+    }
+
+    public void test_next_nested_notFound() {
+        // ## Arrange ##
+        JsonArrayElementReader reader = new JsonArrayElementReader(new StringReader("{\"sea\":1}"), Arrays.asList("rows"));
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> reader.hasNext());
+    }
+
+    private List<String> readAll(JsonArrayElementReader reader) {
+        List<String> elementList = new ArrayList<>();
+        reader.forEachRemaining(elementList::add);
+        return elementList;
+    }
+}
@@ -0,0 +1,58 @@
+package org.dbflute.remoteapi.receiver;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class JsonLinesElementReaderTest extends PlainTestCase {
+
+    public void test_next_basic() {
+        // ## Arrange ##
+        JsonLinesElementReader reader = new JsonLinesElementReader(new StringReader("{\"sea\":1}\n{\"land\":2}"));
+
+        // ## Act ##
+        List<String> elementList = readAll(reader);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("{\"sea\":1}", "{\"land\":2}"), elementList);
+        assertException(NoSuchElementException.class, () -> reader.next());
+    }
+
+    public void test_next_blankLine_CRLF_trailingNewline() {
+        // ## Arrange ##
+        String ndjson = "\r\n{\"sea\":1}\r\n  \r\n\t\n{\"land\":2}\r\n\n";
+        JsonLinesElementReader reader = new JsonLinesElementReader(new StringReader(ndjson));
+
+        // ## Act ##
+        List<String> elementList = readAll(reader);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList("{\"sea\":1}", "{\"land\":2}"), elementList); // no CR, no empty element
+        assertFalse(reader.hasNext());
+    }
+
+    public void test_next_empty() {
+        // ## Arrange ##
+        JsonLinesElementReader reader = new JsonLinesElementReader(new StringReader("\n\n"));
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(reader.hasNext());
+        assertFalse(reader.hasNext()); // finished
+    }
+
+    private List<String> readAll(JsonLinesElementReader reader) {
+        List<String> elementList = new ArrayList<>();
+        while (reader.hasNext()) {
+            elementList.add(reader.next());
+        }
+        return elementList;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.dbflute.util.Srl;
+import org.lastaflute.remoteapi.mapping.LaVacantMappingPolicy;
+
+/**
+ * @author agent
+ */
+public class FlMultipartSenderTest extends PlainTestCase {
+
+    public void test_prepareEnclosingRequest_file() throws Exception {
+        // ## Arrange ##
+        FlMultipartSender sender = new FlMultipartSender(new LaVacantMappingPolicy());
+        Path media = Files.createTempFile("remoteapi-multipart", ".txt");
+        try {
+            Files.write(media, "mystic".getBytes(StandardCharsets.UTF_8));
+            SeaForm form = new SeaForm();
+            form.title = "maihama";
+            form.media = media;
+            HttpPost post = new HttpPost("http://localhost:8090/harbor");
+
+            // ## Act ##
+            sender.prepareEnclosingRequest(post, form, new FlutyRemoteApiRule());
+
+            // ## Assert ##
+            HttpEntity entity = post.getEntity();
+            String body = writeBody(entity);
+            log(entity.getContentType(), body);
+            assertTrue(entity.getContentType().getValue().startsWith("multipart/form-data; boundary="));
+            assertTrue(entity.isRepeatable());
+            assertEquals(body.getBytes(StandardCharsets.UTF_8).length, entity.getContentLength());
+            assertContains(body, "name=\"title\"\r\n\r\nmaihama\r\n");
+            assertContains(body, "name=\"media\"; filename=\"" + media.getFileName() + "\"");
+            assertContains(body, "\r\n\r\nmystic\r\n");
+            assertTrue(body.endsWith("--\r\n"));
+        } finally {
+            Files.deleteIfExists(media);
+        }
+    }
+
+    public void test_prepareEnclosingRequest_stream() throws Exception {
+        // ## Arrange ##
+        FlMultipartSender sender = new FlMultipartSender(new LaVacantMappingPolicy());
+        SeaForm form = new SeaForm();
+        form.title = "maihama";
+        form.stream = new ByteArrayInputStream("oneman".getBytes(StandardCharsets.UTF_8));
+        HttpPost post = new HttpPost("http://localhost:8090/harbor");
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, form, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        HttpEntity entity = post.getEntity();
+        String body = writeBody(entity);
+        log(body);
+        assertFalse(entity.isRepeatable());
+        assertTrue(entity.isChunked());
+        assertContains(body, "name=\"stream\"; filename=\"stream\"\r\nContent-Type: application/octet-stream\r\n\r\noneman\r\n");
+        assertEquals(3, Srl.count(body, "Content-Disposition")); // null media is empty text part
+    }
+
+    public void test_prepareEnclosingRequest_fileList() throws Exception {
+        // ## Arrange ##
+        FlMultipartSender sender = new FlMultipartSender(new LaVacantMappingPolicy());
+        Path first = Files.createTempFile("remoteapi-multipart", ".txt");
+        Path second = Files.createTempFile("remoteapi-multipart", ".txt");
+        try {
+            Files.write(first, "mystic".getBytes(StandardCharsets.UTF_8));
+            Files.write(second, "oneman".getBytes(StandardCharsets.UTF_8));
+            LandForm form = new LandForm();
+            form.mediaList = Arrays.asList(first, second);
+            HttpPost post = new HttpPost("http://localhost:8090/harbor");
+
+            // ## Act ##
+            sender.prepareEnclosingRequest(post, form, new FlutyRemoteApiRule());
+
+            // ## Assert ##
+            String body = writeBody(post.getEntity());
+            log(body);
+            assertContains(body, "name=\"mediaList\"; filename=\"" + first.getFileName() + "\"");
+            assertContains(body, "name=\"mediaList\"; filename=\"" + second.getFileName() + "\"");
+            assertContains(body, "\r\n\r\nmystic\r\n");
+            assertContains(body, "\r\n\r\noneman\r\n");
+            assertEquals(2, Srl.count(body, "Content-Disposition")); // one part per file, not per path name element
+        } finally {
+            Files.deleteIfExists(first);
+            Files.deleteIfExists(second);
+        }
+    }
+
+    private String writeBody(HttpEntity entity) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    public static class SeaForm {
+
+        public String title;
+
+        public Path media;
+
+        public InputStream stream;
+    }
+
+    public static class LandForm {
+
+        public List<Path> mediaList;
+    }
+}
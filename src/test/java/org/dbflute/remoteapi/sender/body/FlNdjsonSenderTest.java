@@ -0,0 +1,85 @@
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class FlNdjsonSenderTest extends PlainTestCase {
+
+    public void test_prepareEnclosingRequest_list() throws Exception {
+        // ## Arrange ##
+        MockNdjsonSender sender = new MockNdjsonSender();
+        HttpPost post = new HttpPost("http://localhost/sea");
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, Arrays.asList("sea", "land"), new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        HttpEntity entity = post.getEntity();
+        assertEquals("{\"v\":\"sea\"}\n{\"v\":\"land\"}\n", writeAsString(entity));
+        assertEquals("{\"v\":\"sea\"}\n{\"v\":\"land\"}\n", writeAsString(entity)); // repeatable
+        assertTrue(entity.isRepeatable());
+        assertTrue(entity.isChunked());
+        assertContains(entity.getContentType().getValue(), "application/x-ndjson");
+    }
+
+    public void test_prepareEnclosingRequest_stream() throws Exception {
+        // ## Arrange ##
+        MockNdjsonSender sender = new MockNdjsonSender();
+        HttpPost post = new HttpPost("http://localhost/sea");
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, Stream.of("sea"), new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        HttpEntity entity = post.getEntity();
+        assertFalse(entity.isRepeatable()); // stream can be written only once
+        assertEquals("{\"v\":\"sea\"}\n", writeAsString(entity));
+    }
+
+    public void test_prepareEnclosingRequest_array() throws Exception {
+        // ## Arrange ##
+        MockNdjsonSender sender = new MockNdjsonSender();
+        HttpPost post = new HttpPost("http://localhost/sea");
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, new Object[] { "sea" }, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertTrue(post.getEntity().isRepeatable());
+        assertEquals("{\"v\":\"sea\"}\n", writeAsString(post.getEntity()));
+    }
+
+    public void test_prepareEnclosingRequest_notIterable() {
+        // ## Arrange ##
+        MockNdjsonSender sender = new MockNdjsonSender();
+        HttpPost post = new HttpPost("http://localhost/sea");
+        sender.prepareEnclosingRequest(post, "sea", new FlutyRemoteApiRule());
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalArgumentException.class, () -> writeAsString(post.getEntity())); // when written
+    }
+
+    private String writeAsString(HttpEntity entity) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return out.toString("UTF-8");
+    }
+
+    private static class MockNdjsonSender extends FlNdjsonSender {
+
+        @Override
+        protected String toJson(Object param) {
+            return "{\"v\":\"" + param + "\"}";
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.dbflute.remoteapi.sender.body;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpPost;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author agent
+ */
+public class FlRawBodySenderTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                          Byte Array
+    //                                                                          ==========
+    public void test_prepareEnclosingRequest_byteArray() throws Exception {
+        // ## Arrange ##
+        FlRawBodySender sender = new FlRawBodySender("application/json; charset=UTF-8");
+        HttpPost post = new HttpPost("http://localhost/sea");
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, "{\"sea\":1}".getBytes(StandardCharsets.UTF_8), new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        HttpEntity entity = post.getEntity();
+        assertEquals("{\"sea\":1}", writeAsString(entity));
+        assertEquals(9L, entity.getContentLength());
+        assertTrue(entity.isRepeatable());
+        assertEquals("application/json; charset=UTF-8", entity.getContentType().getValue());
+    }
+
+    // ===================================================================================
+    //                                                                         Byte Buffer
+    //                                                                         ===========
+    public void test_prepareEnclosingRequest_byteBuffer_offsetAndPosition() throws Exception {
+        // ## Arrange ##
+        FlRawBodySender sender = FlRawBodySender.asOctetStream();
+        HttpPost post = new HttpPost("http://localhost/sea");
+        byte[] array = "xxseamysticland".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer sliced = ByteBuffer.wrap(array, 2, 11).slice(); // arrayOffset=2, "seamysticla"
+        sliced.position(3); // "mysticla"
+        sliced.limit(9); // "mystic"
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, sliced, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals(2, sliced.arrayOffset());
+        HttpEntity entity = post.getEntity();
+        assertEquals("mystic", writeAsString(entity));
+        assertEquals(6L, entity.getContentLength());
+        assertEquals(3, sliced.position()); // not moved
+        assertEquals(9, sliced.limit());
+        assertEquals(FlRawBodySender.OCTET_STREAM, entity.getContentType().getValue());
+    }
+
+    public void test_prepareEnclosingRequest_byteBuffer_direct() throws Exception {
+        // ## Arrange ##
+        FlRawBodySender sender = FlRawBodySender.asOctetStream();
+        HttpPost post = new HttpPost("http://localhost/sea");
+        ByteBuffer direct = ByteBuffer.allocateDirect(16);
+        direct.put("xxoneman".getBytes(StandardCharsets.UTF_8));
+        direct.flip();
+        direct.position(2);
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, direct, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("oneman", writeAsString(post.getEntity()));
+        assertEquals(2, direct.position()); // not moved
+    }
+
+    // ===================================================================================
+    //                                                                          File, Stream
+    //                                                                          ============
+    public void test_prepareEnclosingRequest_path() throws Exception {
+        // ## Arrange ##
+        FlRawBodySender sender = FlRawBodySender.asOctetStream();
+        HttpPost post = new HttpPost("http://localhost/sea");
+        Path file = Files.createTempFile("remoteapi-raw-", ".tmp");
+        try {
+            Files.write(file, "dockside".getBytes(StandardCharsets.UTF_8));
+
+            // ## Act ##
+            sender.prepareEnclosingRequest(post, file, new FlutyRemoteApiRule());
+
+            // ## Assert ##
+            HttpEntity entity = post.getEntity();
+            assertEquals(8L, entity.getContentLength());
+            assertTrue(entity.isRepeatable());
+            assertEquals("dockside", writeAsString(entity));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    public void test_prepareEnclosingRequest_inputStream_notRepeatable() throws Exception {
+        // ## Arrange ##
+        FlRawBodySender sender = FlRawBodySender.asOctetStream();
+        HttpPost post = new HttpPost("http://localhost/sea");
+        ByteArrayInputStream ins = new ByteArrayInputStream("hangar".getBytes(StandardCharsets.UTF_8));
+
+        // ## Act ##
+        sender.prepareEnclosingRequest(post, ins, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        HttpEntity entity = post.getEntity();
+        assertFalse(entity.isRepeatable()); // cannot be retried
+        assertTrue(entity.isStreaming());
+        assertEquals(-1L, entity.getContentLength()); // chunked
+        assertEquals("hangar", writeAsString(entity));
+    }
+
+    // ===================================================================================
+    //                                                                         Unsupported
+    //                                                                         ===========
+    public void test_prepareEnclosingRequest_unsupported() {
+        // ## Arrange ##
+        FlRawBodySender sender = FlRawBodySender.asOctetStream();
+        HttpPost post = new HttpPost("http://localhost/sea");
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalArgumentException.class, () -> sender.prepareEnclosingRequest(post, "sea", new FlutyRemoteApiRule()));
+        assertException(IllegalArgumentException.class, () -> sender.prepareEnclosingRequest(post, null, new FlutyRemoteApiRule()));
+    }
+
+    public void test_isRawBody() {
+        assertTrue(FlRawBodySender.isRawBody(new byte[0]));
+        assertTrue(FlRawBodySender.isRawBody(ByteBuffer.allocate(0)));
+        assertTrue(FlRawBodySender.isRawBody(Path.of("sea")));
+        assertTrue(FlRawBodySender.isRawBody(new ByteArrayInputStream(new byte[0])));
+        assertFalse(FlRawBodySender.isRawBody("sea"));
+        assertFalse(FlRawBodySender.isRawBody(null));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private String writeAsString(HttpEntity entity) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return out.toString("UTF-8");
+    }
+}
@@ -17,10 +17,15 @@ package org.dbflute.remoteapi.sender.query;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.codec.Charsets;
+import org.dbflute.helper.beans.DfPropertyDesc;
 import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.remoteapi.mapping.FlParameterSerializer;
+import org.dbflute.remoteapi.mapping.FlRemoteMappingPolicy;
+import org.dbflute.remoteapi.mapping.FlSelectedMappingPolicy;
 import org.dbflute.utflute.core.PlainTestCase;
 import org.dbflute.util.Srl;
 import org.lastaflute.remoteapi.mapping.LaVacantMappingPolicy;
@@ -92,6 +97,127 @@ public class FlQuerySenderTest extends PlainTestCase {
         assertTrue(Srl.count(query, "&") == 2);
     }
 
+    public void test_toQueryString_encoded() {
+        // ## Arrange ##
+        FlQuerySender sender = new FlQuerySender(new LaVacantMappingPolicy());
+        SeaParam param = new SeaParam();
+        param.location = "mystic sea&land=oneman+piari/海";
+
+        // ## Act ##
+        String query = sender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        log(query);
+        assertEquals("?location=mystic%20sea%26land%3Doneman%2Bpiari/%E6%B5%B7", query);
+    }
+
+    @SuppressWarnings("deprecation")
+    public void test_toQueryString_legacyEncodeOverridden() {
+        // ## Arrange ##
+        FlQuerySender sender = new FlQuerySender(new LaVacantMappingPolicy()) {
+            @Override
+            protected String encode(String parameterValue, String charsetName) {
+                return "[" + charsetName + "]" + super.encode(parameterValue, charsetName);
+            }
+        };
+        SeaParam param = new SeaParam();
+        param.location = "mystic sea";
+
+        // ## Act ##
+        String query = sender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("?location=[UTF-8]mystic%20sea", query); // old hook still works
+    }
+
+    @SuppressWarnings("deprecation")
+    public void test_toQueryString_legacyParameterElementOverridden() {
+        // ## Arrange ##
+        FlQuerySender sender = new FlQuerySender(new LaVacantMappingPolicy()) {
+            @Override
+            protected void buildParameterElement(StringBuilder sb, MyValueHolder<Integer> paramIndex, String parameterName,
+                    String parameterValue, String charsetName) {
+                super.buildParameterElement(sb, paramIndex, parameterName.toUpperCase(), parameterValue, charsetName);
+            }
+        };
+        SeaParam param = new SeaParam();
+        param.location = "mystic sea";
+        param.stageList = Arrays.asList("dockside", "hangar");
+
+        // ## Act ##
+        String query = sender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("?LOCATION=mystic%20sea&STAGELIST=dockside&STAGELIST=hangar", query); // old hook still works
+    }
+
+    public void test_toQueryString_instanceDependentNaming() {
+        // ## Arrange ##
+        FlQuerySender seaSender = new PrefixNamingQuerySender("sea_");
+        FlQuerySender landSender = new PrefixNamingQuerySender("land_");
+        SeaParam param = new SeaParam();
+        param.location = "maihama";
+
+        // ## Act ##
+        String seaQuery = seaSender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+        String landQuery = landSender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("?sea_location=maihama", seaQuery);
+        assertEquals("?land_location=maihama", landQuery); // not first instance's naming
+        assertNull(seaSender.buildSerializationNamingKey()); // bound to instance
+        assertNotNull(new FlQuerySender(new LaVacantMappingPolicy()).buildSerializationNamingKey()); // shared
+    }
+
+    public void test_toQueryString_policyDependentNamingOfSerializer() {
+        // ## Arrange ##
+        FlQuerySender seaSender = new PolicyNamingQuerySender(new FlSelectedMappingPolicy().clsPreferredItem("sea"));
+        FlQuerySender landSender = new PolicyNamingQuerySender(new FlSelectedMappingPolicy().clsPreferredItem("land"));
+        SeaParam param = new SeaParam();
+        param.location = "maihama";
+
+        // ## Act ##
+        String seaQuery = seaSender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+        String landQuery = landSender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("?sea_location=maihama", seaQuery);
+        assertEquals("?land_location=maihama", landQuery); // not first policy's naming
+        assertNull(seaSender.buildSerializationNamingKey()); // the key of serializer does not know the naming
+    }
+
+    private static class PolicyNamingQuerySender extends FlQuerySender {
+
+        public PolicyNamingQuerySender(FlRemoteMappingPolicy mappingPolicy) {
+            super(mappingPolicy);
+        }
+
+        @Override
+        protected FlParameterSerializer createParameterSerializer() {
+            return new FlParameterSerializer() {
+                @Override
+                public String asSerializedParameterName(DfPropertyDesc propertyDesc, FlRemoteMappingPolicy mappingPolicy) {
+                    return mappingPolicy.getClsPreferredItem() + "_" + super.asSerializedParameterName(propertyDesc, mappingPolicy);
+                }
+            };
+        }
+    }
+
+    private static class PrefixNamingQuerySender extends FlQuerySender {
+
+        private final String prefix;
+
+        public PrefixNamingQuerySender(String prefix) {
+            super(new LaVacantMappingPolicy());
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected String asSerializedParameterName(DfPropertyDesc propertyDesc) {
+            return prefix + super.asSerializedParameterName(propertyDesc);
+        }
+    }
+
     public static class SeaParam {
 
         public String location;
@@ -0,0 +1,58 @@
+package org.lastaflute.remoteapi;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.web.ruts.process.validatebean.ResponseSimpleBeanValidator;
+
+/**
+ * @author agent
+ */
+public class LastaRemoteApiTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                          Validation
+    //                                                                          ==========
+    public void test_validateParam_rawBody_skipped() {
+        // ## Arrange ##
+        LastaRemoteApi remoteApi = createValidatorCalledRemoteApi();
+        FlutyRemoteApiRule rule = new FlutyRemoteApiRule();
+
+        // ## Act ##
+        // ## Assert ##
+        remoteApi.validateParam(String.class, "http://localhost", "/sea", new Object[] {}, new byte[] { 1 }, rule);
+        remoteApi.validateParam(String.class, "http://localhost", "/sea", new Object[] {}, ByteBuffer.allocate(1), rule);
+        remoteApi.validateParam(String.class, "http://localhost", "/sea", new Object[] {}, Path.of("sea"), rule);
+        remoteApi.validateParam(String.class, "http://localhost", "/sea", new Object[] {}, new ByteArrayInputStream(new byte[0]), rule);
+    }
+
+    public void test_validateParam_bean_validated() {
+        // ## Arrange ##
+        LastaRemoteApi remoteApi = createValidatorCalledRemoteApi();
+        FlutyRemoteApiRule rule = new FlutyRemoteApiRule();
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> {
+            remoteApi.validateParam(String.class, "http://localhost", "/sea", new Object[] {}, new MockBean(), rule);
+        });
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private LastaRemoteApi createValidatorCalledRemoteApi() {
+        return new LastaRemoteApi(rule -> {}, this) {
+            @Override
+            protected ResponseSimpleBeanValidator createTransferredBeanValidator() {
+                throw new IllegalStateException("validator called"); // means validation target
+            }
+        };
+    }
+
+    private static class MockBean {
+    }
+}
@@ -0,0 +1,54 @@
+package org.lastaflute.remoteapi.mapping;
+
+import org.apache.commons.codec.Charsets;
+import org.dbflute.remoteapi.FlutyRemoteApiRule;
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.remoteapi.mapping.LaRemoteMappingPolicy.FormFieldNaming;
+import org.lastaflute.remoteapi.sender.query.LaQuerySender;
+
+/**
+ * @author agent
+ */
+public class LaParameterSerializerTest extends PlainTestCase {
+
+    // ===================================================================================
+    //                                                                          Naming Key
+    //                                                                          ==========
+    public void test_buildNamingCacheKey_byFieldNaming() {
+        // ## Arrange ##
+        LaParameterSerializer serializer = new LaParameterSerializer();
+
+        // ## Act ##
+        String identityKey = serializer.buildNamingCacheKey(new LaSelectedMappingPolicy().fieldNaming(FormFieldNaming.IDENTITY));
+        String snakeKey = serializer.buildNamingCacheKey(new LaSelectedMappingPolicy().fieldNaming(FormFieldNaming.CAMEL_TO_LOWER_SNAKE));
+        String vacantKey = serializer.buildNamingCacheKey(new LaVacantMappingPolicy());
+
+        // ## Assert ##
+        assertFalse(identityKey.equals(snakeKey));
+        assertFalse(vacantKey.equals(snakeKey));
+        assertEquals(identityKey, serializer.buildNamingCacheKey(new LaSelectedMappingPolicy())); // identity as default
+    }
+
+    public void test_querySender_notSharedBetweenFieldNaming() {
+        // ## Arrange ##
+        LaQuerySender identitySender = new LaQuerySender(new LaSelectedMappingPolicy().fieldNaming(FormFieldNaming.IDENTITY));
+        LaQuerySender snakeSender = new LaQuerySender(new LaSelectedMappingPolicy().fieldNaming(FormFieldNaming.CAMEL_TO_LOWER_SNAKE));
+        SeaParam param = new SeaParam();
+        param.seaLocation = "maihama";
+
+        // ## Act ##
+        String identityQuery = identitySender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+        String snakeQuery = snakeSender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+        String identityAgain = identitySender.toQueryString(param, Charsets.UTF_8, new FlutyRemoteApiRule());
+
+        // ## Assert ##
+        assertEquals("?seaLocation=maihama", identityQuery);
+        assertEquals("?sea_location=maihama", snakeQuery);
+        assertEquals(identityQuery, identityAgain);
+    }
+
+    public static class SeaParam {
+
+        public String seaLocation;
+    }
+}
@@ -0,0 +1,172 @@
+package org.lastaflute.remoteapi.receiver;
+
+import java.lang.reflect.Proxy;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.core.json.JsonEngineResource;
+import org.lastaflute.core.json.JsonManager;
+import org.lastaflute.core.json.JsonMappingOption;
+import org.lastaflute.core.json.engine.RealJsonEngine;
+import org.lastaflute.remoteapi.mapping.LaJsonEngineRegistry;
+import org.lastaflute.remoteapi.sender.body.LaJsonSender;
+import org.lastaflute.web.servlet.request.RequestManager;
+
+/**
+ * @author agent
+ */
+public class LaJsonReceiverTest extends PlainTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        LaJsonEngineRegistry.clear();
+    }
+
+    // ===================================================================================
+    //                                                                  Shared JSON Engine
+    //                                                                  ==================
+    public void test_jsonEngine_sharedByStandard() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+        RequestManager requestManager = createRequestManager(createdCount);
+
+        // ## Act ##
+        LaJsonReceiver first = new LaJsonReceiver(requestManager, null);
+        LaJsonReceiver second = new LaJsonReceiver(requestManager, null);
+        new LaJsonSender(requestManager, null); // standard sender
+
+        // ## Assert ##
+        assertSame(first.jsonEngine, second.jsonEngine);
+        assertEquals(1, createdCount.get()); // also shared with the standard sender
+    }
+
+    public void test_jsonEngine_notSharedBetweenCustomized() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+        RequestManager requestManager = createRequestManager(createdCount);
+
+        // ## Act ##
+        LaJsonReceiver plain = new LaJsonReceiver(requestManager, null);
+        SeaJsonReceiver sea = new SeaJsonReceiver(requestManager);
+        LandJsonReceiver land = new LandJsonReceiver(requestManager);
+        SeaJsonReceiver seaAgain = new SeaJsonReceiver(requestManager);
+
+        // ## Assert ##
+        assertNotSame(plain.jsonEngine, sea.jsonEngine);
+        assertNotSame(plain.jsonEngine, land.jsonEngine);
+        assertNotSame(sea.jsonEngine, land.jsonEngine); // differently customized
+        assertSame(sea.jsonEngine, seaAgain.jsonEngine); // same type
+        assertEquals(3, createdCount.get());
+        assertEquals(1, sea.resourceCount.get()); // customized resource is used
+        assertNull(seaAgain.resourceCount); // shared engine, not created
+    }
+
+    public void test_jsonEngine_notSharedBetweenRequestManager() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+
+        // ## Act ##
+        LaJsonReceiver first = new LaJsonReceiver(createRequestManager(createdCount), null);
+        LaJsonReceiver second = new LaJsonReceiver(createRequestManager(createdCount), null);
+
+        // ## Assert ##
+        assertNotSame(first.jsonEngine, second.jsonEngine);
+        assertEquals(2, createdCount.get());
+    }
+
+    public void test_jsonEngine_sharedBySameOptionValues() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+        RequestManager requestManager = createRequestManager(createdCount);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+        // ## Act ##
+        LaJsonReceiver first = new LaJsonReceiver(requestManager, new JsonMappingOption().setLocalDateFormatter(formatter));
+        LaJsonReceiver second = new LaJsonReceiver(requestManager, new JsonMappingOption().setLocalDateFormatter(formatter));
+        LaJsonReceiver emptyToNull = new LaJsonReceiver(requestManager, new JsonMappingOption().setLocalDateFormatter(formatter) //
+                .asEmptyToNullReading());
+
+        // ## Assert ##
+        assertSame(first.jsonEngine, second.jsonEngine); // different instances but same values
+        assertNotSame(first.jsonEngine, emptyToNull.jsonEngine); // differs in one setting
+        assertEquals(2, createdCount.get());
+    }
+
+    public void test_jsonEngine_notSharedByNotComparableOption() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+        RequestManager requestManager = createRequestManager(createdCount);
+
+        // ## Act ##
+        LaJsonReceiver first = new LaJsonReceiver(requestManager, new JsonMappingOption().yourUltimateCustomizer(builder -> {}));
+        LaJsonReceiver second = new LaJsonReceiver(requestManager, new JsonMappingOption().yourUltimateCustomizer(builder -> {}));
+
+        // ## Assert ##
+        assertNotSame(first.jsonEngine, second.jsonEngine); // lambda cannot be compared
+        assertEquals(2, createdCount.get());
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private RequestManager createRequestManager(AtomicInteger createdCount) {
+        JsonManager jsonManager = (JsonManager) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { JsonManager.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("newRuledEngine")) {
+                        createdCount.incrementAndGet();
+                        return createJsonEngine();
+                    }
+                    return invokeObjectMethod(proxy, method.getName(), args);
+                });
+        return (RequestManager) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { RequestManager.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getJsonManager")) {
+                        return jsonManager;
+                    }
+                    return invokeObjectMethod(proxy, method.getName(), args);
+                });
+    }
+
+    private RealJsonEngine createJsonEngine() {
+        return (RealJsonEngine) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { RealJsonEngine.class },
+                (proxy, method, args) -> invokeObjectMethod(proxy, method.getName(), args));
+    }
+
+    private Object invokeObjectMethod(Object proxy, String methodName, Object[] args) {
+        if (methodName.equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        } else if (methodName.equals("equals")) {
+            return proxy == args[0];
+        } else if (methodName.equals("toString")) {
+            return "proxy@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+        throw new UnsupportedOperationException(methodName);
+    }
+
+    private static class SeaJsonReceiver extends LaJsonReceiver {
+
+        private AtomicInteger resourceCount; // null at super constructor
+
+        public SeaJsonReceiver(RequestManager requestManager) {
+            super(requestManager, null);
+        }
+
+        @Override
+        protected JsonEngineResource prepareJsonEngineResource(JsonMappingOption mappingOption) {
+            if (resourceCount == null) {
+                resourceCount = new AtomicInteger();
+            }
+            resourceCount.incrementAndGet();
+            return super.prepareJsonEngineResource(mappingOption);
+        }
+    }
+
+    private static class LandJsonReceiver extends LaJsonReceiver {
+
+        public LandJsonReceiver(RequestManager requestManager) {
+            super(requestManager, null);
+        }
+    }
+}